@@ -0,0 +1,280 @@
+package pro.crypto.codec;
+
+import pro.crypto.exception.UnexpectedValueException;
+import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.model.tick.Tick;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+
+/**
+ * Compact binary encoding of ticks, used as an alternative to JSON between services.
+ * Layout: magic, metadata (length and bytes, e.g. market description), tick count, tick times and six price columns.
+ * Times are epoch seconds (UTC): the first time and deltas of next ones.
+ * Price values keep exact scale: unscaled value is written as delta to the previous value of the column
+ * while scale doesn't change. Numbers are zigzag varints.
+ */
+public class TickCodec {
+
+    public static final String MEDIA_TYPE_VALUE = "application/x-crypto-ticks";
+    // accept header of clients, JSON is used if binary format is not supported by server
+    public static final String ACCEPT_VALUE = MEDIA_TYPE_VALUE + ", application/json;q=0.9";
+
+    private static final int MAGIC = 0x544B4431;
+    private static final byte NULL_VALUE = 0;
+    private static final byte DELTA_VALUE = 1;
+    private static final byte ABSOLUTE_VALUE = 2;
+    private static final byte BIG_VALUE = 3;
+
+    private static final Function<Tick, BigDecimal>[] PRICE_COLUMNS = createPriceColumns();
+
+    public static byte[] encode(byte[] metadata, Tick[] ticks) {
+        ByteSink sink = new ByteSink(32 + metadata.length + ticks.length * 24);
+        sink.writeInt(MAGIC);
+        sink.writeVarLong(metadata.length);
+        sink.writeBytes(metadata);
+        sink.writeVarLong(ticks.length);
+        writeTimes(ticks, sink);
+        for (Function<Tick, BigDecimal> column : PRICE_COLUMNS) {
+            writeDecimals(ticks, column, sink);
+        }
+        return sink.toByteArray();
+    }
+
+    // lengths are checked against the rest of the buffer, so malformed payload fails before allocation
+    public static TickPayload decode(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC) {
+            throw new UnexpectedValueException("Unknown binary ticks format");
+        }
+        try {
+            byte[] metadata = new byte[readLength(buffer, 1)];
+            buffer.get(metadata);
+            // every tick takes at least one byte of time and one byte of every price column
+            int count = readLength(buffer, 1 + PRICE_COLUMNS.length);
+            Tick[] ticks = readTimes(buffer, count);
+            for (int column = 0; column < PRICE_COLUMNS.length; column++) {
+                readDecimals(buffer, ticks, column);
+            }
+            return new TickPayload(metadata, ticks);
+        } catch (BufferUnderflowException ex) {
+            throw new UnexpectedValueException("Truncated binary ticks");
+        }
+    }
+
+    private static void writeTimes(Tick[] ticks, ByteSink sink) {
+        long previous = 0;
+        for (Tick tick : ticks) {
+            if (isNull(tick.getTickTime())) {
+                throw new WrongIncomingParametersException(format("Tick time is not specified {tick: {%s}}", tick));
+            }
+            long time = tick.getTickTime().toEpochSecond(ZoneOffset.UTC);
+            sink.writeVarLong(zigzag(time - previous));
+            previous = time;
+        }
+    }
+
+    private static Tick[] readTimes(ByteBuffer buffer, int count) {
+        Tick[] ticks = new Tick[count];
+        long time = 0;
+        for (int idx = 0; idx < count; idx++) {
+            time += unzigzag(readVarLong(buffer));
+            ticks[idx] = new Tick();
+            ticks[idx].setTickTime(LocalDateTime.ofEpochSecond(time, 0, ZoneOffset.UTC));
+        }
+        return ticks;
+    }
+
+    private static void writeDecimals(Tick[] ticks, Function<Tick, BigDecimal> column, ByteSink sink) {
+        boolean hasPrevious = false;
+        int previousScale = 0;
+        long previousUnscaled = 0;
+        for (Tick tick : ticks) {
+            BigDecimal value = column.apply(tick);
+            if (isNull(value)) {
+                sink.writeByte(NULL_VALUE);
+                hasPrevious = false;
+                continue;
+            }
+            BigInteger unscaledValue = value.unscaledValue();
+            if (unscaledValue.bitLength() >= Long.SIZE) {
+                byte[] bytes = unscaledValue.toByteArray();
+                sink.writeByte(BIG_VALUE);
+                sink.writeVarLong(zigzag(value.scale()));
+                sink.writeVarLong(bytes.length);
+                sink.writeBytes(bytes);
+                hasPrevious = false;
+                continue;
+            }
+            long unscaled = unscaledValue.longValue();
+            long delta = unscaled - previousUnscaled;
+            // delta is used only if it doesn't overflow
+            if (hasPrevious && value.scale() == previousScale && ((unscaled ^ previousUnscaled) & (unscaled ^ delta)) >= 0) {
+                sink.writeByte(DELTA_VALUE);
+                sink.writeVarLong(zigzag(delta));
+            } else {
+                sink.writeByte(ABSOLUTE_VALUE);
+                sink.writeVarLong(zigzag(value.scale()));
+                sink.writeVarLong(zigzag(unscaled));
+            }
+            hasPrevious = true;
+            previousScale = value.scale();
+            previousUnscaled = unscaled;
+        }
+    }
+
+    private static void readDecimals(ByteBuffer buffer, Tick[] ticks, int column) {
+        int scale = 0;
+        long unscaled = 0;
+        for (Tick tick : ticks) {
+            BigDecimal value;
+            byte type = buffer.get();
+            switch (type) {
+                case NULL_VALUE:
+                    value = null;
+                    break;
+                case DELTA_VALUE:
+                    unscaled += unzigzag(readVarLong(buffer));
+                    value = BigDecimal.valueOf(unscaled, scale);
+                    break;
+                case ABSOLUTE_VALUE:
+                    scale = (int) unzigzag(readVarLong(buffer));
+                    unscaled = unzigzag(readVarLong(buffer));
+                    value = BigDecimal.valueOf(unscaled, scale);
+                    break;
+                case BIG_VALUE:
+                    int bigScale = (int) unzigzag(readVarLong(buffer));
+                    byte[] bytes = new byte[readLength(buffer, 1)];
+                    if (bytes.length == 0) {
+                        throw new UnexpectedValueException("Malformed binary tick value, big value is empty");
+                    }
+                    buffer.get(bytes);
+                    value = new BigDecimal(new BigInteger(bytes), bigScale);
+                    break;
+                default:
+                    throw new UnexpectedValueException(format("Unknown binary tick value type {type: {%s}}", type));
+            }
+            setPrice(tick, column, value);
+        }
+    }
+
+    private static void setPrice(Tick tick, int column, BigDecimal value) {
+        switch (column) {
+            case 0:
+                tick.setOpen(value);
+                break;
+            case 1:
+                tick.setHigh(value);
+                break;
+            case 2:
+                tick.setLow(value);
+                break;
+            case 3:
+                tick.setClose(value);
+                break;
+            case 4:
+                tick.setVolume(value);
+                break;
+            default:
+                tick.setBaseVolume(value);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Tick, BigDecimal>[] createPriceColumns() {
+        return new Function[]{
+                (Function<Tick, BigDecimal>) Tick::getOpen,
+                (Function<Tick, BigDecimal>) Tick::getHigh,
+                (Function<Tick, BigDecimal>) Tick::getLow,
+                (Function<Tick, BigDecimal>) Tick::getClose,
+                (Function<Tick, BigDecimal>) Tick::getVolume,
+                (Function<Tick, BigDecimal>) Tick::getBaseVolume
+        };
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> (Long.SIZE - 1));
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long result = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte current = buffer.get();
+            result |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new UnexpectedValueException("Malformed binary ticks varint");
+    }
+
+    private static int readLength(ByteBuffer buffer, int minItemBytes) {
+        long length = readVarLong(buffer);
+        if (length < 0 || length > buffer.remaining() / minItemBytes) {
+            throw new UnexpectedValueException(format("Malformed binary ticks length {length: {%s}, remaining: {%s}}",
+                    length, buffer.remaining()));
+        }
+        return (int) length;
+    }
+
+    private static class ByteSink {
+
+        private byte[] bytes;
+        private int size;
+
+        private ByteSink(int capacity) {
+            this.bytes = new byte[capacity];
+        }
+
+        private void writeByte(byte value) {
+            ensureCapacity(1);
+            bytes[size++] = value;
+        }
+
+        private void writeInt(int value) {
+            ensureCapacity(Integer.BYTES);
+            for (int shift = Integer.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE) {
+                bytes[size++] = (byte) (value >>> shift);
+            }
+        }
+
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                bytes[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[size++] = (byte) value;
+        }
+
+        private void writeBytes(byte[] values) {
+            ensureCapacity(values.length);
+            System.arraycopy(values, 0, bytes, size, values.length);
+            size += values.length;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (size + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+
+    }
+
+}
@@ -0,0 +1,13 @@
+package pro.crypto.codec;
+
+import lombok.Value;
+import pro.crypto.model.tick.Tick;
+
+@Value
+public class TickPayload {
+
+    private byte[] metadata;
+
+    private Tick[] ticks;
+
+}
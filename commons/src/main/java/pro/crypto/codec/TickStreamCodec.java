@@ -0,0 +1,145 @@
+package pro.crypto.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import pro.crypto.exception.UnexpectedValueException;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickStream;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.lang.String.format;
+import static java.util.Objects.nonNull;
+
+/**
+ * Tick stream body: newline delimited JSON ticks or binary frames (length and binary ticks of one page).
+ * Each page is flushed after writing, so readers get ticks while the rest is being loaded.
+ * Binary stream is closed by the empty frame, the stream without it has been cut off.
+ */
+public class TickStreamCodec {
+
+    public static final String NDJSON_MEDIA_TYPE_VALUE = "application/x-ndjson";
+    public static final String ACCEPT_VALUE = TickCodec.MEDIA_TYPE_VALUE + ", " + NDJSON_MEDIA_TYPE_VALUE + ";q=0.9";
+
+    private static final byte[] NO_METADATA = new byte[0];
+    private static final int END_FRAME_LENGTH = 0;
+
+    public static void write(TickStream tickStream, OutputStream outputStream, String mediaType, ObjectMapper objectMapper) {
+        if (isBinary(mediaType)) {
+            DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+            tickStream.forEachPage(ticks -> writeFrame(dataOutputStream, ticks));
+            writeEndFrame(dataOutputStream);
+            return;
+        }
+        JsonGenerator generator = createGenerator(outputStream, objectMapper);
+        tickStream.forEachPage(ticks -> writeLines(generator, objectMapper, ticks));
+    }
+
+    public static void read(InputStream inputStream, String mediaType, ObjectMapper objectMapper,
+                            int pageSize, Consumer<Tick[]> pageConsumer) throws IOException {
+        if (isBinary(mediaType)) {
+            readFrames(new DataInputStream(inputStream), pageConsumer);
+        } else {
+            readLines(inputStream, objectMapper, pageSize, pageConsumer);
+        }
+    }
+
+    private static boolean isBinary(String mediaType) {
+        return nonNull(mediaType) && mediaType.startsWith(TickCodec.MEDIA_TYPE_VALUE);
+    }
+
+    private static void writeFrame(DataOutputStream outputStream, Tick[] ticks) {
+        byte[] frame = TickCodec.encode(NO_METADATA, ticks);
+        try {
+            outputStream.writeInt(frame.length);
+            outputStream.write(frame);
+            outputStream.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeEndFrame(DataOutputStream outputStream) {
+        try {
+            outputStream.writeInt(END_FRAME_LENGTH);
+            outputStream.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static JsonGenerator createGenerator(OutputStream outputStream, ObjectMapper objectMapper) {
+        try {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            generator.setRootValueSeparator(null);
+            return generator;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void writeLines(JsonGenerator generator, ObjectMapper objectMapper, Tick[] ticks) {
+        try {
+            for (Tick tick : ticks) {
+                objectMapper.writeValue(generator, tick);
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void readFrames(DataInputStream inputStream, Consumer<Tick[]> pageConsumer) throws IOException {
+        while (true) {
+            int length;
+            try {
+                length = inputStream.readInt();
+            } catch (EOFException ex) {
+                throw new UnexpectedValueException("Binary tick stream has been cut off before the end frame");
+            }
+            if (length == END_FRAME_LENGTH) {
+                return;
+            }
+            if (length < 0) {
+                throw new UnexpectedValueException(format("Malformed binary tick stream frame {length: {%s}}", length));
+            }
+            byte[] frame = new byte[length];
+            try {
+                inputStream.readFully(frame);
+            } catch (EOFException ex) {
+                throw new UnexpectedValueException(format("Binary tick stream has been cut off in the frame {length: {%s}}", length));
+            }
+            pageConsumer.accept(TickCodec.decode(ByteBuffer.wrap(frame)).getTicks());
+        }
+    }
+
+    private static void readLines(InputStream inputStream, ObjectMapper objectMapper,
+                                  int pageSize, Consumer<Tick[]> pageConsumer) throws IOException {
+        List<Tick> page = new ArrayList<>(pageSize);
+        try (MappingIterator<Tick> ticks = objectMapper.readerFor(Tick.class).readValues(inputStream)) {
+            while (ticks.hasNextValue()) {
+                page.add(ticks.nextValue());
+                if (page.size() == pageSize) {
+                    pageConsumer.accept(page.toArray(new Tick[0]));
+                    page.clear();
+                }
+            }
+        }
+        if (!page.isEmpty()) {
+            pageConsumer.accept(page.toArray(new Tick[0]));
+        }
+    }
+
+}
@@ -0,0 +1,101 @@
+package pro.crypto.helper;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+
+/**
+ * Limits count of asynchronous tasks running at the same time. Tasks over the limit wait in queue
+ * without holding threads and are started when running tasks complete.
+ * Queue can be bounded, task over the bound isn't started and its result fails with {@link RejectedExecutionException}.
+ */
+public class AsyncLimiter {
+
+    private final int maxConcurrency;
+    private final int maxPending;
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingSize = new AtomicInteger();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public AsyncLimiter(int maxConcurrency) {
+        this(maxConcurrency, Integer.MAX_VALUE);
+    }
+
+    public AsyncLimiter(int maxConcurrency, int maxPending) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxPending = maxPending;
+    }
+
+    // task is rejected only if it can't be started at once, so zero bound means no waiting tasks
+    public <V> CompletableFuture<V> submit(Supplier<? extends CompletionStage<V>> task) {
+        if (pendingSize.incrementAndGet() > maxPending && running.get() >= maxConcurrency) {
+            pendingSize.decrementAndGet();
+            rejected.incrementAndGet();
+            return CompletableFuture.failedFuture(new RejectedExecutionException(
+                    format("Limiter queue is full {maxConcurrency: {%s}, maxPending: {%s}}", maxConcurrency, maxPending)));
+        }
+        CompletableFuture<V> result = new CompletableFuture<>();
+        pending.add(() -> start(task, result));
+        drain();
+        return result;
+    }
+
+    public int getRunning() {
+        return running.get();
+    }
+
+    public int getPending() {
+        return pendingSize.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    private <V> void start(Supplier<? extends CompletionStage<V>> task, CompletableFuture<V> result) {
+        CompletionStage<V> stage;
+        try {
+            stage = task.get();
+        } catch (RuntimeException ex) {
+            stage = CompletableFuture.failedFuture(ex);
+        }
+        stage.whenComplete((value, ex) -> {
+            running.decrementAndGet();
+            drain();
+            if (isNull(ex)) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(ex);
+            }
+        });
+    }
+
+    private void drain() {
+        while (!pending.isEmpty()) {
+            int current = running.get();
+            if (current >= maxConcurrency) {
+                return;
+            }
+            if (!running.compareAndSet(current, current + 1)) {
+                continue;
+            }
+            Runnable next = pending.poll();
+            if (isNull(next)) {
+                running.decrementAndGet();
+                continue;
+            }
+            pendingSize.decrementAndGet();
+            next.run();
+        }
+    }
+
+}
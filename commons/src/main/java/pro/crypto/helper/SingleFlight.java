@@ -0,0 +1,156 @@
+package pro.crypto.helper;
+
+import com.google.common.util.concurrent.UncheckedTimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Concurrent calls with the same key share one execution: the first caller executes the supplier,
+ * callers which come while it is in flight wait for its result or exception.
+ * Result is shared between callers, so it should not be modified by them.
+ * Blocking and asynchronous calls with the same key share executions of each other.
+ * Waiting for execution of another call can be bounded, waiter fails after timeout and the execution goes on.
+ */
+public class SingleFlight<K, V> {
+
+    private final Duration waitTimeout;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder executions = new LongAdder();
+    private final AtomicInteger waiters = new AtomicInteger();
+
+    public SingleFlight() {
+        this(null);
+    }
+
+    // waiting isn't bounded if timeout is null
+    public SingleFlight(Duration waitTimeout) {
+        this.waitTimeout = waitTimeout;
+    }
+
+    public V execute(K key, Supplier<V> supplier) {
+        calls.increment();
+        CompletableFuture<V> execution = new CompletableFuture<>();
+        CompletableFuture<V> existingExecution = inFlight.putIfAbsent(key, execution);
+        if (nonNull(existingExecution)) {
+            return await(key, existingExecution);
+        }
+        executions.increment();
+        try {
+            V result = supplier.get();
+            execution.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            execution.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, execution);
+        }
+    }
+
+    // asynchronous execution is in flight till the returned stage completes, waiting callers don't hold threads
+    public CompletableFuture<V> executeAsync(K key, Supplier<? extends CompletionStage<V>> supplier) {
+        calls.increment();
+        CompletableFuture<V> execution = new CompletableFuture<>();
+        CompletableFuture<V> existingExecution = inFlight.putIfAbsent(key, execution);
+        if (nonNull(existingExecution)) {
+            return awaitAsync(key, existingExecution);
+        }
+        executions.increment();
+        CompletionStage<V> stage;
+        try {
+            stage = supplier.get();
+        } catch (RuntimeException | Error ex) {
+            stage = CompletableFuture.failedFuture(ex);
+        }
+        stage.whenComplete((result, ex) -> {
+            inFlight.remove(key, execution);
+            if (nonNull(ex)) {
+                execution.completeExceptionally(ex instanceof CompletionException ? ex.getCause() : ex);
+            } else {
+                execution.complete(result);
+            }
+        });
+        return execution.thenApply(value -> value);
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getExecutions() {
+        return executions.sum();
+    }
+
+    // calls which got result of another call
+    public long getCoalescedCalls() {
+        return getCalls() - getExecutions();
+    }
+
+    public double getCoalescingRatio() {
+        long callCount = getCalls();
+        return callCount > 0 ? (double) getCoalescedCalls() / callCount : 0;
+    }
+
+    // callers waiting for executions in flight now
+    public int getWaiters() {
+        return waiters.get();
+    }
+
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    private V await(K key, CompletableFuture<V> execution) {
+        waiters.incrementAndGet();
+        try {
+            return isNull(waitTimeout) ? execution.join() : execution.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (CompletionException | ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw new CompletionException(ex.getCause());
+        } catch (TimeoutException ex) {
+            throw buildTimeoutException(key);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(ex);
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    // waiter gets its own future, so neither completion nor timeout of it changes the shared execution
+    private CompletableFuture<V> awaitAsync(K key, CompletableFuture<V> execution) {
+        CompletableFuture<V> result = execution.thenApply(value -> value);
+        if (nonNull(waitTimeout)) {
+            CompletableFuture.delayedExecutor(waitTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .execute(() -> result.completeExceptionally(buildTimeoutException(key)));
+        }
+        return result;
+    }
+
+    private UncheckedTimeoutException buildTimeoutException(K key) {
+        return new UncheckedTimeoutException(format("Execution in flight hasn't been completed in time {key: {%s}, waitTimeout: {%s}}",
+                key, waitTimeout));
+    }
+
+}
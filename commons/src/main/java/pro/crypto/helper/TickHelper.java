@@ -0,0 +1,21 @@
+package pro.crypto.helper;
+
+import pro.crypto.model.tick.Tick;
+
+import java.util.Arrays;
+
+public class TickHelper {
+
+    // ticks are mutable, so cached or shared ticks are copied before they are given away
+    public static Tick[] copy(Tick[] ticks) {
+        return Arrays.stream(ticks)
+                .map(TickHelper::copy)
+                .toArray(Tick[]::new);
+    }
+
+    public static Tick copy(Tick tick) {
+        return new Tick(tick.getOpen(), tick.getHigh(), tick.getLow(), tick.getClose(),
+                tick.getVolume(), tick.getBaseVolume(), tick.getTickTime());
+    }
+
+}
@@ -0,0 +1,41 @@
+package pro.crypto.helper;
+
+import pro.crypto.exception.UnknownTypeException;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static java.lang.String.format;
+
+/**
+ * Bars are aligned to the UTC epoch, time of bar is its start.
+ */
+public class TimeFrameHelper {
+
+    public static LocalDateTime alignTime(LocalDateTime time, TimeFrame timeFrame) {
+        long duration = getDurationInSeconds(timeFrame);
+        long epochSecond = time.toEpochSecond(ZoneOffset.UTC);
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochSecond, duration) * duration, 0, ZoneOffset.UTC);
+    }
+
+    public static long getDurationInSeconds(TimeFrame timeFrame) {
+        switch (timeFrame) {
+            case FIVE_MIN:
+                return 5 * 60;
+            case FIFTEEN_MIN:
+                return 15 * 60;
+            case THIRTY_MIN:
+                return 30 * 60;
+            case ONE_HOUR:
+                return 60 * 60;
+            case FOUR_HOURS:
+                return 4 * 60 * 60;
+            case ONE_DAY:
+                return 24 * 60 * 60;
+            default:
+                throw new UnknownTypeException(format("Unknown time frame {timeFrame: {%s}}", timeFrame));
+        }
+    }
+
+}
@@ -0,0 +1,8 @@
+package pro.crypto.model.indicator;
+
+public enum PrecisionMode {
+
+    BIG_DECIMAL,
+    DOUBLE
+
+}
@@ -0,0 +1,25 @@
+package pro.crypto.model.tick;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pro.crypto.model.market.Stock;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class BarCloseEvent {
+
+    private Stock stock;
+
+    private long marketId;
+
+    private String marketName;
+
+    private TimeFrame timeFrame;
+
+    private Tick tick;
+
+}
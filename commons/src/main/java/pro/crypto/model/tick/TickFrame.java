@@ -0,0 +1,166 @@
+package pro.crypto.model.tick;
+
+import pro.crypto.exception.UnknownTypeException;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static java.lang.Double.NaN;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Objects.isNull;
+
+/**
+ * Immutable columnar representation of ticks.
+ * Every price and volume is stored in its own primitive array, missing values are stored as NaN,
+ * missing tick time is stored as {@link Long#MIN_VALUE}.
+ * Arrays returned by getters are shared and must not be modified.
+ */
+public final class TickFrame {
+
+    private static final long UNDEFINED_TIME = Long.MIN_VALUE;
+
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final double[] volume;
+    private final double[] baseVolume;
+    private final long[] epochMillis;
+
+    private volatile double[] typicalPrices;
+    private volatile double[] medianPrices;
+    private volatile double[] trueRange;
+
+    private TickFrame(int size) {
+        this.open = new double[size];
+        this.high = new double[size];
+        this.low = new double[size];
+        this.close = new double[size];
+        this.volume = new double[size];
+        this.baseVolume = new double[size];
+        this.epochMillis = new long[size];
+    }
+
+    public static TickFrame of(TickData tickData) {
+        return of(tickData.getTicks());
+    }
+
+    public static TickFrame of(Tick[] ticks) {
+        TickFrame frame = new TickFrame(ticks.length);
+        for (int idx = 0; idx < ticks.length; idx++) {
+            Tick tick = ticks[idx];
+            frame.open[idx] = toDouble(tick.getOpen());
+            frame.high[idx] = toDouble(tick.getHigh());
+            frame.low[idx] = toDouble(tick.getLow());
+            frame.close[idx] = toDouble(tick.getClose());
+            frame.volume[idx] = toDouble(tick.getVolume());
+            frame.baseVolume[idx] = toDouble(tick.getBaseVolume());
+            frame.epochMillis[idx] = toEpochMillis(tick.getTickTime());
+        }
+        return frame;
+    }
+
+    public int size() {
+        return close.length;
+    }
+
+    public double[] getOpen() {
+        return open;
+    }
+
+    public double[] getHigh() {
+        return high;
+    }
+
+    public double[] getLow() {
+        return low;
+    }
+
+    public double[] getClose() {
+        return close;
+    }
+
+    public double[] getVolume() {
+        return volume;
+    }
+
+    public double[] getBaseVolume() {
+        return baseVolume;
+    }
+
+    public long[] getEpochMillis() {
+        return epochMillis;
+    }
+
+    public double[] getPrices(PriceType priceType) {
+        switch (priceType) {
+            case HIGH:
+                return high;
+            case LOW:
+                return low;
+            case OPEN:
+                return open;
+            case CLOSE:
+                return close;
+            default:
+                throw new UnknownTypeException("Unknown price type exception");
+        }
+    }
+
+    public LocalDateTime getTickTime(int index) {
+        return epochMillis[index] == UNDEFINED_TIME
+                ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis[index]), UTC);
+    }
+
+    // (HIGH + LOW + CLOSE) / 3
+    public double[] getTypicalPrices() {
+        double[] values = typicalPrices;
+        if (isNull(values)) {
+            values = new double[size()];
+            for (int idx = 0; idx < values.length; idx++) {
+                values[idx] = (high[idx] + low[idx] + close[idx]) / 3;
+            }
+            typicalPrices = values;
+        }
+        return values;
+    }
+
+    // (HIGH + LOW) / 2
+    public double[] getMedianPrices() {
+        double[] values = medianPrices;
+        if (isNull(values)) {
+            values = new double[size()];
+            for (int idx = 0; idx < values.length; idx++) {
+                values[idx] = (high[idx] + low[idx]) / 2;
+            }
+            medianPrices = values;
+        }
+        return values;
+    }
+
+    // MAX(HIGH - LOW, HIGH - PREVIOUS CLOSE, PREVIOUS CLOSE - LOW), the first value is HIGH - LOW
+    public double[] getTrueRange() {
+        double[] values = trueRange;
+        if (isNull(values)) {
+            values = new double[size()];
+            for (int idx = 0; idx < values.length; idx++) {
+                values[idx] = idx == 0
+                        ? high[idx] - low[idx]
+                        : Math.max(high[idx] - low[idx], Math.max(high[idx] - close[idx - 1], close[idx - 1] - low[idx]));
+            }
+            trueRange = values;
+        }
+        return values;
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return isNull(value) ? NaN : value.doubleValue();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return isNull(time) ? UNDEFINED_TIME : time.toInstant(UTC).toEpochMilli();
+    }
+
+}
@@ -0,0 +1,14 @@
+package pro.crypto.model.tick;
+
+import java.util.function.Consumer;
+
+/**
+ * Ticks which are read page by page, so large ranges can be processed without keeping all ticks in memory.
+ * Ticks are read on each call, pages come in time order.
+ */
+@FunctionalInterface
+public interface TickStream {
+
+    void forEachPage(Consumer<Tick[]> pageConsumer);
+
+}
@@ -0,0 +1,154 @@
+package pro.crypto.codec;
+
+import org.junit.Test;
+import pro.crypto.exception.UnexpectedValueException;
+import pro.crypto.model.tick.Tick;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TickCodecTest {
+
+    private static final int MAGIC = 0x544B4431;
+    private static final byte BIG_VALUE = 3;
+
+    @Test
+    public void roundTripTest() {
+        byte[] metadata = "BTC/USDT".getBytes(StandardCharsets.UTF_8);
+        Tick[] ticks = new Tick[]{
+                buildTick(LocalDateTime.of(2019, 1, 1, 0, 0), "3700.5", "3710", "3690.25", "3705.00", "12.5", "46250.125"),
+                buildTick(LocalDateTime.of(2019, 1, 1, 0, 1), "3705.00", "3712", "3700.25", "3701.10", "0", null),
+                buildTick(LocalDateTime.of(2019, 1, 1, 0, 1), "-1.5", "3712.000", "3700.25", "3701.1", "7", "1E+3"),
+                buildTick(LocalDateTime.of(2018, 12, 31, 23, 59), null, null, null, null, null, null),
+                buildTick(LocalDateTime.of(2019, 1, 1, 0, 3), "3701.1", "3701.1", "3701.1", "3701.1", "0.00000001", "0.0000000037011")
+        };
+        TickPayload payload = decode(TickCodec.encode(metadata, ticks));
+        assertArrayEquals(metadata, payload.getMetadata());
+        assertArrayEquals(ticks, payload.getTicks());
+    }
+
+    @Test
+    public void emptyTicksTest() {
+        TickPayload payload = decode(TickCodec.encode(new byte[0], new Tick[0]));
+        assertEquals(0, payload.getMetadata().length);
+        assertEquals(0, payload.getTicks().length);
+    }
+
+    @Test
+    public void varintEdgeValuesTest() {
+        // deltas of these values overflow long, so they are written as absolute values
+        Tick[] ticks = new Tick[]{
+                buildTick(LocalDateTime.of(-999_999_999, 1, 1, 0, 0), Long.MAX_VALUE, Long.MIN_VALUE),
+                buildTick(LocalDateTime.of(999_999_999, 12, 31, 23, 59, 59), Long.MIN_VALUE, Long.MAX_VALUE),
+                buildTick(LocalDateTime.of(1970, 1, 1, 0, 0), -1, 1),
+                buildTick(LocalDateTime.of(1969, 12, 31, 23, 59, 59), 0, 0),
+                buildTick(LocalDateTime.of(1970, 1, 1, 0, 0), Long.MAX_VALUE, Long.MIN_VALUE)
+        };
+        assertArrayEquals(ticks, decode(TickCodec.encode(new byte[0], ticks)).getTicks());
+    }
+
+    @Test
+    public void bigValueFallbackTest() {
+        BigDecimal big = new BigDecimal(BigInteger.ONE.shiftLeft(Long.SIZE), 18);
+        BigDecimal negativeBig = new BigDecimal(BigInteger.valueOf(Long.MIN_VALUE).subtract(BigInteger.ONE), 2);
+        BigDecimal bigBoundary = new BigDecimal(BigInteger.ONE.shiftLeft(Long.SIZE - 1), -3);
+        Tick[] ticks = new Tick[]{
+                buildTick(LocalDateTime.of(2019, 1, 1, 0, 0), big, negativeBig, bigBoundary),
+                buildTick(LocalDateTime.of(2019, 1, 1, 0, 1), BigDecimal.ONE, big, BigDecimal.TEN),
+                buildTick(LocalDateTime.of(2019, 1, 1, 0, 2), big, BigDecimal.valueOf(2), negativeBig)
+        };
+        assertArrayEquals(ticks, decode(TickCodec.encode(new byte[0], ticks)).getTicks());
+    }
+
+    @Test(expected = UnexpectedValueException.class)
+    public void unknownFormatTest() {
+        TickCodec.decode(ByteBuffer.wrap("{\"ticks\":[]}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test(expected = UnexpectedValueException.class)
+    public void metadataLengthOverRemainingTest() {
+        TickCodec.decode(buildBuffer((byte) 0xE8, (byte) 0x07, (byte) 0, (byte) 0));
+    }
+
+    @Test(expected = UnexpectedValueException.class)
+    public void negativeMetadataLengthTest() {
+        TickCodec.decode(buildBuffer((byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x01));
+    }
+
+    @Test(expected = UnexpectedValueException.class)
+    public void tickCountOverRemainingTest() {
+        TickCodec.decode(buildBuffer((byte) 0, (byte) 0x7F, (byte) 0, (byte) 0, (byte) 0, (byte) 0, (byte) 0, (byte) 0, (byte) 0));
+    }
+
+    @Test(expected = UnexpectedValueException.class)
+    public void bigValueLengthOverRemainingTest() {
+        TickCodec.decode(buildBuffer((byte) 0, (byte) 1, (byte) 0, BIG_VALUE, (byte) 0, (byte) 100, (byte) 0, (byte) 0, (byte) 0));
+    }
+
+    @Test(expected = UnexpectedValueException.class)
+    public void malformedVarintTest() {
+        byte[] varint = new byte[11];
+        Arrays.fill(varint, (byte) 0x80);
+        TickCodec.decode(buildBuffer(varint));
+    }
+
+    @Test(expected = UnexpectedValueException.class)
+    public void truncatedPayloadTest() {
+        Tick[] ticks = new Tick[]{buildTick(LocalDateTime.of(2019, 1, 1, 0, 0), "1.5", "2", "1", "1.75", "10", "15")};
+        byte[] encoded = TickCodec.encode(new byte[0], ticks);
+        decode(Arrays.copyOf(encoded, encoded.length - 1));
+    }
+
+    private TickPayload decode(byte[] bytes) {
+        return TickCodec.decode(ByteBuffer.wrap(bytes));
+    }
+
+    private ByteBuffer buildBuffer(byte... bytes) {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + bytes.length);
+        buffer.putInt(MAGIC);
+        buffer.put(bytes);
+        buffer.flip();
+        return buffer;
+    }
+
+    private Tick buildTick(LocalDateTime time, long open, long close) {
+        return buildTick(time, BigDecimal.valueOf(open, 4), BigDecimal.valueOf(close), BigDecimal.valueOf(open));
+    }
+
+    private Tick buildTick(LocalDateTime time, BigDecimal open, BigDecimal close, BigDecimal volume) {
+        return Tick.builder()
+                .open(open)
+                .high(open)
+                .low(close)
+                .close(close)
+                .volume(volume)
+                .baseVolume(volume)
+                .tickTime(time)
+                .build();
+    }
+
+    private Tick buildTick(LocalDateTime time, String open, String high, String low, String close, String volume, String baseVolume) {
+        return Tick.builder()
+                .open(toDecimal(open))
+                .high(toDecimal(high))
+                .low(toDecimal(low))
+                .close(toDecimal(close))
+                .volume(toDecimal(volume))
+                .baseVolume(toDecimal(baseVolume))
+                .tickTime(time)
+                .build();
+    }
+
+    private BigDecimal toDecimal(String value) {
+        return value == null ? null : new BigDecimal(value);
+    }
+
+}
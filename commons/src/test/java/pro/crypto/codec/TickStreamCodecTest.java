@@ -0,0 +1,103 @@
+package pro.crypto.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.Test;
+import pro.crypto.exception.UnexpectedValueException;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static pro.crypto.codec.TickStreamCodec.NDJSON_MEDIA_TYPE_VALUE;
+
+public class TickStreamCodecTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2019, 1, 1, 0, 0);
+    private static final int END_FRAME_BYTES = Integer.BYTES;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    public void binaryRoundTripTest() throws IOException {
+        Tick[][] pages = new Tick[][]{buildTicks(0, 3), buildTicks(3, 5)};
+        List<Tick[]> readPages = read(write(toStream(pages), TickCodec.MEDIA_TYPE_VALUE), TickCodec.MEDIA_TYPE_VALUE);
+        assertEquals(pages.length, readPages.size());
+        assertArrayEquals(pages[0], readPages.get(0));
+        assertArrayEquals(pages[1], readPages.get(1));
+    }
+
+    @Test
+    public void ndjsonRoundTripTest() throws IOException {
+        Tick[][] pages = new Tick[][]{buildTicks(0, 3), buildTicks(3, 5)};
+        List<Tick[]> readPages = read(write(toStream(pages), NDJSON_MEDIA_TYPE_VALUE), NDJSON_MEDIA_TYPE_VALUE);
+        assertEquals(3, readPages.size());
+        assertArrayEquals(buildTicks(0, 5), readPages.stream().flatMap(Arrays::stream).toArray(Tick[]::new));
+    }
+
+    @Test
+    public void emptyBinaryStreamTest() throws IOException {
+        byte[] body = write(toStream(), TickCodec.MEDIA_TYPE_VALUE);
+        assertEquals(END_FRAME_BYTES, body.length);
+        assertEquals(0, read(body, TickCodec.MEDIA_TYPE_VALUE).size());
+    }
+
+    // the stream cut off at the frame boundary isn't taken as the whole stream
+    @Test(expected = UnexpectedValueException.class)
+    public void missingEndFrameTest() throws IOException {
+        byte[] body = write(toStream(buildTicks(0, 3)), TickCodec.MEDIA_TYPE_VALUE);
+        read(Arrays.copyOf(body, body.length - END_FRAME_BYTES), TickCodec.MEDIA_TYPE_VALUE);
+    }
+
+    @Test(expected = UnexpectedValueException.class)
+    public void truncatedFrameTest() throws IOException {
+        byte[] body = write(toStream(buildTicks(0, 3)), TickCodec.MEDIA_TYPE_VALUE);
+        read(Arrays.copyOf(body, body.length - END_FRAME_BYTES - 1), TickCodec.MEDIA_TYPE_VALUE);
+    }
+
+    @Test(expected = UnexpectedValueException.class)
+    public void negativeFrameLengthTest() throws IOException {
+        read(new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF}, TickCodec.MEDIA_TYPE_VALUE);
+    }
+
+    private byte[] write(TickStream tickStream, String mediaType) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        TickStreamCodec.write(tickStream, outputStream, mediaType, objectMapper);
+        return outputStream.toByteArray();
+    }
+
+    private List<Tick[]> read(byte[] body, String mediaType) throws IOException {
+        List<Tick[]> pages = new ArrayList<>();
+        TickStreamCodec.read(new ByteArrayInputStream(body), mediaType, objectMapper, 2, pages::add);
+        return pages;
+    }
+
+    private TickStream toStream(Tick[]... pages) {
+        return pageConsumer -> Arrays.stream(pages).forEach(pageConsumer);
+    }
+
+    private Tick[] buildTicks(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(minute -> Tick.builder()
+                        .open(BigDecimal.valueOf(100 + minute))
+                        .high(BigDecimal.valueOf(105 + minute))
+                        .low(BigDecimal.valueOf(95 + minute))
+                        .close(new BigDecimal("101.5"))
+                        .volume(BigDecimal.valueOf(minute))
+                        .baseVolume(BigDecimal.valueOf(2 * minute))
+                        .tickTime(START.plusMinutes(minute))
+                        .build())
+                .toArray(Tick[]::new);
+    }
+
+}
@@ -0,0 +1,144 @@
+package pro.crypto.helper;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncLimiterTest {
+
+    @Test
+    public void tasksOverLimitWaitTest() {
+        AsyncLimiter limiter = new AsyncLimiter(2);
+        List<CompletableFuture<Integer>> tasks = new ArrayList<>();
+        List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int idx = 0; idx < 5; idx++) {
+            CompletableFuture<Integer> task = new CompletableFuture<>();
+            tasks.add(task);
+            results.add(limiter.submit(() -> task));
+        }
+        assertEquals(2, limiter.getRunning());
+        assertEquals(3, limiter.getPending());
+        tasks.get(0).complete(0);
+        assertEquals(Integer.valueOf(0), results.get(0).join());
+        assertEquals(2, limiter.getRunning());
+        assertEquals(2, limiter.getPending());
+        for (int idx = 1; idx < 5; idx++) {
+            tasks.get(idx).complete(idx);
+        }
+        for (int idx = 1; idx < 5; idx++) {
+            assertEquals(Integer.valueOf(idx), results.get(idx).join());
+        }
+        assertEquals(0, limiter.getRunning());
+        assertEquals(0, limiter.getPending());
+    }
+
+    @Test
+    public void taskIsStartedOnlyWithPlaceTest() {
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<Integer> firstTask = new CompletableFuture<>();
+        AtomicInteger secondStarts = new AtomicInteger();
+        limiter.submit(() -> firstTask);
+        CompletableFuture<Integer> secondResult = limiter.submit(() -> {
+            secondStarts.incrementAndGet();
+            return CompletableFuture.completedFuture(2);
+        });
+        assertEquals(0, secondStarts.get());
+        firstTask.complete(1);
+        assertEquals(1, secondStarts.get());
+        assertEquals(Integer.valueOf(2), secondResult.join());
+    }
+
+    @Test
+    public void failedTaskReleasesPlaceTest() {
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<Integer> failedResult = limiter.submit(() -> CompletableFuture.failedFuture(new IllegalStateException("failed")));
+        CompletableFuture<Integer> thrownResult = limiter.submit(() -> {
+            throw new IllegalArgumentException("thrown");
+        });
+        CompletableFuture<Integer> nextResult = limiter.submit(() -> CompletableFuture.completedFuture(3));
+        assertTrue(failedResult.isCompletedExceptionally());
+        assertTrue(thrownResult.isCompletedExceptionally());
+        assertEquals(Integer.valueOf(3), nextResult.join());
+        assertEquals(0, limiter.getRunning());
+    }
+
+    @Test
+    public void concurrentSubmitsDontExceedLimitTest() throws InterruptedException {
+        int maxConcurrency = 4;
+        AsyncLimiter limiter = new AsyncLimiter(maxConcurrency);
+        ExecutorService submitters = Executors.newFixedThreadPool(8);
+        ExecutorService completers = Executors.newFixedThreadPool(8);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        CountDownLatch completed = new CountDownLatch(1000);
+        for (int idx = 0; idx < 1000; idx++) {
+            submitters.execute(() -> limiter.submit(() -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return CompletableFuture.supplyAsync(() -> inFlight.decrementAndGet(), completers);
+            }).whenComplete((result, ex) -> completed.countDown()));
+        }
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        submitters.shutdown();
+        completers.shutdown();
+        assertTrue(maxInFlight.get() <= maxConcurrency);
+        assertEquals(0, limiter.getRunning());
+        assertEquals(0, limiter.getPending());
+    }
+
+    @Test
+    public void resultIsNotCompletedBeforeTaskTest() {
+        AsyncLimiter limiter = new AsyncLimiter(1);
+        CompletableFuture<Integer> task = new CompletableFuture<>();
+        CompletableFuture<Integer> result = limiter.submit(() -> task);
+        assertFalse(result.isDone());
+        task.complete(1);
+        assertTrue(result.isDone());
+    }
+
+    @Test
+    public void tasksOverQueueBoundRejectedTest() {
+        AsyncLimiter limiter = new AsyncLimiter(1, 2);
+        CompletableFuture<Integer> task = new CompletableFuture<>();
+        limiter.submit(() -> task);
+        CompletableFuture<Integer> firstPending = limiter.submit(() -> CompletableFuture.completedFuture(1));
+        CompletableFuture<Integer> secondPending = limiter.submit(() -> CompletableFuture.completedFuture(2));
+        CompletableFuture<Integer> rejected = limiter.submit(() -> CompletableFuture.completedFuture(3));
+        assertTrue(rejected.isCompletedExceptionally());
+        assertTrue(rejected.handle((result, ex) -> ex).join() instanceof RejectedExecutionException);
+        assertEquals(2, limiter.getPending());
+        assertEquals(1, limiter.getRejected());
+        task.complete(0);
+        assertEquals(Integer.valueOf(1), firstPending.join());
+        assertEquals(Integer.valueOf(2), secondPending.join());
+        assertEquals(0, limiter.getPending());
+        assertEquals(Integer.valueOf(4), limiter.submit(() -> CompletableFuture.completedFuture(4)).join());
+    }
+
+    // tasks are started while there are places, only waiting tasks are bounded
+    @Test
+    public void zeroQueueBoundTest() {
+        AsyncLimiter limiter = new AsyncLimiter(2, 0);
+        CompletableFuture<Integer> task = new CompletableFuture<>();
+        CompletableFuture<Integer> firstResult = limiter.submit(() -> task);
+        CompletableFuture<Integer> secondResult = limiter.submit(() -> task);
+        assertTrue(limiter.submit(() -> task).isCompletedExceptionally());
+        assertEquals(2, limiter.getRunning());
+        task.complete(1);
+        assertEquals(Integer.valueOf(1), firstResult.join());
+        assertEquals(Integer.valueOf(1), secondResult.join());
+        assertEquals(1, limiter.getRejected());
+    }
+
+}
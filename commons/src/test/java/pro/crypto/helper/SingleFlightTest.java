@@ -0,0 +1,265 @@
+package pro.crypto.helper;
+
+import com.google.common.util.concurrent.UncheckedTimeoutException;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SingleFlightTest {
+
+    @Test
+    public void concurrentCallsShareExecutionTest() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        int callers = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Integer>> calls = new ArrayList<>();
+            for (int idx = 0; idx < callers; idx++) {
+                calls.add(executor.submit(() -> singleFlight.execute("key", () -> {
+                    executions.incrementAndGet();
+                    await(release);
+                    return 1;
+                })));
+            }
+            awaitWaiters(singleFlight, callers - 1);
+            release.countDown();
+            for (Future<Integer> call : calls) {
+                assertEquals(Integer.valueOf(1), call.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, executions.get());
+            assertEquals(callers, singleFlight.getCalls());
+            assertEquals(callers - 1, singleFlight.getCoalescedCalls());
+            assertEquals(0, singleFlight.getWaiters());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void differentKeysArentSharedTest() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        assertEquals(Integer.valueOf(1), singleFlight.execute("first", () -> singleFlight.execute("second", () -> 2) - 1));
+        assertEquals(2, singleFlight.getExecutions());
+    }
+
+    @Test
+    public void keyIsRemovedAfterCompletionTest() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        assertEquals(Integer.valueOf(1), singleFlight.execute("key", () -> 1));
+        assertEquals(0, singleFlight.getInFlight());
+        assertEquals(Integer.valueOf(2), singleFlight.execute("key", () -> 2));
+        assertEquals(2, singleFlight.getExecutions());
+    }
+
+    @Test
+    public void leaderFailureIsPropagatedTest() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                await(release);
+                throw new IllegalStateException("failed");
+            }));
+            awaitInFlight(singleFlight);
+            Future<Integer> waiter = executor.submit(() -> singleFlight.execute("key", () -> 2));
+            awaitWaiters(singleFlight, 1);
+            release.countDown();
+            assertFailedWith(leader, IllegalStateException.class);
+            assertFailedWith(waiter, IllegalStateException.class);
+            assertEquals(0, singleFlight.getInFlight());
+            assertEquals(Integer.valueOf(3), singleFlight.execute("key", () -> 3));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void boundedWaitTest() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(Duration.ofMillis(100));
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Integer> leader = executor.submit(() -> singleFlight.execute("key", () -> {
+                await(release);
+                return 1;
+            }));
+            awaitInFlight(singleFlight);
+            Future<Integer> waiter = executor.submit(() -> singleFlight.execute("key", () -> 2));
+            assertFailedWith(waiter, UncheckedTimeoutException.class);
+            assertEquals(0, singleFlight.getWaiters());
+            release.countDown();
+            assertEquals(Integer.valueOf(1), leader.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void boundedAsyncWaitTest() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>(Duration.ofMillis(100));
+        CompletableFuture<Integer> execution = new CompletableFuture<>();
+        CompletableFuture<Integer> leader = singleFlight.executeAsync("key", () -> execution);
+        CompletableFuture<Integer> waiter = singleFlight.executeAsync("key", () -> execution);
+        assertFailedWith(waiter, UncheckedTimeoutException.class);
+        assertFalse(leader.isDone());
+        execution.complete(1);
+        assertEquals(Integer.valueOf(1), leader.join());
+    }
+
+    @Test
+    public void asyncCallsShareExecutionTest() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CompletableFuture<Integer> execution = new CompletableFuture<>();
+        AtomicInteger executions = new AtomicInteger();
+        CompletableFuture<Integer> first = singleFlight.executeAsync("key", () -> {
+            executions.incrementAndGet();
+            return execution;
+        });
+        CompletableFuture<Integer> second = singleFlight.executeAsync("key", () -> {
+            executions.incrementAndGet();
+            return CompletableFuture.completedFuture(2);
+        });
+        assertFalse(second.isDone());
+        execution.complete(1);
+        assertEquals(Integer.valueOf(1), first.join());
+        assertEquals(Integer.valueOf(1), second.join());
+        assertEquals(1, executions.get());
+        assertEquals(1, singleFlight.getCoalescedCalls());
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    public void blockingCallWaitsForAsyncExecutionTest() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CompletableFuture<Integer> execution = new CompletableFuture<>();
+        singleFlight.executeAsync("key", () -> execution);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> blockingCall = executor.submit(() -> singleFlight.execute("key", () -> 2));
+            awaitWaiters(singleFlight, 1);
+            execution.complete(1);
+            assertEquals(Integer.valueOf(1), blockingCall.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void asyncCallJoinsBlockingExecutionTest() throws Exception {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> blockingCall = executor.submit(() -> singleFlight.execute("key", () -> {
+                started.countDown();
+                await(release);
+                return 1;
+            }));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            CompletableFuture<Integer> asyncCall = singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture(2));
+            release.countDown();
+            assertEquals(Integer.valueOf(1), blockingCall.get(5, TimeUnit.SECONDS));
+            assertEquals(Integer.valueOf(1), asyncCall.get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void asyncFailureIsSharedAndKeyIsRemovedTest() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CompletableFuture<Integer> execution = new CompletableFuture<>();
+        CompletableFuture<Integer> first = singleFlight.executeAsync("key", () -> execution);
+        CompletableFuture<Integer> second = singleFlight.executeAsync("key", () -> execution);
+        execution.completeExceptionally(new IllegalStateException("failed"));
+        assertFailedWith(first, IllegalStateException.class);
+        assertFailedWith(second, IllegalStateException.class);
+        assertEquals(0, singleFlight.getInFlight());
+        assertEquals(Integer.valueOf(3), singleFlight.executeAsync("key", () -> CompletableFuture.completedFuture(3)).join());
+    }
+
+    @Test
+    public void thrownSupplierExceptionFailsAsyncCallTest() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CompletableFuture<Integer> call = singleFlight.executeAsync("key", () -> {
+            throw new IllegalArgumentException("thrown");
+        });
+        assertFailedWith(call, IllegalArgumentException.class);
+        assertEquals(0, singleFlight.getInFlight());
+    }
+
+    @Test
+    public void callerCantCompleteSharedExecutionTest() {
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        CompletableFuture<Integer> execution = new CompletableFuture<>();
+        CompletableFuture<Integer> first = singleFlight.executeAsync("key", () -> execution);
+        CompletableFuture<Integer> second = singleFlight.executeAsync("key", () -> execution);
+        first.complete(5);
+        execution.complete(1);
+        assertEquals(Integer.valueOf(1), second.join());
+    }
+
+    private void assertFailedWith(Future<Integer> call, Class<? extends Throwable> exceptionClass) throws Exception {
+        try {
+            call.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException ex) {
+            assertEquals(exceptionClass, ex.getCause().getClass());
+            return;
+        }
+        throw new AssertionError("Call should be failed");
+    }
+
+    private void awaitInFlight(SingleFlight<String, Integer> singleFlight) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (singleFlight.getInFlight() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, singleFlight.getInFlight());
+    }
+
+    private void assertFailedWith(CompletableFuture<Integer> call, Class<? extends Throwable> exceptionClass) {
+        try {
+            call.join();
+        } catch (CompletionException ex) {
+            assertEquals(exceptionClass, ex.getCause().getClass());
+            return;
+        }
+        throw new AssertionError("Call should be failed");
+    }
+
+    private void awaitWaiters(SingleFlight<String, Integer> singleFlight, int waiters) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (singleFlight.getWaiters() < waiters && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(waiters, singleFlight.getWaiters());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
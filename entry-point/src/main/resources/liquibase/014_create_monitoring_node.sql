@@ -0,0 +1,6 @@
+CREATE TABLE crypto_monitoring.monitoring_node
+(
+    id             CHARACTER VARYING(255) PRIMARY KEY,
+    start_time     TIMESTAMP              NOT NULL,
+    heartbeat_time TIMESTAMP              NOT NULL
+);
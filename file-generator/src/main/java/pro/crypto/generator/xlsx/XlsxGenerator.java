@@ -8,22 +8,30 @@ import org.apache.poi.ss.usermodel.IndexedColors;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.springframework.stereotype.Component;
 import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickStream;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 @Component
 @Slf4j
 public class XlsxGenerator {
 
+    public static final String MEDIA_TYPE_VALUE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
     private final static DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     private final static String[] TICK_SHEET_COLUMNS = {"Time", "Volume", "Open", "High", "Low", "Close"};
     private final static String SHEET_NAME = "Tick Data";
+    private final static int STREAMING_ROW_WINDOW = 100;
 
     public byte[] generateTickFile(Tick[] data) throws IOException {
         log.trace("Generating Xlsx file with tick data {tickDataSize: {}}", data.length);
@@ -40,6 +48,29 @@ public class XlsxGenerator {
         return byteArrayOutputStream.toByteArray();
     }
 
+    // only a window of rows is kept in memory, older rows are flushed to temporary file
+    public void writeTickFile(TickStream ticks, OutputStream outputStream) throws IOException {
+        log.trace("Generating Xlsx file with tick data stream");
+        SXSSFWorkbook workbook = new SXSSFWorkbook(STREAMING_ROW_WINDOW);
+        try {
+            SXSSFSheet sheet = workbook.createSheet(SHEET_NAME);
+            sheet.trackAllColumnsForAutoSizing();
+            createHeader(configureHeaderCellStyle(workbook), sheet.createRow(0));
+            AtomicInteger rowNumber = new AtomicInteger();
+            ticks.forEachPage(page -> {
+                for (Tick tick : page) {
+                    fillInRow(sheet, tick, rowNumber.incrementAndGet());
+                }
+            });
+            autoSizeColumns(sheet);
+            workbook.write(outputStream);
+            log.trace("Generated Xlsx file with tick data stream {tickDataSize: {}}", rowNumber.get());
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
     private CellStyle configureHeaderCellStyle(Workbook workbook) {
         log.trace("Configuring header cell style");
         CellStyle headerCellStyle = workbook.createCellStyle();
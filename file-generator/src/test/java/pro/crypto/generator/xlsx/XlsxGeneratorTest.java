@@ -3,6 +3,9 @@ package pro.crypto.generator.xlsx;
 import com.google.gson.Gson;
 import lombok.SneakyThrows;
 import org.apache.commons.io.FileUtils;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -12,10 +15,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.junit4.SpringRunner;
 import pro.crypto.model.tick.Tick;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URL;
+import java.util.Arrays;
 
 import static java.util.Objects.nonNull;
 import static org.junit.Assert.assertEquals;
@@ -44,6 +50,23 @@ public class XlsxGeneratorTest {
         assertEquals(actualFileBytes.length, EXPECTED_BYTE_ARRAY_LENGTH);
     }
 
+    @Test
+    public void testXlsxTickStreamGeneration() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        xlsxGenerator.writeTickFile(pageConsumer -> {
+            for (int idx = 0; idx < originalData.length; idx += 7) {
+                pageConsumer.accept(Arrays.copyOfRange(originalData, idx, Math.min(idx + 7, originalData.length)));
+            }
+        }, outputStream);
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(originalData.length, sheet.getLastRowNum());
+            assertEquals("Time", sheet.getRow(0).getCell(0).getStringCellValue());
+            Tick lastTick = originalData[originalData.length - 1];
+            assertEquals(lastTick.getClose().doubleValue(), sheet.getRow(originalData.length).getCell(5).getNumericCellValue(), 0);
+        }
+    }
+
     @SneakyThrows(IOException.class)
     private Tick[] loadOriginalData() {
         ClassLoader classLoader = getClass().getClassLoader();
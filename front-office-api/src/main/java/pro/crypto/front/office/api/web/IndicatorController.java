@@ -5,11 +5,15 @@ import io.swagger.annotations.ApiImplicitParams;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import pro.crypto.request.IndicatorBatchCalculationRequest;
 import pro.crypto.request.IndicatorCalculationRequest;
+import pro.crypto.response.IndicatorBatchResult;
 import pro.crypto.service.IndicatorService;
 
 import javax.validation.Valid;
@@ -35,4 +39,14 @@ public class IndicatorController {
         return indicatorService.calculate(request);
     }
 
+    @PostMapping(value = "/batch", produces = APPLICATION_JSON_UTF8_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "Authorization", value = AUTHORIZATION_HEADER_DESCRIPTION, required = true, dataType = "string", paramType = "header", example = "Bearer some_example_access_token")
+    })
+    public IndicatorBatchResult calculate(@Valid @NotNull @RequestBody IndicatorBatchCalculationRequest request) {
+        return indicatorService.calculate(request);
+    }
+
 }
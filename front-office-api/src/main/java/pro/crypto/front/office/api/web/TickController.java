@@ -1,15 +1,20 @@
 package pro.crypto.front.office.api.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.annotations.ApiImplicitParam;
 import io.swagger.annotations.ApiImplicitParams;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pro.crypto.codec.TickStreamCodec;
 import pro.crypto.front.office.api.response.TickDataResponse;
+import pro.crypto.generator.xlsx.XlsxGenerator;
 import pro.crypto.request.TickPeriodFindRequest;
 import pro.crypto.request.TickTimeFindRequest;
 import pro.crypto.service.TickService;
@@ -17,7 +22,10 @@ import pro.crypto.service.TickService;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import static java.lang.String.format;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
 import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8_VALUE;
+import static pro.crypto.codec.TickStreamCodec.NDJSON_MEDIA_TYPE_VALUE;
 import static pro.crypto.front.office.configuration.swagger.SwaggerConstants.AUTHORIZATION_HEADER_DESCRIPTION;
 
 @RestController
@@ -26,6 +34,8 @@ import static pro.crypto.front.office.configuration.swagger.SwaggerConstants.AUT
 public class TickController {
 
     private final TickService tickService;
+    private final ObjectMapper objectMapper;
+    private final XlsxGenerator xlsxGenerator;
 
     @GetMapping(value = "/time", produces = APPLICATION_JSON_UTF8_VALUE)
     @ResponseStatus(HttpStatus.OK)
@@ -47,4 +57,26 @@ public class TickController {
         return TickDataResponse.fromSnapshot(tickService.getTicksByPeriod(request));
     }
 
+    @GetMapping(value = "/time/stream", produces = NDJSON_MEDIA_TYPE_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "Authorization", value = AUTHORIZATION_HEADER_DESCRIPTION, required = true, dataType = "string", paramType = "header", example = "Bearer some_example_access_token")
+    })
+    public StreamingResponseBody streamTickByTime(@Valid @NotNull TickTimeFindRequest request) {
+        return outputStream ->
+                TickStreamCodec.write(tickService.streamTicksByTime(request), outputStream, NDJSON_MEDIA_TYPE_VALUE, objectMapper);
+    }
+
+    // the file is written while ticks are being read, so large ranges are exported without loading all ticks
+    @GetMapping(value = "/time/xlsx", produces = XlsxGenerator.MEDIA_TYPE_VALUE)
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "Authorization", value = AUTHORIZATION_HEADER_DESCRIPTION, required = true, dataType = "string", paramType = "header", example = "Bearer some_example_access_token")
+    })
+    public ResponseEntity<StreamingResponseBody> exportTickByTime(@Valid @NotNull TickTimeFindRequest request) {
+        StreamingResponseBody body = outputStream -> xlsxGenerator.writeTickFile(tickService.streamTicksByTime(request), outputStream);
+        return ResponseEntity.ok()
+                .header(CONTENT_DISPOSITION, format("attachment; filename=\"ticks-%s-%s.xlsx\"", request.getMarketId(), request.getTimeFrame()))
+                .body(body);
+    }
+
 }
@@ -3,16 +3,21 @@ package pro.crypto.proxy;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.indicator.PrecisionMode;
 import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.request.IndicatorBatchCalculationRequest;
+import pro.crypto.response.IndicatorBatchResult;
 
 import java.time.LocalDateTime;
 
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
+import static org.springframework.web.bind.annotation.RequestMethod.POST;
 
 @Validated
 @FeignClient(name = "api-indicators", url = "${pro.crypto.entry.point.api.url}", path = "/indicators")
@@ -26,6 +31,12 @@ public interface HttpIndicatorProxy {
                                 @RequestParam("from") LocalDateTime from,
                                 @RequestParam("to") LocalDateTime to,
                                 @RequestParam("indicatorType") IndicatorType indicatorType,
-                                @RequestParam("configuration") String configuration);
+                                @RequestParam("configuration") String configuration,
+                                @RequestParam(value = "precisionMode", required = false) PrecisionMode precisionMode);
+
+    @RequestMapping(method = POST, value = "/batch")
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    IndicatorBatchResult calculate(@RequestBody IndicatorBatchCalculationRequest request);
 
 }
@@ -3,7 +3,9 @@ package pro.crypto.service;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import pro.crypto.proxy.HttpIndicatorProxy;
+import pro.crypto.request.IndicatorBatchCalculationRequest;
 import pro.crypto.request.IndicatorCalculationRequest;
+import pro.crypto.response.IndicatorBatchResult;
 
 @Service
 @AllArgsConstructor
@@ -15,7 +17,13 @@ public class HttpIndicatorService implements IndicatorService {
     public Object[] calculate(IndicatorCalculationRequest request) {
         return indicatorProxy.calculate(request.getMarketId(), request.getTimeFrame(),
                 request.getFrom(), request.getTo(),
-                request.getIndicatorType(), request.getConfiguration());
+                request.getIndicatorType(), request.getConfiguration(),
+                request.getPrecisionMode());
+    }
+
+    @Override
+    public IndicatorBatchResult calculate(IndicatorBatchCalculationRequest request) {
+        return indicatorProxy.calculate(request);
     }
 
 }
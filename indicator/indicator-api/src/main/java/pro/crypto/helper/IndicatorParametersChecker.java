@@ -0,0 +1,75 @@
+package pro.crypto.helper;
+
+import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.PriceType;
+import pro.crypto.model.tick.Tick;
+
+import static java.lang.String.format;
+import static java.util.Locale.ENGLISH;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Checks of indicator parameters, shared by batch and incremental indicators.
+ */
+public class IndicatorParametersChecker {
+
+    public static void checkOriginalData(IndicatorType indicatorType, Tick... originalData) {
+        if (isNull(originalData)) {
+            throw new WrongIncomingParametersException(format("Incoming tick data is null {indicator: {%s}}", indicatorType));
+        }
+
+        if (originalData.length == 0) {
+            throw new WrongIncomingParametersException(format("Incoming tick data size should be > 0 {indicator: {%s}, size: {%d}}", indicatorType, originalData.length));
+        }
+    }
+
+    public static void checkOriginalData(IndicatorType indicatorType, Tick originalData) {
+        if (isNull(originalData)) {
+            throw new WrongIncomingParametersException(format("Incoming tick data is null {indicator: {%s}}", indicatorType));
+        }
+    }
+
+    public static void checkOriginalDataSize(IndicatorType indicatorType, Tick[] originalData, int period) {
+        if (period >= originalData.length) {
+            throw new WrongIncomingParametersException(format("Period should be less than tick data size {indicator: {%s}, period: {%d}, size: {%d}}",
+                    indicatorType, period, originalData.length));
+        }
+    }
+
+    public static void checkPeriod(IndicatorType indicatorType, int period) {
+        if (period <= 0) {
+            throw new WrongIncomingParametersException(format("Period should be more than 0 {indicator: {%s}, period: {%d}}",
+                    indicatorType, period));
+        }
+    }
+
+    public static void checkDisplaced(IndicatorType indicatorType, int displaced) {
+        if (displaced <= 0) {
+            throw new WrongIncomingParametersException(format("Displaced value should be more than 0 {indicator: {%s}, displaced: {%d}}",
+                    indicatorType, displaced));
+        }
+    }
+
+    public static void checkShift(IndicatorType indicatorType, double shift) {
+        if (shift < 0) {
+            throw new WrongIncomingParametersException(format(ENGLISH, "Shift should be more or equals 0 {indicator: {%s}, shift: {%.2f}}",
+                    indicatorType, shift));
+        }
+    }
+
+    public static void checkPriceType(IndicatorType indicatorType, PriceType priceType) {
+        if (isNull(priceType)) {
+            throw new WrongIncomingParametersException(format("Incoming price type is null {indicator: {%s}}", indicatorType));
+        }
+    }
+
+    public static void checkMovingAverageType(IndicatorType indicatorType, IndicatorType movingAverageType) {
+        if (nonNull(movingAverageType) && !movingAverageType.isMovingAverage()) {
+            throw new WrongIncomingParametersException(format("Incoming original indicator type is not a moving average {indicator: {%s}}, movingAverageType: {%s}",
+                    indicatorType, movingAverageType.toString()));
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package pro.crypto.model;
+
+import pro.crypto.model.tick.Tick;
+import pro.crypto.response.IndicatorResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.IntFunction;
+
+public abstract class AbstractIncrementalIndicator<T extends IndicatorResult> implements IncrementalIndicator<T> {
+
+    public static final int TAIL_CAPACITY = 500;
+
+    private final IntFunction<T[]> arrayCreator;
+    private final Deque<T> tail;
+
+    protected AbstractIncrementalIndicator(IntFunction<T[]> arrayCreator) {
+        this.arrayCreator = arrayCreator;
+        this.tail = new ArrayDeque<>();
+    }
+
+    // copies only the calculation state, retained results are copied by snapshot
+    protected AbstractIncrementalIndicator(AbstractIncrementalIndicator<T> source) {
+        this.arrayCreator = source.arrayCreator;
+        this.tail = new ArrayDeque<>();
+    }
+
+    @Override
+    public T[] append(Tick... closedTicks) {
+        T[] results = arrayCreator.apply(closedTicks.length);
+        for (int idx = 0; idx < closedTicks.length; idx++) {
+            results[idx] = next(closedTicks[idx]);
+            retain(results[idx]);
+        }
+        return results;
+    }
+
+    @Override
+    public T update(Tick formingTick) {
+        return copy().next(formingTick);
+    }
+
+    @Override
+    public T[] getTail(int count) {
+        return tail.stream()
+                .skip(Math.max(tail.size() - count, 0))
+                .toArray(arrayCreator);
+    }
+
+    @Override
+    public IncrementalIndicator<T> snapshot() {
+        AbstractIncrementalIndicator<T> snapshot = copy();
+        snapshot.tail.addAll(tail);
+        return snapshot;
+    }
+
+    protected abstract T next(Tick tick);
+
+    protected abstract AbstractIncrementalIndicator<T> copy();
+
+    private void retain(T result) {
+        if (tail.size() == TAIL_CAPACITY) {
+            tail.removeFirst();
+        }
+        tail.addLast(result);
+    }
+
+}
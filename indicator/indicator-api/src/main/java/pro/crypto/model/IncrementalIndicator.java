@@ -0,0 +1,27 @@
+package pro.crypto.model;
+
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.response.IndicatorResult;
+
+/**
+ * Indicator which keeps its calculation state and is updated one bar at a time.
+ * Results are the same as the results of batch calculation over all bars appended so far.
+ */
+public interface IncrementalIndicator<T extends IndicatorResult> {
+
+    IndicatorType getType();
+
+    // closed bars become part of the state, results are returned in the same order
+    T[] append(Tick... closedTicks);
+
+    // result for the forming bar, the state isn't changed, so the same bar can be updated again
+    T update(Tick formingTick);
+
+    // results of the last closed bars, limited by the number of retained results
+    T[] getTail(int count);
+
+    // independent copy of the current state
+    IncrementalIndicator<T> snapshot();
+
+}
@@ -1,16 +1,11 @@
 package pro.crypto.model;
 
-import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.helper.IndicatorParametersChecker;
 import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.PriceType;
 import pro.crypto.model.tick.Tick;
 import pro.crypto.response.IndicatorResult;
 
-import static java.lang.String.format;
-import static java.util.Locale.ENGLISH;
-import static java.util.Objects.isNull;
-import static java.util.Objects.nonNull;
-
 public interface Indicator<T extends IndicatorResult> {
 
     IndicatorType getType();
@@ -20,60 +15,35 @@ public interface Indicator<T extends IndicatorResult> {
     T[] getResult();
 
     default void checkOriginalData(Tick... originalData) {
-        if (isNull(originalData)) {
-            throw new WrongIncomingParametersException(format("Incoming tick data is null {indicator: {%s}}", getType().toString()));
-        }
-
-        if (originalData.length == 0) {
-            throw new WrongIncomingParametersException(format("Incoming tick data size should be > 0 {indicator: {%s}, size: {%d}}", getType().toString(), originalData.length));
-        }
+        IndicatorParametersChecker.checkOriginalData(getType(), originalData);
     }
 
     default void checkOriginalData(Tick originalData) {
-        if (isNull(originalData)) {
-            throw new WrongIncomingParametersException(format("Incoming tick data is null {indicator: {%s}}", getType().toString()));
-        }
+        IndicatorParametersChecker.checkOriginalData(getType(), originalData);
     }
 
     default void checkOriginalDataSize(Tick[] originalData, int period) {
-        if (period >= originalData.length) {
-            throw new WrongIncomingParametersException(format("Period should be less than tick data size {indicator: {%s}, period: {%d}, size: {%d}}",
-                    getType().toString(), period, originalData.length));
-        }
+        IndicatorParametersChecker.checkOriginalDataSize(getType(), originalData, period);
     }
 
     default void checkPeriod(int period) {
-        if (period <= 0) {
-            throw new WrongIncomingParametersException(format("Period should be more than 0 {indicator: {%s}, period: {%d}}",
-                    getType().toString(), period));
-        }
+        IndicatorParametersChecker.checkPeriod(getType(), period);
     }
 
     default void checkDisplaced(int displaced) {
-        if (displaced <= 0) {
-            throw new WrongIncomingParametersException(format("Displaced value should be more than 0 {indicator: {%s}, displaced: {%d}}",
-                    getType().toString(), displaced));
-        }
+        IndicatorParametersChecker.checkDisplaced(getType(), displaced);
     }
 
     default void checkShift(double shift) {
-        if (shift < 0) {
-            throw new WrongIncomingParametersException(format(ENGLISH, "Shift should be more or equals 0 {indicator: {%s}, shift: {%.2f}}",
-                    getType().toString(), shift));
-        }
+        IndicatorParametersChecker.checkShift(getType(), shift);
     }
 
     default void checkPriceType(PriceType priceType) {
-        if (isNull(priceType)) {
-            throw new WrongIncomingParametersException(format("Incoming price type is null {indicator: {%s}}", getType().toString()));
-        }
+        IndicatorParametersChecker.checkPriceType(getType(), priceType);
     }
 
     default void checkMovingAverageType(IndicatorType movingAverageType) {
-        if (nonNull(movingAverageType) && !movingAverageType.isMovingAverage()) {
-            throw new WrongIncomingParametersException(format("Incoming original indicator type is not a moving average {indicator: {%s}}, movingAverageType: {%s}",
-                    getType().toString(), movingAverageType.toString()));
-        }
+        IndicatorParametersChecker.checkMovingAverageType(getType(), movingAverageType);
     }
 
 }
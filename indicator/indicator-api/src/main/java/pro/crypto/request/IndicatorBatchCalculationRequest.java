@@ -0,0 +1,28 @@
+package pro.crypto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class IndicatorBatchCalculationRequest {
+
+    private Long marketId;
+
+    private TimeFrame timeFrame;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private List<IndicatorBatchItem> indicators;
+
+}
@@ -0,0 +1,22 @@
+package pro.crypto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.indicator.PrecisionMode;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class IndicatorBatchItem {
+
+    private IndicatorType indicatorType;
+
+    private String configuration;
+
+    private PrecisionMode precisionMode;
+
+}
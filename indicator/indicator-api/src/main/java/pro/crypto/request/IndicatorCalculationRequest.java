@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.indicator.PrecisionMode;
 import pro.crypto.model.tick.TimeFrame;
 
 import java.time.LocalDateTime;
@@ -27,4 +28,6 @@ public class IndicatorCalculationRequest {
 
     private String configuration;
 
+    private PrecisionMode precisionMode;
+
 }
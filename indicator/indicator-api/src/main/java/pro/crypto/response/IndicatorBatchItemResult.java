@@ -0,0 +1,27 @@
+package pro.crypto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.indicator.PrecisionMode;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class IndicatorBatchItemResult {
+
+    private IndicatorType indicatorType;
+
+    private String configuration;
+
+    private PrecisionMode precisionMode;
+
+    // milliseconds
+    private long calculationTime;
+
+    private Object[] result;
+
+}
@@ -0,0 +1,21 @@
+package pro.crypto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class IndicatorBatchResult {
+
+    // milliseconds
+    private long tickFetchTime;
+
+    private List<IndicatorBatchItemResult> indicators;
+
+}
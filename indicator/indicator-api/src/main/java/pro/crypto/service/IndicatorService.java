@@ -1,9 +1,13 @@
 package pro.crypto.service;
 
+import pro.crypto.request.IndicatorBatchCalculationRequest;
 import pro.crypto.request.IndicatorCalculationRequest;
+import pro.crypto.response.IndicatorBatchResult;
 
 public interface IndicatorService {
 
     Object[] calculate(IndicatorCalculationRequest request);
 
+    IndicatorBatchResult calculate(IndicatorBatchCalculationRequest request);
+
 }
@@ -0,0 +1,68 @@
+package pro.crypto.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.response.IndicatorResult;
+import pro.crypto.tick.generator.SyntheticTickGenerator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures full calculation of every indicator type over synthetic daily ticks.
+ * Indicator is created before every invocation, because indicators keep calculated result,
+ * so request parsing and validation aren't measured.
+ * <p>
+ * Run: {@code java -jar indicator/indicator-benchmarks/target/benchmarks.jar IndicatorBenchmark -prof gc -rf csv -rff current.csv},
+ * single indicator: {@code -p indicatorType=RELATIVE_STRENGTH_INDEX}.
+ * Baseline in {@code indicator/indicator-benchmarks/baseline} was recorded with shorter runs
+ * {@code -bm avgt -wi 1 -w 1s -i 3 -r 1s -f 1 -prof gc}, current results are compared with
+ * {@code scripts/compare-benchmarks.sh baseline.csv current.csv [threshold percent]}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndicatorBenchmark {
+
+    @Param
+    private IndicatorType indicatorType;
+
+    @Param({"1000", "10000", "100000"})
+    private int barCount;
+
+    private Tick[] ticks;
+    private IndicatorBenchmarkFactory indicatorFactory;
+    private Indicator<? extends IndicatorResult> indicator;
+
+    @Setup(Level.Trial)
+    public void setUpTicks() {
+        ticks = new SyntheticTickGenerator(barCount).generate();
+        indicatorFactory = new IndicatorBenchmarkFactory();
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpIndicator() {
+        indicator = indicatorFactory.create(indicatorType, ticks);
+    }
+
+    @Benchmark
+    public IndicatorResult[] calculate() {
+        return indicator.getResult();
+    }
+
+}
@@ -0,0 +1,65 @@
+package pro.crypto.benchmark;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.reflect.TypeToken;
+import lombok.SneakyThrows;
+import org.apache.commons.io.IOUtils;
+import pro.crypto.exception.UnknownTypeException;
+import pro.crypto.factory.IndicatorFactory;
+import pro.crypto.factory.IndicatorRequestFactory;
+import pro.crypto.factory.IndicatorRequestTypeResolver;
+import pro.crypto.factory.JsonParser;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+import pro.crypto.response.IndicatorResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+
+/**
+ * Creates indicators the same way as indicator service does, configurations are read from benchmark resources.
+ * Pivot points use the same daily ticks as one day data.
+ */
+class IndicatorBenchmarkFactory {
+
+    private static final String CONFIGURATIONS_RESOURCE = "benchmark/indicator-configurations.json";
+
+    private final Map<IndicatorType, JsonElement> configurations;
+    private final IndicatorRequestFactory requestFactory;
+    private final IndicatorFactory indicatorFactory;
+
+    IndicatorBenchmarkFactory() {
+        JsonParser parser = new JsonParser();
+        parser.init();
+        this.configurations = loadConfigurations();
+        this.requestFactory = new IndicatorRequestFactory(parser, new IndicatorRequestTypeResolver());
+        this.indicatorFactory = new IndicatorFactory();
+    }
+
+    Indicator<? extends IndicatorResult> create(IndicatorType indicatorType, Tick[] ticks) {
+        JsonElement configuration = configurations.get(indicatorType);
+        if (isNull(configuration)) {
+            throw new UnknownTypeException(format("Benchmark configuration not found {indicatorType: {%s}}", indicatorType));
+        }
+        IndicatorRequest request = requestFactory.buildRequest(ticks, indicatorType, configuration.toString());
+        // indicator factory returns raw type, captured wildcard already has the result bound
+        Indicator<?> indicator = indicatorFactory.create(request, indicatorType, ticks);
+        return indicator;
+    }
+
+    @SneakyThrows(IOException.class)
+    private Map<IndicatorType, JsonElement> loadConfigurations() {
+        try (InputStream stream = getClass().getClassLoader().getResourceAsStream(CONFIGURATIONS_RESOURCE)) {
+            return new Gson().fromJson(IOUtils.toString(stream, UTF_8), new TypeToken<Map<IndicatorType, JsonElement>>() {}.getType());
+        }
+    }
+
+}
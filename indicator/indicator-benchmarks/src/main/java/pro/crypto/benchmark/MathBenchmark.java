@@ -0,0 +1,137 @@
+package pro.crypto.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import pro.crypto.helper.BigDecimalMath;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares per-bar arithmetic of {@link BigDecimalMath} with the previous varargs and stream based {@code MathHelper},
+ * which is copied here as legacy methods. Every benchmark processes the same bars with typical indicator operations:
+ * typical price (average of 3), true range (max of 3), median price (average of 2), return logarithm and square root.
+ * <p>
+ * Run: {@code java -jar indicator/indicator-benchmarks/target/benchmarks.jar MathBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MathBenchmark {
+
+    private static final int BAR_COUNT = 1000;
+
+    private final BigDecimalMath math = BigDecimalMath.DEFAULT;
+
+    private BigDecimal[] highs;
+    private BigDecimal[] lows;
+    private BigDecimal[] closes;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(17);
+        highs = new BigDecimal[BAR_COUNT];
+        lows = new BigDecimal[BAR_COUNT];
+        closes = new BigDecimal[BAR_COUNT];
+        BigDecimal close = BigDecimal.valueOf(8000);
+        for (int idx = 0; idx < BAR_COUNT; idx++) {
+            close = close.add(BigDecimal.valueOf(random.nextGaussian() * 50).setScale(8, RoundingMode.HALF_UP));
+            closes[idx] = close;
+            highs[idx] = close.add(BigDecimal.valueOf(random.nextDouble() * 30).setScale(8, RoundingMode.HALF_UP));
+            lows[idx] = close.subtract(BigDecimal.valueOf(random.nextDouble() * 30).setScale(8, RoundingMode.HALF_UP));
+        }
+    }
+
+    @Benchmark
+    public void legacyBarArithmetic(Blackhole blackhole) {
+        for (int idx = 1; idx < BAR_COUNT; idx++) {
+            blackhole.consume(legacyAverage(highs[idx], lows[idx], closes[idx]));
+            blackhole.consume(legacyMax(highs[idx].subtract(lows[idx]),
+                    highs[idx].subtract(closes[idx - 1]).abs(), lows[idx].subtract(closes[idx - 1]).abs()));
+            blackhole.consume(legacyAverage(highs[idx], lows[idx]));
+            blackhole.consume(legacySum(closes[idx], closes[idx - 1]));
+        }
+    }
+
+    @Benchmark
+    public void barArithmetic(Blackhole blackhole) {
+        for (int idx = 1; idx < BAR_COUNT; idx++) {
+            blackhole.consume(math.average(highs[idx], lows[idx], closes[idx]));
+            blackhole.consume(math.max(highs[idx].subtract(lows[idx]),
+                    highs[idx].subtract(closes[idx - 1]).abs(), lows[idx].subtract(closes[idx - 1]).abs()));
+            blackhole.consume(math.average(highs[idx], lows[idx]));
+            blackhole.consume(math.sum(closes[idx], closes[idx - 1]));
+        }
+    }
+
+    @Benchmark
+    public void legacyLn(Blackhole blackhole) {
+        for (int idx = 1; idx < BAR_COUNT; idx++) {
+            blackhole.consume(legacyLn(legacyDivide(closes[idx], closes[idx - 1])));
+        }
+    }
+
+    @Benchmark
+    public void ln(Blackhole blackhole) {
+        for (int idx = 1; idx < BAR_COUNT; idx++) {
+            blackhole.consume(math.ln(math.divide(closes[idx], closes[idx - 1])));
+        }
+    }
+
+    private static BigDecimal legacyScaleAndRound(BigDecimal value) {
+        return value != null ? value.setScale(10, RoundingMode.HALF_UP) : null;
+    }
+
+    private static BigDecimal legacyDivide(BigDecimal divisible, BigDecimal divisor) {
+        if (divisor != null && divisor.compareTo(BigDecimal.ZERO) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return divisible != null && divisor != null ? divisible.divide(divisor, 20, RoundingMode.HALF_UP) : null;
+    }
+
+    private static BigDecimal legacyMax(BigDecimal... values) {
+        return legacyScaleAndRound(Stream.of(values).max(BigDecimal::compareTo).orElse(null));
+    }
+
+    private static BigDecimal legacySum(BigDecimal... values) {
+        return legacyScaleAndRound(Stream.of(values).reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    private static BigDecimal legacyAverage(BigDecimal... values) {
+        return legacyDivide(legacySum(values), new BigDecimal(values.length));
+    }
+
+    private static BigDecimal legacyLn(BigDecimal value) {
+        MathContext context = new MathContext(15);
+        if (value.compareTo(BigDecimal.ONE) == 0) {
+            return BigDecimal.ZERO;
+        }
+        value = value.subtract(BigDecimal.ONE);
+        BigDecimal ret = new BigDecimal(31);
+        for (long i = 30; i >= 0; i--) {
+            BigDecimal n = new BigDecimal(i / 2 + 1).pow(2);
+            n = n.multiply(value, context);
+            ret = n.divide(ret, context);
+            n = new BigDecimal(i + 1);
+            ret = ret.add(n, context);
+        }
+        return value.divide(ret, context);
+    }
+
+}
@@ -0,0 +1,124 @@
+package pro.crypto.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pro.crypto.codec.TickCodec;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickData;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static pro.crypto.model.market.Stock.BITTREX;
+
+/**
+ * Compares JSON and binary ticks format of tick data with 25000 five-minute bars: encoding and decoding time.
+ * Payload size in bytes is reported by the {@code payloadBytes} counter of encoding benchmarks.
+ * <p>
+ * Run: {@code java -jar indicator/indicator-benchmarks/target/benchmarks.jar TickCodecBenchmark -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TickCodecBenchmark {
+
+    private static final int TICK_COUNT = 25000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(WRITE_DATES_AS_TIMESTAMPS);
+
+    private TickData tickData;
+    private byte[] metadata;
+    private byte[] json;
+    private byte[] binary;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        tickData = new TickData(BITTREX, null, TimeFrame.FIVE_MIN, generateTicks());
+        metadata = objectMapper.writeValueAsBytes(new TickData(BITTREX, null, TimeFrame.FIVE_MIN, null));
+        json = objectMapper.writeValueAsBytes(tickData);
+        binary = TickCodec.encode(metadata, tickData.getTicks());
+    }
+
+    @Benchmark
+    public byte[] encodeJson(PayloadSize payloadSize) throws JsonProcessingException {
+        byte[] payload = objectMapper.writeValueAsBytes(tickData);
+        payloadSize.payloadBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public byte[] encodeBinary(PayloadSize payloadSize) {
+        byte[] payload = TickCodec.encode(metadata, tickData.getTicks());
+        payloadSize.payloadBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public TickData decodeJson() throws IOException {
+        return objectMapper.readValue(json, TickData.class);
+    }
+
+    @Benchmark
+    public Tick[] decodeBinary() {
+        return TickCodec.decode(ByteBuffer.wrap(binary)).getTicks();
+    }
+
+    private Tick[] generateTicks() {
+        Random random = new Random(17);
+        Tick[] ticks = new Tick[TICK_COUNT];
+        LocalDateTime time = LocalDateTime.of(2019, 1, 1, 0, 0);
+        BigDecimal close = BigDecimal.valueOf(8000);
+        for (int idx = 0; idx < TICK_COUNT; idx++) {
+            BigDecimal open = close;
+            close = open.add(toDecimal(random.nextGaussian() * 20));
+            BigDecimal volume = toDecimal(random.nextDouble() * 40);
+            ticks[idx] = Tick.builder()
+                    .open(open)
+                    .high(open.max(close).add(toDecimal(random.nextDouble() * 10)))
+                    .low(open.min(close).subtract(toDecimal(random.nextDouble() * 10)))
+                    .close(close)
+                    .volume(volume)
+                    .baseVolume(volume.multiply(close).setScale(8, RoundingMode.HALF_UP))
+                    .tickTime(time.plusMinutes(5L * idx))
+                    .build();
+        }
+        return ticks;
+    }
+
+    private BigDecimal toDecimal(double value) {
+        return BigDecimal.valueOf(value).setScale(8, RoundingMode.HALF_UP);
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+
+    }
+
+}
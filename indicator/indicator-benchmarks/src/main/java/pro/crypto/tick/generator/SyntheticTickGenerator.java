@@ -0,0 +1,71 @@
+package pro.crypto.tick.generator;
+
+import pro.crypto.model.tick.Tick;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Random;
+
+import static java.math.RoundingMode.HALF_UP;
+
+/**
+ * Generates daily ticks of any size from bar shapes and price changes of increased quantity test data.
+ * Price changes are taken in random order with random sign and pulled back to the first price,
+ * so long series neither explode nor vanish. Ticks are the same for the same size.
+ */
+public class SyntheticTickGenerator extends TickAbstractGenerator {
+
+    private static final long SEED = 20180225L;
+    private static final int PRICE_SCALE = 8;
+    private static final double MEAN_REVERSION = 0.01;
+
+    private final int size;
+
+    public SyntheticTickGenerator(int size) {
+        this.size = size;
+    }
+
+    @Override
+    public Tick[] generate() {
+        Tick[] template = new IncreasedQuantityTickGenerator().generate();
+        Random random = new Random(SEED);
+        double basePrice = template[0].getClose().doubleValue();
+        double previousClose = basePrice;
+        LocalDateTime tickTime = template[0].getTickTime();
+        Tick[] result = new Tick[size];
+        for (int idx = 0; idx < size; idx++) {
+            int templateIndex = random.nextInt(template.length - 1) + 1;
+            result[idx] = generateTick(template[templateIndex - 1], template[templateIndex], random, basePrice, previousClose, tickTime.plusDays(idx));
+            previousClose = result[idx].getClose().doubleValue();
+        }
+        return result;
+    }
+
+    private Tick generateTick(Tick templatePrevious, Tick templateCurrent, Random random,
+                              double basePrice, double previousClose, LocalDateTime tickTime) {
+        double templatePreviousClose = templatePrevious.getClose().doubleValue();
+        double templateOpen = templateCurrent.getOpen().doubleValue();
+        double templateClose = templateCurrent.getClose().doubleValue();
+        double direction = random.nextBoolean() ? 1 : -1;
+        double change = direction * Math.log(templateClose / templatePreviousClose) - MEAN_REVERSION * Math.log(previousClose / basePrice);
+        double open = previousClose * templateOpen / templatePreviousClose;
+        double close = previousClose * Math.exp(change);
+        double high = Math.max(open, close) * templateCurrent.getHigh().doubleValue() / Math.max(templateOpen, templateClose);
+        double low = Math.min(open, close) * templateCurrent.getLow().doubleValue() / Math.min(templateOpen, templateClose);
+        double baseVolume = templateCurrent.getBaseVolume().doubleValue() * (0.5 + random.nextDouble());
+        return Tick.builder()
+                .open(toPrice(open))
+                .high(toPrice(high))
+                .low(toPrice(low))
+                .close(toPrice(close))
+                .baseVolume(toPrice(baseVolume))
+                .volume(toPrice(baseVolume * close))
+                .tickTime(tickTime)
+                .build();
+    }
+
+    private BigDecimal toPrice(double value) {
+        return BigDecimal.valueOf(value).setScale(PRICE_SCALE, HALF_UP);
+    }
+
+}
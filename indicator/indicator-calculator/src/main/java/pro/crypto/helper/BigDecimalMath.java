@@ -0,0 +1,153 @@
+package pro.crypto.helper;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Per-bar arithmetic without varargs and streams, rounding is defined by {@link RoundingPolicy}.
+ * Results of min, max, sum, average and divide with the default policy are equal to {@link MathHelper} results.
+ * Logarithm is calculated with double precision and rounded according to the policy,
+ * it's more accurate than {@link MathHelper#ln}, so results may differ in the last digit.
+ */
+public class BigDecimalMath {
+
+    public static final BigDecimalMath DEFAULT = new BigDecimalMath(RoundingPolicy.DEFAULT);
+
+    private static final BigDecimal TWO = BigDecimal.valueOf(2);
+    private static final BigDecimal THREE = BigDecimal.valueOf(3);
+    private static final BigDecimal FOUR = BigDecimal.valueOf(4);
+    private static final double LN_10 = Math.log(10);
+    private static final double MIN_LOG1P_VALUE = 0.5;
+    private static final double MAX_LOG1P_VALUE = 2;
+
+    private final RoundingPolicy policy;
+
+    public BigDecimalMath(RoundingPolicy policy) {
+        this.policy = policy;
+    }
+
+    public RoundingPolicy getPolicy() {
+        return policy;
+    }
+
+    public BigDecimal scaleAndRound(BigDecimal value) {
+        return nonNull(value)
+                ? value.setScale(policy.getScale(), policy.getRoundingMode())
+                : null;
+    }
+
+    public BigDecimal divide(BigDecimal divisible, BigDecimal divisor) {
+        if (nonNull(divisor) && divisor.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return nonNull(divisible) && nonNull(divisor)
+                ? divisible.divide(divisor, policy.getDivisionScale(), policy.getRoundingMode())
+                : null;
+    }
+
+    public BigDecimal min(BigDecimal first, BigDecimal second) {
+        return scaleAndRound(first.compareTo(second) <= 0 ? first : second);
+    }
+
+    public BigDecimal min(BigDecimal first, BigDecimal second, BigDecimal third) {
+        BigDecimal min = first.compareTo(second) <= 0 ? first : second;
+        return scaleAndRound(min.compareTo(third) <= 0 ? min : third);
+    }
+
+    public BigDecimal min(BigDecimal[] values) {
+        if (values.length == 0) {
+            return null;
+        }
+        BigDecimal min = values[0];
+        for (int idx = 1; idx < values.length; idx++) {
+            if (values[idx].compareTo(min) < 0) {
+                min = values[idx];
+            }
+        }
+        return scaleAndRound(min);
+    }
+
+    public BigDecimal max(BigDecimal first, BigDecimal second) {
+        return scaleAndRound(first.compareTo(second) >= 0 ? first : second);
+    }
+
+    public BigDecimal max(BigDecimal first, BigDecimal second, BigDecimal third) {
+        BigDecimal max = first.compareTo(second) >= 0 ? first : second;
+        return scaleAndRound(max.compareTo(third) >= 0 ? max : third);
+    }
+
+    public BigDecimal max(BigDecimal[] values) {
+        if (values.length == 0) {
+            return null;
+        }
+        BigDecimal max = values[0];
+        for (int idx = 1; idx < values.length; idx++) {
+            if (values[idx].compareTo(max) > 0) {
+                max = values[idx];
+            }
+        }
+        return scaleAndRound(max);
+    }
+
+    public BigDecimal sum(BigDecimal first, BigDecimal second) {
+        return scaleAndRound(first.add(second));
+    }
+
+    public BigDecimal sum(BigDecimal first, BigDecimal second, BigDecimal third) {
+        return scaleAndRound(first.add(second).add(third));
+    }
+
+    public BigDecimal sum(BigDecimal[] values) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (BigDecimal value : values) {
+            sum = sum.add(value);
+        }
+        return scaleAndRound(sum);
+    }
+
+    public BigDecimal average(BigDecimal first, BigDecimal second) {
+        return divide(sum(first, second), TWO);
+    }
+
+    public BigDecimal average(BigDecimal first, BigDecimal second, BigDecimal third) {
+        return divide(sum(first, second, third), THREE);
+    }
+
+    public BigDecimal average(BigDecimal first, BigDecimal second, BigDecimal third, BigDecimal fourth) {
+        return divide(scaleAndRound(first.add(second).add(third).add(fourth)), FOUR);
+    }
+
+    public BigDecimal average(BigDecimal[] values) {
+        return divide(sum(values), BigDecimal.valueOf(values.length));
+    }
+
+    // natural logarithm rounded to the policy precision, log1p keeps precision of values close to one
+    public BigDecimal ln(BigDecimal value) {
+        if (isNull(value)) {
+            return null;
+        }
+        if (value.signum() <= 0) {
+            throw new ArithmeticException("Logarithm of not positive number");
+        }
+        if (value.compareTo(BigDecimal.ONE) == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(calculateLn(value)).round(policy.getMathContext());
+    }
+
+    private double calculateLn(BigDecimal value) {
+        double doubleValue = value.doubleValue();
+        if (doubleValue > MIN_LOG1P_VALUE && doubleValue < MAX_LOG1P_VALUE) {
+            return Math.log1p(value.subtract(BigDecimal.ONE).doubleValue());
+        }
+        if (Double.isFinite(doubleValue) && doubleValue >= Double.MIN_NORMAL) {
+            return Math.log(doubleValue);
+        }
+        // out of double range, value = mantissa * 10^exponent
+        int exponent = value.precision() - value.scale() - 1;
+        return Math.log(value.movePointLeft(exponent).doubleValue()) + exponent * LN_10;
+    }
+
+}
@@ -0,0 +1,201 @@
+package pro.crypto.helper;
+
+import lombok.Data;
+import lombok.SneakyThrows;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+import pro.crypto.response.IndicatorResult;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Shares results of indicators and auxiliary series within one calculation (e.g. one strategy evaluation).
+ * Results are keyed by node name (indicator type), request parameters except original data and identity of the original data array,
+ * so only nodes calculated over the same tick array are shared. Shared results must not be modified by callers.
+ * The context is bound to the current thread between {@link #open()} and {@link #close()},
+ * without opened context every node is calculated as usual.
+ * A context opened with {@link IndicatorResultCache} looks up nodes calculated over the original tick data in this cache,
+ * so such nodes are shared between calculations over the same market data.
+ */
+public class IndicatorContext implements AutoCloseable {
+
+    private static final ThreadLocal<IndicatorContext> CURRENT = new ThreadLocal<>();
+    private static final String ORIGINAL_DATA_FIELD = "originalData";
+    private static final Map<Class<?>, List<Field>> PARAMETER_FIELDS = new ConcurrentHashMap<>();
+
+    private final IndicatorContext previous;
+    private final IndicatorResultCache resultCache;
+    private final IndicatorResultCache.Scope scope;
+    private final Tick[] originalData;
+    private final Map<NodeKey, Object> results = new HashMap<>();
+    private final Map<String, NodeStatistic> statistics = new TreeMap<>();
+
+    private IndicatorContext(IndicatorContext previous, IndicatorResultCache resultCache, IndicatorResultCache.Scope scope, Tick[] originalData) {
+        this.previous = previous;
+        this.resultCache = resultCache;
+        this.scope = scope;
+        this.originalData = originalData;
+    }
+
+    public static IndicatorContext open() {
+        return open(null, null, null);
+    }
+
+    public static IndicatorContext open(IndicatorResultCache resultCache, IndicatorResultCache.Scope scope, Tick[] originalData) {
+        IndicatorContext context = new IndicatorContext(CURRENT.get(), resultCache, scope, originalData);
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static <T extends IndicatorResult> T[] getResult(IndicatorRequest request, Function<IndicatorRequest, ? extends Indicator<T>> indicatorCreator) {
+        Indicator<T> indicator = indicatorCreator.apply(request);
+        return compute(indicator.getType().toString(), request.getOriginalData(), indicator::getResult, extractParameters(request));
+    }
+
+    // indicator type with request class and request parameters except original data
+    @SneakyThrows(IllegalAccessException.class)
+    public static Object[] extractParameters(IndicatorRequest request) {
+        List<Field> fields = PARAMETER_FIELDS.computeIfAbsent(request.getClass(), IndicatorContext::findParameterFields);
+        Object[] parameters = new Object[fields.size() + 1];
+        parameters[0] = request.getClass();
+        for (int idx = 0; idx < fields.size(); idx++) {
+            parameters[idx + 1] = fields.get(idx).get(request);
+        }
+        return parameters;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T compute(String node, Tick[] input, Supplier<T> calculation, Object... parameters) {
+        IndicatorContext context = CURRENT.get();
+        if (isNull(context)) {
+            return calculation.get();
+        }
+        NodeStatistic statistic = context.statistics.computeIfAbsent(node, name -> new NodeStatistic());
+        NodeKey key = new NodeKey(node, input, parameters);
+        Object result = context.results.get(key);
+        if (isNull(result)) {
+            statistic.misses++;
+            result = context.calculate(node, input, calculation, parameters, statistic);
+            context.results.put(key, result);
+        } else {
+            statistic.hits++;
+        }
+        return (T) result;
+    }
+
+    private Object calculate(String node, Tick[] input, Supplier<?> calculation, Object[] parameters, NodeStatistic statistic) {
+        if (isNull(resultCache) || isNull(scope) || input != originalData) {
+            return calculation.get();
+        }
+        boolean[] calculated = new boolean[1];
+        Object result = resultCache.get(scope, node, parameters, () -> {
+            calculated[0] = true;
+            return calculation.get();
+        });
+        if (!calculated[0]) {
+            statistic.sharedHits++;
+        }
+        return result;
+    }
+
+    public Map<String, NodeStatistic> getStatistics() {
+        return statistics;
+    }
+
+    public int getHits() {
+        return statistics.values().stream().mapToInt(NodeStatistic::getHits).sum();
+    }
+
+    public int getMisses() {
+        return statistics.values().stream().mapToInt(NodeStatistic::getMisses).sum();
+    }
+
+    public int getSharedHits() {
+        return statistics.values().stream().mapToInt(NodeStatistic::getSharedHits).sum();
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (isNull(previous)) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    private static List<Field> findParameterFields(Class<?> requestClass) {
+        return Stream.of(requestClass.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .filter(field -> !ORIGINAL_DATA_FIELD.equals(field.getName()))
+                .sorted(Comparator.comparing(Field::getName))
+                .peek(field -> field.setAccessible(true))
+                .collect(Collectors.toList());
+    }
+
+    @Data
+    public static class NodeStatistic {
+
+        private int hits;
+
+        private int misses;
+
+        // misses of the context which were found in indicator result cache
+        private int sharedHits;
+
+    }
+
+    // input series is compared by identity, hashing of the whole tick array would cost as much as some calculations
+    private static class NodeKey {
+
+        private final String node;
+        private final Tick[] input;
+        private final Object[] parameters;
+        private final int hashCode;
+
+        private NodeKey(String node, Tick[] input, Object[] parameters) {
+            this.node = node;
+            this.input = input;
+            this.parameters = parameters;
+            this.hashCode = Objects.hash(node, System.identityHashCode(input), Arrays.deepHashCode(parameters));
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof NodeKey)) {
+                return false;
+            }
+            NodeKey key = (NodeKey) object;
+            return input == key.input
+                    && node.equals(key.node)
+                    && Arrays.deepEquals(parameters, key.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -0,0 +1,214 @@
+package pro.crypto.helper;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import lombok.Value;
+import pro.crypto.exception.UnexpectedValueException;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.lang.reflect.Array;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Process-wide cache of indicator results calculated over the same market data.
+ * Results are keyed by the scope (market, time frame, range of ticks and the last bar), node name and request parameters.
+ * The last bar is a part of the scope because forming bar is replaced in tick store while it's open.
+ * The cache is bounded by the total number of cached result values, every result array is weighted by its length.
+ * Entries of a market and time frame are invalidated as soon as a scope with a newer or changed last bar is requested for them.
+ * Cached results are shared between threads and must not be modified.
+ */
+public class IndicatorResultCache {
+
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 5_000_000;
+
+    private final Cache<NodeKey, Object> cache;
+    private final ConcurrentMap<MarketKey, Tick> lastBars = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public IndicatorResultCache() {
+        this(DEFAULT_MAXIMUM_WEIGHT);
+    }
+
+    public IndicatorResultCache(long maximumWeight) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((NodeKey key, Object value) -> weigh(value))
+                .recordStats()
+                .build();
+    }
+
+    // null for empty tick data, such data isn't cached
+    public Scope getScope(Long marketId, TimeFrame timeFrame, Tick[] ticks) {
+        if (isNull(ticks) || ticks.length == 0) {
+            return null;
+        }
+        Tick lastTick = ticks[ticks.length - 1];
+        Scope scope = new Scope(marketId, timeFrame, ticks[0].getTickTime(), lastTick.getTickTime(), ticks.length, copy(lastTick));
+        refreshLastBar(scope);
+        return scope;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Scope scope, String node, Object[] parameters, Supplier<T> calculation) {
+        try {
+            return (T) cache.get(new NodeKey(scope, node, parameters), calculation::get);
+        } catch (ExecutionException | UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new UnexpectedValueException(format("Can't calculate cached indicator result {node: {%s}, message: {%s}}", node, ex.getMessage()));
+        }
+    }
+
+    public void invalidate(Long marketId, TimeFrame timeFrame) {
+        removeEntries(new MarketKey(marketId, timeFrame), null);
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getInvalidationCount() {
+        return invalidationCount.get();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    // scope with older last bar doesn't change the last bar of the market
+    private void refreshLastBar(Scope scope) {
+        if (isNull(scope.getLastBarTime())) {
+            return;
+        }
+        MarketKey marketKey = new MarketKey(scope.getMarketId(), scope.getTimeFrame());
+        Tick previousLastBar = lastBars.get(marketKey);
+        if (isNull(previousLastBar) || isNewer(scope.getLastBar(), previousLastBar)) {
+            lastBars.put(marketKey, scope.getLastBar());
+            if (nonNull(previousLastBar)) {
+                removeEntries(marketKey, scope.getLastBar());
+            }
+        }
+    }
+
+    private boolean isNewer(Tick lastBar, Tick previousLastBar) {
+        return lastBar.getTickTime().isAfter(previousLastBar.getTickTime())
+                || (lastBar.getTickTime().equals(previousLastBar.getTickTime()) && !lastBar.equals(previousLastBar));
+    }
+
+    // removes entries of the market calculated before the given last bar, or all of them
+    private void removeEntries(MarketKey marketKey, Tick lastBar) {
+        for (NodeKey key : cache.asMap().keySet()) {
+            if (key.belongsTo(marketKey) && key.isOutdated(lastBar)) {
+                cache.invalidate(key);
+                invalidationCount.incrementAndGet();
+            }
+        }
+        if (isNull(lastBar)) {
+            lastBars.remove(marketKey);
+        }
+    }
+
+    private static Tick copy(Tick tick) {
+        return Tick.builder()
+                .open(tick.getOpen())
+                .high(tick.getHigh())
+                .low(tick.getLow())
+                .close(tick.getClose())
+                .volume(tick.getVolume())
+                .baseVolume(tick.getBaseVolume())
+                .tickTime(tick.getTickTime())
+                .build();
+    }
+
+    private static int weigh(Object value) {
+        return value.getClass().isArray() ? Math.max(Array.getLength(value), 1) : 1;
+    }
+
+    @Value
+    public static class Scope {
+
+        private Long marketId;
+
+        private TimeFrame timeFrame;
+
+        private LocalDateTime firstBarTime;
+
+        private LocalDateTime lastBarTime;
+
+        private int size;
+
+        private Tick lastBar;
+
+    }
+
+    @Value
+    private static class MarketKey {
+
+        private Long marketId;
+
+        private TimeFrame timeFrame;
+
+    }
+
+    private static class NodeKey {
+
+        private final Scope scope;
+        private final String node;
+        private final Object[] parameters;
+        private final int hashCode;
+
+        private NodeKey(Scope scope, String node, Object[] parameters) {
+            this.scope = scope;
+            this.node = node;
+            this.parameters = parameters;
+            this.hashCode = Objects.hash(scope, node, Arrays.deepHashCode(parameters));
+        }
+
+        private boolean belongsTo(MarketKey marketKey) {
+            return Objects.equals(scope.getMarketId(), marketKey.getMarketId())
+                    && scope.getTimeFrame() == marketKey.getTimeFrame();
+        }
+
+        private boolean isOutdated(Tick lastBar) {
+            return isNull(lastBar) || isNull(scope.getLastBarTime())
+                    || scope.getLastBarTime().isBefore(lastBar.getTickTime())
+                    || (scope.getLastBarTime().equals(lastBar.getTickTime()) && !lastBar.equals(scope.getLastBar()));
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof NodeKey)) {
+                return false;
+            }
+            NodeKey key = (NodeKey) object;
+            return scope.equals(key.scope)
+                    && node.equals(key.node)
+                    && Arrays.deepEquals(parameters, key.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -3,13 +3,25 @@ package pro.crypto.helper;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
-import java.util.stream.Stream;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 public class MathHelper {
 
+    private static final BigDecimalMath MATH = BigDecimalMath.DEFAULT;
+    private static final MathContext LN_CONTEXT = new MathContext(15);
+    private static final int LN_ITERATIONS = 31;
+    private static final BigDecimal[] LN_SQUARES = new BigDecimal[LN_ITERATIONS];
+    private static final BigDecimal[] LN_TERMS = new BigDecimal[LN_ITERATIONS];
+
+    static {
+        for (int i = 0; i < LN_ITERATIONS; i++) {
+            LN_SQUARES[i] = new BigDecimal(i / 2 + 1).pow(2);
+            LN_TERMS[i] = new BigDecimal(i + 1);
+        }
+    }
+
     public static BigDecimal scaleAndRound(BigDecimal value) {
         return nonNull(value)
                 ? value.setScale(10, RoundingMode.HALF_UP)
@@ -25,10 +37,16 @@ public class MathHelper {
                 : null;
     }
 
+    public static BigDecimal min(BigDecimal first, BigDecimal second) {
+        return MATH.min(first, second);
+    }
+
+    public static BigDecimal min(BigDecimal first, BigDecimal second, BigDecimal third) {
+        return MATH.min(first, second, third);
+    }
+
     public static BigDecimal min(BigDecimal... values) {
-        return scaleAndRound(Stream.of(values)
-                .min(BigDecimal::compareTo)
-                .orElse(null));
+        return MATH.min(values);
     }
 
     public static BigDecimal sqrt(BigDecimal value) {
@@ -37,18 +55,44 @@ public class MathHelper {
                 : null;
     }
 
+    public static BigDecimal average(BigDecimal first, BigDecimal second) {
+        return MATH.average(first, second);
+    }
+
+    public static BigDecimal average(BigDecimal first, BigDecimal second, BigDecimal third) {
+        return MATH.average(first, second, third);
+    }
+
+    public static BigDecimal average(BigDecimal first, BigDecimal second, BigDecimal third, BigDecimal fourth) {
+        return MATH.average(first, second, third, fourth);
+    }
+
     public static BigDecimal average(BigDecimal... values) {
-        return divide(calculateSum(values), new BigDecimal(values.length));
+        return MATH.average(values);
+    }
+
+    public static BigDecimal sum(BigDecimal first, BigDecimal second) {
+        return MATH.sum(first, second);
+    }
+
+    public static BigDecimal sum(BigDecimal first, BigDecimal second, BigDecimal third) {
+        return MATH.sum(first, second, third);
     }
 
     public static BigDecimal sum(BigDecimal... values) {
-        return calculateSum(values);
+        return MATH.sum(values);
+    }
+
+    public static BigDecimal max(BigDecimal first, BigDecimal second) {
+        return MATH.max(first, second);
+    }
+
+    public static BigDecimal max(BigDecimal first, BigDecimal second, BigDecimal third) {
+        return MATH.max(first, second, third);
     }
 
     public static BigDecimal max(BigDecimal... values) {
-        return scaleAndRound(Stream.of(values)
-                .max(BigDecimal::compareTo)
-                .orElse(null));
+        return MATH.max(values);
     }
 
     public static BigDecimal toBigDecimal(Double value) {
@@ -92,25 +136,15 @@ public class MathHelper {
         if (isNull(value)) {
             return null;
         }
-        MathContext context = new MathContext(15);
         if (value.compareTo(BigDecimal.ONE) == 0) {
             return BigDecimal.ZERO;
         }
         value = value.subtract(BigDecimal.ONE);
-        BigDecimal ret = new BigDecimal(31);
-        for (long i = 30; i >= 0; i--) {
-            BigDecimal n = new BigDecimal(i / 2 + 1).pow(2);
-            n = n.multiply(value, context);
-            ret = n.divide(ret, context);
-            n = new BigDecimal(i + 1);
-            ret = ret.add(n, context);
+        BigDecimal ret = LN_TERMS[LN_ITERATIONS - 1];
+        for (int i = LN_ITERATIONS - 1; i >= 0; i--) {
+            ret = LN_SQUARES[i].multiply(value, LN_CONTEXT).divide(ret, LN_CONTEXT).add(LN_TERMS[i], LN_CONTEXT);
         }
-        return value.divide(ret, context);
-    }
-
-    private static BigDecimal calculateSum(BigDecimal[] values) {
-        return scaleAndRound(Stream.of(values)
-                .reduce(BigDecimal.ZERO, BigDecimal::add));
+        return value.divide(ret, LN_CONTEXT);
     }
 
 }
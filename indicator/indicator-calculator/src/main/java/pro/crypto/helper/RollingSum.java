@@ -0,0 +1,32 @@
+package pro.crypto.helper;
+
+import java.math.BigDecimal;
+
+// ∑x
+public class RollingSum extends RollingWindow {
+
+    private BigDecimal sum = BigDecimal.ZERO;
+
+    public RollingSum(int period) {
+        super(period);
+    }
+
+    private RollingSum(RollingSum source) {
+        super(source);
+        this.sum = source.sum;
+    }
+
+    public RollingSum copy() {
+        return new RollingSum(this);
+    }
+
+    public BigDecimal getSum() {
+        return definedOrNull(sum);
+    }
+
+    @Override
+    void update(BigDecimal added, BigDecimal removed) {
+        sum = sum.add(added).subtract(removed);
+    }
+
+}
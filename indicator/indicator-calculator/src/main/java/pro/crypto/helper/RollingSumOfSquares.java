@@ -0,0 +1,36 @@
+package pro.crypto.helper;
+
+import java.math.BigDecimal;
+
+// ∑x and ∑x^2
+public class RollingSumOfSquares extends RollingWindow {
+
+    private BigDecimal sum = BigDecimal.ZERO;
+    private BigDecimal sumOfSquares = BigDecimal.ZERO;
+
+    public RollingSumOfSquares(int period) {
+        super(period);
+    }
+
+    public BigDecimal getSum() {
+        return definedOrNull(sum);
+    }
+
+    public BigDecimal getSumOfSquares() {
+        return definedOrNull(sumOfSquares);
+    }
+
+    // ∑(x - m)^2 = ∑x^2 - 2 * m * ∑x + n * m^2
+    public BigDecimal getSumOfSquaredDeviations(BigDecimal mean) {
+        return isDefined()
+                ? sumOfSquares.subtract(mean.multiply(sum).multiply(new BigDecimal(2))).add(mean.pow(2).multiply(new BigDecimal(period)))
+                : null;
+    }
+
+    @Override
+    void update(BigDecimal added, BigDecimal removed) {
+        sum = sum.add(added).subtract(removed);
+        sumOfSquares = sumOfSquares.add(added.pow(2)).subtract(removed.pow(2));
+    }
+
+}
@@ -0,0 +1,47 @@
+package pro.crypto.helper;
+
+import java.math.BigDecimal;
+
+/**
+ * ∑x and ∑(i * x), where i is a position of the value in the window from 1 (the oldest value) to period (the newest one).
+ * The weighted sum is also ∑(x * y) for the regression of values over their positions.
+ */
+public class RollingWeightedSum extends RollingWindow {
+
+    private final BigDecimal periodValue;
+
+    private BigDecimal sum = BigDecimal.ZERO;
+    private BigDecimal weightedSum = BigDecimal.ZERO;
+
+    public RollingWeightedSum(int period) {
+        super(period);
+        this.periodValue = new BigDecimal(period);
+    }
+
+    private RollingWeightedSum(RollingWeightedSum source) {
+        super(source);
+        this.periodValue = source.periodValue;
+        this.sum = source.sum;
+        this.weightedSum = source.weightedSum;
+    }
+
+    public RollingWeightedSum copy() {
+        return new RollingWeightedSum(this);
+    }
+
+    public BigDecimal getSum() {
+        return definedOrNull(sum);
+    }
+
+    public BigDecimal getWeightedSum() {
+        return definedOrNull(weightedSum);
+    }
+
+    // every value in the window loses one weight point, the new one gets the highest weight
+    @Override
+    void update(BigDecimal added, BigDecimal removed) {
+        weightedSum = weightedSum.subtract(sum).add(added.multiply(periodValue));
+        sum = sum.add(added).subtract(removed);
+    }
+
+}
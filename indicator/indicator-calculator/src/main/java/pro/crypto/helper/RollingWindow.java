@@ -0,0 +1,60 @@
+package pro.crypto.helper;
+
+import pro.crypto.exception.WrongIncomingParametersException;
+
+import java.math.BigDecimal;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Base class for accumulators over the last {@code period} values, updated one value at a time.
+ * BigDecimal addition and subtraction are exact, so the accumulated values never drift from the full window sums.
+ * Accumulated values are undefined (null) until the window is full or while it contains null value.
+ */
+public abstract class RollingWindow {
+
+    protected final int period;
+    private final BigDecimal[] values;
+
+    private long position;
+    private long lastNullPosition = -1;
+
+    RollingWindow(int period) {
+        if (period < 1) {
+            throw new WrongIncomingParametersException(format("Window period should be more than zero {period: {%d}}", period));
+        }
+        this.period = period;
+        this.values = new BigDecimal[period];
+    }
+
+    RollingWindow(RollingWindow source) {
+        this.period = source.period;
+        this.values = source.values.clone();
+        this.position = source.position;
+        this.lastNullPosition = source.lastNullPosition;
+    }
+
+    public void push(BigDecimal value) {
+        int slot = (int) (position % period);
+        BigDecimal removed = position >= period ? values[slot] : null;
+        values[slot] = value;
+        if (isNull(value)) {
+            lastNullPosition = position;
+        }
+        position++;
+        update(nonNull(value) ? value : BigDecimal.ZERO, nonNull(removed) ? removed : BigDecimal.ZERO);
+    }
+
+    public boolean isDefined() {
+        return position >= period && lastNullPosition < position - period;
+    }
+
+    BigDecimal definedOrNull(BigDecimal value) {
+        return isDefined() ? value : null;
+    }
+
+    abstract void update(BigDecimal added, BigDecimal removed);
+
+}
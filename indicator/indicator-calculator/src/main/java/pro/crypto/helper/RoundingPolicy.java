@@ -0,0 +1,36 @@
+package pro.crypto.helper;
+
+import lombok.Value;
+
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Scales and rounding used by {@link BigDecimalMath}.
+ * Default policy matches {@link MathHelper}: results are scaled to 10 digits, division is made with 20 digits
+ * and logarithms are rounded to 15 significant digits.
+ */
+@Value
+public class RoundingPolicy {
+
+    public static final RoundingPolicy DEFAULT = new RoundingPolicy(10, 20, 15, RoundingMode.HALF_UP);
+
+    private int scale;
+
+    private int divisionScale;
+
+    private int precision;
+
+    private RoundingMode roundingMode;
+
+    private MathContext mathContext;
+
+    public RoundingPolicy(int scale, int divisionScale, int precision, RoundingMode roundingMode) {
+        this.scale = scale;
+        this.divisionScale = divisionScale;
+        this.precision = precision;
+        this.roundingMode = roundingMode;
+        this.mathContext = new MathContext(precision, roundingMode);
+    }
+
+}
@@ -0,0 +1,101 @@
+package pro.crypto.helper;
+
+import pro.crypto.exception.WrongIncomingParametersException;
+
+import java.math.BigDecimal;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+
+/**
+ * Minimum or maximum of the last {@code period} values, updated one value at a time.
+ * Positions of extremum candidates are kept in a monotonic deque, so each value is added and removed only once.
+ * The extremum is undefined (null) until the window is full or while it contains null value.
+ */
+public class SlidingWindowExtremum {
+
+    private final int period;
+    private final int sign;
+    private final BigDecimal[] values;
+    private final long[] candidates;
+
+    private int head;
+    private int size;
+    private long position;
+    private long lastNullPosition = -1;
+
+    private SlidingWindowExtremum(int period, int sign) {
+        if (period < 1) {
+            throw new WrongIncomingParametersException(format("Window period should be more than zero {period: {%d}}", period));
+        }
+        this.period = period;
+        this.sign = sign;
+        this.values = new BigDecimal[period];
+        this.candidates = new long[period];
+    }
+
+    private SlidingWindowExtremum(SlidingWindowExtremum source) {
+        this.period = source.period;
+        this.sign = source.sign;
+        this.values = source.values.clone();
+        this.candidates = source.candidates.clone();
+        this.head = source.head;
+        this.size = source.size;
+        this.position = source.position;
+        this.lastNullPosition = source.lastNullPosition;
+    }
+
+    public static SlidingWindowExtremum min(int period) {
+        return new SlidingWindowExtremum(period, 1);
+    }
+
+    public static SlidingWindowExtremum max(int period) {
+        return new SlidingWindowExtremum(period, -1);
+    }
+
+    public SlidingWindowExtremum copy() {
+        return new SlidingWindowExtremum(this);
+    }
+
+    public BigDecimal push(BigDecimal value) {
+        long current = position++;
+        values[(int) (current % period)] = value;
+        removeOutdatedCandidate(current);
+        if (isNull(value)) {
+            lastNullPosition = current;
+        } else {
+            addCandidate(value, current);
+        }
+        return getExtremum();
+    }
+
+    public BigDecimal getExtremum() {
+        return isFull() && lastNullPosition <= position - 1 - period && size > 0
+                ? MathHelper.scaleAndRound(values[(int) (candidates[head] % period)])
+                : null;
+    }
+
+    public boolean isFull() {
+        return position >= period;
+    }
+
+    private void removeOutdatedCandidate(long current) {
+        if (size > 0 && candidates[head] <= current - period) {
+            head = (head + 1) % period;
+            size--;
+        }
+    }
+
+    private void addCandidate(BigDecimal value, long current) {
+        while (size > 0 && sign * getLastCandidateValue().compareTo(value) >= 0) {
+            size--;
+        }
+        candidates[(head + size) % period] = current;
+        size++;
+    }
+
+    private BigDecimal getLastCandidateValue() {
+        return values[(int) (candidates[(head + size - 1) % period] % period)];
+    }
+
+}
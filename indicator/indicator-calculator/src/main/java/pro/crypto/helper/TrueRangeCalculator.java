@@ -5,18 +5,29 @@ import pro.crypto.model.tick.Tick;
 import java.math.BigDecimal;
 import java.util.stream.IntStream;
 
+import static java.util.Objects.isNull;
+
 public class TrueRangeCalculator {
 
     public static BigDecimal[] calculate(Tick[] data) {
+        return IndicatorContext.compute("TRUE_RANGE", data, () -> calculateTrueRange(data));
+    }
+
+    private static BigDecimal[] calculateTrueRange(Tick[] data) {
         return IntStream.range(0, data.length)
                 .mapToObj(idx -> calculateTrueRange(data, idx))
                 .toArray(BigDecimal[]::new);
     }
 
+    // previous tick is null for the first tick
+    public static BigDecimal calculate(Tick currentTick, Tick previousTick) {
+        return isNull(previousTick)
+                ? calculateFirstTrueRangeValue(currentTick)
+                : calculateTrueRange(currentTick, previousTick);
+    }
+
     private static BigDecimal calculateTrueRange(Tick[] data, int currentIndex) {
-        return currentIndex == 0
-                ? calculateFirstTrueRangeValue(data[0])
-                : calculateTrueRange(data[currentIndex], data[currentIndex - 1]);
+        return calculate(data[currentIndex], currentIndex == 0 ? null : data[currentIndex - 1]);
     }
 
     private static BigDecimal calculateFirstTrueRangeValue(Tick firstTick) {
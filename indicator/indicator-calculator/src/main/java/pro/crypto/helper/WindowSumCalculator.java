@@ -0,0 +1,23 @@
+package pro.crypto.helper;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+public class WindowSumCalculator {
+
+    // the same as MathHelper.sum for every window which ends at the current index, empty window sum is zero
+    public static BigDecimal[] calculate(BigDecimal[] data, int period) {
+        final BigDecimal[] values = new BigDecimal[data.length];
+        if (period < 1) {
+            Arrays.fill(values, MathHelper.scaleAndRound(BigDecimal.ZERO));
+            return values;
+        }
+        RollingSum rollingSum = new RollingSum(period);
+        for (int idx = 0; idx < data.length; idx++) {
+            rollingSum.push(data[idx]);
+            values[idx] = MathHelper.scaleAndRound(rollingSum.getSum());
+        }
+        return values;
+    }
+
+}
@@ -3,6 +3,7 @@ package pro.crypto.indicator.ac;
 import pro.crypto.exception.WrongIncomingParametersException;
 import pro.crypto.helper.FakeTicksCreator;
 import pro.crypto.helper.IncreasedQualifier;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.indicator.ao.AORequest;
@@ -93,7 +94,7 @@ public class AccelerationDecelerationOscillator implements Indicator<ACResult> {
     }
 
     private SimpleIndicatorResult[] calculateAwesomeOscillator() {
-        return new AwesomeOscillator(buildAORequest()).getResult();
+        return IndicatorContext.getResult(buildAORequest(), AwesomeOscillator::new);
     }
 
     private IndicatorRequest buildAORequest() {
@@ -1,6 +1,7 @@
 package pro.crypto.indicator.atr;
 
 import pro.crypto.helper.FakeTicksCreator;
+import pro.crypto.helper.IndicatorParametersChecker;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.TrueRangeCalculator;
@@ -65,10 +66,15 @@ public class AverageTrueRange implements Indicator<ATRResult> {
     }
 
     private void checkIncomingData() {
-        checkOriginalData(originalData);
-        checkOriginalDataSize(originalData, period + movingAveragePeriod);
-        checkPeriod(period);
-        checkPeriod(movingAveragePeriod);
+        checkIncomingData(originalData, period, movingAveragePeriod);
+    }
+
+    // shared with incremental indicator
+    static void checkIncomingData(Tick[] originalData, int period, int movingAveragePeriod) {
+        IndicatorParametersChecker.checkOriginalData(AVERAGE_TRUE_RANGE, originalData);
+        IndicatorParametersChecker.checkOriginalDataSize(AVERAGE_TRUE_RANGE, originalData, period + movingAveragePeriod);
+        IndicatorParametersChecker.checkPeriod(AVERAGE_TRUE_RANGE, period);
+        IndicatorParametersChecker.checkPeriod(AVERAGE_TRUE_RANGE, movingAveragePeriod);
     }
 
     private void calculateAverageTrueRangeValues(BigDecimal[] trueRangeValues) {
@@ -0,0 +1,84 @@
+package pro.crypto.indicator.atr;
+
+import pro.crypto.helper.MathHelper;
+import pro.crypto.helper.TrueRangeCalculator;
+import pro.crypto.indicator.ma.MovingAverageKernel;
+import pro.crypto.indicator.ma.MovingAverageKernelFactory;
+import pro.crypto.model.AbstractIncrementalIndicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+import static pro.crypto.model.indicator.IndicatorType.AVERAGE_TRUE_RANGE;
+import static pro.crypto.model.indicator.IndicatorType.SIMPLE_MOVING_AVERAGE;
+
+public class IncrementalAverageTrueRange extends AbstractIncrementalIndicator<ATRResult> {
+
+    private final int period;
+    private final MovingAverageKernel signalLineMovingAverage;
+
+    private BigDecimal[] firstTrueRangeValues;
+    private int firstTrueRangeSize;
+    private BigDecimal previousIndicatorValue;
+    private Tick previousTick;
+
+    public IncrementalAverageTrueRange(IndicatorRequest creationRequest) {
+        super(ATRResult[]::new);
+        ATRRequest request = (ATRRequest) creationRequest;
+        int movingAveragePeriod = request.getMovingAveragePeriod() <= 0 ? request.getPeriod() : request.getMovingAveragePeriod();
+        AverageTrueRange.checkIncomingData(request.getOriginalData(), request.getPeriod(), movingAveragePeriod);
+        this.period = request.getPeriod();
+        this.signalLineMovingAverage = MovingAverageKernelFactory.create(
+                isNull(request.getMovingAverageType()) ? SIMPLE_MOVING_AVERAGE : request.getMovingAverageType(), movingAveragePeriod);
+        this.firstTrueRangeValues = new BigDecimal[period];
+        append(request.getOriginalData());
+    }
+
+    private IncrementalAverageTrueRange(IncrementalAverageTrueRange source) {
+        super(source);
+        this.period = source.period;
+        this.signalLineMovingAverage = source.signalLineMovingAverage.copy();
+        this.firstTrueRangeValues = isNull(source.firstTrueRangeValues) ? null : source.firstTrueRangeValues.clone();
+        this.firstTrueRangeSize = source.firstTrueRangeSize;
+        this.previousIndicatorValue = source.previousIndicatorValue;
+        this.previousTick = source.previousTick;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return AVERAGE_TRUE_RANGE;
+    }
+
+    @Override
+    protected ATRResult next(Tick tick) {
+        BigDecimal trueRange = TrueRangeCalculator.calculate(tick, previousTick);
+        previousTick = tick;
+        BigDecimal indicatorValue = calculateAverageTrueRange(trueRange);
+        BigDecimal signalLineValue = isNull(indicatorValue) ? null : signalLineMovingAverage.next(indicatorValue);
+        return new ATRResult(tick.getTickTime(), indicatorValue, signalLineValue);
+    }
+
+    @Override
+    protected IncrementalAverageTrueRange copy() {
+        return new IncrementalAverageTrueRange(this);
+    }
+
+    private BigDecimal calculateAverageTrueRange(BigDecimal trueRange) {
+        if (isNull(firstTrueRangeValues)) {
+            previousIndicatorValue = MathHelper.divide(
+                    previousIndicatorValue.multiply(new BigDecimal(period - 1)).add(trueRange),
+                    new BigDecimal(period));
+            return previousIndicatorValue;
+        }
+        firstTrueRangeValues[firstTrueRangeSize++] = trueRange;
+        if (firstTrueRangeSize == period) {
+            previousIndicatorValue = MathHelper.average(firstTrueRangeValues);
+            firstTrueRangeValues = null;
+        }
+        return previousIndicatorValue;
+    }
+
+}
@@ -1,5 +1,6 @@
 package pro.crypto.indicator.atrb;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.PriceVolumeExtractor;
@@ -72,7 +73,7 @@ public class AverageTrueRangeBands implements Indicator<ATRBResult> {
     }
 
     private SimpleIndicatorResult[] calculateAverageTrueRange() {
-        return new AverageTrueRange(buildATRRequest()).getResult();
+        return IndicatorContext.getResult(buildATRRequest(), AverageTrueRange::new);
     }
 
     private IndicatorRequest buildATRRequest() {
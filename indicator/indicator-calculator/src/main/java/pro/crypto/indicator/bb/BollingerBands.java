@@ -1,6 +1,7 @@
 package pro.crypto.indicator.bb;
 
 import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.indicator.ma.MARequest;
 import pro.crypto.indicator.ma.MovingAverageFactory;
@@ -83,7 +84,7 @@ public class BollingerBands implements Indicator<BBResult> {
     }
 
     private BigDecimal[] calculateMiddleBand() {
-        return IndicatorResultExtractor.extractIndicatorValues(MovingAverageFactory.create(buildSMARequest()).getResult());
+        return IndicatorResultExtractor.extractIndicatorValues(IndicatorContext.getResult(buildSMARequest(), MovingAverageFactory::create));
     }
 
     private IndicatorRequest buildSMARequest() {
@@ -101,7 +102,7 @@ public class BollingerBands implements Indicator<BBResult> {
     }
 
     private BigDecimal[] calculateStandardDeviation() {
-        return IndicatorResultExtractor.extractIndicatorValues(new StandardDeviation(buildStDevRequest()).getResult());
+        return IndicatorResultExtractor.extractIndicatorValues(IndicatorContext.getResult(buildStDevRequest(), StandardDeviation::new));
     }
 
     private IndicatorRequest buildStDevRequest() {
@@ -1,6 +1,7 @@
 package pro.crypto.indicator.bbw;
 
 import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.indicator.bb.BBRequest;
 import pro.crypto.indicator.bb.BBResult;
@@ -78,7 +79,7 @@ public class BollingerBandsWidth implements Indicator<BBWResult> {
     }
 
     private BBResult[] calculateBollingerBands() {
-        return new BollingerBands(buildRequest()).getResult();
+        return IndicatorContext.getResult(buildRequest(), BollingerBands::new);
     }
 
     private IndicatorRequest buildRequest() {
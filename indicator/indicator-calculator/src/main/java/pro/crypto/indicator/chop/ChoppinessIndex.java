@@ -4,6 +4,7 @@ import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.MinMaxFinder;
 import pro.crypto.helper.PriceVolumeExtractor;
+import pro.crypto.helper.WindowSumCalculator;
 import pro.crypto.indicator.atr.ATRRequest;
 import pro.crypto.indicator.atr.AverageTrueRange;
 import pro.crypto.model.Indicator;
@@ -13,7 +14,6 @@ import pro.crypto.request.IndicatorRequest;
 import pro.crypto.response.SimpleIndicatorResult;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.stream.IntStream;
 
 import static java.util.Objects.isNull;
@@ -66,19 +66,7 @@ public class ChoppinessIndex implements Indicator<CHOPResult> {
 
     private BigDecimal[] calculateATRSumValues() {
         BigDecimal[] atrValues = IndicatorResultExtractor.extractIndicatorValues(calculateAverageTrueRange());
-        return IntStream.range(0, originalData.length)
-                .mapToObj(idx -> calculateATRSum(atrValues, idx))
-                .toArray(BigDecimal[]::new);
-    }
-
-    private BigDecimal calculateATRSum(BigDecimal[] atrValues, int currentIndex) {
-        return currentIndex >= period - 1
-                ? calculateATRSumValue(atrValues, currentIndex)
-                : null;
-    }
-
-    private BigDecimal calculateATRSumValue(BigDecimal[] atrValues, int currentIndex) {
-        return MathHelper.sum(Arrays.copyOfRange(atrValues, currentIndex - period + 1, currentIndex + 1));
+        return WindowSumCalculator.calculate(atrValues, period);
     }
 
     private SimpleIndicatorResult[] calculateAverageTrueRange() {
@@ -3,13 +3,13 @@ package pro.crypto.indicator.cmf;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.MoneyFlowVolumesCalculator;
 import pro.crypto.helper.PriceVolumeExtractor;
+import pro.crypto.helper.WindowSumCalculator;
 import pro.crypto.model.Indicator;
 import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.Tick;
 import pro.crypto.request.IndicatorRequest;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.stream.IntStream;
 
 import static java.util.Objects.isNull;
@@ -58,26 +58,11 @@ public class ChaikinMoneyFlow implements Indicator<CMFResult> {
     }
 
     private BigDecimal[] calculateMoneyFlowSum(BigDecimal[] moneyFlowVolumes) {
-        return IntStream.range(0, originalData.length)
-                .mapToObj(idx -> calculateSum(moneyFlowVolumes, idx))
-                .toArray(BigDecimal[]::new);
+        return WindowSumCalculator.calculate(moneyFlowVolumes, period);
     }
 
     private BigDecimal[] calculateVolumesSum() {
-        BigDecimal[] baseVolumes = PriceVolumeExtractor.extractBaseVolumes(originalData);
-        return IntStream.range(0, originalData.length)
-                .mapToObj(idx -> calculateSum(baseVolumes, idx))
-                .toArray(BigDecimal[]::new);
-    }
-
-    private BigDecimal calculateSum(BigDecimal[] values, int currentIndex) {
-        return currentIndex >= period - 1
-                ? calculateSumValue(values, currentIndex)
-                : null;
-    }
-
-    private BigDecimal calculateSumValue(BigDecimal[] values, int currentIndex) {
-        return MathHelper.sum(Arrays.copyOfRange(values, currentIndex - period + 1, currentIndex + 1));
+        return WindowSumCalculator.calculate(PriceVolumeExtractor.extractBaseVolumes(originalData), period);
     }
 
     private void calculateChaikinMoneyFlowValues(BigDecimal[] moneyFlowSum, BigDecimal[] volumesSum) {
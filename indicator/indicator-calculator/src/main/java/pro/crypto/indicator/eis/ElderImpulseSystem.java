@@ -1,5 +1,6 @@
 package pro.crypto.indicator.eis;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.indicator.ma.MARequest;
 import pro.crypto.indicator.ma.MAResult;
 import pro.crypto.indicator.ma.MovingAverageFactory;
@@ -86,7 +87,7 @@ public class ElderImpulseSystem implements Indicator<EISResult> {
     }
 
     private void calculateMovingAverage() {
-        maResults = MovingAverageFactory.create(buildMARequest()).getResult();
+        maResults = IndicatorContext.getResult(buildMARequest(), MovingAverageFactory::create);
     }
 
     private IndicatorRequest buildMARequest() {
@@ -99,7 +100,7 @@ public class ElderImpulseSystem implements Indicator<EISResult> {
     }
 
     private void calculateMovingAverageConvergenceDivergence() {
-        macdResults = new MovingAverageConvergenceDivergence(buildMACDRequest()).getResult();
+        macdResults = IndicatorContext.getResult(buildMACDRequest(), MovingAverageConvergenceDivergence::new);
     }
 
     private IndicatorRequest buildMACDRequest() {
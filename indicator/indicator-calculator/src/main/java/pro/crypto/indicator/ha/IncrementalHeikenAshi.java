@@ -0,0 +1,51 @@
+package pro.crypto.indicator.ha;
+
+import pro.crypto.helper.IndicatorParametersChecker;
+import pro.crypto.helper.MathHelper;
+import pro.crypto.model.AbstractIncrementalIndicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+import static pro.crypto.model.indicator.IndicatorType.HEIKEN_ASHI;
+
+public class IncrementalHeikenAshi extends AbstractIncrementalIndicator<HAResult> {
+
+    private HAResult previousCandle;
+
+    public IncrementalHeikenAshi(IndicatorRequest request) {
+        super(HAResult[]::new);
+        IndicatorParametersChecker.checkOriginalData(HEIKEN_ASHI, request.getOriginalData());
+        append(request.getOriginalData());
+    }
+
+    private IncrementalHeikenAshi(IncrementalHeikenAshi source) {
+        super(source);
+        this.previousCandle = source.previousCandle;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return HEIKEN_ASHI;
+    }
+
+    @Override
+    protected HAResult next(Tick tick) {
+        BigDecimal haClose = MathHelper.average(tick.getOpen(), tick.getHigh(), tick.getLow(), tick.getClose());
+        BigDecimal haOpen = isNull(previousCandle)
+                ? MathHelper.average(tick.getOpen(), tick.getClose())
+                : MathHelper.average(previousCandle.getOpen(), previousCandle.getClose());
+        previousCandle = new HAResult(tick.getTickTime(), haOpen, MathHelper.max(haClose, haOpen, tick.getHigh()),
+                MathHelper.min(haClose, haOpen, tick.getLow()), haClose);
+        return previousCandle;
+    }
+
+    @Override
+    protected IncrementalHeikenAshi copy() {
+        return new IncrementalHeikenAshi(this);
+    }
+
+}
@@ -2,6 +2,7 @@ package pro.crypto.indicator.hv;
 
 import pro.crypto.helper.FakeTicksCreator;
 import pro.crypto.helper.IndicatorResultExtractor;
+import pro.crypto.helper.BigDecimalMath;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.indicator.stdev.StDevRequest;
 import pro.crypto.indicator.stdev.StandardDeviation;
@@ -89,7 +90,7 @@ public class HistoricalVolatility implements Indicator<HVResult> {
 
     // ln(C(i) - C(i-stDev))
     private BigDecimal calculateContinuouslyCompoundedReturnValue(int index) {
-        return MathHelper.ln(MathHelper.divide(
+        return BigDecimalMath.DEFAULT.ln(MathHelper.divide(
                 originalData[index].getPriceByType(priceType),
                 originalData[index - standardDeviations].getPriceByType(priceType)));
     }
@@ -1,5 +1,6 @@
 package pro.crypto.indicator.kelt;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.indicator.atr.ATRRequest;
 import pro.crypto.indicator.atr.ATRResult;
@@ -49,8 +50,8 @@ public class KeltnerChannel implements Indicator<KELTResult> {
     @Override
     public void calculate() {
         result = new KELTResult[originalData.length];
-        MAResult[] movingAverageResult = MovingAverageFactory.create(buildMARequest()).getResult();
-        ATRResult[] averageTrueRangeResult = new AverageTrueRange(buildATRRequest()).getResult();
+        MAResult[] movingAverageResult = IndicatorContext.getResult(buildMARequest(), MovingAverageFactory::create);
+        ATRResult[] averageTrueRangeResult = IndicatorContext.getResult(buildATRRequest(), AverageTrueRange::new);
         calculateKeltnerChannelValues(movingAverageResult, averageTrueRangeResult);
     }
 
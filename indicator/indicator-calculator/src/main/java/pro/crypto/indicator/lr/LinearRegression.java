@@ -2,7 +2,7 @@ package pro.crypto.indicator.lr;
 
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.PriceVolumeExtractor;
-import pro.crypto.model.BigDecimalTuple;
+import pro.crypto.helper.RollingWeightedSum;
 import pro.crypto.model.Indicator;
 import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.PriceType;
@@ -10,8 +10,6 @@ import pro.crypto.model.tick.Tick;
 import pro.crypto.request.IndicatorRequest;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import static java.util.Objects.isNull;
@@ -63,80 +61,55 @@ public class LinearRegression implements Indicator<LRResult> {
     }
 
     private BigDecimal[] calculateLinearRegression() {
-        return averageCalculation
-                ? calculateLinearRegression(calculateAveragePrices())
-                : calculateLinearRegression(extractPrices());
-    }
-
-    private BigDecimal[] extractPrices() {
         BigDecimal[] prices = PriceVolumeExtractor.extractPrices(originalData, priceType);
-        BigDecimal[] result = new BigDecimal[prices.length];
-        System.arraycopy(prices, period - 1, result, period - 1, prices.length - period + 1);
-        return result;
-    }
-
-    private BigDecimal[] calculateAveragePrices() {
-        return IntStream.range(0, originalData.length)
-                .mapToObj(this::calculateAveragePrice)
-                .toArray(BigDecimal[]::new);
+        BigDecimal averageCoefficient = calculateAverageCoefficient();
+        BigDecimal divisor = calculateDivisor(averageCoefficient);
+        BigDecimal[] linearRegressionValues = new BigDecimal[prices.length];
+        RollingWeightedSum rollingWeightedSum = new RollingWeightedSum(period);
+        for (int idx = 0; idx < prices.length; idx++) {
+            rollingWeightedSum.push(prices[idx]);
+            if (idx >= period - 1) {
+                linearRegressionValues[idx] = calculateLinearRegression(rollingWeightedSum, extractAveragePrice(rollingWeightedSum, prices[idx]),
+                        averageCoefficient, divisor);
+            }
+        }
+        return linearRegressionValues;
     }
 
-    private BigDecimal calculateAveragePrice(int currentIndex) {
-        return currentIndex >= period - 1
-                ? calculateAveragePriceValue(currentIndex)
-                : null;
+    private BigDecimal extractAveragePrice(RollingWeightedSum rollingWeightedSum, BigDecimal price) {
+        return averageCalculation
+                ? MathHelper.divide(MathHelper.scaleAndRound(rollingWeightedSum.getSum()), new BigDecimal(period))
+                : price;
     }
 
-    private BigDecimal calculateAveragePriceValue(int currentIndex) {
-        return MathHelper.average(Arrays.copyOfRange(
-                PriceVolumeExtractor.extractPrices(originalData, priceType), currentIndex - period + 1, currentIndex + 1));
+    private BigDecimal calculateAverageCoefficient() {
+        return new BigDecimal(IntStream.range(1, period + 1).average().orElse(0));
     }
 
-    private BigDecimal[] calculateLinearRegression(BigDecimal[] averagePrices) {
-        BigDecimal averageCoefficient = calculateAverageCoefficient();
-        return IntStream.range(0, averagePrices.length)
-                .mapToObj(idx -> calculateLinearRegression(averagePrices[idx], averageCoefficient, idx))
-                .toArray(BigDecimal[]::new);
+    // ∑((x(i) - x(avg))^2)
+    private BigDecimal calculateDivisor(BigDecimal averageCoefficient) {
+        return IntStream.rangeClosed(1, period)
+                .mapToObj(coefficient -> new BigDecimal(coefficient).subtract(averageCoefficient).pow(2))
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
     }
 
-    private BigDecimal calculateAverageCoefficient() {
-        return new BigDecimal(IntStream.range(1, period + 1).average().orElse(0));
+    private BigDecimal calculateLinearRegression(RollingWeightedSum rollingWeightedSum, BigDecimal averagePrice,
+                                                 BigDecimal averageCoefficient, BigDecimal divisor) {
+        BigDecimal divisible = calculateDivisible(rollingWeightedSum, averageCoefficient);
+        return nonNull(averagePrice) && nonNull(divisible)
+                ? calculateLinearRegressionValue(averagePrice, averageCoefficient, divisible, divisor)
+                : null;
     }
 
-    private BigDecimal calculateLinearRegression(BigDecimal averagePrice, BigDecimal averageCoefficient, int outsideIndex) {
-        return nonNull(averagePrice)
-                ? calculateLinearRegressionValue(averagePrice, averageCoefficient, outsideIndex)
+    // ∑((x(i) - x(avg)) * (y(i) - y(avg))) = ∑(x(i) * y(i)) - x(avg) * ∑y(i), because ∑(x(i) - x(avg)) = 0
+    private BigDecimal calculateDivisible(RollingWeightedSum rollingWeightedSum, BigDecimal averageCoefficient) {
+        return rollingWeightedSum.isDefined()
+                ? rollingWeightedSum.getWeightedSum().subtract(averageCoefficient.multiply(rollingWeightedSum.getSum()))
                 : null;
     }
 
     // slope = m = ∑((x(i) - x(avg)) * (y(i) - y(avg))) /  ∑((x(i) - x(avg))^2)
     // linearRegression = y(avg) − m * x(avg)
-    private BigDecimal calculateLinearRegressionValue(BigDecimal averagePrice, BigDecimal averageCoefficient, int outsideIndex) {
-        AtomicInteger coefficient = new AtomicInteger(0);
-        BigDecimalTuple divisibleDivisor = IntStream.rangeClosed(outsideIndex - period + 1, outsideIndex)
-                .mapToObj(idx -> calculateDivisibleDivisor(averagePrice, averageCoefficient, coefficient, idx))
-                .reduce(BigDecimalTuple.zero(), BigDecimalTuple::add);
-        return calculateLinearRegressionValue(averagePrice, averageCoefficient, divisibleDivisor.getLeft(), divisibleDivisor.getRight());
-    }
-
-    private BigDecimalTuple calculateDivisibleDivisor(BigDecimal averagePrice, BigDecimal averageCoefficient,
-                                                      AtomicInteger coefficient, int currentIndex) {
-        BigDecimal divisible = calculateDivisible(averagePrice, averageCoefficient, coefficient.incrementAndGet(), currentIndex);
-        BigDecimal divisor = calculateDivisor(coefficient.get(), averageCoefficient);
-        return new BigDecimalTuple(divisible, divisor);
-    }
-
-    // (x(i) - x(avg)) * (y(i) - y(avg))
-    private BigDecimal calculateDivisible(BigDecimal averagePrice, BigDecimal averageCoefficient, int coefficient, int currentIndex) {
-        return new BigDecimal(coefficient).subtract(averageCoefficient).multiply(
-                originalData[currentIndex].getPriceByType(priceType).subtract(averagePrice));
-    }
-
-    // (x(i) - x(avg))^2
-    private BigDecimal calculateDivisor(int coefficient, BigDecimal averageCoefficient) {
-        return new BigDecimal(coefficient).subtract(averageCoefficient).pow(2);
-    }
-
     private BigDecimal calculateLinearRegressionValue(BigDecimal averagePrice, BigDecimal averageCoefficient, BigDecimal divisible, BigDecimal divisor) {
         BigDecimal slope = MathHelper.divide(divisible, divisor);
         return nonNull(slope)
@@ -1,6 +1,7 @@
 package pro.crypto.indicator.ma;
 
 import pro.crypto.helper.FakeTicksCreator;
+import pro.crypto.helper.IndicatorParametersChecker;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.PriceType;
@@ -43,8 +44,13 @@ public class DoubleExponentialMovingAverage extends MovingAverage {
     }
 
     private void checkIncomingData() {
-        checkIncomingData(originalData, period, priceType);
-        checkOriginalDataSize(originalData, period + period);
+        checkDoubleExponentialIncomingData(originalData, period, priceType);
+    }
+
+    // shared with incremental moving average
+    static void checkDoubleExponentialIncomingData(Tick[] originalData, int period, PriceType priceType) {
+        checkIncomingData(DOUBLE_EXPONENTIAL_MOVING_AVERAGE, originalData, period, priceType);
+        IndicatorParametersChecker.checkOriginalDataSize(DOUBLE_EXPONENTIAL_MOVING_AVERAGE, originalData, period + period);
     }
 
     private BigDecimal[] calculateDoubleSmoothedEMA(BigDecimal[] exponentialMovingAverage) {
@@ -0,0 +1,40 @@
+package pro.crypto.indicator.ma;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+
+class DoubleExponentialMovingAverageKernel implements MovingAverageKernel {
+
+    private final MovingAverageKernel exponentialMovingAverage;
+    private final MovingAverageKernel doubleSmoothedEMA;
+
+    DoubleExponentialMovingAverageKernel(int period, BigDecimal alphaCoefficient) {
+        this.exponentialMovingAverage = new ExponentialMovingAverageKernel(period, alphaCoefficient);
+        this.doubleSmoothedEMA = new ExponentialMovingAverageKernel(period, alphaCoefficient);
+    }
+
+    private DoubleExponentialMovingAverageKernel(DoubleExponentialMovingAverageKernel source) {
+        this.exponentialMovingAverage = source.exponentialMovingAverage.copy();
+        this.doubleSmoothedEMA = source.doubleSmoothedEMA.copy();
+    }
+
+    // DEMA = 2 * EMA - EMA(EMA)
+    @Override
+    public BigDecimal next(BigDecimal value) {
+        BigDecimal exponentialMovingAverageValue = exponentialMovingAverage.next(value);
+        if (isNull(exponentialMovingAverageValue)) {
+            return null;
+        }
+        BigDecimal doubleSmoothedEMAValue = doubleSmoothedEMA.next(exponentialMovingAverageValue);
+        return isNull(doubleSmoothedEMAValue)
+                ? null
+                : exponentialMovingAverageValue.multiply(new BigDecimal(2)).subtract(doubleSmoothedEMAValue);
+    }
+
+    @Override
+    public MovingAverageKernel copy() {
+        return new DoubleExponentialMovingAverageKernel(this);
+    }
+
+}
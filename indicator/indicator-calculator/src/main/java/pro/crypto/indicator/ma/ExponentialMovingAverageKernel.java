@@ -0,0 +1,41 @@
+package pro.crypto.indicator.ma;
+
+import pro.crypto.helper.MathHelper;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+
+class ExponentialMovingAverageKernel extends SeededMovingAverageKernel {
+
+    private final BigDecimal alphaCoefficient;
+    private final BigDecimal complementCoefficient;
+
+    ExponentialMovingAverageKernel(int period, BigDecimal alphaCoefficient) {
+        super(period);
+        this.alphaCoefficient = isNull(alphaCoefficient)
+                ? MathHelper.divide(new BigDecimal(2), new BigDecimal(period).add(BigDecimal.ONE))
+                : alphaCoefficient;
+        this.complementCoefficient = BigDecimal.ONE.subtract(this.alphaCoefficient);
+    }
+
+    private ExponentialMovingAverageKernel(ExponentialMovingAverageKernel source) {
+        super(source);
+        this.alphaCoefficient = source.alphaCoefficient;
+        this.complementCoefficient = source.complementCoefficient;
+    }
+
+    @Override
+    public MovingAverageKernel copy() {
+        return new ExponentialMovingAverageKernel(this);
+    }
+
+    // EMAt = α * Pt + (1 - α) * EMAt-1
+    @Override
+    BigDecimal smooth(BigDecimal previousValue, BigDecimal value) {
+        return MathHelper.scaleAndRound(MathHelper.sum(
+                alphaCoefficient.multiply(value),
+                complementCoefficient.multiply(previousValue)));
+    }
+
+}
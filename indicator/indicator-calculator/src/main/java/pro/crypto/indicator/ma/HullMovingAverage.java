@@ -35,13 +35,14 @@ public class HullMovingAverage extends MovingAverage {
     }
 
     private void fillInRemainPositions() {
+        BigDecimal[] simpleAveragesFromPeriod = calculateSimpleAverages(originalData, period);
+        BigDecimal[] simpleAveragesFromDividedTwoPeriod = calculateSimpleAverages(originalData, period / 2);
         IntStream.range(period - 1, originalData.length)
-                .forEach(idx -> result[idx] = buildMovingAverageResult(idx, calculateIndicatorValue(idx)));
+                .forEach(idx -> result[idx] = buildMovingAverageResult(idx,
+                        calculateIndicatorValue(simpleAveragesFromPeriod[idx], simpleAveragesFromDividedTwoPeriod[idx])));
     }
 
-    private BigDecimal calculateIndicatorValue(int currentIndex) {
-        BigDecimal simpleAverageFromPeriod = calculateAndGetSimpleAverage(currentIndex - period + 1, currentIndex, originalData);
-        BigDecimal simpleAverageFromDividedTwoPeriod = calculateAndGetSimpleAverage(currentIndex - period / 2 + 1, currentIndex, originalData);
+    private BigDecimal calculateIndicatorValue(BigDecimal simpleAverageFromPeriod, BigDecimal simpleAverageFromDividedTwoPeriod) {
         return simpleAverageFromDividedTwoPeriod.subtract(simpleAverageFromPeriod).add(simpleAverageFromDividedTwoPeriod);
     }
 
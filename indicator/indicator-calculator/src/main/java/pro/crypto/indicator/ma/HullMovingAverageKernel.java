@@ -0,0 +1,38 @@
+package pro.crypto.indicator.ma;
+
+import pro.crypto.helper.MathHelper;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+
+class HullMovingAverageKernel implements MovingAverageKernel {
+
+    private final MovingAverageKernel simpleAverageFromPeriod;
+    private final MovingAverageKernel simpleAverageFromDividedTwoPeriod;
+
+    HullMovingAverageKernel(int period) {
+        this.simpleAverageFromPeriod = new SimpleMovingAverageKernel(period);
+        this.simpleAverageFromDividedTwoPeriod = new SimpleMovingAverageKernel(period / 2);
+    }
+
+    private HullMovingAverageKernel(HullMovingAverageKernel source) {
+        this.simpleAverageFromPeriod = source.simpleAverageFromPeriod.copy();
+        this.simpleAverageFromDividedTwoPeriod = source.simpleAverageFromDividedTwoPeriod.copy();
+    }
+
+    @Override
+    public BigDecimal next(BigDecimal value) {
+        BigDecimal fullAverage = simpleAverageFromPeriod.next(value);
+        BigDecimal halfAverage = simpleAverageFromDividedTwoPeriod.next(value);
+        return isNull(fullAverage)
+                ? null
+                : MathHelper.scaleAndRound(halfAverage.subtract(fullAverage).add(halfAverage));
+    }
+
+    @Override
+    public MovingAverageKernel copy() {
+        return new HullMovingAverageKernel(this);
+    }
+
+}
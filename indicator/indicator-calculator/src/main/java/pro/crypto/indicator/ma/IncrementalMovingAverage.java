@@ -0,0 +1,57 @@
+package pro.crypto.indicator.ma;
+
+import pro.crypto.model.AbstractIncrementalIndicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.PriceType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+
+import static pro.crypto.model.indicator.IndicatorType.DOUBLE_EXPONENTIAL_MOVING_AVERAGE;
+
+public class IncrementalMovingAverage extends AbstractIncrementalIndicator<MAResult> {
+
+    private final IndicatorType type;
+    private final PriceType priceType;
+    private final MovingAverageKernel movingAverage;
+
+    public IncrementalMovingAverage(IndicatorRequest creationRequest) {
+        super(MAResult[]::new);
+        MARequest request = (MARequest) creationRequest;
+        checkIncomingData(request);
+        this.type = request.getIndicatorType();
+        this.priceType = request.getPriceType();
+        this.movingAverage = MovingAverageKernelFactory.create(type, request.getPeriod(), request.getAlphaCoefficient());
+        append(request.getOriginalData());
+    }
+
+    private IncrementalMovingAverage(IncrementalMovingAverage source) {
+        super(source);
+        this.type = source.type;
+        this.priceType = source.priceType;
+        this.movingAverage = source.movingAverage.copy();
+    }
+
+    private static void checkIncomingData(MARequest request) {
+        if (request.getIndicatorType() == DOUBLE_EXPONENTIAL_MOVING_AVERAGE) {
+            DoubleExponentialMovingAverage.checkDoubleExponentialIncomingData(request.getOriginalData(), request.getPeriod(), request.getPriceType());
+        } else {
+            MovingAverage.checkIncomingData(request.getIndicatorType(), request.getOriginalData(), request.getPeriod(), request.getPriceType());
+        }
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return type;
+    }
+
+    @Override
+    protected MAResult next(Tick tick) {
+        return new MAResult(tick.getTickTime(), movingAverage.next(tick.getPriceByType(priceType)));
+    }
+
+    @Override
+    protected IncrementalMovingAverage copy() {
+        return new IncrementalMovingAverage(this);
+    }
+
+}
@@ -1,12 +1,12 @@
 package pro.crypto.indicator.ma;
 
 import pro.crypto.helper.MathHelper;
+import pro.crypto.helper.WindowSumCalculator;
 import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.PriceType;
 import pro.crypto.model.tick.Tick;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.stream.IntStream;
 
 import static java.util.Objects.nonNull;
@@ -51,11 +51,9 @@ public class KaufmanAdaptiveMovingAverage extends MovingAverage {
                 .toArray(BigDecimal[]::new);
     }
 
+    // ∑(ABS(Price(i) - Price(i - 1)))
     private BigDecimal[] calculateVolatility() {
-        BigDecimal[] oneDayPriceChanges = calculateOneDaysPriceChanges();
-        return IntStream.range(0, originalData.length)
-                .mapToObj(idx -> calculateVolatility(oneDayPriceChanges, idx))
-                .toArray(BigDecimal[]::new);
+        return WindowSumCalculator.calculate(calculateOneDaysPriceChanges(), period);
     }
 
     private BigDecimal[] calculateOneDaysPriceChanges() {
@@ -77,17 +75,6 @@ public class KaufmanAdaptiveMovingAverage extends MovingAverage {
                 .abs();
     }
 
-    private BigDecimal calculateVolatility(BigDecimal[] oneDayPriceChanges, int currentIndex) {
-        return currentIndex >= period
-                ? calculateVolatilityValue(oneDayPriceChanges, currentIndex)
-                : null;
-    }
-
-    // ∑(ABS(Price(i) - Price(i - 1)))
-    private BigDecimal calculateVolatilityValue(BigDecimal[] oneDayPriceChanges, int currentIndex) {
-        return MathHelper.sum(Arrays.copyOfRange(oneDayPriceChanges, currentIndex - period + 1, currentIndex + 1));
-    }
-
     private BigDecimal[] calculateEfficiencyRatios(BigDecimal[] changes, BigDecimal[] volatilityValues) {
         return IntStream.range(0, originalData.length)
                 .mapToObj(idx -> calculateEfficiencyRatio(changes[idx], volatilityValues[idx]))
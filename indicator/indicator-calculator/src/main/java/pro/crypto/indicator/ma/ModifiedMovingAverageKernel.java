@@ -0,0 +1,28 @@
+package pro.crypto.indicator.ma;
+
+import pro.crypto.helper.MathHelper;
+
+import java.math.BigDecimal;
+
+class ModifiedMovingAverageKernel extends SeededMovingAverageKernel {
+
+    ModifiedMovingAverageKernel(int period) {
+        super(period);
+    }
+
+    private ModifiedMovingAverageKernel(ModifiedMovingAverageKernel source) {
+        super(source);
+    }
+
+    @Override
+    public MovingAverageKernel copy() {
+        return new ModifiedMovingAverageKernel(this);
+    }
+
+    //MMAt = MMAt-1 + (Pt - MMAt-1)/n
+    @Override
+    BigDecimal smooth(BigDecimal previousValue, BigDecimal value) {
+        return previousValue.add(MathHelper.divide(value.subtract(previousValue), new BigDecimal(period)));
+    }
+
+}
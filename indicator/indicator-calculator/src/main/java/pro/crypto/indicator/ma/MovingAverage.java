@@ -1,7 +1,11 @@
 package pro.crypto.indicator.ma;
 
+import pro.crypto.helper.IndicatorParametersChecker;
 import pro.crypto.helper.MathHelper;
+import pro.crypto.helper.PriceVolumeExtractor;
+import pro.crypto.helper.WindowSumCalculator;
 import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.PriceType;
 import pro.crypto.model.tick.Tick;
 
@@ -26,10 +30,15 @@ public abstract class MovingAverage implements Indicator<MAResult> {
     }
 
     protected void checkIncomingData(Tick[] originalData, int period, PriceType priceType) {
-        checkOriginalData(originalData);
-        checkOriginalDataSize(originalData, period);
-        checkPriceType(priceType);
-        checkPeriod(period);
+        checkIncomingData(getType(), originalData, period, priceType);
+    }
+
+    // shared with incremental moving average
+    static void checkIncomingData(IndicatorType indicatorType, Tick[] originalData, int period, PriceType priceType) {
+        IndicatorParametersChecker.checkOriginalData(indicatorType, originalData);
+        IndicatorParametersChecker.checkOriginalDataSize(indicatorType, originalData, period);
+        IndicatorParametersChecker.checkPriceType(indicatorType, priceType);
+        IndicatorParametersChecker.checkPeriod(indicatorType, period);
     }
 
     void calculateSimpleAverage(int fromIndex, int currentIndex, Tick[] originalData) {
@@ -48,8 +57,12 @@ public abstract class MovingAverage implements Indicator<MAResult> {
         result = new MAResult[length];
     }
 
-    BigDecimal calculateAndGetSimpleAverage(int fromIndex, int toIndex, Tick[] originalData) {
-        return MathHelper.average(extractPricesBetweenIndexes(fromIndex, toIndex, originalData));
+    BigDecimal[] calculateSimpleAverages(Tick[] originalData, int period) {
+        BigDecimal[] sums = WindowSumCalculator.calculate(PriceVolumeExtractor.extractPrices(originalData, priceType), period);
+        BigDecimal divisor = new BigDecimal(period);
+        return Stream.of(sums)
+                .map(sum -> MathHelper.divide(sum, divisor))
+                .toArray(BigDecimal[]::new);
     }
 
     // EMAt = α * Pt + (1 - α) * EMAt-1
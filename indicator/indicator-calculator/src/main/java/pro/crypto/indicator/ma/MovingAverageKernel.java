@@ -0,0 +1,16 @@
+package pro.crypto.indicator.ma;
+
+import java.math.BigDecimal;
+
+/**
+ * Moving average calculated one value at a time.
+ * Values are the same as the values of batch calculation over all pushed values,
+ * the value is undefined (null) until enough values are pushed.
+ */
+public interface MovingAverageKernel {
+
+    BigDecimal next(BigDecimal value);
+
+    MovingAverageKernel copy();
+
+}
@@ -0,0 +1,47 @@
+package pro.crypto.indicator.ma;
+
+import pro.crypto.exception.UnknownTypeException;
+import pro.crypto.helper.MathHelper;
+import pro.crypto.model.indicator.IndicatorType;
+
+import java.math.BigDecimal;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+
+public class MovingAverageKernelFactory {
+
+    public static MovingAverageKernel create(IndicatorType movingAverageType, int period, BigDecimal alphaCoefficient) {
+        if (isNull(movingAverageType)) {
+            throw new UnknownTypeException(format("Unknown moving average type {type: {%s}}", movingAverageType));
+        }
+
+        switch (movingAverageType) {
+            case SIMPLE_MOVING_AVERAGE:
+                return new SimpleMovingAverageKernel(period);
+            case EXPONENTIAL_MOVING_AVERAGE:
+                return new ExponentialMovingAverageKernel(period, alphaCoefficient);
+            case SMOOTHED_MOVING_AVERAGE:
+                return new SmoothedMovingAverageKernel(period);
+            case MODIFIED_MOVING_AVERAGE:
+                return new ModifiedMovingAverageKernel(period);
+            case WEIGHTED_MOVING_AVERAGE:
+                return new WeightedMovingAverageKernel(period);
+            case WELLES_WILDERS_MOVING_AVERAGE:
+                return new ExponentialMovingAverageKernel(period, MathHelper.divide(BigDecimal.ONE, new BigDecimal(period)));
+            case HULL_MOVING_AVERAGE:
+                return new HullMovingAverageKernel(period);
+            case DOUBLE_EXPONENTIAL_MOVING_AVERAGE:
+                return new DoubleExponentialMovingAverageKernel(period, alphaCoefficient);
+            case TRIANGULAR_MOVING_AVERAGE:
+                return new TriangularMovingAverageKernel(period);
+            default:
+                throw new UnknownTypeException(format("Moving average type isn't supported by incremental calculation {type: {%s}}", movingAverageType));
+        }
+    }
+
+    public static MovingAverageKernel create(IndicatorType movingAverageType, int period) {
+        return create(movingAverageType, period, null);
+    }
+
+}
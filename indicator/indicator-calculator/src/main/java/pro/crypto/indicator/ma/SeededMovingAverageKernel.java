@@ -0,0 +1,46 @@
+package pro.crypto.indicator.ma;
+
+import pro.crypto.helper.MathHelper;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+
+// the first value is a simple average of the first period values, every next one is calculated from the previous value
+abstract class SeededMovingAverageKernel implements MovingAverageKernel {
+
+    final int period;
+
+    private BigDecimal[] seedValues;
+    private int seedSize;
+    private BigDecimal previousValue;
+
+    SeededMovingAverageKernel(int period) {
+        this.period = period;
+        this.seedValues = new BigDecimal[period];
+    }
+
+    SeededMovingAverageKernel(SeededMovingAverageKernel source) {
+        this.period = source.period;
+        this.seedValues = isNull(source.seedValues) ? null : source.seedValues.clone();
+        this.seedSize = source.seedSize;
+        this.previousValue = source.previousValue;
+    }
+
+    @Override
+    public BigDecimal next(BigDecimal value) {
+        if (isNull(seedValues)) {
+            previousValue = smooth(previousValue, value);
+            return previousValue;
+        }
+        seedValues[seedSize++] = value;
+        if (seedSize == period) {
+            previousValue = MathHelper.average(seedValues);
+            seedValues = null;
+        }
+        return previousValue;
+    }
+
+    abstract BigDecimal smooth(BigDecimal previousValue, BigDecimal value);
+
+}
@@ -4,7 +4,7 @@ import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.PriceType;
 import pro.crypto.model.tick.Tick;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.math.BigDecimal;
 import java.util.stream.IntStream;
 
 public class SimpleMovingAverage extends MovingAverage {
@@ -32,9 +32,9 @@ public class SimpleMovingAverage extends MovingAverage {
     }
 
     private void fillInRemainPositions() {
-        AtomicInteger from = new AtomicInteger(0);
+        BigDecimal[] simpleAverages = calculateSimpleAverages(originalData, period);
         IntStream.range(period - 1, originalData.length)
-                .forEach(idx -> calculateSimpleAverage(from.getAndIncrement(), idx, originalData));
+                .forEach(idx -> result[idx] = new MAResult(originalData[idx].getTickTime(), simpleAverages[idx]));
     }
 
 }
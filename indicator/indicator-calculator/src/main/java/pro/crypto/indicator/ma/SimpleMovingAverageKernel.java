@@ -0,0 +1,42 @@
+package pro.crypto.indicator.ma;
+
+import pro.crypto.helper.MathHelper;
+import pro.crypto.helper.RollingSum;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+
+class SimpleMovingAverageKernel implements MovingAverageKernel {
+
+    private final BigDecimal divisor;
+    private final RollingSum rollingSum;
+
+    // empty window (e.g. half of the period 1 for Hull moving average) gives zero value like batch calculation
+    SimpleMovingAverageKernel(int period) {
+        this.divisor = new BigDecimal(period);
+        this.rollingSum = period < 1 ? null : new RollingSum(period);
+    }
+
+    private SimpleMovingAverageKernel(SimpleMovingAverageKernel source) {
+        this.divisor = source.divisor;
+        this.rollingSum = isNull(source.rollingSum) ? null : source.rollingSum.copy();
+    }
+
+    @Override
+    public BigDecimal next(BigDecimal value) {
+        if (isNull(rollingSum)) {
+            return BigDecimal.ZERO;
+        }
+        rollingSum.push(value);
+        return rollingSum.isDefined()
+                ? MathHelper.divide(MathHelper.scaleAndRound(rollingSum.getSum()), divisor)
+                : null;
+    }
+
+    @Override
+    public MovingAverageKernel copy() {
+        return new SimpleMovingAverageKernel(this);
+    }
+
+}
@@ -0,0 +1,30 @@
+package pro.crypto.indicator.ma;
+
+import pro.crypto.helper.MathHelper;
+
+import java.math.BigDecimal;
+
+class SmoothedMovingAverageKernel extends SeededMovingAverageKernel {
+
+    SmoothedMovingAverageKernel(int period) {
+        super(period);
+    }
+
+    private SmoothedMovingAverageKernel(SmoothedMovingAverageKernel source) {
+        super(source);
+    }
+
+    @Override
+    public MovingAverageKernel copy() {
+        return new SmoothedMovingAverageKernel(this);
+    }
+
+    // SMMAt = (SMMAt-1 * (n - 1) + Pt) / n
+    @Override
+    BigDecimal smooth(BigDecimal previousValue, BigDecimal value) {
+        return MathHelper.scaleAndRound(MathHelper.divide(
+                previousValue.multiply(new BigDecimal(period - 1)).add(value),
+                new BigDecimal(period)));
+    }
+
+}
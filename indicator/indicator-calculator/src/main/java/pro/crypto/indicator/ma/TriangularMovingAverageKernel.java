@@ -0,0 +1,35 @@
+package pro.crypto.indicator.ma;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+
+class TriangularMovingAverageKernel implements MovingAverageKernel {
+
+    private final MovingAverageKernel simpleMovingAverage;
+    private final MovingAverageKernel doubleSmoothedSMA;
+
+    TriangularMovingAverageKernel(int period) {
+        this.simpleMovingAverage = new SimpleMovingAverageKernel(period % 2 == 0 ? period / 2 : period / 2 + 1);
+        this.doubleSmoothedSMA = new SimpleMovingAverageKernel(period / 2 + 1);
+    }
+
+    private TriangularMovingAverageKernel(TriangularMovingAverageKernel source) {
+        this.simpleMovingAverage = source.simpleMovingAverage.copy();
+        this.doubleSmoothedSMA = source.doubleSmoothedSMA.copy();
+    }
+
+    @Override
+    public BigDecimal next(BigDecimal value) {
+        BigDecimal simpleMovingAverageValue = simpleMovingAverage.next(value);
+        return isNull(simpleMovingAverageValue)
+                ? null
+                : doubleSmoothedSMA.next(simpleMovingAverageValue);
+    }
+
+    @Override
+    public MovingAverageKernel copy() {
+        return new TriangularMovingAverageKernel(this);
+    }
+
+}
@@ -1,13 +1,12 @@
 package pro.crypto.indicator.ma;
 
 import pro.crypto.helper.MathHelper;
+import pro.crypto.helper.RollingWeightedSum;
 import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.PriceType;
 import pro.crypto.model.tick.Tick;
 
 import java.math.BigDecimal;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.stream.IntStream;
 
 import static java.util.stream.IntStream.range;
 import static pro.crypto.model.indicator.IndicatorType.WEIGHTED_MOVING_AVERAGE;
@@ -37,32 +36,20 @@ public class WeightedMovingAverage extends MovingAverage {
     }
 
     private void fillInRemainPositions() {
-        int weightedCoefficientSum = calculateWeightedCoefficientSum();
-        IntStream.range(period - 1, originalData.length)
-                .forEach(idx -> buildMovingAverageResult(weightedCoefficientSum, idx));
-    }
-
-    private void buildMovingAverageResult(int weightedCoefficientSum, int currentIndex) {
-        BigDecimal indicatorValue = calculateIndicatorValue(weightedCoefficientSum, currentIndex);
-        result[currentIndex] = buildMovingAverageResult(currentIndex, indicatorValue);
+        BigDecimal weightedCoefficientSum = new BigDecimal(calculateWeightedCoefficientSum());
+        RollingWeightedSum rollingWeightedSum = new RollingWeightedSum(period);
+        for (int idx = 0; idx < originalData.length; idx++) {
+            rollingWeightedSum.push(originalData[idx].getPriceByType(priceType));
+            if (idx >= period - 1) {
+                result[idx] = buildMovingAverageResult(idx, MathHelper.divide(rollingWeightedSum.getWeightedSum(), weightedCoefficientSum));
+            }
+        }
     }
 
     private int calculateWeightedCoefficientSum() {
         return range(1, period + 1).reduce(0, (a, b) -> a + b);
     }
 
-    private BigDecimal calculateIndicatorValue(int weightedCoefficientSum, int currentIndex) {
-        BigDecimal weightedPriceSum = calculateWeightedPriceSum(currentIndex);
-        return MathHelper.divide(weightedPriceSum, new BigDecimal(weightedCoefficientSum));
-    }
-
-    private BigDecimal calculateWeightedPriceSum(int currentIndex) {
-        AtomicInteger currentWeight = new AtomicInteger(1);
-        return IntStream.rangeClosed(currentIndex - period + 1, currentIndex)
-                .mapToObj(idx -> originalData[idx].getPriceByType(priceType).multiply(new BigDecimal(currentWeight.getAndIncrement())))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
     private MAResult buildMovingAverageResult(int currentIndex, BigDecimal indicatorValue) {
         return new MAResult(
                 originalData[currentIndex].getTickTime(),
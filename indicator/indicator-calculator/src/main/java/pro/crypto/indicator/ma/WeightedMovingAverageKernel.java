@@ -0,0 +1,36 @@
+package pro.crypto.indicator.ma;
+
+import pro.crypto.helper.MathHelper;
+import pro.crypto.helper.RollingWeightedSum;
+
+import java.math.BigDecimal;
+
+class WeightedMovingAverageKernel implements MovingAverageKernel {
+
+    private final BigDecimal weightedCoefficientSum;
+    private final RollingWeightedSum rollingWeightedSum;
+
+    WeightedMovingAverageKernel(int period) {
+        this.weightedCoefficientSum = new BigDecimal(period * (period + 1) / 2);
+        this.rollingWeightedSum = new RollingWeightedSum(period);
+    }
+
+    private WeightedMovingAverageKernel(WeightedMovingAverageKernel source) {
+        this.weightedCoefficientSum = source.weightedCoefficientSum;
+        this.rollingWeightedSum = source.rollingWeightedSum.copy();
+    }
+
+    @Override
+    public BigDecimal next(BigDecimal value) {
+        rollingWeightedSum.push(value);
+        return rollingWeightedSum.isDefined()
+                ? MathHelper.scaleAndRound(MathHelper.divide(rollingWeightedSum.getWeightedSum(), weightedCoefficientSum))
+                : null;
+    }
+
+    @Override
+    public MovingAverageKernel copy() {
+        return new WeightedMovingAverageKernel(this);
+    }
+
+}
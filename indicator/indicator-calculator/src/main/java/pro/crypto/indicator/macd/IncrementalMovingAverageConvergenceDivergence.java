@@ -0,0 +1,64 @@
+package pro.crypto.indicator.macd;
+
+import pro.crypto.indicator.ma.MovingAverageKernel;
+import pro.crypto.indicator.ma.MovingAverageKernelFactory;
+import pro.crypto.model.AbstractIncrementalIndicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.PriceType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+import static pro.crypto.indicator.macd.MovingAverageConvergenceDivergence.calculateDifference;
+import static pro.crypto.model.indicator.IndicatorType.EXPONENTIAL_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.MOVING_AVERAGE_CONVERGENCE_DIVERGENCE;
+
+public class IncrementalMovingAverageConvergenceDivergence extends AbstractIncrementalIndicator<MACDResult> {
+
+    private final PriceType priceType;
+    private final MovingAverageKernel fastMovingAverage;
+    private final MovingAverageKernel slowMovingAverage;
+    private final MovingAverageKernel signalLineMovingAverage;
+
+    public IncrementalMovingAverageConvergenceDivergence(IndicatorRequest creationRequest) {
+        super(MACDResult[]::new);
+        MACDRequest request = (MACDRequest) creationRequest;
+        IndicatorType movingAverageType = isNull(request.getMovingAverageType()) ? EXPONENTIAL_MOVING_AVERAGE : request.getMovingAverageType();
+        MovingAverageConvergenceDivergence.checkIncomingData(request.getOriginalData(), movingAverageType, request.getPriceType(),
+                request.getSlowPeriod(), request.getFastPeriod(), request.getSignalPeriod());
+        this.priceType = request.getPriceType();
+        this.fastMovingAverage = MovingAverageKernelFactory.create(movingAverageType, request.getFastPeriod());
+        this.slowMovingAverage = MovingAverageKernelFactory.create(movingAverageType, request.getSlowPeriod());
+        this.signalLineMovingAverage = MovingAverageKernelFactory.create(EXPONENTIAL_MOVING_AVERAGE, request.getSignalPeriod());
+        append(request.getOriginalData());
+    }
+
+    private IncrementalMovingAverageConvergenceDivergence(IncrementalMovingAverageConvergenceDivergence source) {
+        super(source);
+        this.priceType = source.priceType;
+        this.fastMovingAverage = source.fastMovingAverage.copy();
+        this.slowMovingAverage = source.slowMovingAverage.copy();
+        this.signalLineMovingAverage = source.signalLineMovingAverage.copy();
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return MOVING_AVERAGE_CONVERGENCE_DIVERGENCE;
+    }
+
+    @Override
+    protected MACDResult next(Tick tick) {
+        BigDecimal price = tick.getPriceByType(priceType);
+        BigDecimal indicatorValue = calculateDifference(fastMovingAverage.next(price), slowMovingAverage.next(price));
+        BigDecimal signalLineValue = isNull(indicatorValue) ? null : signalLineMovingAverage.next(indicatorValue);
+        return new MACDResult(tick.getTickTime(), indicatorValue, signalLineValue, calculateDifference(indicatorValue, signalLineValue));
+    }
+
+    @Override
+    protected IncrementalMovingAverageConvergenceDivergence copy() {
+        return new IncrementalMovingAverageConvergenceDivergence(this);
+    }
+
+}
@@ -2,6 +2,8 @@ package pro.crypto.indicator.macd;
 
 import pro.crypto.exception.UnexpectedValueException;
 import pro.crypto.helper.FakeTicksCreator;
+import pro.crypto.helper.IndicatorContext;
+import pro.crypto.helper.IndicatorParametersChecker;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.indicator.ma.MARequest;
@@ -68,22 +70,24 @@ public class MovingAverageConvergenceDivergence implements Indicator<MACDResult>
     }
 
     private void checkIncomingData() {
-        checkOriginalData(originalData);
-        checkOriginalDataSize(originalData, slowPeriod + signalPeriod);
-        checkPriceType(priceType);
-        checkPeriods();
-        checkMovingAverageType(movingAverageType);
+        checkIncomingData(originalData, movingAverageType, priceType, slowPeriod, fastPeriod, signalPeriod);
     }
 
-    private void checkPeriods() {
-        checkPeriod(slowPeriod);
-        checkPeriod(fastPeriod);
-        checkPeriod(signalPeriod);
+    // shared with incremental indicator
+    static void checkIncomingData(Tick[] originalData, IndicatorType movingAverageType, PriceType priceType,
+                                  int slowPeriod, int fastPeriod, int signalPeriod) {
+        IndicatorParametersChecker.checkOriginalData(MOVING_AVERAGE_CONVERGENCE_DIVERGENCE, originalData);
+        IndicatorParametersChecker.checkOriginalDataSize(MOVING_AVERAGE_CONVERGENCE_DIVERGENCE, originalData, slowPeriod + signalPeriod);
+        IndicatorParametersChecker.checkPriceType(MOVING_AVERAGE_CONVERGENCE_DIVERGENCE, priceType);
+        IndicatorParametersChecker.checkPeriod(MOVING_AVERAGE_CONVERGENCE_DIVERGENCE, slowPeriod);
+        IndicatorParametersChecker.checkPeriod(MOVING_AVERAGE_CONVERGENCE_DIVERGENCE, fastPeriod);
+        IndicatorParametersChecker.checkPeriod(MOVING_AVERAGE_CONVERGENCE_DIVERGENCE, signalPeriod);
+        IndicatorParametersChecker.checkMovingAverageType(MOVING_AVERAGE_CONVERGENCE_DIVERGENCE, movingAverageType);
     }
 
     private BigDecimal[] calculateMACD() {
-        MAResult[] fastMovingAverageResult = MovingAverageFactory.create(buildMARequest(fastPeriod)).getResult();
-        MAResult[] slowMovingAverageResult = MovingAverageFactory.create(buildMARequest(slowPeriod)).getResult();
+        MAResult[] fastMovingAverageResult = IndicatorContext.getResult(buildMARequest(fastPeriod), MovingAverageFactory::create);
+        MAResult[] slowMovingAverageResult = IndicatorContext.getResult(buildMARequest(slowPeriod), MovingAverageFactory::create);
         return calculateMACD(fastMovingAverageResult, slowMovingAverageResult);
     }
 
@@ -102,7 +106,7 @@ public class MovingAverageConvergenceDivergence implements Indicator<MACDResult>
                 .build();
     }
 
-    private BigDecimal calculateDifference(BigDecimal minuend, BigDecimal subtrahend) {
+    static BigDecimal calculateDifference(BigDecimal minuend, BigDecimal subtrahend) {
         return nonNull(minuend) && nonNull(subtrahend)
                 ? MathHelper.scaleAndRound(minuend.subtract(subtrahend))
                 : null;
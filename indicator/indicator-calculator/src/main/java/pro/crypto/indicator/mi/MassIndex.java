@@ -3,6 +3,7 @@ package pro.crypto.indicator.mi;
 import pro.crypto.helper.FakeTicksCreator;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
+import pro.crypto.helper.WindowSumCalculator;
 import pro.crypto.indicator.ma.MARequest;
 import pro.crypto.indicator.ma.MovingAverageFactory;
 import pro.crypto.model.Indicator;
@@ -12,7 +13,6 @@ import pro.crypto.request.IndicatorRequest;
 import pro.crypto.response.SimpleIndicatorResult;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -111,9 +111,9 @@ public class MassIndex implements Indicator<MIResult> {
     }
 
     private void fillInRemainPositions(BigDecimal[] singleMovingAverage, BigDecimal[] doubleMovingAverage) {
-        BigDecimal[] emaRatio = calculateEMARation(singleMovingAverage, doubleMovingAverage);
+        BigDecimal[] massIndexValues = WindowSumCalculator.calculate(calculateEMARation(singleMovingAverage, doubleMovingAverage), period);
         IntStream.range(EXPONENTIAL_MOVING_AVERAGE_PERIOD * 2 + period - 3, result.length)
-                .forEach(idx -> result[idx] = new MIResult(originalData[idx].getTickTime(), calculateMassIndex(emaRatio, idx)));
+                .forEach(idx -> result[idx] = new MIResult(originalData[idx].getTickTime(), massIndexValues[idx]));
     }
 
     private BigDecimal[] calculateEMARation(BigDecimal[] singleMovingAverage, BigDecimal[] doubleMovingAverage) {
@@ -128,8 +128,4 @@ public class MassIndex implements Indicator<MIResult> {
                 : null;
     }
 
-    private BigDecimal calculateMassIndex(BigDecimal[] emaRatio, int index) {
-        return MathHelper.sum(Arrays.copyOfRange(emaRatio, index - period + 1, index + 1));
-    }
-
 }
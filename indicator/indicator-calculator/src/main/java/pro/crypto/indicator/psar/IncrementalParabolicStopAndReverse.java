@@ -0,0 +1,138 @@
+package pro.crypto.indicator.psar;
+
+import pro.crypto.helper.MathHelper;
+import pro.crypto.model.AbstractIncrementalIndicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static java.util.Objects.isNull;
+import static pro.crypto.helper.MathHelper.scaleAndRound;
+import static pro.crypto.model.indicator.IndicatorType.PARABOLIC_STOP_AND_REVERSE;
+
+public class IncrementalParabolicStopAndReverse extends AbstractIncrementalIndicator<PSARResult> {
+
+    private final BigDecimal minAccelerationFactor;
+    private final BigDecimal maxAccelerationFactor;
+    private final BigDecimal deltaAccelerationFactor;
+
+    private Tick previousTick;
+    private Tick prePreviousTick;
+    private int trendIndex;
+    private BigDecimal extremePoint;
+    private BigDecimal accelerationFactor;
+    private BigDecimal parabolicSAR;
+
+    public IncrementalParabolicStopAndReverse(IndicatorRequest creationRequest) {
+        super(PSARResult[]::new);
+        PSARRequest request = (PSARRequest) creationRequest;
+        this.minAccelerationFactor = new BigDecimal(request.getMinAccelerationFactor()).setScale(3, RoundingMode.HALF_UP);
+        this.maxAccelerationFactor = new BigDecimal(request.getMaxAccelerationFactor()).setScale(3, RoundingMode.HALF_UP);
+        ParabolicStopAndReverse.checkIncomingData(request.getOriginalData(), minAccelerationFactor, maxAccelerationFactor);
+        this.deltaAccelerationFactor = new BigDecimal(0.02).setScale(2, RoundingMode.HALF_UP);
+        append(request.getOriginalData());
+    }
+
+    private IncrementalParabolicStopAndReverse(IncrementalParabolicStopAndReverse source) {
+        super(source);
+        this.minAccelerationFactor = source.minAccelerationFactor;
+        this.maxAccelerationFactor = source.maxAccelerationFactor;
+        this.deltaAccelerationFactor = source.deltaAccelerationFactor;
+        this.previousTick = source.previousTick;
+        this.prePreviousTick = source.prePreviousTick;
+        this.trendIndex = source.trendIndex;
+        this.extremePoint = source.extremePoint;
+        this.accelerationFactor = source.accelerationFactor;
+        this.parabolicSAR = source.parabolicSAR;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return PARABOLIC_STOP_AND_REVERSE;
+    }
+
+    @Override
+    protected PSARResult next(Tick tick) {
+        if (isNull(previousTick)) {
+            parabolicSAR = null;
+        } else if (isNull(prePreviousTick)) {
+            fillInInitialValues(tick);
+        } else {
+            calculateParabolicStopAndReverse(tick);
+        }
+        prePreviousTick = previousTick;
+        previousTick = tick;
+        return new PSARResult(tick.getTickTime(), parabolicSAR);
+    }
+
+    @Override
+    protected IncrementalParabolicStopAndReverse copy() {
+        return new IncrementalParabolicStopAndReverse(this);
+    }
+
+    private void fillInInitialValues(Tick tick) {
+        trendIndex = -1;
+        extremePoint = tick.getLow();
+        accelerationFactor = minAccelerationFactor;
+        parabolicSAR = previousTick.getHigh();
+    }
+
+    private void calculateParabolicStopAndReverse(Tick tick) {
+        BigDecimal tentativeSAR = calculateTentativeSAR(calculateTemporarySAR());
+        int currentTrendIndex = calculateTrendIndex(tentativeSAR, tick);
+        BigDecimal currentExtremePoint = calculateExtremePoint(currentTrendIndex, tick);
+        accelerationFactor = calculateAccelerationFactor(currentTrendIndex, currentExtremePoint);
+        parabolicSAR = calculateParabolicSAR(currentTrendIndex, tentativeSAR, tick);
+        trendIndex = currentTrendIndex;
+        extremePoint = currentExtremePoint;
+    }
+
+    private BigDecimal calculateTemporarySAR() {
+        return scaleAndRound(extremePoint.subtract(parabolicSAR)
+                .multiply(accelerationFactor)
+                .add(parabolicSAR));
+    }
+
+    private BigDecimal calculateTentativeSAR(BigDecimal temporarySAR) {
+        return trendIndex < 0
+                ? MathHelper.max(temporarySAR, previousTick.getHigh(), prePreviousTick.getHigh())
+                : MathHelper.min(temporarySAR, previousTick.getLow(), prePreviousTick.getLow());
+    }
+
+    private int calculateTrendIndex(BigDecimal tentativeSAR, Tick tick) {
+        if (trendIndex < 0) {
+            return tentativeSAR.compareTo(tick.getHigh()) < 0 ? 1 : trendIndex - 1;
+        }
+        return tentativeSAR.compareTo(tick.getLow()) > 0 ? -1 : trendIndex + 1;
+    }
+
+    private BigDecimal calculateExtremePoint(int currentTrendIndex, Tick tick) {
+        if (currentTrendIndex < 0) {
+            return currentTrendIndex == -1 ? tick.getLow() : MathHelper.min(tick.getLow(), extremePoint);
+        }
+        return currentTrendIndex == 1 ? tick.getHigh() : MathHelper.max(tick.getHigh(), extremePoint);
+    }
+
+    private BigDecimal calculateAccelerationFactor(int currentTrendIndex, BigDecimal currentExtremePoint) {
+        if (Math.abs(currentTrendIndex) == 1) {
+            return minAccelerationFactor;
+        }
+        return currentExtremePoint.compareTo(extremePoint) != 0
+                ? MathHelper.min(accelerationFactor.add(deltaAccelerationFactor), maxAccelerationFactor)
+                : accelerationFactor;
+    }
+
+    private BigDecimal calculateParabolicSAR(int currentTrendIndex, BigDecimal tentativeSAR, Tick tick) {
+        if (currentTrendIndex == -1) {
+            return MathHelper.max(extremePoint, tick.getHigh());
+        }
+        if (currentTrendIndex == 1) {
+            return MathHelper.min(extremePoint, tick.getLow());
+        }
+        return scaleAndRound(tentativeSAR);
+    }
+
+}
@@ -1,6 +1,7 @@
 package pro.crypto.indicator.psar;
 
 import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.helper.IndicatorParametersChecker;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.model.Indicator;
 import pro.crypto.model.indicator.IndicatorType;
@@ -59,27 +60,32 @@ public class ParabolicStopAndReverse implements Indicator<PSARResult> {
     }
 
     private void checkIncomingData() {
-        checkOriginalData(originalData);
-        checkAccelerationFactors();
+        checkIncomingData(originalData, minAccelerationFactor, maxAccelerationFactor);
     }
 
-    private void checkAccelerationFactors() {
+    // shared with incremental indicator
+    static void checkIncomingData(Tick[] originalData, BigDecimal minAccelerationFactor, BigDecimal maxAccelerationFactor) {
+        IndicatorParametersChecker.checkOriginalData(PARABOLIC_STOP_AND_REVERSE, originalData);
+        checkAccelerationFactors(minAccelerationFactor, maxAccelerationFactor);
+    }
+
+    private static void checkAccelerationFactors(BigDecimal minAccelerationFactor, BigDecimal maxAccelerationFactor) {
         if (minAccelerationFactor.compareTo(BigDecimal.ZERO) <= 0) {
             throw new WrongIncomingParametersException(format("Min Acceleration Factor should be less more than zero" +
                             " {indicator: {%s}, minAccelerationFactor: {%s}}",
-                    getType().toString(), minAccelerationFactor.toString()));
+                    PARABOLIC_STOP_AND_REVERSE, minAccelerationFactor.toString()));
         }
 
         if (maxAccelerationFactor.compareTo(BigDecimal.ZERO) <= 0) {
             throw new WrongIncomingParametersException(format("Max Acceleration Factor should be less more than zero" +
                             " {indicator: {%s}, minAccelerationFactor: {%s}}",
-                    getType().toString(), maxAccelerationFactor.toString()));
+                    PARABOLIC_STOP_AND_REVERSE, maxAccelerationFactor.toString()));
         }
 
         if (minAccelerationFactor.compareTo(maxAccelerationFactor) >= 0) {
             throw new WrongIncomingParametersException(format("Min Acceleration Factor should be less than Max Acceleration Factor" +
                             " {indicator: {%s}, minAccelerationFactor: {%s}, maxAccelerationFactor: {%s}}",
-                    getType().toString(), minAccelerationFactor.toString(), maxAccelerationFactor.toString()));
+                    PARABOLIC_STOP_AND_REVERSE, minAccelerationFactor.toString(), maxAccelerationFactor.toString()));
         }
     }
 
@@ -0,0 +1,58 @@
+package pro.crypto.indicator.rsi;
+
+import pro.crypto.indicator.ma.MovingAverageKernel;
+import pro.crypto.indicator.ma.MovingAverageKernelFactory;
+import pro.crypto.model.AbstractIncrementalIndicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+import static pro.crypto.model.indicator.IndicatorType.RELATIVE_STRENGTH_INDEX;
+
+public class IncrementalRelativeStrengthIndex extends AbstractIncrementalIndicator<RSIResult> {
+
+    private final MovingAverageKernel positivePriceMovingAverage;
+    private final MovingAverageKernel negativePriceMovingAverage;
+
+    private BigDecimal previousClose;
+
+    public IncrementalRelativeStrengthIndex(IndicatorRequest creationRequest) {
+        super(RSIResult[]::new);
+        RSIRequest request = (RSIRequest) creationRequest;
+        RelativeStrengthIndex.checkIncomingData(request.getOriginalData(), request.getMovingAverageType(), request.getPeriod());
+        this.positivePriceMovingAverage = MovingAverageKernelFactory.create(request.getMovingAverageType(), request.getPeriod());
+        this.negativePriceMovingAverage = MovingAverageKernelFactory.create(request.getMovingAverageType(), request.getPeriod());
+        append(request.getOriginalData());
+    }
+
+    private IncrementalRelativeStrengthIndex(IncrementalRelativeStrengthIndex source) {
+        super(source);
+        this.positivePriceMovingAverage = source.positivePriceMovingAverage.copy();
+        this.negativePriceMovingAverage = source.negativePriceMovingAverage.copy();
+        this.previousClose = source.previousClose;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return RELATIVE_STRENGTH_INDEX;
+    }
+
+    @Override
+    protected RSIResult next(Tick tick) {
+        BigDecimal difference = isNull(previousClose) ? BigDecimal.ZERO : tick.getClose().subtract(previousClose);
+        previousClose = tick.getClose();
+        boolean isPositive = difference.compareTo(BigDecimal.ZERO) > 0;
+        BigDecimal averageGain = positivePriceMovingAverage.next(isPositive ? difference : BigDecimal.ZERO);
+        BigDecimal averageLoss = negativePriceMovingAverage.next(isPositive ? BigDecimal.ZERO : difference.abs());
+        return new RSIResult(tick.getTickTime(), RelativeStrengthIndex.calculateRelativeStrengthIndexValue(averageGain, averageLoss));
+    }
+
+    @Override
+    protected IncrementalRelativeStrengthIndex copy() {
+        return new IncrementalRelativeStrengthIndex(this);
+    }
+
+}
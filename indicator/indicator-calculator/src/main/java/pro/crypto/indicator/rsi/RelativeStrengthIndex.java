@@ -1,6 +1,7 @@
 package pro.crypto.indicator.rsi;
 
 import pro.crypto.helper.FakeTicksCreator;
+import pro.crypto.helper.IndicatorParametersChecker;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.PriceDifferencesCalculator;
@@ -59,10 +60,15 @@ public class RelativeStrengthIndex implements Indicator<RSIResult> {
     }
 
     private void checkIncomingData() {
-        checkOriginalData(originalData);
-        checkOriginalDataSize(originalData, period);
-        checkPeriod(period);
-        checkMovingAverageType(movingAverageType);
+        checkIncomingData(originalData, movingAverageType, period);
+    }
+
+    // shared with incremental indicator
+    static void checkIncomingData(Tick[] originalData, IndicatorType movingAverageType, int period) {
+        IndicatorParametersChecker.checkOriginalData(RELATIVE_STRENGTH_INDEX, originalData);
+        IndicatorParametersChecker.checkOriginalDataSize(RELATIVE_STRENGTH_INDEX, originalData, period);
+        IndicatorParametersChecker.checkPeriod(RELATIVE_STRENGTH_INDEX, period);
+        IndicatorParametersChecker.checkMovingAverageType(RELATIVE_STRENGTH_INDEX, movingAverageType);
     }
 
     private void calculateRelativeStrengthIndex(BigDecimalTuple[] priceDifferences) {
@@ -106,18 +112,19 @@ public class RelativeStrengthIndex implements Indicator<RSIResult> {
     }
 
     private RSIResult buildRelativeStrengthIndexResult(BigDecimal averageGain, BigDecimal averageLoss, int currentIndex) {
-        return nonNull(averageGain) && nonNull(averageLoss)
-                ? calculateRelativeStrengthIndexValue(averageGain, averageLoss, currentIndex)
-                : new RSIResult(originalData[currentIndex].getTickTime(), null);
+        return new RSIResult(originalData[currentIndex].getTickTime(), calculateRelativeStrengthIndexValue(averageGain, averageLoss));
     }
 
-    private RSIResult calculateRelativeStrengthIndexValue(BigDecimal averageGain, BigDecimal averageLoss, int currentIndex) {
+    static BigDecimal calculateRelativeStrengthIndexValue(BigDecimal averageGain, BigDecimal averageLoss) {
+        if (isNull(averageGain) || isNull(averageLoss)) {
+            return null;
+        }
         return isZeroValue(averageLoss)
-                ? new RSIResult(originalData[currentIndex].getTickTime(), MathHelper.scaleAndRound(new BigDecimal(100)))
-                : new RSIResult(originalData[currentIndex].getTickTime(), calculateRelativeStrengthIndexValue(averageGain, averageLoss));
+                ? MathHelper.scaleAndRound(new BigDecimal(100))
+                : calculateLimitedRelativeStrengthIndexValue(averageGain, averageLoss);
     }
 
-    private boolean isZeroValue(BigDecimal negativePriceMovingAverageValue) {
+    private static boolean isZeroValue(BigDecimal negativePriceMovingAverageValue) {
         return negativePriceMovingAverageValue.compareTo(BigDecimal.ZERO) == 0;
     }
 
@@ -125,7 +132,7 @@ public class RelativeStrengthIndex implements Indicator<RSIResult> {
     //RS = MA(positive) / MA(negative)
     // If we use MA with price deviation (like TEMA) we'll get sometimes values > 100 and < 0
     // I don't know how correct it is to use such MA for RSI calculation =)
-    private BigDecimal calculateRelativeStrengthIndexValue(BigDecimal averageGain, BigDecimal averageLoss) {
+    private static BigDecimal calculateLimitedRelativeStrengthIndexValue(BigDecimal averageGain, BigDecimal averageLoss) {
         BigDecimal rsiValue = calculateRelativeStrengthIndex(averageGain, averageLoss);
         if (isNull(rsiValue)){
             return null;
@@ -139,7 +146,7 @@ public class RelativeStrengthIndex implements Indicator<RSIResult> {
         return rsiValue;
     }
 
-    private BigDecimal calculateRelativeStrengthIndex(BigDecimal averageGain, BigDecimal averageLoss) {
+    private static BigDecimal calculateRelativeStrengthIndex(BigDecimal averageGain, BigDecimal averageLoss) {
         BigDecimal relativeValue = MathHelper.divide(new BigDecimal(100),
                 BigDecimal.ONE.add(calculateRelativeStrength(averageGain, averageLoss)));
         return nonNull(relativeValue)
@@ -147,7 +154,7 @@ public class RelativeStrengthIndex implements Indicator<RSIResult> {
                 : null;
     }
 
-    private BigDecimal calculateRelativeStrength(BigDecimal averageGain, BigDecimal averageLoss) {
+    private static BigDecimal calculateRelativeStrength(BigDecimal averageGain, BigDecimal averageLoss) {
         return MathHelper.divide(averageGain, averageLoss);
     }
 
@@ -3,6 +3,7 @@ package pro.crypto.indicator.rvi;
 import pro.crypto.helper.FakeTicksCreator;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
+import pro.crypto.helper.WindowSumCalculator;
 import pro.crypto.indicator.ma.MARequest;
 import pro.crypto.indicator.ma.MovingAverageFactory;
 import pro.crypto.model.Indicator;
@@ -12,7 +13,6 @@ import pro.crypto.request.IndicatorRequest;
 import pro.crypto.response.SimpleIndicatorResult;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -81,25 +81,19 @@ public class RelativeVigorIndex implements Indicator<RVIResult> {
     }
 
     private BigDecimal[] calculateRelativeVigorValues(BigDecimal[] numeratorValues, BigDecimal[] denominatorValues) {
+        BigDecimal[] numeratorSums = WindowSumCalculator.calculate(numeratorValues, period);
+        BigDecimal[] denominatorSums = WindowSumCalculator.calculate(denominatorValues, period);
         return IntStream.range(0, originalData.length)
-                .mapToObj(idx -> calculateRelativeVigor(idx, numeratorValues, denominatorValues))
+                .mapToObj(idx -> calculateRelativeVigor(idx, numeratorSums[idx], denominatorSums[idx]))
                 .toArray(BigDecimal[]::new);
     }
 
-    private BigDecimal calculateRelativeVigor(int currentIndex, BigDecimal[] numeratorValues, BigDecimal[] denominatorValues) {
+    private BigDecimal calculateRelativeVigor(int currentIndex, BigDecimal numeratorSum, BigDecimal denominatorSum) {
         return currentIndex >= period + TRIANGULAR_MOVING_AVERAGE_PERIOD - 2
-                ? calculateRelativeVigorValue(currentIndex, numeratorValues, denominatorValues)
+                ? MathHelper.divide(numeratorSum, denominatorSum)
                 : null;
     }
 
-    private BigDecimal calculateRelativeVigorValue(int currentIndex, BigDecimal[] numeratorValues, BigDecimal[] denominatorValues) {
-        return MathHelper.divide(calculateSum(currentIndex, numeratorValues), calculateSum(currentIndex, denominatorValues));
-    }
-
-    private BigDecimal calculateSum(int currentIndex, BigDecimal[] numeratorValues) {
-        return MathHelper.sum(Arrays.copyOfRange(numeratorValues, currentIndex - period + 1, currentIndex + 1));
-    }
-
     private BigDecimal[] calculateSignalLineValues(BigDecimal[] relativeVigorValues) {
         BigDecimal[] signalLineValues = calculateTriangularMovingAverageValues(relativeVigorValues);
         BigDecimal[] result = new BigDecimal[originalData.length];
@@ -1,5 +1,6 @@
 package pro.crypto.indicator.stc;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.MinMaxFinder;
@@ -82,7 +83,7 @@ public class SchaffTrendCycle implements Indicator<STCResult> {
     }
 
     private SimpleIndicatorResult[] calculateMACD() {
-        return new MovingAverageConvergenceDivergence(buildMACDRequest()).getResult();
+        return IndicatorContext.getResult(buildMACDRequest(), MovingAverageConvergenceDivergence::new);
     }
 
     private IndicatorRequest buildMACDRequest() {
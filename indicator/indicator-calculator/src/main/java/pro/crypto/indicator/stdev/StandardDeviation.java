@@ -1,7 +1,9 @@
 package pro.crypto.indicator.stdev;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
+import pro.crypto.helper.RollingSumOfSquares;
 import pro.crypto.indicator.ma.MARequest;
 import pro.crypto.indicator.ma.MovingAverageFactory;
 import pro.crypto.model.Indicator;
@@ -74,7 +76,7 @@ public class StandardDeviation implements Indicator<StDevResult> {
     }
 
     private SimpleIndicatorResult[] calculateMovingAverage() {
-        return MovingAverageFactory.create(buildMovingAverageRequest()).getResult();
+        return IndicatorContext.getResult(buildMovingAverageRequest(), MovingAverageFactory::create);
     }
 
     private IndicatorRequest buildMovingAverageRequest() {
@@ -88,25 +90,15 @@ public class StandardDeviation implements Indicator<StDevResult> {
 
     // Σ (x - MAResult)^2
     private BigDecimal[] calculateDivisibleValues(BigDecimal[] averagePrices) {
-        return IntStream.range(0, averagePrices.length)
-                .mapToObj(idx -> tryCalculateSumOfDifferenceBetweenPriceAndMovingAverage(averagePrices[idx], idx))
-                .toArray(BigDecimal[]::new);
-    }
-
-    private BigDecimal tryCalculateSumOfDifferenceBetweenPriceAndMovingAverage(BigDecimal averagePrice, int currentIndex) {
-        return ofNullable(averagePrice)
-                .map(price -> calculateSumOfDifferenceBetweenPriceAndMovingAverage(price, currentIndex))
-                .orElse(null);
-    }
-
-    private BigDecimal calculateSumOfDifferenceBetweenPriceAndMovingAverage(BigDecimal averagePrice, int currentIndex) {
-        return IntStream.range(currentIndex - period + 1, currentIndex + 1)
-                .mapToObj(idx -> calculateDifference(averagePrice, idx).pow(2))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    private BigDecimal calculateDifference(BigDecimal averagePrice, int index) {
-        return originalData[index].getPriceByType(priceType).subtract(averagePrice);
+        BigDecimal[] divisibleValues = new BigDecimal[averagePrices.length];
+        RollingSumOfSquares rollingSumOfSquares = new RollingSumOfSquares(period);
+        for (int idx = 0; idx < averagePrices.length; idx++) {
+            rollingSumOfSquares.push(originalData[idx].getPriceByType(priceType));
+            divisibleValues[idx] = ofNullable(averagePrices[idx])
+                    .map(rollingSumOfSquares::getSumOfSquaredDeviations)
+                    .orElse(null);
+        }
+        return divisibleValues;
     }
 
     private void calculateStandardDeviation(BigDecimal[] divisibleValues) {
@@ -0,0 +1,66 @@
+package pro.crypto.indicator.stoch;
+
+import pro.crypto.helper.SlidingWindowExtremum;
+import pro.crypto.indicator.ma.MovingAverageKernel;
+import pro.crypto.indicator.ma.MovingAverageKernelFactory;
+import pro.crypto.model.AbstractIncrementalIndicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+
+import java.math.BigDecimal;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static pro.crypto.model.indicator.IndicatorType.MODIFIED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.STOCHASTIC_OSCILLATOR;
+
+public class IncrementalStochasticOscillator extends AbstractIncrementalIndicator<StochResult> {
+
+    private final SlidingWindowExtremum minValues;
+    private final SlidingWindowExtremum maxValues;
+    private final MovingAverageKernel slowStochasticMovingAverage;
+
+    public IncrementalStochasticOscillator(IndicatorRequest creationRequest) {
+        super(StochResult[]::new);
+        StochRequest request = (StochRequest) creationRequest;
+        IndicatorType movingAverageType = ofNullable(request.getMovingAverageType()).orElse(MODIFIED_MOVING_AVERAGE);
+        StochasticOscillator.checkIncomingData(request.getOriginalData(), movingAverageType, request.getFastStochPeriod(), request.getSlowStochPeriod());
+        this.minValues = SlidingWindowExtremum.min(request.getFastStochPeriod());
+        this.maxValues = SlidingWindowExtremum.max(request.getFastStochPeriod());
+        this.slowStochasticMovingAverage = MovingAverageKernelFactory.create(movingAverageType, request.getSlowStochPeriod());
+        append(request.getOriginalData());
+    }
+
+    private IncrementalStochasticOscillator(IncrementalStochasticOscillator source) {
+        super(source);
+        this.minValues = source.minValues.copy();
+        this.maxValues = source.maxValues.copy();
+        this.slowStochasticMovingAverage = source.slowStochasticMovingAverage.copy();
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return STOCHASTIC_OSCILLATOR;
+    }
+
+    @Override
+    protected StochResult next(Tick tick) {
+        BigDecimal fastStochastic = calculateFastStochasticOscillator(minValues.push(tick.getLow()), maxValues.push(tick.getHigh()), tick.getClose());
+        BigDecimal slowStochastic = isNull(fastStochastic) ? null : slowStochasticMovingAverage.next(fastStochastic);
+        return new StochResult(tick.getTickTime(), fastStochastic, slowStochastic);
+    }
+
+    @Override
+    protected IncrementalStochasticOscillator copy() {
+        return new IncrementalStochasticOscillator(this);
+    }
+
+    private BigDecimal calculateFastStochasticOscillator(BigDecimal minValue, BigDecimal maxValue, BigDecimal close) {
+        return nonNull(minValue) && nonNull(maxValue) && nonNull(close)
+                ? StochasticOscillator.calculateFastStochasticOscillatorValue(minValue, maxValue, close)
+                : null;
+    }
+
+}
@@ -1,6 +1,7 @@
 package pro.crypto.indicator.stoch;
 
 import pro.crypto.helper.FakeTicksCreator;
+import pro.crypto.helper.IndicatorParametersChecker;
 import pro.crypto.helper.IndicatorResultExtractor;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.MinMaxFinder;
@@ -70,11 +71,16 @@ public class StochasticOscillator implements Indicator<StochResult> {
     }
 
     private void checkIncomingData() {
-        checkOriginalData(originalData);
-        checkOriginalDataSize(originalData, fastStochPeriod + slowStochPeriod);
-        checkPeriod(fastStochPeriod);
-        checkPeriod(slowStochPeriod);
-        checkMovingAverageType(movingAverageType);
+        checkIncomingData(originalData, movingAverageType, fastStochPeriod, slowStochPeriod);
+    }
+
+    // shared with incremental indicator
+    static void checkIncomingData(Tick[] originalData, IndicatorType movingAverageType, int fastStochPeriod, int slowStochPeriod) {
+        IndicatorParametersChecker.checkOriginalData(STOCHASTIC_OSCILLATOR, originalData);
+        IndicatorParametersChecker.checkOriginalDataSize(STOCHASTIC_OSCILLATOR, originalData, fastStochPeriod + slowStochPeriod);
+        IndicatorParametersChecker.checkPeriod(STOCHASTIC_OSCILLATOR, fastStochPeriod);
+        IndicatorParametersChecker.checkPeriod(STOCHASTIC_OSCILLATOR, slowStochPeriod);
+        IndicatorParametersChecker.checkMovingAverageType(STOCHASTIC_OSCILLATOR, movingAverageType);
     }
 
     private BigDecimal[] calculateFastStochasticOscillator() {
@@ -96,7 +102,7 @@ public class StochasticOscillator implements Indicator<StochResult> {
     }
 
     // %K = 100 * (CLOSE - MINn)/(MAXn - MINn)
-    private BigDecimal calculateFastStochasticOscillatorValue(BigDecimal minValue, BigDecimal maxValue, BigDecimal close) {
+    static BigDecimal calculateFastStochasticOscillatorValue(BigDecimal minValue, BigDecimal maxValue, BigDecimal close) {
         return MathHelper.divide(close.subtract(minValue)
                 .multiply(new BigDecimal(100)), maxValue.subtract(minValue));
     }
@@ -3,13 +3,13 @@ package pro.crypto.indicator.uo;
 import pro.crypto.exception.WrongIncomingParametersException;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.TrueRangeCalculator;
+import pro.crypto.helper.WindowSumCalculator;
 import pro.crypto.model.Indicator;
 import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.Tick;
 import pro.crypto.request.IndicatorRequest;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.stream.IntStream;
 
 import static java.lang.String.format;
@@ -109,39 +109,25 @@ public class UltimateOscillator implements Indicator<UOResult> {
     }
 
     private void fillInRemainPosition(BigDecimal[] buyingPressureValues, BigDecimal[] trueRangeValues) {
+        BigDecimal[] shortQuotients = calculateQuotients(buyingPressureValues, trueRangeValues, shortPeriod);
+        BigDecimal[] middleQuotients = calculateQuotients(buyingPressureValues, trueRangeValues, middlePeriod);
+        BigDecimal[] longQuotients = calculateQuotients(buyingPressureValues, trueRangeValues, longPeriod);
         IntStream.range(longPeriod, originalData.length)
-                .forEach(idx -> result[idx] = calculateUltimateOscillator(buyingPressureValues, trueRangeValues, idx));
+                .forEach(idx -> result[idx] = calculateUltimateOscillator(shortQuotients[idx], middleQuotients[idx], longQuotients[idx], idx));
     }
 
-    private UOResult calculateUltimateOscillator(BigDecimal[] buyingPressureValues, BigDecimal[] trueRangeValues, int currentPeriod) {
-        BigDecimal shortQuotient = calculateShortQuotient(buyingPressureValues, trueRangeValues, currentPeriod);
-        BigDecimal middleQuotient = calculateMiddleQuotient(buyingPressureValues, trueRangeValues, currentPeriod);
-        BigDecimal longQuotient = calculateLongQuotient(buyingPressureValues, trueRangeValues, currentPeriod);
+    private UOResult calculateUltimateOscillator(BigDecimal shortQuotient, BigDecimal middleQuotient, BigDecimal longQuotient, int currentPeriod) {
         return isNull(shortQuotient) || isNull(middleQuotient) || isNull(longQuotient)
                 ? new UOResult(originalData[currentPeriod].getTickTime(), null)
                 : calculateUltimateOscillatorValue(shortQuotient, middleQuotient, longQuotient, currentPeriod);
     }
 
-    private BigDecimal calculateShortQuotient(BigDecimal[] buyingPressureValues, BigDecimal[] trueRangeValues, int currentPeriod) {
-        BigDecimal shortBuyingPressureSum = calculateValuesSum(buyingPressureValues, currentPeriod, shortPeriod);
-        BigDecimal shortTrueRangeSum = calculateValuesSum(trueRangeValues, currentPeriod, shortPeriod);
-        return MathHelper.divide(shortBuyingPressureSum, shortTrueRangeSum);
-    }
-
-    private BigDecimal calculateMiddleQuotient(BigDecimal[] buyingPressureValues, BigDecimal[] trueRangeValues, int currentPeriod) {
-        BigDecimal shortBuyingPressureSum = calculateValuesSum(buyingPressureValues, currentPeriod, middlePeriod);
-        BigDecimal shortTrueRangeSum = calculateValuesSum(trueRangeValues, currentPeriod, middlePeriod);
-        return MathHelper.divide(shortBuyingPressureSum, shortTrueRangeSum);
-    }
-
-    private BigDecimal calculateLongQuotient(BigDecimal[] buyingPressureValues, BigDecimal[] trueRangeValues, int currentPeriod) {
-        BigDecimal shortBuyingPressureSum = calculateValuesSum(buyingPressureValues, currentPeriod, longPeriod);
-        BigDecimal shortTrueRangeSum = calculateValuesSum(trueRangeValues, currentPeriod, longPeriod);
-        return MathHelper.divide(shortBuyingPressureSum, shortTrueRangeSum);
-    }
-
-    private BigDecimal calculateValuesSum(BigDecimal[] values, int currentIndex, int period) {
-        return MathHelper.sum(Arrays.copyOfRange(values, currentIndex - period + 1, currentIndex + 1));
+    private BigDecimal[] calculateQuotients(BigDecimal[] buyingPressureValues, BigDecimal[] trueRangeValues, int period) {
+        BigDecimal[] buyingPressureSums = WindowSumCalculator.calculate(buyingPressureValues, period);
+        BigDecimal[] trueRangeSums = WindowSumCalculator.calculate(trueRangeValues, period);
+        return IntStream.range(0, originalData.length)
+                .mapToObj(idx -> MathHelper.divide(buyingPressureSums[idx], trueRangeSums[idx]))
+                .toArray(BigDecimal[]::new);
     }
 
     private UOResult calculateUltimateOscillatorValue(BigDecimal shortQuotient, BigDecimal middleQuotient, BigDecimal longQuotient, int currentPeriod) {
@@ -3,13 +3,13 @@ package pro.crypto.indicator.vhf;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.helper.MinMaxFinder;
 import pro.crypto.helper.PriceVolumeExtractor;
+import pro.crypto.helper.WindowSumCalculator;
 import pro.crypto.model.Indicator;
 import pro.crypto.model.indicator.IndicatorType;
 import pro.crypto.model.tick.Tick;
 import pro.crypto.request.IndicatorRequest;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.stream.IntStream;
 
 import static java.util.Objects.isNull;
@@ -92,14 +92,7 @@ public class VerticalHorizontalFilter implements Indicator<VHFResult> {
     }
 
     private BigDecimal[] calculateCloseDifferencesSum(BigDecimal[] absoluteCloseDiffs) {
-        BigDecimal[] sum = new BigDecimal[originalData.length];
-        IntStream.range(period - 1, sum.length)
-                .forEach(idx -> sum[idx] = calculateCloseDifferencesSum(absoluteCloseDiffs, idx));
-        return sum;
-    }
-
-    private BigDecimal calculateCloseDifferencesSum(BigDecimal[] absoluteCloseDiffs, int currentIndex) {
-        return MathHelper.sum(Arrays.copyOfRange(absoluteCloseDiffs, currentIndex - period + 2, currentIndex + 1));
+        return WindowSumCalculator.calculate(absoluteCloseDiffs, period - 1);
     }
 
     private void buildVerticalHorizontalFilterResult(BigDecimal[] numerators, BigDecimal[] denominators) {
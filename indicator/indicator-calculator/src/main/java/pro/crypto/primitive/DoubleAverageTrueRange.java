@@ -0,0 +1,80 @@
+package pro.crypto.primitive;
+
+import pro.crypto.indicator.atr.ATRRequest;
+import pro.crypto.indicator.atr.ATRResult;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickFrame;
+import pro.crypto.request.IndicatorRequest;
+
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static pro.crypto.model.indicator.IndicatorType.AVERAGE_TRUE_RANGE;
+import static pro.crypto.model.indicator.IndicatorType.SIMPLE_MOVING_AVERAGE;
+import static pro.crypto.primitive.DoubleValueConverter.toBigDecimal;
+
+public class DoubleAverageTrueRange implements Indicator<ATRResult> {
+
+    private final Tick[] originalData;
+    private final TickFrame tickFrame;
+    private final int period;
+    private final IndicatorType movingAverageType;
+    private final int movingAveragePeriod;
+
+    private ATRResult[] result;
+
+    public DoubleAverageTrueRange(IndicatorRequest creationRequest) {
+        this(creationRequest, null);
+    }
+
+    public DoubleAverageTrueRange(IndicatorRequest creationRequest, TickFrame tickFrame) {
+        ATRRequest request = (ATRRequest) creationRequest;
+        this.originalData = request.getOriginalData();
+        this.period = request.getPeriod();
+        this.movingAverageType = isNull(request.getMovingAverageType()) ? SIMPLE_MOVING_AVERAGE : request.getMovingAverageType();
+        this.movingAveragePeriod = request.getMovingAveragePeriod() <= 0 ? request.getPeriod() : request.getMovingAveragePeriod();
+        checkIncomingData();
+        this.tickFrame = isNull(tickFrame) ? TickFrame.of(originalData) : tickFrame;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return AVERAGE_TRUE_RANGE;
+    }
+
+    @Override
+    public void calculate() {
+        double[] indicatorValues = calculateAverageTrueRange(tickFrame.getTrueRange());
+        double[] signalLineValues = DoubleMovingAverageCalculator.calculate(movingAverageType, indicatorValues, movingAveragePeriod);
+        buildResult(indicatorValues, signalLineValues);
+    }
+
+    @Override
+    public ATRResult[] getResult() {
+        if (isNull(result)) {
+            calculate();
+        }
+        return result;
+    }
+
+    private void checkIncomingData() {
+        checkOriginalData(originalData);
+        checkOriginalDataSize(originalData, period + movingAveragePeriod);
+        checkPeriod(period);
+        checkPeriod(movingAveragePeriod);
+    }
+
+    // ATRt = (ATRt-1 * (n - 1) + TRt) / n, started from average of the first n true range values
+    private double[] calculateAverageTrueRange(double[] trueRange) {
+        return DoubleMovingAverageCalculator.smoothed(trueRange, period);
+    }
+
+    private void buildResult(double[] indicatorValues, double[] signalLineValues) {
+        result = IntStream.range(0, tickFrame.size())
+                .mapToObj(idx -> new ATRResult(tickFrame.getTickTime(idx), toBigDecimal(indicatorValues[idx]), toBigDecimal(signalLineValues[idx])))
+                .toArray(ATRResult[]::new);
+    }
+
+}
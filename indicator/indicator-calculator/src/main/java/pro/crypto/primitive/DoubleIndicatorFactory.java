@@ -0,0 +1,79 @@
+package pro.crypto.primitive;
+
+import pro.crypto.exception.UnknownTypeException;
+import pro.crypto.indicator.atr.ATRRequest;
+import pro.crypto.indicator.macd.MACDRequest;
+import pro.crypto.indicator.rsi.RSIRequest;
+import pro.crypto.indicator.stdev.StDevRequest;
+import pro.crypto.indicator.stoch.StochRequest;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.TickFrame;
+import pro.crypto.request.IndicatorRequest;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static pro.crypto.model.indicator.IndicatorType.EXPONENTIAL_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.MODIFIED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.SIMPLE_MOVING_AVERAGE;
+
+/**
+ * Creates indicators which are calculated over primitive double columns.
+ * Only a subset of indicators has double precision implementation and a single {@link TickFrame} can be shared between them.
+ * Callers have to check {@link #isSupported(IndicatorType, IndicatorRequest)} and use BigDecimal indicators otherwise.
+ */
+public class DoubleIndicatorFactory {
+
+    public static boolean isSupported(IndicatorType indicatorType, IndicatorRequest request) {
+        if (isNull(indicatorType) || isNull(request)) {
+            return false;
+        }
+        if (DoubleMovingAverageCalculator.isSupported(indicatorType)) {
+            return true;
+        }
+        switch (indicatorType) {
+            case RELATIVE_STRENGTH_INDEX:
+                return isSupportedMovingAverage(((RSIRequest) request).getMovingAverageType(), null);
+            case MOVING_AVERAGE_CONVERGENCE_DIVERGENCE:
+                return isSupportedMovingAverage(((MACDRequest) request).getMovingAverageType(), EXPONENTIAL_MOVING_AVERAGE);
+            case STOCHASTIC_OSCILLATOR:
+                return isSupportedMovingAverage(((StochRequest) request).getMovingAverageType(), MODIFIED_MOVING_AVERAGE);
+            case AVERAGE_TRUE_RANGE:
+                return isSupportedMovingAverage(((ATRRequest) request).getMovingAverageType(), SIMPLE_MOVING_AVERAGE);
+            case STANDARD_DEVIATION:
+                return isSupportedMovingAverage(((StDevRequest) request).getMovingAverageType(), SIMPLE_MOVING_AVERAGE);
+            default:
+                return false;
+        }
+    }
+
+    public static Indicator create(IndicatorRequest request, IndicatorType indicatorType) {
+        return create(request, indicatorType, null);
+    }
+
+    public static Indicator create(IndicatorRequest request, IndicatorType indicatorType, TickFrame tickFrame) {
+        if (DoubleMovingAverageCalculator.isSupported(indicatorType)) {
+            return new DoubleMovingAverage(request, tickFrame);
+        }
+        switch (indicatorType) {
+            case RELATIVE_STRENGTH_INDEX:
+                return new DoubleRelativeStrengthIndex(request, tickFrame);
+            case MOVING_AVERAGE_CONVERGENCE_DIVERGENCE:
+                return new DoubleMovingAverageConvergenceDivergence(request, tickFrame);
+            case STOCHASTIC_OSCILLATOR:
+                return new DoubleStochasticOscillator(request, tickFrame);
+            case AVERAGE_TRUE_RANGE:
+                return new DoubleAverageTrueRange(request, tickFrame);
+            case STANDARD_DEVIATION:
+                return new DoubleStandardDeviation(request, tickFrame);
+            default:
+                throw new UnknownTypeException(format("Unsupported indicator type for double precision {type: {%s}}", indicatorType));
+        }
+    }
+
+    private static boolean isSupportedMovingAverage(IndicatorType movingAverageType, IndicatorType defaultType) {
+        IndicatorType type = isNull(movingAverageType) ? defaultType : movingAverageType;
+        return DoubleMovingAverageCalculator.isSupported(type);
+    }
+
+}
@@ -0,0 +1,77 @@
+package pro.crypto.primitive;
+
+import pro.crypto.indicator.ma.MARequest;
+import pro.crypto.indicator.ma.MAResult;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.PriceType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickFrame;
+import pro.crypto.request.IndicatorRequest;
+
+import java.util.stream.IntStream;
+
+import static java.lang.Double.NaN;
+import static java.util.Objects.isNull;
+import static pro.crypto.primitive.DoubleValueConverter.toBigDecimal;
+
+public class DoubleMovingAverage implements Indicator<MAResult> {
+
+    private final Tick[] originalData;
+    private final TickFrame tickFrame;
+    private final IndicatorType movingAverageType;
+    private final PriceType priceType;
+    private final int period;
+    private final double alphaCoefficient;
+
+    private MAResult[] result;
+
+    public DoubleMovingAverage(IndicatorRequest creationRequest) {
+        this(creationRequest, null);
+    }
+
+    public DoubleMovingAverage(IndicatorRequest creationRequest, TickFrame tickFrame) {
+        MARequest request = (MARequest) creationRequest;
+        this.originalData = request.getOriginalData();
+        this.movingAverageType = request.getIndicatorType();
+        this.priceType = request.getPriceType();
+        this.period = request.getPeriod();
+        this.alphaCoefficient = isNull(request.getAlphaCoefficient()) ? NaN : request.getAlphaCoefficient().doubleValue();
+        checkIncomingData();
+        this.tickFrame = isNull(tickFrame) ? TickFrame.of(originalData) : tickFrame;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return movingAverageType;
+    }
+
+    @Override
+    public void calculate() {
+        double[] prices = tickFrame.getPrices(priceType);
+        double[] values = DoubleMovingAverageCalculator.calculate(movingAverageType, prices, period, alphaCoefficient);
+        buildResult(values);
+    }
+
+    @Override
+    public MAResult[] getResult() {
+        if (isNull(result)) {
+            calculate();
+        }
+        return result;
+    }
+
+    private void checkIncomingData() {
+        checkOriginalData(originalData);
+        checkOriginalDataSize(originalData, period);
+        checkPriceType(priceType);
+        checkPeriod(period);
+    }
+
+    private void buildResult(double[] values) {
+        result = IntStream.range(0, values.length)
+                .mapToObj(idx -> new MAResult(tickFrame.getTickTime(idx), toBigDecimal(values[idx])))
+                .toArray(MAResult[]::new);
+    }
+
+}
@@ -0,0 +1,130 @@
+package pro.crypto.primitive;
+
+import pro.crypto.exception.UnknownTypeException;
+import pro.crypto.model.indicator.IndicatorType;
+
+import java.util.Arrays;
+
+import static java.lang.Double.NaN;
+import static java.lang.Double.isNaN;
+import static java.lang.String.format;
+import static pro.crypto.model.indicator.IndicatorType.EXPONENTIAL_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.MODIFIED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.SIMPLE_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.SMOOTHED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.WEIGHTED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.WELLES_WILDERS_MOVING_AVERAGE;
+
+/**
+ * Moving average kernels over primitive columns.
+ * Undefined values are represented with NaN. Leading NaN values are skipped
+ * and the average is aligned to the first defined value, the same way as BigDecimal
+ * indicators do it with fake ticks.
+ */
+public class DoubleMovingAverageCalculator {
+
+    public static boolean isSupported(IndicatorType movingAverageType) {
+        return movingAverageType == SIMPLE_MOVING_AVERAGE
+                || movingAverageType == EXPONENTIAL_MOVING_AVERAGE
+                || movingAverageType == SMOOTHED_MOVING_AVERAGE
+                || movingAverageType == MODIFIED_MOVING_AVERAGE
+                || movingAverageType == WEIGHTED_MOVING_AVERAGE
+                || movingAverageType == WELLES_WILDERS_MOVING_AVERAGE;
+    }
+
+    public static double[] calculate(IndicatorType movingAverageType, double[] values, int period) {
+        return calculate(movingAverageType, values, period, NaN);
+    }
+
+    public static double[] calculate(IndicatorType movingAverageType, double[] values, int period, double alphaCoefficient) {
+        switch (movingAverageType) {
+            case SIMPLE_MOVING_AVERAGE:
+                return simple(values, period);
+            case EXPONENTIAL_MOVING_AVERAGE:
+                return exponential(values, period, isNaN(alphaCoefficient) ? 2.0 / (period + 1) : alphaCoefficient);
+            case WELLES_WILDERS_MOVING_AVERAGE:
+                return exponential(values, period, 1.0 / period);
+            case SMOOTHED_MOVING_AVERAGE:
+            case MODIFIED_MOVING_AVERAGE:
+                return smoothed(values, period);
+            case WEIGHTED_MOVING_AVERAGE:
+                return weighted(values, period);
+            default:
+                throw new UnknownTypeException(format("Unsupported moving average type for double precision {type: {%s}}", movingAverageType));
+        }
+    }
+
+    public static double[] simple(double[] values, int period) {
+        double[] result = createResult(values.length);
+        DoubleRollingWindow window = new DoubleRollingWindow(period);
+        for (int idx = 0; idx < values.length; idx++) {
+            window.push(values[idx]);
+            if (window.isDefined()) {
+                result[idx] = window.getSum() / period;
+            }
+        }
+        return result;
+    }
+
+    // EMAt = α * Pt + (1 - α) * EMAt-1, started from SMA
+    public static double[] exponential(double[] values, int period, double alphaCoefficient) {
+        double[] result = createResult(values.length);
+        int seedIndex = seed(values, period, result);
+        for (int idx = seedIndex + 1; idx < values.length; idx++) {
+            result[idx] = alphaCoefficient * values[idx] + (1 - alphaCoefficient) * result[idx - 1];
+        }
+        return result;
+    }
+
+    // SMMAt = (SMMAt-1 * (n - 1) + Pt) / n, started from SMA
+    public static double[] smoothed(double[] values, int period) {
+        double[] result = createResult(values.length);
+        int seedIndex = seed(values, period, result);
+        for (int idx = seedIndex + 1; idx < values.length; idx++) {
+            result[idx] = (result[idx - 1] * (period - 1) + values[idx]) / period;
+        }
+        return result;
+    }
+
+    public static double[] weighted(double[] values, int period) {
+        double[] result = createResult(values.length);
+        DoubleRollingWindow window = new DoubleRollingWindow(period);
+        double weightsSum = period * (period + 1) / 2.0;
+        for (int idx = 0; idx < values.length; idx++) {
+            window.push(values[idx]);
+            if (window.isDefined()) {
+                result[idx] = window.getWeightedSum() / weightsSum;
+            }
+        }
+        return result;
+    }
+
+    static int findFirstDefinedIndex(double[] values) {
+        for (int idx = 0; idx < values.length; idx++) {
+            if (!isNaN(values[idx])) {
+                return idx;
+            }
+        }
+        return values.length;
+    }
+
+    static double[] createResult(int length) {
+        double[] result = new double[length];
+        Arrays.fill(result, NaN);
+        return result;
+    }
+
+    private static int seed(double[] values, int period, double[] result) {
+        int seedIndex = findFirstDefinedIndex(values) + period - 1;
+        if (seedIndex >= values.length) {
+            return values.length;
+        }
+        double sum = 0;
+        for (int idx = seedIndex - period + 1; idx <= seedIndex; idx++) {
+            sum += values[idx];
+        }
+        result[seedIndex] = sum / period;
+        return seedIndex;
+    }
+
+}
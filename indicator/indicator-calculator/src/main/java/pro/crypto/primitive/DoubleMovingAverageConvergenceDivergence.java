@@ -0,0 +1,96 @@
+package pro.crypto.primitive;
+
+import pro.crypto.indicator.macd.MACDRequest;
+import pro.crypto.indicator.macd.MACDResult;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.PriceType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickFrame;
+import pro.crypto.request.IndicatorRequest;
+
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static pro.crypto.model.indicator.IndicatorType.EXPONENTIAL_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.MOVING_AVERAGE_CONVERGENCE_DIVERGENCE;
+import static pro.crypto.primitive.DoubleValueConverter.toBigDecimal;
+
+public class DoubleMovingAverageConvergenceDivergence implements Indicator<MACDResult> {
+
+    private final Tick[] originalData;
+    private final TickFrame tickFrame;
+    private final IndicatorType movingAverageType;
+    private final PriceType priceType;
+    private final int slowPeriod;
+    private final int fastPeriod;
+    private final int signalPeriod;
+
+    private MACDResult[] result;
+
+    public DoubleMovingAverageConvergenceDivergence(IndicatorRequest creationRequest) {
+        this(creationRequest, null);
+    }
+
+    public DoubleMovingAverageConvergenceDivergence(IndicatorRequest creationRequest, TickFrame tickFrame) {
+        MACDRequest request = (MACDRequest) creationRequest;
+        this.originalData = request.getOriginalData();
+        this.movingAverageType = isNull(request.getMovingAverageType()) ? EXPONENTIAL_MOVING_AVERAGE : request.getMovingAverageType();
+        this.priceType = request.getPriceType();
+        this.slowPeriod = request.getSlowPeriod();
+        this.fastPeriod = request.getFastPeriod();
+        this.signalPeriod = request.getSignalPeriod();
+        checkIncomingData();
+        this.tickFrame = isNull(tickFrame) ? TickFrame.of(originalData) : tickFrame;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return MOVING_AVERAGE_CONVERGENCE_DIVERGENCE;
+    }
+
+    @Override
+    public void calculate() {
+        double[] prices = tickFrame.getPrices(priceType);
+        double[] fastValues = DoubleMovingAverageCalculator.calculate(movingAverageType, prices, fastPeriod);
+        double[] slowValues = DoubleMovingAverageCalculator.calculate(movingAverageType, prices, slowPeriod);
+        double[] indicatorValues = subtract(fastValues, slowValues);
+        double[] signalLineValues = DoubleMovingAverageCalculator.calculate(EXPONENTIAL_MOVING_AVERAGE, indicatorValues, signalPeriod);
+        double[] barChartValues = subtract(indicatorValues, signalLineValues);
+        buildResult(indicatorValues, signalLineValues, barChartValues);
+    }
+
+    @Override
+    public MACDResult[] getResult() {
+        if (isNull(result)) {
+            calculate();
+        }
+        return result;
+    }
+
+    private void checkIncomingData() {
+        checkOriginalData(originalData);
+        checkOriginalDataSize(originalData, slowPeriod + signalPeriod);
+        checkPriceType(priceType);
+        checkPeriod(slowPeriod);
+        checkPeriod(fastPeriod);
+        checkPeriod(signalPeriod);
+        checkMovingAverageType(movingAverageType);
+    }
+
+    private double[] subtract(double[] minuends, double[] subtrahends) {
+        double[] differences = new double[minuends.length];
+        for (int idx = 0; idx < differences.length; idx++) {
+            differences[idx] = minuends[idx] - subtrahends[idx];
+        }
+        return differences;
+    }
+
+    private void buildResult(double[] indicatorValues, double[] signalLineValues, double[] barChartValues) {
+        result = IntStream.range(0, tickFrame.size())
+                .mapToObj(idx -> new MACDResult(tickFrame.getTickTime(idx), toBigDecimal(indicatorValues[idx]),
+                        toBigDecimal(signalLineValues[idx]), toBigDecimal(barChartValues[idx])))
+                .toArray(MACDResult[]::new);
+    }
+
+}
@@ -0,0 +1,100 @@
+package pro.crypto.primitive;
+
+import pro.crypto.indicator.rsi.RSIRequest;
+import pro.crypto.indicator.rsi.RSIResult;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickFrame;
+import pro.crypto.request.IndicatorRequest;
+
+import java.util.stream.IntStream;
+
+import static java.lang.Double.NaN;
+import static java.lang.Double.isNaN;
+import static java.util.Objects.isNull;
+import static pro.crypto.model.indicator.IndicatorType.RELATIVE_STRENGTH_INDEX;
+import static pro.crypto.model.tick.PriceType.CLOSE;
+import static pro.crypto.primitive.DoubleValueConverter.toBigDecimal;
+
+public class DoubleRelativeStrengthIndex implements Indicator<RSIResult> {
+
+    private final Tick[] originalData;
+    private final TickFrame tickFrame;
+    private final IndicatorType movingAverageType;
+    private final int period;
+
+    private RSIResult[] result;
+
+    public DoubleRelativeStrengthIndex(IndicatorRequest creationRequest) {
+        this(creationRequest, null);
+    }
+
+    public DoubleRelativeStrengthIndex(IndicatorRequest creationRequest, TickFrame tickFrame) {
+        RSIRequest request = (RSIRequest) creationRequest;
+        this.originalData = request.getOriginalData();
+        this.movingAverageType = request.getMovingAverageType();
+        this.period = request.getPeriod();
+        checkIncomingData();
+        this.tickFrame = isNull(tickFrame) ? TickFrame.of(originalData) : tickFrame;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return RELATIVE_STRENGTH_INDEX;
+    }
+
+    @Override
+    public void calculate() {
+        double[] closes = tickFrame.getPrices(CLOSE);
+        double[] gains = new double[closes.length];
+        double[] losses = new double[closes.length];
+        calculatePriceDifferences(closes, gains, losses);
+        double[] averageGains = DoubleMovingAverageCalculator.calculate(movingAverageType, gains, period);
+        double[] averageLosses = DoubleMovingAverageCalculator.calculate(movingAverageType, losses, period);
+        buildResult(averageGains, averageLosses);
+    }
+
+    @Override
+    public RSIResult[] getResult() {
+        if (isNull(result)) {
+            calculate();
+        }
+        return result;
+    }
+
+    private void checkIncomingData() {
+        checkOriginalData(originalData);
+        checkOriginalDataSize(originalData, period);
+        checkPeriod(period);
+        checkMovingAverageType(movingAverageType);
+    }
+
+    private void calculatePriceDifferences(double[] closes, double[] gains, double[] losses) {
+        for (int idx = 1; idx < closes.length; idx++) {
+            double difference = closes[idx] - closes[idx - 1];
+            gains[idx] = difference > 0 ? difference : 0;
+            losses[idx] = difference > 0 ? 0 : -difference;
+        }
+    }
+
+    private void buildResult(double[] averageGains, double[] averageLosses) {
+        result = IntStream.range(0, tickFrame.size())
+                .mapToObj(idx -> new RSIResult(tickFrame.getTickTime(idx), toBigDecimal(calculateRelativeStrengthIndex(averageGains[idx], averageLosses[idx]))))
+                .toArray(RSIResult[]::new);
+    }
+
+    //RSI = 100 - (100 / (RS + 1))
+    //RS = MA(positive) / MA(negative)
+    private double calculateRelativeStrengthIndex(double averageGain, double averageLoss) {
+        if (isNaN(averageGain) || isNaN(averageLoss)) {
+            return NaN;
+        }
+        if (averageLoss == 0) {
+            return 100;
+        }
+        double rsiValue = 100 - 100 / (1 + averageGain / averageLoss);
+        return Math.min(Math.max(rsiValue, 0), 100);
+    }
+
+}
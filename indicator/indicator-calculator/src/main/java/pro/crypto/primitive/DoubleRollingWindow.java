@@ -0,0 +1,95 @@
+package pro.crypto.primitive;
+
+import pro.crypto.exception.WrongIncomingParametersException;
+
+import static java.lang.Double.NaN;
+import static java.lang.Double.isNaN;
+import static java.lang.String.format;
+
+/**
+ * Sum, linear weighted sum and sum of squares of the last {@code period} values, updated one value at a time.
+ * Floating point updates accumulate rounding errors, so all sums are recalculated from the window
+ * every {@link #RESUMMATION_INTERVAL} updates.
+ * Sums are undefined (NaN) until the window is full or while it contains NaN value.
+ */
+public class DoubleRollingWindow {
+
+    static final int RESUMMATION_INTERVAL = 1024;
+
+    private final int period;
+    private final double[] values;
+
+    private long position;
+    private long lastNaNPosition = -1;
+    private int updatesSinceResummation;
+
+    private double sum;
+    private double weightedSum;
+    private double sumOfSquares;
+
+    public DoubleRollingWindow(int period) {
+        if (period < 1) {
+            throw new WrongIncomingParametersException(format("Window period should be more than zero {period: {%d}}", period));
+        }
+        this.period = period;
+        this.values = new double[period];
+    }
+
+    public void push(double value) {
+        int slot = (int) (position % period);
+        double removed = values[slot];
+        values[slot] = isNaN(value) ? 0 : value;
+        if (isNaN(value)) {
+            lastNaNPosition = position;
+        }
+        position++;
+        if (++updatesSinceResummation >= RESUMMATION_INTERVAL) {
+            resum();
+        } else {
+            update(values[slot], removed);
+        }
+    }
+
+    public boolean isDefined() {
+        return position >= period && lastNaNPosition < position - period;
+    }
+
+    public double getSum() {
+        return isDefined() ? sum : NaN;
+    }
+
+    // ∑(i * x), where i is from 1 (the oldest value) to period (the newest one)
+    public double getWeightedSum() {
+        return isDefined() ? weightedSum : NaN;
+    }
+
+    public double getSumOfSquares() {
+        return isDefined() ? sumOfSquares : NaN;
+    }
+
+    // ∑(x - m)^2 = ∑x^2 - 2 * m * ∑x + n * m^2
+    public double getSumOfSquaredDeviations(double mean) {
+        return isDefined() ? Math.max(sumOfSquares - 2 * mean * sum + period * mean * mean, 0) : NaN;
+    }
+
+    private void update(double added, double removed) {
+        weightedSum += period * added - sum;
+        sum += added - removed;
+        sumOfSquares += added * added - removed * removed;
+    }
+
+    private void resum() {
+        updatesSinceResummation = 0;
+        sum = 0;
+        weightedSum = 0;
+        sumOfSquares = 0;
+        int filled = (int) Math.min(position, period);
+        for (int weight = period - filled + 1; weight <= period; weight++) {
+            double value = values[(int) ((position - period - 1 + weight) % period)];
+            sum += value;
+            weightedSum += weight * value;
+            sumOfSquares += value * value;
+        }
+    }
+
+}
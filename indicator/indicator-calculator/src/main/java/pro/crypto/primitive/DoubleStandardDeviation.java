@@ -0,0 +1,93 @@
+package pro.crypto.primitive;
+
+import pro.crypto.indicator.stdev.StDevRequest;
+import pro.crypto.indicator.stdev.StDevResult;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.PriceType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickFrame;
+import pro.crypto.request.IndicatorRequest;
+
+import java.util.stream.IntStream;
+
+import static java.lang.Double.isNaN;
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+import static pro.crypto.model.indicator.IndicatorType.SIMPLE_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.STANDARD_DEVIATION;
+import static pro.crypto.primitive.DoubleValueConverter.toBigDecimal;
+
+public class DoubleStandardDeviation implements Indicator<StDevResult> {
+
+    private final Tick[] originalData;
+    private final TickFrame tickFrame;
+    private final PriceType priceType;
+    private final IndicatorType movingAverageType;
+    private final int period;
+
+    private StDevResult[] result;
+
+    public DoubleStandardDeviation(IndicatorRequest creationRequest) {
+        this(creationRequest, null);
+    }
+
+    public DoubleStandardDeviation(IndicatorRequest creationRequest, TickFrame tickFrame) {
+        StDevRequest request = (StDevRequest) creationRequest;
+        this.originalData = request.getOriginalData();
+        this.priceType = request.getPriceType();
+        this.movingAverageType = ofNullable(request.getMovingAverageType()).orElse(SIMPLE_MOVING_AVERAGE);
+        this.period = request.getPeriod();
+        checkIncomingData();
+        this.tickFrame = isNull(tickFrame) ? TickFrame.of(originalData) : tickFrame;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return STANDARD_DEVIATION;
+    }
+
+    @Override
+    public void calculate() {
+        double[] prices = tickFrame.getPrices(priceType);
+        double[] averagePrices = DoubleMovingAverageCalculator.calculate(movingAverageType, prices, period);
+        buildResult(calculateStandardDeviation(prices, averagePrices));
+    }
+
+    @Override
+    public StDevResult[] getResult() {
+        if (isNull(result)) {
+            calculate();
+        }
+        return result;
+    }
+
+    private void checkIncomingData() {
+        checkOriginalData(originalData);
+        checkOriginalDataSize(originalData, period);
+        checkPeriod(period);
+        checkPriceType(priceType);
+        checkMovingAverageType(movingAverageType);
+    }
+
+    // sqrt(Σ (x - MAResult)^2 / n)
+    private double[] calculateStandardDeviation(double[] prices, double[] averagePrices) {
+        double[] standardDeviation = DoubleMovingAverageCalculator.createResult(prices.length);
+        int divisor = period >= 30 ? period - 1 : period;
+        DoubleRollingWindow window = new DoubleRollingWindow(period);
+        for (int idx = 0; idx < prices.length; idx++) {
+            window.push(prices[idx]);
+            if (!isNaN(averagePrices[idx])) {
+                standardDeviation[idx] = Math.sqrt(window.getSumOfSquaredDeviations(averagePrices[idx]) / divisor);
+            }
+        }
+        return standardDeviation;
+    }
+
+    private void buildResult(double[] values) {
+        result = IntStream.range(0, tickFrame.size())
+                .mapToObj(idx -> new StDevResult(tickFrame.getTickTime(idx), toBigDecimal(values[idx])))
+                .toArray(StDevResult[]::new);
+    }
+
+}
@@ -0,0 +1,99 @@
+package pro.crypto.primitive;
+
+import pro.crypto.indicator.stoch.StochRequest;
+import pro.crypto.indicator.stoch.StochResult;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickFrame;
+import pro.crypto.request.IndicatorRequest;
+
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static java.util.Optional.ofNullable;
+import static pro.crypto.model.indicator.IndicatorType.MODIFIED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.STOCHASTIC_OSCILLATOR;
+import static pro.crypto.model.tick.PriceType.CLOSE;
+import static pro.crypto.model.tick.PriceType.HIGH;
+import static pro.crypto.model.tick.PriceType.LOW;
+import static pro.crypto.primitive.DoubleValueConverter.toBigDecimal;
+
+public class DoubleStochasticOscillator implements Indicator<StochResult> {
+
+    private final Tick[] originalData;
+    private final TickFrame tickFrame;
+    private final IndicatorType movingAverageType;
+    private final int fastStochPeriod;
+    private final int slowStochPeriod;
+
+    private StochResult[] result;
+
+    public DoubleStochasticOscillator(IndicatorRequest creationRequest) {
+        this(creationRequest, null);
+    }
+
+    public DoubleStochasticOscillator(IndicatorRequest creationRequest, TickFrame tickFrame) {
+        StochRequest request = (StochRequest) creationRequest;
+        this.originalData = request.getOriginalData();
+        this.movingAverageType = ofNullable(request.getMovingAverageType()).orElse(MODIFIED_MOVING_AVERAGE);
+        this.fastStochPeriod = request.getFastStochPeriod();
+        this.slowStochPeriod = request.getSlowStochPeriod();
+        checkIncomingData();
+        this.tickFrame = isNull(tickFrame) ? TickFrame.of(originalData) : tickFrame;
+    }
+
+    @Override
+    public IndicatorType getType() {
+        return STOCHASTIC_OSCILLATOR;
+    }
+
+    @Override
+    public void calculate() {
+        double[] fastStochastic = calculateFastStochasticOscillator();
+        double[] slowStochastic = DoubleMovingAverageCalculator.calculate(movingAverageType, fastStochastic, slowStochPeriod);
+        buildResult(fastStochastic, slowStochastic);
+    }
+
+    @Override
+    public StochResult[] getResult() {
+        if (isNull(result)) {
+            calculate();
+        }
+        return result;
+    }
+
+    private void checkIncomingData() {
+        checkOriginalData(originalData);
+        checkOriginalDataSize(originalData, fastStochPeriod + slowStochPeriod);
+        checkPeriod(fastStochPeriod);
+        checkPeriod(slowStochPeriod);
+        checkMovingAverageType(movingAverageType);
+    }
+
+    // %K = 100 * (CLOSE - MINn)/(MAXn - MINn)
+    private double[] calculateFastStochasticOscillator() {
+        double[] lows = tickFrame.getPrices(LOW);
+        double[] highs = tickFrame.getPrices(HIGH);
+        double[] closes = tickFrame.getPrices(CLOSE);
+        double[] fastStochastic = DoubleMovingAverageCalculator.createResult(tickFrame.size());
+        for (int idx = fastStochPeriod - 1; idx < tickFrame.size(); idx++) {
+            double minValue = lows[idx];
+            double maxValue = highs[idx];
+            for (int windowIdx = idx - fastStochPeriod + 1; windowIdx < idx; windowIdx++) {
+                minValue = Math.min(minValue, lows[windowIdx]);
+                maxValue = Math.max(maxValue, highs[windowIdx]);
+            }
+            // the same as MathHelper.divide does for zero divisor
+            fastStochastic[idx] = maxValue == minValue ? 0 : (closes[idx] - minValue) * 100 / (maxValue - minValue);
+        }
+        return fastStochastic;
+    }
+
+    private void buildResult(double[] fastStochastic, double[] slowStochastic) {
+        result = IntStream.range(0, tickFrame.size())
+                .mapToObj(idx -> new StochResult(tickFrame.getTickTime(idx), toBigDecimal(fastStochastic[idx]), toBigDecimal(slowStochastic[idx])))
+                .toArray(StochResult[]::new);
+    }
+
+}
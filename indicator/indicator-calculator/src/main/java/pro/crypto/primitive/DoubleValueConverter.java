@@ -0,0 +1,17 @@
+package pro.crypto.primitive;
+
+import pro.crypto.helper.MathHelper;
+
+import java.math.BigDecimal;
+
+import static java.lang.Double.isNaN;
+
+public class DoubleValueConverter {
+
+    public static BigDecimal toBigDecimal(double value) {
+        return isNaN(value) || Double.isInfinite(value)
+                ? null
+                : MathHelper.scaleAndRound(new BigDecimal(value));
+    }
+
+}
@@ -0,0 +1,101 @@
+package pro.crypto.helper;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class BigDecimalMathTest {
+
+    private final BigDecimalMath math = BigDecimalMath.DEFAULT;
+
+    @Test
+    public void sameAsStreamCalculationTest() {
+        Random random = new Random(17);
+        for (int idx = 0; idx < 1000; idx++) {
+            BigDecimal first = generateValue(random);
+            BigDecimal second = generateValue(random);
+            BigDecimal third = generateValue(random);
+            BigDecimal fourth = generateValue(random);
+            BigDecimal[] values = {first, second, third, fourth};
+            assertEquals(streamMin(first, second), math.min(first, second));
+            assertEquals(streamMin(first, second, third), math.min(first, second, third));
+            assertEquals(streamMin(values), math.min(values));
+            assertEquals(streamMax(first, second), math.max(first, second));
+            assertEquals(streamMax(first, second, third), math.max(first, second, third));
+            assertEquals(streamMax(values), math.max(values));
+            assertEquals(streamSum(first, second), math.sum(first, second));
+            assertEquals(streamSum(first, second, third), math.sum(first, second, third));
+            assertEquals(streamSum(values), math.sum(values));
+            assertEquals(streamAverage(first, second), math.average(first, second));
+            assertEquals(streamAverage(first, second, third), math.average(first, second, third));
+            assertEquals(streamAverage(values), math.average(first, second, third, fourth));
+            assertEquals(streamAverage(values), math.average(values));
+        }
+    }
+
+    @Test
+    public void emptyValuesTest() {
+        assertNull(math.min(new BigDecimal[0]));
+        assertNull(math.max(new BigDecimal[0]));
+        assertEquals(streamSum(), math.sum(new BigDecimal[0]));
+        assertEquals(BigDecimal.ZERO, math.average(new BigDecimal[0]));
+    }
+
+    @Test
+    public void lnTest() {
+        assertEquals(BigDecimal.ZERO, math.ln(BigDecimal.ONE));
+        assertNull(math.ln(null));
+        Random random = new Random(17);
+        for (int idx = 0; idx < 1000; idx++) {
+            BigDecimal value = generateValue(random);
+            double expected = Math.log(value.doubleValue());
+            BigDecimal actual = math.ln(value);
+            assertTrue(actual.precision() <= 15);
+            assertEquals(expected, actual.doubleValue(), Math.abs(expected) * 1e-14 + 1e-15);
+        }
+        assertEquals(new BigDecimal("0.0000999950003333083"), math.ln(new BigDecimal("1.0001")));
+        assertEquals(new BigDecimal("2302.58509299405"), math.ln(BigDecimal.TEN.pow(1000)));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void lnOfNotPositiveTest() {
+        math.ln(BigDecimal.ZERO);
+    }
+
+    @Test
+    public void customPolicyTest() {
+        BigDecimalMath customMath = new BigDecimalMath(new RoundingPolicy(2, 4, 5, RoundingMode.DOWN));
+        assertEquals(new BigDecimal("1.6650"), customMath.average(BigDecimal.ONE, new BigDecimal("2.333")));
+        assertEquals(new BigDecimal("0.3333"), customMath.divide(BigDecimal.ONE, new BigDecimal(3)));
+        assertEquals(new BigDecimal("0.69314"), customMath.ln(new BigDecimal(2)));
+    }
+
+    private BigDecimal generateValue(Random random) {
+        return BigDecimal.valueOf(random.nextDouble() * 10000).setScale(random.nextInt(12), RoundingMode.HALF_UP)
+                .add(new BigDecimal("0.0001"));
+    }
+
+    private BigDecimal streamMin(BigDecimal... values) {
+        return MathHelper.scaleAndRound(Stream.of(values).min(BigDecimal::compareTo).orElse(null));
+    }
+
+    private BigDecimal streamMax(BigDecimal... values) {
+        return MathHelper.scaleAndRound(Stream.of(values).max(BigDecimal::compareTo).orElse(null));
+    }
+
+    private BigDecimal streamSum(BigDecimal... values) {
+        return MathHelper.scaleAndRound(Stream.of(values).reduce(BigDecimal.ZERO, BigDecimal::add));
+    }
+
+    private BigDecimal streamAverage(BigDecimal... values) {
+        return MathHelper.divide(streamSum(values), new BigDecimal(values.length));
+    }
+
+}
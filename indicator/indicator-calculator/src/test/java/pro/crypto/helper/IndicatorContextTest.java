@@ -0,0 +1,102 @@
+package pro.crypto.helper;
+
+import org.junit.Test;
+import pro.crypto.indicator.ac.ACRequest;
+import pro.crypto.indicator.ac.ACResult;
+import pro.crypto.indicator.ac.AccelerationDecelerationOscillator;
+import pro.crypto.indicator.ao.AORequest;
+import pro.crypto.indicator.ao.AOResult;
+import pro.crypto.indicator.ao.AwesomeOscillator;
+import pro.crypto.indicator.ma.MARequest;
+import pro.crypto.indicator.ma.MAResult;
+import pro.crypto.indicator.ma.MovingAverageFactory;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+import pro.crypto.tick.generator.OneDayTickGenerator;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static pro.crypto.model.indicator.IndicatorType.SIMPLE_MOVING_AVERAGE;
+import static pro.crypto.model.tick.PriceType.CLOSE;
+
+public class IndicatorContextTest {
+
+    private final Tick[] originalData = new OneDayTickGenerator().generate();
+
+    @Test
+    public void sharedNodeTest() {
+        ACResult[] expectedACResult = new AccelerationDecelerationOscillator(buildACRequest(originalData)).getResult();
+        AOResult[] expectedAOResult = new AwesomeOscillator(buildAORequest(originalData)).getResult();
+        try (IndicatorContext context = IndicatorContext.open()) {
+            ACResult[] acResult = IndicatorContext.getResult(buildACRequest(originalData), AccelerationDecelerationOscillator::new);
+            AOResult[] aoResult = IndicatorContext.getResult(buildAORequest(originalData), AwesomeOscillator::new);
+            assertArrayEquals(expectedACResult, acResult);
+            assertArrayEquals(expectedAOResult, aoResult);
+            assertEquals(1, context.getStatistics().get("AWESOME_OSCILLATOR").getHits());
+            assertEquals(1, context.getStatistics().get("AWESOME_OSCILLATOR").getMisses());
+            assertEquals(1, context.getHits());
+        }
+    }
+
+    @Test
+    public void differentParametersAndInputTest() {
+        try (IndicatorContext context = IndicatorContext.open()) {
+            MAResult[] result = IndicatorContext.getResult(buildMARequest(originalData, 5), MovingAverageFactory::create);
+            assertSame(result, IndicatorContext.getResult(buildMARequest(originalData, 5), MovingAverageFactory::create));
+            assertNotSame(result, IndicatorContext.getResult(buildMARequest(originalData, 6), MovingAverageFactory::create));
+            assertNotSame(result, IndicatorContext.getResult(buildMARequest(Arrays.copyOf(originalData, originalData.length), 5), MovingAverageFactory::create));
+            assertEquals(1, context.getHits());
+            assertEquals(3, context.getMisses());
+        }
+    }
+
+    @Test
+    public void withoutContextTest() {
+        MAResult[] result = IndicatorContext.getResult(buildMARequest(originalData, 5), MovingAverageFactory::create);
+        assertNotSame(result, IndicatorContext.getResult(buildMARequest(originalData, 5), MovingAverageFactory::create));
+    }
+
+    @Test
+    public void nestedContextTest() {
+        try (IndicatorContext outerContext = IndicatorContext.open()) {
+            IndicatorContext.getResult(buildMARequest(originalData, 5), MovingAverageFactory::create);
+            try (IndicatorContext innerContext = IndicatorContext.open()) {
+                IndicatorContext.getResult(buildMARequest(originalData, 5), MovingAverageFactory::create);
+                assertEquals(1, innerContext.getMisses());
+            }
+            IndicatorContext.getResult(buildMARequest(originalData, 5), MovingAverageFactory::create);
+            assertEquals(1, outerContext.getHits());
+        }
+    }
+
+    private IndicatorRequest buildACRequest(Tick[] originalData) {
+        return ACRequest.builder()
+                .originalData(originalData)
+                .slowPeriod(34)
+                .fastPeriod(5)
+                .smoothedPeriod(5)
+                .build();
+    }
+
+    private IndicatorRequest buildAORequest(Tick[] originalData) {
+        return AORequest.builder()
+                .originalData(originalData)
+                .slowPeriod(34)
+                .fastPeriod(5)
+                .build();
+    }
+
+    private IndicatorRequest buildMARequest(Tick[] originalData, int period) {
+        return MARequest.builder()
+                .originalData(originalData)
+                .indicatorType(SIMPLE_MOVING_AVERAGE)
+                .priceType(CLOSE)
+                .period(period)
+                .build();
+    }
+
+}
@@ -0,0 +1,115 @@
+package pro.crypto.helper;
+
+import org.junit.Test;
+import pro.crypto.indicator.ma.MARequest;
+import pro.crypto.indicator.ma.MAResult;
+import pro.crypto.indicator.ma.MovingAverageFactory;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+import pro.crypto.tick.generator.OneDayTickGenerator;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.model.indicator.IndicatorType.SIMPLE_MOVING_AVERAGE;
+import static pro.crypto.model.tick.PriceType.CLOSE;
+import static pro.crypto.model.tick.TimeFrame.ONE_HOUR;
+
+public class IndicatorResultCacheTest {
+
+    private final Tick[] originalData = new OneDayTickGenerator().generate();
+
+    @Test
+    public void sharedBetweenContextsTest() {
+        IndicatorResultCache cache = new IndicatorResultCache();
+        MAResult[] expectedResult = MovingAverageFactory.create(buildMARequest(originalData)).getResult();
+        MAResult[] firstResult = calculateInContext(cache, originalData);
+        Tick[] sameData = Arrays.copyOf(originalData, originalData.length);
+        try (IndicatorContext context = IndicatorContext.open(cache, cache.getScope(1L, ONE_HOUR, sameData), sameData)) {
+            assertSame(firstResult, IndicatorContext.getResult(buildMARequest(sameData), MovingAverageFactory::create));
+            assertEquals(1, context.getSharedHits());
+        }
+        assertArrayEquals(expectedResult, firstResult);
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(1, cache.getStats().missCount());
+    }
+
+    @Test
+    public void invalidationOnNewBarTest() {
+        IndicatorResultCache cache = new IndicatorResultCache();
+        calculateInContext(cache, Arrays.copyOf(originalData, originalData.length - 1));
+        assertEquals(1, cache.size());
+        calculateInContext(cache, originalData);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getInvalidationCount());
+        cache.invalidate(1L, ONE_HOUR);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidationOnFormingBarUpdateTest() {
+        IndicatorResultCache cache = new IndicatorResultCache();
+        MAResult[] firstResult = calculateInContext(cache, originalData);
+        Tick[] updatedData = Arrays.copyOf(originalData, originalData.length);
+        Tick lastTick = originalData[originalData.length - 1];
+        updatedData[updatedData.length - 1] = Tick.builder()
+                .open(lastTick.getOpen())
+                .high(lastTick.getHigh().add(BigDecimal.TEN))
+                .low(lastTick.getLow())
+                .close(lastTick.getHigh().add(BigDecimal.TEN))
+                .volume(lastTick.getVolume())
+                .baseVolume(lastTick.getBaseVolume())
+                .tickTime(lastTick.getTickTime())
+                .build();
+        MAResult[] updatedResult = calculateInContext(cache, updatedData);
+        assertArrayEquals(MovingAverageFactory.create(buildMARequest(updatedData)).getResult(), updatedResult);
+        assertNotEquals(firstResult[firstResult.length - 1], updatedResult[updatedResult.length - 1]);
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.getInvalidationCount());
+        assertEquals(2, cache.getStats().missCount());
+    }
+
+    @Test
+    public void weightEvictionTest() {
+        IndicatorResultCache cache = new IndicatorResultCache(10 * originalData.length);
+        IndicatorResultCache.Scope scope = cache.getScope(1L, ONE_HOUR, originalData);
+        AtomicInteger calculations = new AtomicInteger();
+        for (int period = 1; period <= 100; period++) {
+            cache.get(scope, "NODE", new Object[]{period}, () -> {
+                calculations.incrementAndGet();
+                return new MAResult[originalData.length];
+            });
+        }
+        assertEquals(100, calculations.get());
+        assertTrue(cache.size() <= 10);
+        assertEquals(100 - cache.size(), cache.getStats().evictionCount());
+    }
+
+    @Test
+    public void emptyDataTest() {
+        assertNull(new IndicatorResultCache().getScope(1L, ONE_HOUR, new Tick[0]));
+    }
+
+    private MAResult[] calculateInContext(IndicatorResultCache cache, Tick[] ticks) {
+        try (IndicatorContext context = IndicatorContext.open(cache, cache.getScope(1L, ONE_HOUR, ticks), ticks)) {
+            return IndicatorContext.getResult(buildMARequest(ticks), MovingAverageFactory::create);
+        }
+    }
+
+    private IndicatorRequest buildMARequest(Tick[] originalData) {
+        return MARequest.builder()
+                .originalData(originalData)
+                .indicatorType(SIMPLE_MOVING_AVERAGE)
+                .priceType(CLOSE)
+                .period(5)
+                .build();
+    }
+
+}
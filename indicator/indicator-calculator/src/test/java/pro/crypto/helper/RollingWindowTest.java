@@ -0,0 +1,93 @@
+package pro.crypto.helper;
+
+import org.junit.Test;
+import pro.crypto.exception.WrongIncomingParametersException;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RollingWindowTest {
+
+    private static final int PERIOD = 14;
+
+    @Test
+    public void sameAsFullWindowSumsTest() {
+        BigDecimal[] data = generateData(300);
+        RollingSum rollingSum = new RollingSum(PERIOD);
+        RollingWeightedSum rollingWeightedSum = new RollingWeightedSum(PERIOD);
+        RollingSumOfSquares rollingSumOfSquares = new RollingSumOfSquares(PERIOD);
+        BigDecimal mean = new BigDecimal("12.3456789");
+        for (int idx = 0; idx < data.length; idx++) {
+            rollingSum.push(data[idx]);
+            rollingWeightedSum.push(data[idx]);
+            rollingSumOfSquares.push(data[idx]);
+            if (idx < PERIOD - 1) {
+                assertNull(rollingSum.getSum());
+                assertNull(rollingWeightedSum.getWeightedSum());
+                assertNull(rollingSumOfSquares.getSumOfSquares());
+                continue;
+            }
+            BigDecimal sum = BigDecimal.ZERO;
+            BigDecimal weightedSum = BigDecimal.ZERO;
+            BigDecimal sumOfSquares = BigDecimal.ZERO;
+            BigDecimal sumOfSquaredDeviations = BigDecimal.ZERO;
+            for (int weight = 1; weight <= PERIOD; weight++) {
+                BigDecimal value = data[idx - PERIOD + weight];
+                sum = sum.add(value);
+                weightedSum = weightedSum.add(value.multiply(new BigDecimal(weight)));
+                sumOfSquares = sumOfSquares.add(value.pow(2));
+                sumOfSquaredDeviations = sumOfSquaredDeviations.add(value.subtract(mean).pow(2));
+            }
+            assertEquals(0, sum.compareTo(rollingSum.getSum()));
+            assertEquals(0, sum.compareTo(rollingWeightedSum.getSum()));
+            assertEquals(0, weightedSum.compareTo(rollingWeightedSum.getWeightedSum()));
+            assertEquals(0, sumOfSquares.compareTo(rollingSumOfSquares.getSumOfSquares()));
+            assertEquals(0, sumOfSquaredDeviations.compareTo(rollingSumOfSquares.getSumOfSquaredDeviations(mean)));
+        }
+    }
+
+    @Test
+    public void windowWithNullValueTest() {
+        RollingSum rollingSum = new RollingSum(2);
+        rollingSum.push(BigDecimal.ONE);
+        rollingSum.push(null);
+        assertFalse(rollingSum.isDefined());
+        rollingSum.push(BigDecimal.ONE);
+        assertNull(rollingSum.getSum());
+        rollingSum.push(BigDecimal.TEN);
+        assertTrue(rollingSum.isDefined());
+        assertEquals(new BigDecimal(11), rollingSum.getSum());
+    }
+
+    @Test
+    public void windowSumCalculatorTest() {
+        BigDecimal[] data = generateData(50);
+        BigDecimal[] sums = WindowSumCalculator.calculate(data, PERIOD);
+        for (int idx = PERIOD - 1; idx < data.length; idx++) {
+            BigDecimal[] window = new BigDecimal[PERIOD];
+            System.arraycopy(data, idx - PERIOD + 1, window, 0, PERIOD);
+            assertEquals(MathHelper.sum(window), sums[idx]);
+        }
+        assertEquals(MathHelper.sum(), WindowSumCalculator.calculate(data, 0)[0]);
+    }
+
+    @Test(expected = WrongIncomingParametersException.class)
+    public void periodLessThanOneTest() {
+        new RollingWeightedSum(0);
+    }
+
+    private BigDecimal[] generateData(int length) {
+        Random random = new Random(7);
+        BigDecimal[] data = new BigDecimal[length];
+        for (int idx = 0; idx < length; idx++) {
+            data[idx] = MathHelper.scaleAndRound(new BigDecimal(random.nextDouble() * 100));
+        }
+        return data;
+    }
+
+}
@@ -0,0 +1,61 @@
+package pro.crypto.helper;
+
+import org.junit.Test;
+import pro.crypto.exception.WrongIncomingParametersException;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class SlidingWindowExtremumTest {
+
+    @Test
+    public void streamingWindowTest() {
+        SlidingWindowExtremum window = SlidingWindowExtremum.max(3);
+        assertNull(window.push(new BigDecimal(5)));
+        assertNull(window.push(new BigDecimal(3)));
+        assertEquals(MathHelper.scaleAndRound(new BigDecimal(5)), window.push(new BigDecimal(4)));
+        assertEquals(MathHelper.scaleAndRound(new BigDecimal(4)), window.push(new BigDecimal(1)));
+        assertNull(window.push(null));
+        assertNull(window.push(new BigDecimal(2)));
+        assertNull(window.push(new BigDecimal(1)));
+        assertEquals(MathHelper.scaleAndRound(new BigDecimal(2)), window.push(new BigDecimal(0)));
+    }
+
+    @Test
+    public void sameAsFullWindowScanTest() {
+        Random random = new Random(42);
+        BigDecimal[] data = new BigDecimal[500];
+        for (int idx = 0; idx < data.length; idx++) {
+            data[idx] = new BigDecimal(random.nextInt(50));
+        }
+        for (int period : new int[]{1, 2, 7, 52}) {
+            assertArrayEquals(scan(data, period, true, false), MinMaxFinder.findMinValues(data, period));
+            assertArrayEquals(scan(data, period, false, false), MinMaxFinder.findMaxValues(data, period));
+            assertArrayEquals(scan(data, period, true, true), MinMaxFinder.findMinExcludingLast(data, period));
+            assertArrayEquals(scan(data, period, false, true), MinMaxFinder.findMaxExcludingLast(data, period));
+        }
+    }
+
+    @Test(expected = WrongIncomingParametersException.class)
+    public void periodLessThanOneTest() {
+        SlidingWindowExtremum.min(0);
+    }
+
+    private BigDecimal[] scan(BigDecimal[] data, int period, boolean minimum, boolean excludingLast) {
+        BigDecimal[] values = new BigDecimal[data.length];
+        int shift = excludingLast ? 1 : 0;
+        for (int idx = period - 1 + shift; idx < data.length; idx++) {
+            BigDecimal extremum = data[idx - shift];
+            for (int windowIdx = idx - shift - period + 1; windowIdx <= idx - shift; windowIdx++) {
+                extremum = minimum ? extremum.min(data[windowIdx]) : extremum.max(data[windowIdx]);
+            }
+            values[idx] = MathHelper.scaleAndRound(extremum);
+        }
+        return values;
+    }
+
+}
@@ -0,0 +1,215 @@
+package pro.crypto.indicator;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.indicator.atr.ATRRequest;
+import pro.crypto.indicator.atr.AverageTrueRange;
+import pro.crypto.indicator.atr.IncrementalAverageTrueRange;
+import pro.crypto.indicator.ha.HARequest;
+import pro.crypto.indicator.ha.HeikenAshi;
+import pro.crypto.indicator.ha.IncrementalHeikenAshi;
+import pro.crypto.indicator.ma.IncrementalMovingAverage;
+import pro.crypto.indicator.ma.MARequest;
+import pro.crypto.indicator.ma.MovingAverageFactory;
+import pro.crypto.indicator.macd.IncrementalMovingAverageConvergenceDivergence;
+import pro.crypto.indicator.macd.MACDRequest;
+import pro.crypto.indicator.macd.MovingAverageConvergenceDivergence;
+import pro.crypto.indicator.psar.IncrementalParabolicStopAndReverse;
+import pro.crypto.indicator.psar.PSARRequest;
+import pro.crypto.indicator.psar.ParabolicStopAndReverse;
+import pro.crypto.indicator.rsi.IncrementalRelativeStrengthIndex;
+import pro.crypto.indicator.rsi.RSIRequest;
+import pro.crypto.indicator.rsi.RelativeStrengthIndex;
+import pro.crypto.indicator.stoch.IncrementalStochasticOscillator;
+import pro.crypto.indicator.stoch.StochRequest;
+import pro.crypto.indicator.stoch.StochasticOscillator;
+import pro.crypto.model.IncrementalIndicator;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.IndicatorRequest;
+import pro.crypto.response.IndicatorResult;
+import pro.crypto.tick.generator.IncreasedQuantityTickGenerator;
+import pro.crypto.tick.generator.OneDayTickGenerator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.runners.Parameterized.Parameters;
+import static pro.crypto.model.indicator.IndicatorType.AVERAGE_TRUE_RANGE;
+import static pro.crypto.model.indicator.IndicatorType.DOUBLE_EXPONENTIAL_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.EXPONENTIAL_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.HEIKEN_ASHI;
+import static pro.crypto.model.indicator.IndicatorType.HULL_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.MODIFIED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.MOVING_AVERAGE_CONVERGENCE_DIVERGENCE;
+import static pro.crypto.model.indicator.IndicatorType.PARABOLIC_STOP_AND_REVERSE;
+import static pro.crypto.model.indicator.IndicatorType.RELATIVE_STRENGTH_INDEX;
+import static pro.crypto.model.indicator.IndicatorType.SIMPLE_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.SMOOTHED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.STOCHASTIC_OSCILLATOR;
+import static pro.crypto.model.indicator.IndicatorType.TRIANGULAR_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.WEIGHTED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.WELLES_WILDERS_MOVING_AVERAGE;
+import static pro.crypto.model.tick.PriceType.CLOSE;
+
+/**
+ * Appends bars one by one and compares incremental results with batch calculation over the same bars.
+ */
+@RunWith(Parameterized.class)
+public class IncrementalIndicatorTest {
+
+    private static final int WARM_UP_SIZE = 60;
+
+    private final Tick[] originalData;
+    private final Function<Tick[], IndicatorRequest> requestBuilder;
+    private final Function<IndicatorRequest, Indicator> indicatorCreator;
+    private final Function<IndicatorRequest, IncrementalIndicator<?>> incrementalIndicatorCreator;
+
+    public IncrementalIndicatorTest(String name, Tick[] originalData, Function<Tick[], IndicatorRequest> requestBuilder,
+                                    Function<IndicatorRequest, Indicator> indicatorCreator,
+                                    Function<IndicatorRequest, IncrementalIndicator<?>> incrementalIndicatorCreator) {
+        this.originalData = originalData;
+        this.requestBuilder = requestBuilder;
+        this.indicatorCreator = indicatorCreator;
+        this.incrementalIndicatorCreator = incrementalIndicatorCreator;
+    }
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> data() {
+        List<Object[]> data = new ArrayList<>();
+        for (Tick[] originalData : asList(new OneDayTickGenerator().generate(), new IncreasedQuantityTickGenerator().generate())) {
+            for (IndicatorType movingAverageType : asList(SIMPLE_MOVING_AVERAGE, EXPONENTIAL_MOVING_AVERAGE, SMOOTHED_MOVING_AVERAGE,
+                    MODIFIED_MOVING_AVERAGE, WEIGHTED_MOVING_AVERAGE, WELLES_WILDERS_MOVING_AVERAGE, HULL_MOVING_AVERAGE,
+                    DOUBLE_EXPONENTIAL_MOVING_AVERAGE, TRIANGULAR_MOVING_AVERAGE)) {
+                data.add(buildParameters(movingAverageType, originalData, ticks -> buildMARequest(ticks, movingAverageType),
+                        MovingAverageFactory::create, IncrementalMovingAverage::new));
+            }
+            data.add(buildParameters(RELATIVE_STRENGTH_INDEX, originalData, IncrementalIndicatorTest::buildRSIRequest,
+                    RelativeStrengthIndex::new, IncrementalRelativeStrengthIndex::new));
+            data.add(buildParameters(MOVING_AVERAGE_CONVERGENCE_DIVERGENCE, originalData, IncrementalIndicatorTest::buildMACDRequest,
+                    MovingAverageConvergenceDivergence::new, IncrementalMovingAverageConvergenceDivergence::new));
+            data.add(buildParameters(STOCHASTIC_OSCILLATOR, originalData, IncrementalIndicatorTest::buildStochRequest,
+                    StochasticOscillator::new, IncrementalStochasticOscillator::new));
+            data.add(buildParameters(AVERAGE_TRUE_RANGE, originalData, IncrementalIndicatorTest::buildATRRequest,
+                    AverageTrueRange::new, IncrementalAverageTrueRange::new));
+            data.add(buildParameters(PARABOLIC_STOP_AND_REVERSE, originalData, IncrementalIndicatorTest::buildPSARRequest,
+                    ParabolicStopAndReverse::new, IncrementalParabolicStopAndReverse::new));
+            data.add(buildParameters(HEIKEN_ASHI, originalData, IncrementalIndicatorTest::buildHARequest,
+                    HeikenAshi::new, IncrementalHeikenAshi::new));
+        }
+        return data;
+    }
+
+    @Test
+    public void appendedBarsResultTest() {
+        IndicatorResult[] expectedResult = indicatorCreator.apply(requestBuilder.apply(originalData)).getResult();
+        IncrementalIndicator<?> indicator = incrementalIndicatorCreator.apply(requestBuilder.apply(Arrays.copyOf(originalData, WARM_UP_SIZE)));
+        List<IndicatorResult> actualResult = new ArrayList<>(asList(indicator.getTail(WARM_UP_SIZE)));
+        for (int idx = WARM_UP_SIZE; idx < originalData.length; idx++) {
+            IndicatorResult formingBarResult = indicator.update(originalData[idx]);
+            IndicatorResult closedBarResult = indicator.append(originalData[idx])[0];
+            assertEquals(closedBarResult, formingBarResult);
+            actualResult.add(closedBarResult);
+        }
+        assertArrayEquals(expectedResult, actualResult.toArray());
+    }
+
+    @Test
+    public void formingBarUpdateTest() {
+        IncrementalIndicator<?> indicator = incrementalIndicatorCreator.apply(requestBuilder.apply(Arrays.copyOf(originalData, WARM_UP_SIZE)));
+        indicator.update(originalData[WARM_UP_SIZE + 1]);
+        indicator.update(originalData[WARM_UP_SIZE + 2]);
+        IndicatorResult formingBarResult = indicator.update(originalData[WARM_UP_SIZE]);
+        IndicatorResult[] expectedResult = indicatorCreator.apply(requestBuilder.apply(Arrays.copyOf(originalData, WARM_UP_SIZE + 1))).getResult();
+        assertEquals(expectedResult[WARM_UP_SIZE], formingBarResult);
+        assertEquals(WARM_UP_SIZE, indicator.getTail(WARM_UP_SIZE + 1).length);
+    }
+
+    @Test
+    public void snapshotTest() {
+        IncrementalIndicator<?> indicator = incrementalIndicatorCreator.apply(requestBuilder.apply(Arrays.copyOf(originalData, WARM_UP_SIZE)));
+        IncrementalIndicator<?> snapshot = indicator.snapshot();
+        IndicatorResult[] appendedResult = indicator.append(Arrays.copyOfRange(originalData, WARM_UP_SIZE, WARM_UP_SIZE + 10));
+        assertArrayEquals(appendedResult, snapshot.append(Arrays.copyOfRange(originalData, WARM_UP_SIZE, WARM_UP_SIZE + 10)));
+        assertArrayEquals(indicator.getTail(15), snapshot.getTail(15));
+        assertArrayEquals(appendedResult, indicator.getTail(10));
+    }
+
+    @Test(expected = WrongIncomingParametersException.class)
+    public void emptyOriginalDataTest() {
+        incrementalIndicatorCreator.apply(requestBuilder.apply(new Tick[0]));
+    }
+
+    private static Object[] buildParameters(IndicatorType indicatorType, Tick[] originalData, Function<Tick[], IndicatorRequest> requestBuilder,
+                                            Function<IndicatorRequest, Indicator> indicatorCreator,
+                                            Function<IndicatorRequest, IncrementalIndicator<?>> incrementalIndicatorCreator) {
+        return new Object[]{indicatorType + " " + originalData.length, originalData, requestBuilder, indicatorCreator, incrementalIndicatorCreator};
+    }
+
+    private static IndicatorRequest buildMARequest(Tick[] originalData, IndicatorType indicatorType) {
+        return MARequest.builder()
+                .originalData(originalData)
+                .indicatorType(indicatorType)
+                .priceType(CLOSE)
+                .period(20)
+                .build();
+    }
+
+    private static IndicatorRequest buildRSIRequest(Tick[] originalData) {
+        return RSIRequest.builder()
+                .originalData(originalData)
+                .movingAverageType(MODIFIED_MOVING_AVERAGE)
+                .period(14)
+                .build();
+    }
+
+    private static IndicatorRequest buildMACDRequest(Tick[] originalData) {
+        return MACDRequest.builder()
+                .originalData(originalData)
+                .priceType(CLOSE)
+                .fastPeriod(12)
+                .slowPeriod(26)
+                .signalPeriod(9)
+                .build();
+    }
+
+    private static IndicatorRequest buildStochRequest(Tick[] originalData) {
+        return StochRequest.builder()
+                .originalData(originalData)
+                .fastStochPeriod(14)
+                .slowStochPeriod(3)
+                .build();
+    }
+
+    private static IndicatorRequest buildATRRequest(Tick[] originalData) {
+        return ATRRequest.builder()
+                .originalData(originalData)
+                .period(14)
+                .movingAverageType(EXPONENTIAL_MOVING_AVERAGE)
+                .build();
+    }
+
+    private static IndicatorRequest buildPSARRequest(Tick[] originalData) {
+        return PSARRequest.builder()
+                .originalData(originalData)
+                .minAccelerationFactor(0.02)
+                .maxAccelerationFactor(0.2)
+                .build();
+    }
+
+    private static IndicatorRequest buildHARequest(Tick[] originalData) {
+        return HARequest.builder()
+                .originalData(originalData)
+                .build();
+    }
+
+}
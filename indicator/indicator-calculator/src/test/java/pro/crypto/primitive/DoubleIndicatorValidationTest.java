@@ -0,0 +1,195 @@
+package pro.crypto.primitive;
+
+import lombok.Data;
+import lombok.SneakyThrows;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import pro.crypto.indicator.atr.ATRRequest;
+import pro.crypto.indicator.atr.AverageTrueRange;
+import pro.crypto.indicator.ma.MARequest;
+import pro.crypto.indicator.ma.MovingAverageFactory;
+import pro.crypto.indicator.macd.MACDRequest;
+import pro.crypto.indicator.macd.MovingAverageConvergenceDivergence;
+import pro.crypto.indicator.rsi.RSIRequest;
+import pro.crypto.indicator.rsi.RelativeStrengthIndex;
+import pro.crypto.indicator.stdev.StDevRequest;
+import pro.crypto.indicator.stdev.StandardDeviation;
+import pro.crypto.indicator.stoch.StochRequest;
+import pro.crypto.indicator.stoch.StochasticOscillator;
+import pro.crypto.model.Indicator;
+import pro.crypto.model.indicator.IndicatorType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickFrame;
+import pro.crypto.request.IndicatorRequest;
+import pro.crypto.response.IndicatorResult;
+import pro.crypto.tick.generator.IncreasedQuantityTickGenerator;
+import pro.crypto.tick.generator.OneDayTickGenerator;
+
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Objects.isNull;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.runners.Parameterized.Parameters;
+import static pro.crypto.model.indicator.IndicatorType.AVERAGE_TRUE_RANGE;
+import static pro.crypto.model.indicator.IndicatorType.EXPONENTIAL_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.MODIFIED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.MOVING_AVERAGE_CONVERGENCE_DIVERGENCE;
+import static pro.crypto.model.indicator.IndicatorType.RELATIVE_STRENGTH_INDEX;
+import static pro.crypto.model.indicator.IndicatorType.SIMPLE_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.SMOOTHED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.STANDARD_DEVIATION;
+import static pro.crypto.model.indicator.IndicatorType.STOCHASTIC_OSCILLATOR;
+import static pro.crypto.model.indicator.IndicatorType.WEIGHTED_MOVING_AVERAGE;
+import static pro.crypto.model.indicator.IndicatorType.WELLES_WILDERS_MOVING_AVERAGE;
+import static pro.crypto.model.tick.PriceType.CLOSE;
+import static pro.crypto.model.tick.PriceType.HIGH;
+
+/**
+ * Compares double precision indicators with BigDecimal ones.
+ * Relative tolerance can be changed with "double.precision.tolerance" system property.
+ */
+@RunWith(Parameterized.class)
+public class DoubleIndicatorValidationTest {
+
+    private static final double TOLERANCE = Double.parseDouble(System.getProperty("double.precision.tolerance", "1e-8"));
+
+    private final TestHelper testHelper;
+
+    public DoubleIndicatorValidationTest(TestHelper testHelper) {
+        this.testHelper = testHelper;
+    }
+
+    @Parameters(name = "{0}")
+    public static Collection<Object> data() {
+        List<Object> data = new ArrayList<>();
+        for (Tick[] originalData : asList(new OneDayTickGenerator().generate(), new IncreasedQuantityTickGenerator().generate())) {
+            data.addAll(asList(
+                    new TestHelper(SIMPLE_MOVING_AVERAGE, originalData, ticks -> buildMARequest(ticks, SIMPLE_MOVING_AVERAGE), MovingAverageFactory::create),
+                    new TestHelper(EXPONENTIAL_MOVING_AVERAGE, originalData, ticks -> buildMARequest(ticks, EXPONENTIAL_MOVING_AVERAGE), MovingAverageFactory::create),
+                    new TestHelper(SMOOTHED_MOVING_AVERAGE, originalData, ticks -> buildMARequest(ticks, SMOOTHED_MOVING_AVERAGE), MovingAverageFactory::create),
+                    new TestHelper(MODIFIED_MOVING_AVERAGE, originalData, ticks -> buildMARequest(ticks, MODIFIED_MOVING_AVERAGE), MovingAverageFactory::create),
+                    new TestHelper(WEIGHTED_MOVING_AVERAGE, originalData, ticks -> buildMARequest(ticks, WEIGHTED_MOVING_AVERAGE), MovingAverageFactory::create),
+                    new TestHelper(WELLES_WILDERS_MOVING_AVERAGE, originalData, ticks -> buildMARequest(ticks, WELLES_WILDERS_MOVING_AVERAGE), MovingAverageFactory::create),
+                    new TestHelper(RELATIVE_STRENGTH_INDEX, originalData, DoubleIndicatorValidationTest::buildRSIRequest, RelativeStrengthIndex::new),
+                    new TestHelper(MOVING_AVERAGE_CONVERGENCE_DIVERGENCE, originalData, DoubleIndicatorValidationTest::buildMACDRequest, MovingAverageConvergenceDivergence::new),
+                    new TestHelper(STOCHASTIC_OSCILLATOR, originalData, DoubleIndicatorValidationTest::buildStochRequest, StochasticOscillator::new),
+                    new TestHelper(AVERAGE_TRUE_RANGE, originalData, DoubleIndicatorValidationTest::buildATRRequest, AverageTrueRange::new),
+                    new TestHelper(STANDARD_DEVIATION, originalData, DoubleIndicatorValidationTest::buildStDevRequest, StandardDeviation::new)
+            ));
+        }
+        return data;
+    }
+
+    @Test
+    public void doublePrecisionResultTest() {
+        IndicatorRequest request = testHelper.getRequestBuilder().apply(testHelper.getOriginalData());
+        assertTrue(DoubleIndicatorFactory.isSupported(testHelper.getIndicatorType(), request));
+        IndicatorResult[] expectedResult = testHelper.getIndicatorCreator().apply(request).getResult();
+        IndicatorResult[] actualResult = DoubleIndicatorFactory.create(request, testHelper.getIndicatorType(), TickFrame.of(testHelper.getOriginalData())).getResult();
+        assertEquals(expectedResult.length, actualResult.length);
+        for (int idx = 0; idx < expectedResult.length; idx++) {
+            assertResultEquals(expectedResult[idx], actualResult[idx], idx);
+        }
+    }
+
+    @SneakyThrows(IllegalAccessException.class)
+    private void assertResultEquals(IndicatorResult expected, IndicatorResult actual, int index) {
+        assertEquals(expected.getTime(), actual.getTime());
+        for (Field field : expected.getClass().getDeclaredFields()) {
+            if (field.getType() != BigDecimal.class) {
+                continue;
+            }
+            field.setAccessible(true);
+            BigDecimal expectedValue = (BigDecimal) field.get(expected);
+            BigDecimal actualValue = (BigDecimal) field.get(actual);
+            String message = format("%s.%s at %d", testHelper.getIndicatorType(), field.getName(), index);
+            if (isNull(expectedValue)) {
+                assertNull(message, actualValue);
+                continue;
+            }
+            double difference = Math.abs(expectedValue.doubleValue() - actualValue.doubleValue());
+            assertTrue(message + ": " + expectedValue + " != " + actualValue,
+                    difference <= TOLERANCE * Math.max(1, Math.abs(expectedValue.doubleValue())));
+        }
+    }
+
+    private static IndicatorRequest buildMARequest(Tick[] originalData, IndicatorType indicatorType) {
+        return MARequest.builder()
+                .originalData(originalData)
+                .indicatorType(indicatorType)
+                .priceType(CLOSE)
+                .period(20)
+                .build();
+    }
+
+    private static IndicatorRequest buildRSIRequest(Tick[] originalData) {
+        return RSIRequest.builder()
+                .originalData(originalData)
+                .movingAverageType(MODIFIED_MOVING_AVERAGE)
+                .period(14)
+                .build();
+    }
+
+    private static IndicatorRequest buildMACDRequest(Tick[] originalData) {
+        return MACDRequest.builder()
+                .originalData(originalData)
+                .priceType(CLOSE)
+                .fastPeriod(12)
+                .slowPeriod(26)
+                .signalPeriod(9)
+                .build();
+    }
+
+    private static IndicatorRequest buildStochRequest(Tick[] originalData) {
+        return StochRequest.builder()
+                .originalData(originalData)
+                .movingAverageType(SIMPLE_MOVING_AVERAGE)
+                .fastStochPeriod(14)
+                .slowStochPeriod(3)
+                .build();
+    }
+
+    private static IndicatorRequest buildATRRequest(Tick[] originalData) {
+        return ATRRequest.builder()
+                .originalData(originalData)
+                .period(14)
+                .movingAverageType(EXPONENTIAL_MOVING_AVERAGE)
+                .movingAveragePeriod(10)
+                .build();
+    }
+
+    private static IndicatorRequest buildStDevRequest(Tick[] originalData) {
+        return StDevRequest.builder()
+                .originalData(originalData)
+                .priceType(HIGH)
+                .movingAverageType(WEIGHTED_MOVING_AVERAGE)
+                .period(30)
+                .build();
+    }
+
+    @Data
+    private static class TestHelper {
+
+        private final IndicatorType indicatorType;
+        private final Tick[] originalData;
+        private final Function<Tick[], IndicatorRequest> requestBuilder;
+        private final Function<IndicatorRequest, Indicator<? extends IndicatorResult>> indicatorCreator;
+
+        @Override
+        public String toString() {
+            return format("%s on %d ticks", indicatorType, originalData.length);
+        }
+
+    }
+
+}
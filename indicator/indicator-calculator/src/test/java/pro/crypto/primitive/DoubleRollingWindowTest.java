@@ -0,0 +1,57 @@
+package pro.crypto.primitive;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static java.lang.Double.NaN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DoubleRollingWindowTest {
+
+    private static final int PERIOD = 200;
+
+    @Test
+    public void sameAsFullWindowSumsTest() {
+        Random random = new Random(3);
+        double[] data = new double[DoubleRollingWindow.RESUMMATION_INTERVAL * 5];
+        for (int idx = 0; idx < data.length; idx++) {
+            data[idx] = 10_000 + random.nextGaussian() * 500;
+        }
+        DoubleRollingWindow window = new DoubleRollingWindow(PERIOD);
+        for (int idx = 0; idx < data.length; idx++) {
+            window.push(data[idx]);
+            if (idx < PERIOD - 1) {
+                assertFalse(window.isDefined());
+                continue;
+            }
+            double sum = 0;
+            double weightedSum = 0;
+            double sumOfSquares = 0;
+            for (int weight = 1; weight <= PERIOD; weight++) {
+                double value = data[idx - PERIOD + weight];
+                sum += value;
+                weightedSum += weight * value;
+                sumOfSquares += value * value;
+            }
+            assertEquals(sum, window.getSum(), Math.abs(sum) * 1e-12);
+            assertEquals(weightedSum, window.getWeightedSum(), Math.abs(weightedSum) * 1e-12);
+            assertEquals(sumOfSquares, window.getSumOfSquares(), Math.abs(sumOfSquares) * 1e-12);
+        }
+    }
+
+    @Test
+    public void windowWithNaNValueTest() {
+        DoubleRollingWindow window = new DoubleRollingWindow(2);
+        window.push(1);
+        window.push(NaN);
+        window.push(1);
+        assertTrue(Double.isNaN(window.getSum()));
+        window.push(10);
+        assertEquals(11, window.getSum(), 0);
+        assertEquals(21, window.getWeightedSum(), 0);
+    }
+
+}
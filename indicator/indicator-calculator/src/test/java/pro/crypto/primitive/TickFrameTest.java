@@ -0,0 +1,59 @@
+package pro.crypto.primitive;
+
+import org.junit.Before;
+import org.junit.Test;
+import pro.crypto.helper.MedianPriceCalculator;
+import pro.crypto.helper.TrueRangeCalculator;
+import pro.crypto.helper.TypicalPriceCalculator;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickFrame;
+import pro.crypto.tick.generator.OneDayTickGenerator;
+
+import java.math.BigDecimal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static pro.crypto.model.tick.PriceType.CLOSE;
+import static pro.crypto.model.tick.PriceType.HIGH;
+
+public class TickFrameTest {
+
+    private static final double DELTA = 1e-8;
+
+    private Tick[] originalData;
+    private TickFrame tickFrame;
+
+    @Before
+    public void init() {
+        originalData = new OneDayTickGenerator().generate();
+        tickFrame = TickFrame.of(originalData);
+    }
+
+    @Test
+    public void columnsTest() {
+        assertEquals(originalData.length, tickFrame.size());
+        assertSame(tickFrame.getClose(), tickFrame.getPrices(CLOSE));
+        assertSame(tickFrame.getHigh(), tickFrame.getPrices(HIGH));
+        for (int idx = 0; idx < originalData.length; idx++) {
+            assertEquals(originalData[idx].getTickTime(), tickFrame.getTickTime(idx));
+            assertEquals(originalData[idx].getOpen().doubleValue(), tickFrame.getOpen()[idx], 0);
+            assertEquals(originalData[idx].getLow().doubleValue(), tickFrame.getLow()[idx], 0);
+        }
+    }
+
+    @Test
+    public void derivedColumnsTest() {
+        assertColumnEquals(TypicalPriceCalculator.calculateTypicalPrices(originalData), tickFrame.getTypicalPrices());
+        assertColumnEquals(MedianPriceCalculator.calculate(originalData), tickFrame.getMedianPrices());
+        assertColumnEquals(TrueRangeCalculator.calculate(originalData), tickFrame.getTrueRange());
+        assertSame(tickFrame.getTrueRange(), tickFrame.getTrueRange());
+    }
+
+    private void assertColumnEquals(BigDecimal[] expected, double[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int idx = 0; idx < expected.length; idx++) {
+            assertEquals(expected[idx].doubleValue(), actual[idx], DELTA);
+        }
+    }
+
+}
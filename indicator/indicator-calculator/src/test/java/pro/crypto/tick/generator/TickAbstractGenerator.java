@@ -2,29 +2,30 @@ package pro.crypto.tick.generator;
 
 import com.google.gson.Gson;
 import lombok.SneakyThrows;
-import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
 import pro.crypto.model.tick.Tick;
 
-import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.net.URL;
+import java.io.InputStream;
 
-import static java.util.Objects.nonNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
 
 public abstract class TickAbstractGenerator {
 
     public abstract Tick[] generate();
 
+    // resources are read as streams, so generators also work from the test jar
     @SneakyThrows(IOException.class)
     Tick[] loadOriginalData(String fileName) {
         ClassLoader classLoader = getClass().getClassLoader();
-        URL url = classLoader.getResource("indicator/request/" + fileName);
-        if (nonNull(url)) {
-            File file = new File(url.getFile());
-            return new Gson().fromJson(FileUtils.readFileToString(file, "UTF-8"), Tick[].class);
+        try (InputStream stream = classLoader.getResourceAsStream("indicator/request/" + fileName)) {
+            if (isNull(stream)) {
+                throw new FileNotFoundException();
+            }
+            return new Gson().fromJson(IOUtils.toString(stream, UTF_8), Tick[].class);
         }
-        throw new FileNotFoundException();
     }
 
 }
@@ -3,17 +3,33 @@ package pro.crypto.service;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import pro.crypto.exception.WrongIncomingParametersException;
 import pro.crypto.factory.IndicatorFactory;
 import pro.crypto.factory.IndicatorRequestFactory;
+import pro.crypto.helper.IndicatorContext;
+import pro.crypto.helper.IndicatorResultCache;
 import pro.crypto.model.Indicator;
 import pro.crypto.model.tick.Tick;
+import pro.crypto.primitive.DoubleIndicatorFactory;
+import pro.crypto.request.IndicatorBatchCalculationRequest;
+import pro.crypto.request.IndicatorBatchItem;
 import pro.crypto.request.IndicatorCalculationRequest;
 import pro.crypto.request.IndicatorRequest;
 import pro.crypto.request.TickTimeFindRequest;
+import pro.crypto.response.IndicatorBatchItemResult;
+import pro.crypto.response.IndicatorBatchResult;
 import pro.crypto.response.IndicatorResult;
 
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static java.lang.String.format;
 import static java.time.LocalTime.MAX;
 import static java.time.LocalTime.MIN;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.stream.Collectors.toList;
+import static pro.crypto.model.indicator.PrecisionMode.DOUBLE;
 import static pro.crypto.model.tick.TimeFrame.ONE_DAY;
 
 @Service
@@ -24,17 +40,111 @@ public class RepositoryIndicatorService implements IndicatorService {
     private final IndicatorRequestFactory requestFactory;
     private final IndicatorFactory indicatorFactory;
     private final TickService tickService;
+    private final IndicatorResultCache resultCache;
+    private final ForkJoinPool calculationPool;
 
     public IndicatorResult[] calculate(IndicatorCalculationRequest request) {
         log.trace("Calculating indicator {request: {}}", request);
         Tick[] ticks = tickService.getTicksByTime(buildTickTimeFindRequest(request)).getTicks();
-        IndicatorRequest indicatorRequest = requestFactory.buildRequest(ticks, request.getIndicatorType(), request.getConfiguration());
-        Indicator indicator = createIndicator(request, indicatorRequest);
-        IndicatorResult[] result = indicator.getResult();
+        Tick[] oneDayData = request.getIndicatorType().isPivotPoint() ? getOneDayTickData(ticks, request) : null;
+        IndicatorResult[] result = calculate(request, ticks, oneDayData);
         log.info("Calculated indicator {request: {}}", request);
         return result;
     }
 
+    // ticks are fetched once for all indicators, indicators are calculated in parallel and share intermediate results through the cache
+    @Override
+    public IndicatorBatchResult calculate(IndicatorBatchCalculationRequest request) {
+        log.trace("Calculating indicators {request: {}}", request);
+        List<IndicatorCalculationRequest> calculationRequests = buildCalculationRequests(request);
+        long fetchStartTime = System.nanoTime();
+        Tick[] ticks = tickService.getTicksByTime(buildTickTimeFindRequest(request)).getTicks();
+        Tick[] oneDayData = findOneDayTickData(ticks, calculationRequests);
+        long tickFetchTime = getElapsedTime(fetchStartTime);
+        List<IndicatorBatchItemResult> results = calculationPool.submit(() -> calculationRequests.parallelStream()
+                .map(calculationRequest -> calculateBatchItem(calculationRequest, ticks, oneDayData))
+                .collect(toList()))
+                .join();
+        log.info("Calculated indicators {marketId: {}, timeFrame: {}, size: {}, tickFetchTime: {}}",
+                request.getMarketId(), request.getTimeFrame(), results.size(), tickFetchTime);
+        return IndicatorBatchResult.builder()
+                .tickFetchTime(tickFetchTime)
+                .indicators(results)
+                .build();
+    }
+
+    private IndicatorBatchItemResult calculateBatchItem(IndicatorCalculationRequest request, Tick[] ticks, Tick[] oneDayData) {
+        long startTime = System.nanoTime();
+        IndicatorResult[] result = calculate(request, ticks, oneDayData);
+        return IndicatorBatchItemResult.builder()
+                .indicatorType(request.getIndicatorType())
+                .configuration(request.getConfiguration())
+                .precisionMode(request.getPrecisionMode())
+                .calculationTime(getElapsedTime(startTime))
+                .result(result)
+                .build();
+    }
+
+    // pivot points depend on one day data in addition to original data, so they aren't cached
+    private IndicatorResult[] calculate(IndicatorCalculationRequest request, Tick[] ticks, Tick[] oneDayData) {
+        IndicatorRequest indicatorRequest = requestFactory.buildRequest(ticks, request.getIndicatorType(), request.getConfiguration());
+        if (request.getIndicatorType().isPivotPoint()) {
+            return createIndicator(request, indicatorRequest, oneDayData).getResult();
+        }
+        IndicatorResultCache.Scope scope = resultCache.getScope(request.getMarketId(), request.getTimeFrame(), ticks);
+        try (IndicatorContext context = IndicatorContext.open(resultCache, scope, ticks)) {
+            IndicatorResult[] result = IndicatorContext.compute(buildNodeName(request), ticks,
+                    () -> createIndicator(request, indicatorRequest, oneDayData).getResult(), IndicatorContext.extractParameters(indicatorRequest));
+            log.debug("Indicator context statistics {indicatorType: {}, hits: {}, sharedHits: {}, misses: {}}",
+                    request.getIndicatorType(), context.getHits(), context.getSharedHits(), context.getMisses());
+            return result;
+        }
+    }
+
+    // double precision results differ from exact ones, so they are cached separately
+    private String buildNodeName(IndicatorCalculationRequest request) {
+        return request.getPrecisionMode() == DOUBLE
+                ? request.getIndicatorType() + "_" + DOUBLE
+                : request.getIndicatorType().toString();
+    }
+
+    private List<IndicatorCalculationRequest> buildCalculationRequests(IndicatorBatchCalculationRequest request) {
+        if (isNull(request.getIndicators()) || request.getIndicators().isEmpty()) {
+            throw new WrongIncomingParametersException(format("Indicators are not specified {request: {%s}}", request));
+        }
+        return request.getIndicators().stream()
+                .map(indicator -> buildCalculationRequest(request, indicator))
+                .collect(toList());
+    }
+
+    private IndicatorCalculationRequest buildCalculationRequest(IndicatorBatchCalculationRequest request, IndicatorBatchItem indicator) {
+        if (isNull(indicator.getIndicatorType())) {
+            throw new WrongIncomingParametersException(format("Indicator type is not specified {indicator: {%s}}", indicator));
+        }
+        return IndicatorCalculationRequest.builder()
+                .marketId(request.getMarketId())
+                .timeFrame(request.getTimeFrame())
+                .from(request.getFrom())
+                .to(request.getTo())
+                .indicatorType(indicator.getIndicatorType())
+                .configuration(indicator.getConfiguration())
+                .precisionMode(indicator.getPrecisionMode())
+                .build();
+    }
+
+    private long getElapsedTime(long startTime) {
+        return NANOSECONDS.toMillis(System.nanoTime() - startTime);
+    }
+
+    private TickTimeFindRequest buildTickTimeFindRequest(IndicatorBatchCalculationRequest request) {
+        return TickTimeFindRequest.builder()
+                .marketId(request.getMarketId())
+                .timeFrame(request.getTimeFrame())
+                .from(request.getFrom())
+                .to(request.getTo())
+                .build();
+    }
+
     private TickTimeFindRequest buildTickTimeFindRequest(IndicatorCalculationRequest indicatorCalculationRequest) {
         return TickTimeFindRequest.builder()
                 .marketId(indicatorCalculationRequest.getMarketId())
@@ -44,14 +154,29 @@ public class RepositoryIndicatorService implements IndicatorService {
                 .build();
     }
 
-    private Indicator createIndicator(IndicatorCalculationRequest request, IndicatorRequest indicatorRequest) {
+    private Indicator createIndicator(IndicatorCalculationRequest request, IndicatorRequest indicatorRequest, Tick[] oneDayData) {
         if (request.getIndicatorType().isPivotPoint()) {
-            Tick[] oneDayData = getOneDayTickData(indicatorRequest.getOriginalData(), request);
             return indicatorFactory.create(indicatorRequest, request.getIndicatorType(), oneDayData);
         }
+        if (isDoublePrecisionApplicable(request, indicatorRequest)) {
+            return DoubleIndicatorFactory.create(indicatorRequest, request.getIndicatorType());
+        }
         return indicatorFactory.create(indicatorRequest, request.getIndicatorType(), null);
     }
 
+    private boolean isDoublePrecisionApplicable(IndicatorCalculationRequest request, IndicatorRequest indicatorRequest) {
+        return request.getPrecisionMode() == DOUBLE
+                && DoubleIndicatorFactory.isSupported(request.getIndicatorType(), indicatorRequest);
+    }
+
+    private Tick[] findOneDayTickData(Tick[] originalData, List<IndicatorCalculationRequest> requests) {
+        return requests.stream()
+                .filter(request -> request.getIndicatorType().isPivotPoint())
+                .findFirst()
+                .map(request -> getOneDayTickData(originalData, request))
+                .orElse(null);
+    }
+
     private Tick[] getOneDayTickData(Tick[] originalData, IndicatorCalculationRequest request) {
         return request.getTimeFrame() == ONE_DAY
                 ? originalData
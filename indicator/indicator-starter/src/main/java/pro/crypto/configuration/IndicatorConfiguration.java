@@ -1,17 +1,22 @@
 package pro.crypto.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import pro.crypto.factory.IndicatorFactory;
 import pro.crypto.factory.IndicatorRequestFactory;
 import pro.crypto.factory.IndicatorRequestTypeResolver;
 import pro.crypto.factory.JsonParser;
+import pro.crypto.helper.IndicatorResultCache;
 import pro.crypto.service.IndicatorService;
 import pro.crypto.service.RepositoryIndicatorService;
 import pro.crypto.web.IndicatorController;
 
+import java.util.concurrent.ForkJoinPool;
+
 @Configuration
 public class IndicatorConfiguration {
 
@@ -21,6 +26,24 @@ public class IndicatorConfiguration {
             IndicatorRequestFactory.class, IndicatorRequestTypeResolver.class,
             JsonParser.class})
     public static class IndicatorServiceConfiguration {
+
+        // bounded pool for batch calculations, so they don't occupy the common pool
+        @Bean(destroyMethod = "shutdown")
+        public ForkJoinPool indicatorCalculationPool(@Value("${indicator.batch.parallelism:0}") int parallelism) {
+            return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        }
+
+    }
+
+    @Configuration
+    public static class IndicatorResultCacheConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(IndicatorResultCache.class)
+        public IndicatorResultCache indicatorResultCache(@Value("${indicator.cache.maximum-weight:5000000}") long maximumWeight) {
+            return new IndicatorResultCache(maximumWeight);
+        }
+
     }
 
     @ConditionalOnWebApplication
@@ -3,11 +3,15 @@ package pro.crypto.web;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import pro.crypto.request.IndicatorBatchCalculationRequest;
 import pro.crypto.request.IndicatorCalculationRequest;
+import pro.crypto.response.IndicatorBatchResult;
 import pro.crypto.service.IndicatorService;
 
 import javax.validation.Valid;
@@ -29,4 +33,11 @@ public class IndicatorController {
         return indicatorService.calculate(request);
     }
 
+    @PostMapping(value = "/batch", produces = APPLICATION_JSON_UTF8_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    public IndicatorBatchResult calculate(@Valid @NotNull @RequestBody IndicatorBatchCalculationRequest request) {
+        return indicatorService.calculate(request);
+    }
+
 }
@@ -3,9 +3,15 @@ package pro.crypto.service;
 import lombok.AllArgsConstructor;
 import org.apache.commons.lang.NotImplementedException;
 import org.springframework.stereotype.Service;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.TimeFrame;
 import pro.crypto.proxy.MemberStrategyControlProxy;
 import pro.crypto.request.MemberStrategyStatusChangeRequest;
+import pro.crypto.snapshot.MemberStrategySnapshot;
+import pro.crypto.snapshot.MonitoredMarketSnapshot;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 @Service
@@ -39,4 +45,19 @@ public class HttpMemberStrategyControlService implements MemberStrategyControlSe
         throw new NotImplementedException("getStrategyIdsForMonitoring() is not implemented in http service");
     }
 
+    @Override
+    public Set<Long> getStrategyIdsForMonitoring(Stock stock, String marketName, TimeFrame timeFrame) {
+        throw new NotImplementedException("getStrategyIdsForMonitoring() is not implemented in http service");
+    }
+
+    @Override
+    public List<MemberStrategySnapshot> findStrategiesForMonitoring(Set<Long> strategyIds) {
+        throw new NotImplementedException("findStrategiesForMonitoring() is not implemented in http service");
+    }
+
+    @Override
+    public Set<MonitoredMarketSnapshot> getMarketsForMonitoring(LocalDateTime executionTime) {
+        throw new NotImplementedException("getMarketsForMonitoring() is not implemented in http service");
+    }
+
 }
@@ -1,7 +1,13 @@
 package pro.crypto.service;
 
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.TimeFrame;
 import pro.crypto.request.MemberStrategyStatusChangeRequest;
+import pro.crypto.snapshot.MemberStrategySnapshot;
+import pro.crypto.snapshot.MonitoredMarketSnapshot;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Set;
 
 public interface MemberStrategyControlService {
@@ -16,4 +22,11 @@ public interface MemberStrategyControlService {
 
     Set<Long> getStrategyIdsForMonitoring();
 
+    Set<Long> getStrategyIdsForMonitoring(Stock stock, String marketName, TimeFrame timeFrame);
+
+    List<MemberStrategySnapshot> findStrategiesForMonitoring(Set<Long> strategyIds);
+
+    // markets and time frames of active strategies which are executed till the time
+    Set<MonitoredMarketSnapshot> getMarketsForMonitoring(LocalDateTime executionTime);
+
 }
@@ -0,0 +1,17 @@
+package pro.crypto.snapshot;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pro.crypto.model.tick.TimeFrame;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+public class MonitoredMarketSnapshot {
+
+    private Long marketId;
+
+    private TimeFrame timeFrame;
+
+}
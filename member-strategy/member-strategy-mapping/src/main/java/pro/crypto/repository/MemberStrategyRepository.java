@@ -5,7 +5,10 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import pro.crypto.model.MemberStrategy;
+import pro.crypto.model.market.Stock;
 import pro.crypto.model.strategy.MemberStrategyStatus;
+import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.snapshot.MonitoredMarketSnapshot;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -15,4 +18,12 @@ public interface MemberStrategyRepository extends JpaRepository<MemberStrategy,
     @Query("SELECT ms.id FROM MemberStrategy ms WHERE ms.status = :status AND ms.nextExecutionTime <= :executionTime")
     Set<Long> findIdsForMonitoring(@Param("status") MemberStrategyStatus status, @Param("executionTime") LocalDateTime executionTime);
 
+    @Query("SELECT ms.id FROM MemberStrategy ms WHERE ms.status = :status AND ms.stock = :stock AND ms.marketName = :marketName AND ms.timeFrame = :timeFrame")
+    Set<Long> findIdsForMonitoring(@Param("status") MemberStrategyStatus status, @Param("stock") Stock stock,
+                                   @Param("marketName") String marketName, @Param("timeFrame") TimeFrame timeFrame);
+
+    @Query("SELECT DISTINCT new pro.crypto.snapshot.MonitoredMarketSnapshot(ms.marketId, ms.timeFrame) FROM MemberStrategy ms " +
+            "WHERE ms.status = :status AND ms.nextExecutionTime <= :executionTime")
+    Set<MonitoredMarketSnapshot> findMarketsForMonitoring(@Param("status") MemberStrategyStatus status, @Param("executionTime") LocalDateTime executionTime);
+
 }
@@ -6,10 +6,14 @@ import org.springframework.stereotype.Service;
 import pro.crypto.MemberStrategyProperties;
 import pro.crypto.exception.MemberStrategyNotFoundException;
 import pro.crypto.model.MemberStrategy;
+import pro.crypto.model.market.Stock;
 import pro.crypto.model.strategy.MemberStrategyStatus;
+import pro.crypto.model.tick.TimeFrame;
 import pro.crypto.repository.MemberStrategyRepository;
 import pro.crypto.request.MemberStrategyFindRequest;
 import pro.crypto.request.MemberStrategyStatusChangeRequest;
+import pro.crypto.snapshot.MemberStrategySnapshot;
+import pro.crypto.snapshot.MonitoredMarketSnapshot;
 
 import javax.transaction.Transactional;
 import java.time.LocalDateTime;
@@ -20,6 +24,7 @@ import static com.google.common.collect.Sets.newHashSet;
 import static java.lang.String.format;
 import static java.time.LocalDateTime.now;
 import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.toList;
 import static pro.crypto.model.strategy.MemberStrategyStatus.ACTIVE;
 import static pro.crypto.model.strategy.MemberStrategyStatus.PAUSED;
 import static pro.crypto.model.strategy.MemberStrategyStatus.STOPPED;
@@ -33,6 +38,7 @@ public class MemberStrategySupervisor implements MemberStrategyControlService {
     private final MemberStrategyRepository repository;
     private final ExecutionTimeService executionTimeService;
     private final MemberStrategyProperties memberStrategyProperties;
+    private final MemberStrategyMapper memberStrategyMapper;
 
     @Override
     public void scheduleNextExecution(Set<Long> strategyIds) {
@@ -78,6 +84,34 @@ public class MemberStrategySupervisor implements MemberStrategyControlService {
         return idsForMonitoring;
     }
 
+    // strategies bound to the market and time frame, next execution time is not checked because bar is closed
+    @Override
+    public Set<Long> getStrategyIdsForMonitoring(Stock stock, String marketName, TimeFrame timeFrame) {
+        log.trace("Getting member strategy ids for monitoring {stock: {}, marketName: {}, timeFrame: {}}", stock, marketName, timeFrame);
+        Set<Long> idsForMonitoring = repository.findIdsForMonitoring(ACTIVE, stock, marketName, timeFrame);
+        log.info("Found member strategy ids for monitoring {stock: {}, marketName: {}, timeFrame: {}, size: {}}",
+                stock, marketName, timeFrame, idsForMonitoring.size());
+        return idsForMonitoring;
+    }
+
+    @Override
+    public List<MemberStrategySnapshot> findStrategiesForMonitoring(Set<Long> strategyIds) {
+        log.trace("Getting member strategies for monitoring {strategyIdsSize: {}}", strategyIds.size());
+        List<MemberStrategySnapshot> memberStrategies = findMemberStrategies(strategyIds).stream()
+                .map(memberStrategyMapper::toSnapshot)
+                .collect(toList());
+        log.info("Found member strategies for monitoring {strategyIdsSize: {}, size: {}}", strategyIds.size(), memberStrategies.size());
+        return memberStrategies;
+    }
+
+    @Override
+    public Set<MonitoredMarketSnapshot> getMarketsForMonitoring(LocalDateTime executionTime) {
+        log.trace("Getting markets for monitoring {executionTime: {}}", executionTime);
+        Set<MonitoredMarketSnapshot> markets = repository.findMarketsForMonitoring(ACTIVE, executionTime);
+        log.info("Found markets for monitoring {executionTime: {}, size: {}}", executionTime, markets.size());
+        return markets;
+    }
+
     private void changeStatus(MemberStrategyStatus status, String reason, MemberStrategy strategy) {
         strategy.setStatus(ofNullable(status).orElse(strategy.getStatus()));
         strategy.setStoppedReason(reason);
@@ -28,7 +28,7 @@ public class MemberStrategyConfiguration {
 
     @Configuration
     @ConditionalOnMissingBean(MemberStrategyControlService.class)
-    @Import({MemberStrategySupervisor.class})
+    @Import({MemberStrategySupervisor.class, MemberStrategyMapper.class})
     public static class MemberStrategyControlServiceConfiguration {
     }
 
@@ -1,7 +1,13 @@
 package pro.crypto.service;
 
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.TimeFrame;
+
 public interface MonitoringService {
 
     void startMonitoring();
 
+    // evaluates only strategies bound to the market and time frame
+    void startMonitoring(Stock stock, String marketName, TimeFrame timeFrame);
+
 }
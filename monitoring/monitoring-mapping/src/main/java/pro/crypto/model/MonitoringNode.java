@@ -0,0 +1,31 @@
+package pro.crypto.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(schema = "crypto_monitoring")
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Data
+public class MonitoringNode {
+
+    @Id
+    private String id;
+
+    @NotNull
+    private LocalDateTime startTime;
+
+    @NotNull
+    private LocalDateTime heartbeatTime;
+
+}
@@ -0,0 +1,45 @@
+package pro.crypto.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import pro.crypto.model.MonitoringNode;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// node clocks can differ, so heartbeats are written and compared by the database clock (UTC)
+public interface MonitoringNodeRepository extends JpaRepository<MonitoringNode, String> {
+
+    // heartbeat of the node which has the id taken by another live node is not saved, returns count of saved nodes
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO crypto_monitoring.monitoring_node (id, start_time, heartbeat_time) "
+            + "VALUES (:id, :startTime, now() AT TIME ZONE 'UTC') "
+            + "ON CONFLICT (id) DO UPDATE SET start_time = :startTime, heartbeat_time = now() AT TIME ZONE 'UTC' "
+            + "WHERE monitoring_node.start_time = :startTime "
+            + "OR monitoring_node.heartbeat_time < now() AT TIME ZONE 'UTC' - :timeout * INTERVAL '1 millisecond'",
+            nativeQuery = true)
+    int saveHeartbeat(@Param("id") String id, @Param("startTime") LocalDateTime startTime, @Param("timeout") long timeoutMillis);
+
+    @Query(value = "SELECT * FROM crypto_monitoring.monitoring_node "
+            + "WHERE heartbeat_time >= now() AT TIME ZONE 'UTC' - :timeout * INTERVAL '1 millisecond'",
+            nativeQuery = true)
+    List<MonitoringNode> findAllLive(@Param("timeout") long timeoutMillis);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM crypto_monitoring.monitoring_node "
+            + "WHERE heartbeat_time < now() AT TIME ZONE 'UTC' - :timeout * INTERVAL '1 millisecond'",
+            nativeQuery = true)
+    int deleteAllLeft(@Param("timeout") long timeoutMillis);
+
+    // the left node is removed only by itself, so the node which has taken its id over isn't removed
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM MonitoringNode n WHERE n.id = :id AND n.startTime = :startTime")
+    int deleteByIdAndStartTime(@Param("id") String id, @Param("startTime") LocalDateTime startTime);
+
+}
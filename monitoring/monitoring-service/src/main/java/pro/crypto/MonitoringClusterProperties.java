@@ -0,0 +1,38 @@
+package pro.crypto;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "monitoring.cluster")
+public class MonitoringClusterProperties {
+
+    private boolean enabled = false;
+
+    // should be unique and stable for the node, so restarted node gets its markets back.
+    // Host name is used by default, nodes on the same host should set their ids.
+    // Node id which is used by another live node is not taken, the node claims no markets until the other node leaves
+    private String nodeId = defineHostName();
+
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+
+    // node without heartbeat for longer is left, its markets are taken by the other nodes
+    private Duration nodeTimeout = Duration.ofSeconds(30);
+
+    // period of monitoring cycles started by the node itself, quartz monitoring job is unscheduled when cluster is enabled
+    private Duration monitoringInterval = Duration.ofMinutes(1);
+
+    // null if host name can't be resolved, node id should be set then
+    private static String defineHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException ex) {
+            return null;
+        }
+    }
+
+}
@@ -2,6 +2,9 @@ package pro.crypto;
 
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import pro.crypto.routing.RoutingType;
+
+import java.time.Duration;
 
 @Data
 @ConfigurationProperties(prefix = "member.strategy.monitoring")
@@ -15,4 +18,37 @@ public class MonitoringProperties {
 
     private Integer signalSenderActorsSize;
 
+    private RoutingType strategyCalculationRouting = RoutingType.SMALLEST_MAILBOX;
+
+    // points of each calculation actor on the hash ring, more points spread markets across actors more evenly
+    private Integer virtualNodesFactor = 10;
+
+    // tick windows cached by each calculation actor, cache is disabled if zero
+    private Integer tickWindowCacheSize = 0;
+
+    // cached tick window is reloaded completely after this time, so ticks repaired in tick store are picked up
+    private Duration tickWindowCacheTtl = Duration.ofMinutes(30);
+
+    // messages of stage which are sent and not processed yet, new work isn't admitted over these limits
+    private Integer strategyMonitoringQueueSize = 2;
+
+    // bar close messages of different markets and time frames, the same messages are coalesced
+    private Integer marketMonitoringQueueSize = 500;
+
+    private Integer strategyCalculationQueueSize = 200;
+
+    private Integer decisionMakerQueueSize = 2000;
+
+    private Integer signalSenderQueueSize = 2000;
+
+    // due strategies which can't be admitted are skipped till the next execution time if they are overdue for longer
+    private Duration overdueThreshold = Duration.ofMinutes(5);
+
+    // bars of strategy result which are calculated for signal decision
+    private Integer decisionBars = 1;
+
+    // ticks of admitted groups are fetched asynchronously all at once, so calculation actors find them stored or in flight.
+    // Remote tick service fetches in the calling thread, so it should be disabled for it
+    private boolean admittedTicksPrefetch = true;
+
 }
@@ -0,0 +1,25 @@
+package pro.crypto;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "monitoring.prefetch")
+public class TickPrefetchProperties {
+
+    private boolean enabled = false;
+
+    // ticks are loaded till the start of the bar which is open at execution time
+    private Duration leadTime = Duration.ofSeconds(20);
+
+    // period of monitoring scheduler
+    private Duration interval = Duration.ofMinutes(1);
+
+    private int concurrency = 4;
+
+    // loads waiting for a place, new loads are skipped over this size, e.g. when loads of the previous cycles are not completed
+    private int queueSize = 1000;
+
+}
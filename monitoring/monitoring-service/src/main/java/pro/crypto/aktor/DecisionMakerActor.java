@@ -38,7 +38,7 @@ public class DecisionMakerActor extends AbstractActor {
     @Override
     public Receive createReceive() {
         return receiveBuilder()
-                .match(DecisionMakerMessage.class, this::makeDecision)
+                .match(DecisionMakerMessage.class, message -> router.process(message, this::makeDecision))
                 .build();
     }
 
@@ -77,7 +77,10 @@ public class DecisionMakerActor extends AbstractActor {
     private void processSignal(StrategyResult lastResult, Set<Position> positions, MemberStrategySnapshot memberStrategy) {
         updateStrategy(lastResult, positions, memberStrategy);
         SignalSnapshot signalSnapshot = signalService.create(buildSignalCreationRequest(lastResult, positions, memberStrategy));
-        router.tell(new SignalSenderMessage(signalSnapshot, memberStrategy));
+        if (!router.offer(new SignalSenderMessage(signalSnapshot, memberStrategy))) {
+            log.warn("Signal has been saved without sending because of overload {memberStrategyId: {}, tickTime: {}}",
+                    memberStrategy.getId(), lastResult.getTick().getTickTime());
+        }
     }
 
     private void updateStrategy(StrategyResult lastResult, Set<Position> positions, MemberStrategySnapshot memberStrategy) {
@@ -10,6 +10,7 @@ import pro.crypto.model.notification.Destination;
 import pro.crypto.model.strategy.Position;
 import pro.crypto.request.RawEmailSendRequest;
 import pro.crypto.request.SmsSendRequest;
+import pro.crypto.routing.CommonRouter;
 import pro.crypto.service.MailService;
 import pro.crypto.service.SmsService;
 import pro.crypto.snapshot.MemberStrategySnapshot;
@@ -35,11 +36,12 @@ public class SignalSenderActor extends AbstractActor {
 
     private final MailService mailService;
     private final SmsService smsService;
+    private final CommonRouter router;
 
     @Override
     public Receive createReceive() {
         return receiveBuilder()
-                .match(SignalSenderMessage.class, this::sendSignal)
+                .match(SignalSenderMessage.class, message -> router.process(message, this::sendSignal))
                 .build();
     }
 
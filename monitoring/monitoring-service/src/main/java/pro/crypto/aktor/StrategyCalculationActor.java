@@ -1,88 +1,147 @@
 package pro.crypto.aktor;
 
 import akka.actor.AbstractActor;
-import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
+import pro.crypto.MonitoringProperties;
 import pro.crypto.message.DecisionMakerMessage;
 import pro.crypto.message.StrategyCalculationMessage;
-import pro.crypto.model.tick.TimeFrame;
-import pro.crypto.request.StrategyCalculationRequest;
-import pro.crypto.response.StrategyResult;
+import pro.crypto.request.StrategyBatchCalculationRequest;
+import pro.crypto.request.StrategyBatchItem;
+import pro.crypto.response.StrategyBatchResult;
 import pro.crypto.routing.CommonRouter;
 import pro.crypto.service.MemberStrategyControlService;
-import pro.crypto.service.MemberStrategyService;
 import pro.crypto.service.StrategyService;
+import pro.crypto.service.TickService;
 import pro.crypto.snapshot.MemberStrategySnapshot;
 
-import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
-import static java.time.LocalDateTime.now;
-import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROTOTYPE;
+import static pro.crypto.helper.CollectionHelper.nonEmpty;
 
 @Slf4j
 @Component
 @Scope(SCOPE_PROTOTYPE)
-@AllArgsConstructor
 public class StrategyCalculationActor extends AbstractActor {
 
     private final CommonRouter router;
-    private final MemberStrategyService memberStrategyService;
     private final MemberStrategyControlService memberStrategyControlService;
     private final StrategyService strategyService;
+    private final MonitoringProperties monitoringProperties;
+    private final TickWindowCache tickWindowCache;
+
+    // cache lives as long as the actor instance, so it is empty after restart
+    public StrategyCalculationActor(CommonRouter router, MemberStrategyControlService memberStrategyControlService,
+                                    StrategyService strategyService, MonitoringProperties monitoringProperties,
+                                    TickService tickService) {
+        this.router = router;
+        this.memberStrategyControlService = memberStrategyControlService;
+        this.strategyService = strategyService;
+        this.monitoringProperties = monitoringProperties;
+        this.tickWindowCache = monitoringProperties.getTickWindowCacheSize() > 0
+                ? new TickWindowCache(tickService, monitoringProperties.getTickWindowCacheSize(), monitoringProperties.getTickWindowCacheTtl())
+                : null;
+    }
 
     @Override
     public Receive createReceive() {
         return receiveBuilder()
-                .match(StrategyCalculationMessage.class, this::calculateStrategy)
+                .match(StrategyCalculationMessage.class, message -> router.process(message, this::calculateStrategies))
                 .build();
     }
 
-    private void calculateStrategy(StrategyCalculationMessage message) {
-        log.trace("Starting calculate member strategy {message: {}}", message);
+    private void calculateStrategies(StrategyCalculationMessage message) {
+        log.trace("Starting calculate member strategies {marketId: {}, timeFrame: {}, strategiesSize: {}}",
+                message.getMarketId(), message.getTimeFrame(), message.getStrategies().size());
         tryCalculate(message);
-        log.info("Finished calculate member strategy {message: {}}", message);
+        log.info("Finished calculate member strategies {marketId: {}, timeFrame: {}, strategiesSize: {}}",
+                message.getMarketId(), message.getTimeFrame(), message.getStrategies().size());
     }
 
+    // failed strategy is noted separately, the whole group is failed only when ticks can't be got.
+    // Results of strategies which aren't in the group are skipped.
+    // Next execution is scheduled after calculation, strategies which decisions aren't admitted stay due
     private void tryCalculate(StrategyCalculationMessage message) {
+        Set<Long> deferredIds = new HashSet<>();
         try {
-            MemberStrategySnapshot memberStrategy = memberStrategyService.findOne(message.getStrategyId());
-            StrategyResult[] result = calculateStrategy(memberStrategy);
-            router.tell(new DecisionMakerMessage(memberStrategy, result));
+            Map<Long, MemberStrategySnapshot> strategies = message.getStrategies().stream()
+                    .collect(toMap(MemberStrategySnapshot::getId, Function.identity()));
+            for (StrategyBatchResult result : strategyService.calculate(buildStrategyBatchCalculationRequest(message))) {
+                MemberStrategySnapshot memberStrategy = strategies.get(result.getId());
+                if (isNull(memberStrategy)) {
+                    log.warn("Result of unknown member strategy has been skipped {memberStrategyId: {}, marketId: {}, timeFrame: {}}",
+                            result.getId(), message.getMarketId(), message.getTimeFrame());
+                    continue;
+                }
+                if (!handleResult(memberStrategy, result)) {
+                    deferredIds.add(result.getId());
+                }
+            }
         } catch (Exception ex) {
-            log.warn("Exception has been occurred during member strategy calculation {memberStrategyId: {}, exception: {}}", message.getStrategyId(), ex);
-            memberStrategyControlService.noteFailedCycle(message.getStrategyId());
+            log.warn("Exception has been occurred during member strategies calculation {marketId: {}, timeFrame: {}, exception: {}}",
+                    message.getMarketId(), message.getTimeFrame(), ex);
+            message.getStrategies().forEach(strategy -> memberStrategyControlService.noteFailedCycle(strategy.getId()));
         }
+        scheduleNextExecution(message, deferredIds);
     }
 
-    private StrategyResult[] calculateStrategy(MemberStrategySnapshot memberStrategy) {
-        return stream(strategyService.calculate(buildStrategyCalculationRequest(memberStrategy)))
-                .map(result -> (StrategyResult) result)
-                .toArray(StrategyResult[]::new);
+    // false if decision isn't admitted because of overload
+    private boolean handleResult(MemberStrategySnapshot memberStrategy, StrategyBatchResult result) {
+        if (result.isFailed()) {
+            log.warn("Exception has been occurred during member strategy calculation {memberStrategyId: {}, exception: {}}",
+                    memberStrategy.getId(), result.getError());
+            memberStrategyControlService.noteFailedCycle(memberStrategy.getId());
+            return true;
+        }
+        if (!router.offer(new DecisionMakerMessage(memberStrategy, result.getResult()))) {
+            log.warn("Decision has been deferred till the next cycle because of overload {memberStrategyId: {}}", memberStrategy.getId());
+            return false;
+        }
+        return true;
     }
 
-    private StrategyCalculationRequest buildStrategyCalculationRequest(MemberStrategySnapshot memberStrategy) {
-        return StrategyCalculationRequest.builder()
-                .marketId(memberStrategy.getMarketId())
-                .timeFrame(memberStrategy.getTimeFrame())
-                .from(defineFromDate(memberStrategy.getTimeFrame()))
-                .to(now())
-                .strategyType(memberStrategy.getStrategyType())
-                .configuration(memberStrategy.getStrategyConfiguration())
+    private void scheduleNextExecution(StrategyCalculationMessage message, Set<Long> deferredIds) {
+        Set<Long> scheduledIds = message.getStrategies().stream()
+                .map(MemberStrategySnapshot::getId)
+                .filter(id -> !deferredIds.contains(id))
+                .collect(toSet());
+        if (nonEmpty(scheduledIds)) {
+            memberStrategyControlService.scheduleNextExecution(scheduledIds);
+        }
+    }
+
+    private StrategyBatchCalculationRequest buildStrategyBatchCalculationRequest(StrategyCalculationMessage message) {
+        return StrategyBatchCalculationRequest.builder()
+                .marketId(message.getMarketId())
+                .timeFrame(message.getTimeFrame())
+                .from(message.getFrom())
+                .to(message.getTo())
+                .strategies(message.getStrategies().stream()
+                        .map(this::buildStrategyBatchItem)
+                        .collect(toList()))
+                .lastBars(monitoringProperties.getDecisionBars())
+                .ticks(nonNull(tickWindowCache)
+                        ? tickWindowCache.getTicks(message.getMarketId(), message.getTimeFrame(), message.getFrom(), message.getTo())
+                        : null)
                 .build();
     }
 
-    private LocalDateTime defineFromDate(TimeFrame timeFrame) {
-        switch (timeFrame) {
-            case FOUR_HOURS:
-                return now().minusMonths(3L);
-            case ONE_DAY:
-                return now().minusMonths(4L);
-            default:
-                return now().minusMonths(2L);
-        }
+    private StrategyBatchItem buildStrategyBatchItem(MemberStrategySnapshot memberStrategy) {
+        return StrategyBatchItem.builder()
+                .id(memberStrategy.getId())
+                .strategyType(memberStrategy.getStrategyType())
+                .configuration(memberStrategy.getStrategyConfiguration())
+                .build();
     }
 
 }
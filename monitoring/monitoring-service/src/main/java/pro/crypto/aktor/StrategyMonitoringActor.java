@@ -2,18 +2,41 @@ package pro.crypto.aktor;
 
 import akka.actor.AbstractActor;
 import lombok.AllArgsConstructor;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
+import pro.crypto.MonitoringProperties;
+import pro.crypto.message.MarketMonitoringMessage;
 import pro.crypto.message.StrategyCalculationMessage;
 import pro.crypto.message.StrategyMonitoringMessage;
+import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.request.TickTimeFindRequest;
 import pro.crypto.routing.CommonRouter;
 import pro.crypto.service.MemberStrategyControlService;
+import pro.crypto.service.MonitoringPartition;
+import pro.crypto.service.TickService;
+import pro.crypto.snapshot.MemberStrategySnapshot;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import static java.time.LocalDateTime.now;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Objects.nonNull;
+import static java.util.Optional.ofNullable;
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROTOTYPE;
 import static pro.crypto.helper.CollectionHelper.nonEmpty;
+import static pro.crypto.helper.TickWindowHelper.defineFromDate;
+import static pro.crypto.routing.MonitoringStage.STRATEGY_CALCULATION;
 
 @Slf4j
 @Component
@@ -23,26 +46,132 @@ public class StrategyMonitoringActor extends AbstractActor {
 
     private final MemberStrategyControlService memberStrategyControlService;
     private final CommonRouter router;
+    private final MonitoringProperties monitoringProperties;
+    private final MonitoringPartition monitoringPartition;
+    private final TickService tickService;
 
     @Override
     public Receive createReceive() {
         return receiveBuilder()
-                .match(StrategyMonitoringMessage.class, (ignoredCommand) -> startMonitoring())
+                .match(StrategyMonitoringMessage.class, message -> router.process(message, ignoredCommand -> startMonitoring()))
+                .match(MarketMonitoringMessage.class, message -> router.process(message, this::startMarketMonitoring))
                 .build();
     }
 
     private void startMonitoring() {
         log.trace("Prepare strategy ids for monitoring");
-        Set<Long> strategyIdsForMonitoring = memberStrategyControlService.getStrategyIdsForMonitoring();
+        sendToCalculation(memberStrategyControlService.getStrategyIdsForMonitoring());
+    }
+
+    private void startMarketMonitoring(MarketMonitoringMessage message) {
+        log.trace("Prepare strategy ids for market monitoring {message: {}}", message);
+        sendToCalculation(memberStrategyControlService.getStrategyIdsForMonitoring(message.getStock(), message.getMarketName(), message.getTimeFrame()));
+    }
+
+    // only strategies of markets owned by the node are calculated, the other nodes calculate the rest.
+    // Strategies of the same market, time frame and ticks window are calculated together, so ticks are fetched once.
+    // The most overdue groups are admitted first, groups over capacity stay due for the next cycle
+    // or are skipped till the next execution time if they are overdue for too long.
+    // Next execution of admitted strategies is scheduled after calculation, they aren't sent again till then.
+    // Execution times are local, tick times are UTC
+    private void sendToCalculation(Set<Long> strategyIdsForMonitoring) {
         if (nonEmpty(strategyIdsForMonitoring)) {
-            memberStrategyControlService.scheduleNextExecution(strategyIdsForMonitoring);
-            strategyIdsForMonitoring.forEach(this::calculate);
-            log.info("Sent strategy ids to calculation {strategyIdsSize: {}}", strategyIdsForMonitoring.size());
+            LocalDateTime executionTime = now();
+            LocalDateTime to = now(UTC);
+            List<StrategyCalculationMessage> messages = memberStrategyControlService.findStrategiesForMonitoring(strategyIdsForMonitoring)
+                    .stream()
+                    .filter(strategy -> monitoringPartition.isOwned(strategy.getMarketId()))
+                    .filter(strategy -> !router.isCalculated(strategy.getId()))
+                    .collect(groupingBy(strategy -> buildCalculationGroup(strategy, to)))
+                    .entrySet()
+                    .stream()
+                    .map(group -> buildStrategyCalculationMessage(group.getKey(), group.getValue()))
+                    .sorted(comparing(this::defineOldestExecutionTime))
+                    .collect(toList());
+            List<StrategyCalculationMessage> admitted = new ArrayList<>();
+            Set<Long> shedIds = new HashSet<>();
+            int deferredSize = 0;
+            for (StrategyCalculationMessage message : messages) {
+                if (router.admit(STRATEGY_CALCULATION)) {
+                    admitted.add(message);
+                    router.send(message);
+                    prefetchTicks(message);
+                } else if (isOverdue(message, executionTime)) {
+                    shedIds.addAll(extractIds(message));
+                } else {
+                    deferredSize += message.getStrategies().size();
+                }
+            }
+            if (nonEmpty(shedIds)) {
+                memberStrategyControlService.scheduleNextExecution(shedIds);
+                log.warn("Overdue strategies have been skipped till the next execution {shedIds: {}}", shedIds);
+            }
+            log.info("Sent strategies to calculation {strategyIdsSize: {}, groupsSize: {}, admittedGroupsSize: {}, shedSize: {}, deferredSize: {}}",
+                    strategyIdsForMonitoring.size(), messages.size(), admitted.size(), shedIds.size(), deferredSize);
+        }
+    }
+
+    // calculation of the group gets the same window, so it joins the fetch in flight or finds ticks stored
+    private void prefetchTicks(StrategyCalculationMessage message) {
+        if (!monitoringProperties.isAdmittedTicksPrefetch()) {
+            return;
+        }
+        try {
+            tickService.getTicksByTimeAsync(TickTimeFindRequest.builder()
+                    .marketId(message.getMarketId())
+                    .timeFrame(message.getTimeFrame())
+                    .from(message.getFrom())
+                    .to(message.getTo())
+                    .build())
+                    .whenComplete((ticks, ex) -> {
+                        if (nonNull(ex)) {
+                            log.debug("Ticks prefetching of admitted group has been failed {marketId: {}, timeFrame: {}, exception: {}}",
+                                    message.getMarketId(), message.getTimeFrame(), ex.getMessage());
+                        }
+                    });
+        } catch (Exception ex) {
+            log.debug("Ticks prefetching of admitted group has been failed {marketId: {}, timeFrame: {}, exception: {}}",
+                    message.getMarketId(), message.getTimeFrame(), ex.getMessage());
         }
     }
 
-    private void calculate(Long strategyId) {
-        router.tell(new StrategyCalculationMessage(strategyId));
+    private StrategyCalculationMessage buildStrategyCalculationMessage(CalculationGroup group, List<MemberStrategySnapshot> strategies) {
+        return new StrategyCalculationMessage(group.getMarketId(), group.getTimeFrame(), group.getFrom(), group.getTo(), strategies);
+    }
+
+    // strategies without execution time are never executed, so they go first
+    private LocalDateTime defineOldestExecutionTime(StrategyCalculationMessage message) {
+        return message.getStrategies().stream()
+                .map(strategy -> ofNullable(strategy.getNextExecutionTime()).orElse(LocalDateTime.MIN))
+                .min(naturalOrder())
+                .orElse(LocalDateTime.MIN);
+    }
+
+    private boolean isOverdue(StrategyCalculationMessage message, LocalDateTime executionTime) {
+        return defineOldestExecutionTime(message).isBefore(executionTime.minus(monitoringProperties.getOverdueThreshold()));
+    }
+
+    private Set<Long> extractIds(StrategyCalculationMessage message) {
+        return message.getStrategies().stream()
+                .map(MemberStrategySnapshot::getId)
+                .collect(toSet());
+    }
+
+    private CalculationGroup buildCalculationGroup(MemberStrategySnapshot strategy, LocalDateTime to) {
+        return new CalculationGroup(strategy.getMarketId(), strategy.getTimeFrame(), defineFromDate(strategy.getTimeFrame(), to), to);
+    }
+
+    @Value
+    private static class CalculationGroup {
+
+        private final Long marketId;
+
+        private final TimeFrame timeFrame;
+
+        private final LocalDateTime from;
+
+        private final LocalDateTime to;
+
     }
 
 }
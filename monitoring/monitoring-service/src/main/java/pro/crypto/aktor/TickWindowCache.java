@@ -0,0 +1,119 @@
+package pro.crypto.aktor;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.request.TickTimeFindRequest;
+import pro.crypto.service.TickService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.time.LocalDateTime.now;
+import static java.util.Objects.nonNull;
+import static pro.crypto.helper.TickHelper.copy;
+
+/**
+ * Recent tick windows of markets calculated by one actor, not thread safe.
+ * Cached window is completed by ticks from its last tick, which may be still open, instead of loading the whole window.
+ * Ticks are mutable, so cached ticks are never given away, every read returns copies.
+ */
+@Slf4j
+class TickWindowCache {
+
+    private final TickService tickService;
+    private final Duration ttl;
+    private final Map<TickWindowKey, TickWindow> windows;
+
+    TickWindowCache(TickService tickService, int maxSize, Duration ttl) {
+        this.tickService = tickService;
+        this.ttl = ttl;
+        this.windows = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<TickWindowKey, TickWindow> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    Tick[] getTicks(Long marketId, TimeFrame timeFrame, LocalDateTime from, LocalDateTime to) {
+        TickWindowKey key = new TickWindowKey(marketId, timeFrame);
+        TickWindow window = windows.get(key);
+        if (isReusable(window, from, to)) {
+            Tick[] ticks = complete(window, marketId, timeFrame, from, to);
+            windows.put(key, new TickWindow(from, to, window.getLoadTime(), ticks));
+            log.debug("Tick window has been completed {marketId: {}, timeFrame: {}, tickSize: {}}", marketId, timeFrame, ticks.length);
+            return copy(ticks);
+        }
+        Tick[] ticks = load(marketId, timeFrame, from, to);
+        windows.put(key, new TickWindow(from, to, now(), ticks));
+        log.debug("Tick window has been loaded {marketId: {}, timeFrame: {}, tickSize: {}}", marketId, timeFrame, ticks.length);
+        return copy(ticks);
+    }
+
+    private boolean isReusable(TickWindow window, LocalDateTime from, LocalDateTime to) {
+        return nonNull(window)
+                && window.getTicks().length > 0
+                && !window.getFrom().isAfter(from)
+                && !window.getTo().isAfter(to)
+                && window.getLoadTime().isAfter(now().minus(ttl));
+    }
+
+    // ticks from the last cached tick replace it, so the bar which was open is updated
+    private Tick[] complete(TickWindow window, Long marketId, TimeFrame timeFrame, LocalDateTime from, LocalDateTime to) {
+        Tick[] cachedTicks = window.getTicks();
+        LocalDateTime lastTickTime = cachedTicks[cachedTicks.length - 1].getTickTime();
+        Tick[] newTicks = load(marketId, timeFrame, lastTickTime, to);
+        boolean lastTickUpdated = newTicks.length > 0 && newTicks[0].getTickTime().equals(lastTickTime);
+        List<Tick> ticks = new ArrayList<>(cachedTicks.length + newTicks.length);
+        for (Tick tick : cachedTicks) {
+            if (!tick.getTickTime().isBefore(from) && (tick.getTickTime().isBefore(lastTickTime) || !lastTickUpdated)) {
+                ticks.add(tick);
+            }
+        }
+        for (Tick tick : newTicks) {
+            if (tick.getTickTime().isAfter(lastTickTime) || lastTickUpdated) {
+                ticks.add(tick);
+            }
+        }
+        return ticks.toArray(new Tick[0]);
+    }
+
+    private Tick[] load(Long marketId, TimeFrame timeFrame, LocalDateTime from, LocalDateTime to) {
+        return tickService.getTicksByTime(TickTimeFindRequest.builder()
+                .marketId(marketId)
+                .timeFrame(timeFrame)
+                .from(from)
+                .to(to)
+                .build())
+                .getTicks();
+    }
+
+    @Value
+    private static class TickWindowKey {
+
+        private final Long marketId;
+
+        private final TimeFrame timeFrame;
+
+    }
+
+    @Value
+    private static class TickWindow {
+
+        private final LocalDateTime from;
+
+        private final LocalDateTime to;
+
+        private final LocalDateTime loadTime;
+
+        private final Tick[] ticks;
+
+    }
+
+}
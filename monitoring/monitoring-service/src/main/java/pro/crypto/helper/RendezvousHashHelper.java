@@ -0,0 +1,33 @@
+package pro.crypto.helper;
+
+import java.util.Collection;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Highest random weight hashing: key belongs to the node with the highest weight of the node and the key.
+ * Only keys of the joined or the left node move, the other keys stay on their nodes.
+ */
+public class RendezvousHashHelper {
+
+    public static String defineOwner(Collection<String> nodeIds, long key) {
+        String owner = null;
+        long ownerWeight = Long.MIN_VALUE;
+        for (String nodeId : nodeIds) {
+            long weight = mix(nodeId.hashCode() * 0x9E3779B97F4A7C15L + key);
+            if (isNull(owner) || weight > ownerWeight || (weight == ownerWeight && nodeId.compareTo(owner) < 0)) {
+                owner = nodeId;
+                ownerWeight = weight;
+            }
+        }
+        return owner;
+    }
+
+    // finalizer of SplitMix64
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+}
@@ -0,0 +1,21 @@
+package pro.crypto.helper;
+
+import pro.crypto.model.tick.TimeFrame;
+
+import java.time.LocalDateTime;
+
+public class TickWindowHelper {
+
+    // ticks which are needed for strategy calculation of the time frame
+    public static LocalDateTime defineFromDate(TimeFrame timeFrame, LocalDateTime to) {
+        switch (timeFrame) {
+            case FOUR_HOURS:
+                return to.minusMonths(3L);
+            case ONE_DAY:
+                return to.minusMonths(4L);
+            default:
+                return to.minusMonths(2L);
+        }
+    }
+
+}
@@ -0,0 +1,16 @@
+package pro.crypto.message;
+
+import lombok.Value;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.TimeFrame;
+
+@Value
+public class MarketMonitoringMessage implements ActorMessage {
+
+    private final Stock stock;
+
+    private final String marketName;
+
+    private final TimeFrame timeFrame;
+
+}
@@ -1,10 +1,26 @@
 package pro.crypto.message;
 
 import lombok.Value;
+import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.snapshot.MemberStrategySnapshot;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Strategies of one market and time frame which are calculated on the same ticks.
+ */
 @Value
 public class StrategyCalculationMessage implements ActorMessage {
 
-    private final Long strategyId;
+    private final Long marketId;
+
+    private final TimeFrame timeFrame;
+
+    private final LocalDateTime from;
+
+    private final LocalDateTime to;
+
+    private final List<MemberStrategySnapshot> strategies;
 
 }
@@ -2,10 +2,14 @@ package pro.crypto.routing;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.actor.DeadLetter;
+import akka.actor.Props;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import pro.crypto.MonitoringProperties;
 import pro.crypto.message.ActorMessage;
 import pro.crypto.message.DecisionMakerMessage;
+import pro.crypto.message.MarketMonitoringMessage;
 import pro.crypto.message.SignalSenderMessage;
 import pro.crypto.message.StrategyCalculationMessage;
 import pro.crypto.message.StrategyMonitoringMessage;
@@ -13,58 +17,142 @@ import pro.crypto.routing.supervisor.DecisionMakerSupervisor;
 import pro.crypto.routing.supervisor.SignalSenderSupervisor;
 import pro.crypto.routing.supervisor.StrategyCalculationSupervisor;
 import pro.crypto.routing.supervisor.StrategyMonitoringSupervisor;
+import pro.crypto.snapshot.MemberStrategySnapshot;
 
 import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 import static io.vavr.API.$;
 import static io.vavr.API.Case;
 import static io.vavr.API.Match;
-import static io.vavr.API.run;
 import static io.vavr.Predicates.instanceOf;
+import static java.util.stream.Collectors.toSet;
+import static pro.crypto.routing.MonitoringStage.DECISION_MAKER;
+import static pro.crypto.routing.MonitoringStage.MARKET_MONITORING;
+import static pro.crypto.routing.MonitoringStage.SIGNAL_SENDER;
+import static pro.crypto.routing.MonitoringStage.STRATEGY_CALCULATION;
+import static pro.crypto.routing.MonitoringStage.STRATEGY_MONITORING;
 
+/**
+ * Sends messages to supervisors of monitoring stages and counts messages which are not processed yet.
+ * Messages are sent only if the stage and the next stages have capacity, so the source of work is slowed down
+ * by the slowest stage instead of filling mailboxes. Place of message is released when it's processed
+ * or when it goes to dead letters because its actor is stopped.
+ */
 @Component
 @RequiredArgsConstructor
 public class CommonRouter {
 
     private final ActorSystem system;
     private final PropsFactory propsFactory;
+    private final MonitoringProperties monitoringProperties;
 
-    private ActorRef strategyMonitoringSupervisor;
-    private ActorRef strategyCalculationSupervisor;
-    private ActorRef decisionMakerSupervisor;
-    private ActorRef signalSenderSupervisor;
-
-    public void tell(ActorMessage message) {
-        Match(message).of(
-                Case($(instanceOf(StrategyMonitoringMessage.class)), run(() -> sendToStrategyMonitoringSupervisor(message))),
-                Case($(instanceOf(StrategyCalculationMessage.class)), run(() -> sendToStrategyCalculationSupervisor(message))),
-                Case($(instanceOf(DecisionMakerMessage.class)), run(() -> sendToDecisionMakerSupervisor(message))),
-                Case($(instanceOf(SignalSenderMessage.class)), run(() -> sendToSignalSenderSupervisor(message)))
-        );
+    private final Map<MonitoringStage, ActorRef> supervisors = new EnumMap<>(MonitoringStage.class);
+    private final Map<MonitoringStage, MonitoringStageGate> gates = new EnumMap<>(MonitoringStage.class);
+    private final Set<Long> calculatedStrategyIds = ConcurrentHashMap.newKeySet();
+    private final Set<MarketMonitoringMessage> pendingMarketMessages = ConcurrentHashMap.newKeySet();
+
+    // false if message isn't sent because of overload.
+    // Market message is coalesced with the same one which isn't processed yet, it finds the same strategies anyway
+    public boolean offer(ActorMessage message) {
+        MonitoringStage stage = defineStage(message);
+        if (message instanceof MarketMonitoringMessage && !pendingMarketMessages.add((MarketMonitoringMessage) message)) {
+            gates.get(stage).coalesce();
+            return true;
+        }
+        if (!admit(stage)) {
+            pendingMarketMessages.remove(message);
+            return false;
+        }
+        send(message);
+        return true;
+    }
+
+    // reserves place for one message of the stage, reserved message is sent by send()
+    public boolean admit(MonitoringStage stage) {
+        if (!hasCapacity(stage) || !gates.get(stage).tryEnter()) {
+            gates.get(stage).reject();
+            return false;
+        }
+        return true;
     }
 
-    private void sendToStrategyMonitoringSupervisor(ActorMessage message) {
-        strategyMonitoringSupervisor.tell(message, ActorRef.noSender());
+    public void send(ActorMessage message) {
+        if (message instanceof StrategyCalculationMessage) {
+            calculatedStrategyIds.addAll(extractStrategyIds((StrategyCalculationMessage) message));
+        }
+        supervisors.get(defineStage(message)).tell(message, ActorRef.noSender());
     }
 
-    private void sendToStrategyCalculationSupervisor(ActorMessage message) {
-        strategyCalculationSupervisor.tell(message, ActorRef.noSender());
+    // the stage and the next stages are not full, capacities of other sources of work don't matter
+    public boolean hasCapacity(MonitoringStage stage) {
+        return gates.values().stream()
+                .filter(gate -> gate.getStage() == stage || !gate.getStage().isSource() && gate.getStage().compareTo(stage) > 0)
+                .allMatch(MonitoringStageGate::hasCapacity);
     }
 
-    private void sendToDecisionMakerSupervisor(ActorMessage message) {
-        decisionMakerSupervisor.tell(message, ActorRef.noSender());
+    // actors process received messages through the router, so processed messages leave the stage.
+    // Market message which processing is started isn't coalesced anymore
+    public <T extends ActorMessage> void process(T message, Consumer<T> handler) {
+        pendingMarketMessages.remove(message);
+        try {
+            handler.accept(message);
+        } finally {
+            release(message);
+        }
+    }
+
+    // strategy is sent to calculation and isn't calculated yet
+    public boolean isCalculated(Long strategyId) {
+        return calculatedStrategyIds.contains(strategyId);
+    }
+
+    void release(ActorMessage message) {
+        pendingMarketMessages.remove(message);
+        if (message instanceof StrategyCalculationMessage) {
+            calculatedStrategyIds.removeAll(extractStrategyIds((StrategyCalculationMessage) message));
+        }
+        gates.get(defineStage(message)).exit();
+    }
+
+    public Collection<MonitoringStageGate> getGates() {
+        return gates.values();
+    }
+
+    private MonitoringStage defineStage(ActorMessage message) {
+        return Match(message).of(
+                Case($(instanceOf(StrategyMonitoringMessage.class)), STRATEGY_MONITORING),
+                Case($(instanceOf(MarketMonitoringMessage.class)), MARKET_MONITORING),
+                Case($(instanceOf(StrategyCalculationMessage.class)), STRATEGY_CALCULATION),
+                Case($(instanceOf(DecisionMakerMessage.class)), DECISION_MAKER),
+                Case($(instanceOf(SignalSenderMessage.class)), SIGNAL_SENDER)
+        );
     }
 
-    private void sendToSignalSenderSupervisor(ActorMessage message) {
-        signalSenderSupervisor.tell(message, ActorRef.noSender());
+    private Set<Long> extractStrategyIds(StrategyCalculationMessage message) {
+        return message.getStrategies().stream()
+                .map(MemberStrategySnapshot::getId)
+                .collect(toSet());
     }
 
     @PostConstruct
-    private void init() {
-        strategyMonitoringSupervisor = system.actorOf(propsFactory.props(StrategyMonitoringSupervisor.class));
-        strategyCalculationSupervisor = system.actorOf(propsFactory.props(StrategyCalculationSupervisor.class));
-        decisionMakerSupervisor = system.actorOf(propsFactory.props(DecisionMakerSupervisor.class));
-        signalSenderSupervisor = system.actorOf(propsFactory.props(SignalSenderSupervisor.class));
+    public void init() {
+        supervisors.put(STRATEGY_MONITORING, system.actorOf(propsFactory.props(StrategyMonitoringSupervisor.class)));
+        supervisors.put(MARKET_MONITORING, supervisors.get(STRATEGY_MONITORING));
+        supervisors.put(STRATEGY_CALCULATION, system.actorOf(propsFactory.props(StrategyCalculationSupervisor.class)));
+        supervisors.put(DECISION_MAKER, system.actorOf(propsFactory.props(DecisionMakerSupervisor.class)));
+        supervisors.put(SIGNAL_SENDER, system.actorOf(propsFactory.props(SignalSenderSupervisor.class)));
+        gates.put(STRATEGY_MONITORING, new MonitoringStageGate(STRATEGY_MONITORING, monitoringProperties.getStrategyMonitoringQueueSize()));
+        gates.put(MARKET_MONITORING, new MonitoringStageGate(MARKET_MONITORING, monitoringProperties.getMarketMonitoringQueueSize()));
+        gates.put(STRATEGY_CALCULATION, new MonitoringStageGate(STRATEGY_CALCULATION, monitoringProperties.getStrategyCalculationQueueSize()));
+        gates.put(DECISION_MAKER, new MonitoringStageGate(DECISION_MAKER, monitoringProperties.getDecisionMakerQueueSize()));
+        gates.put(SIGNAL_SENDER, new MonitoringStageGate(SIGNAL_SENDER, monitoringProperties.getSignalSenderQueueSize()));
+        system.getEventStream().subscribe(system.actorOf(Props.create(DeadLetterListener.class, this)), DeadLetter.class);
     }
 
 }
@@ -0,0 +1,32 @@
+package pro.crypto.routing;
+
+import akka.actor.AbstractActor;
+import akka.actor.DeadLetter;
+import lombok.extern.slf4j.Slf4j;
+import pro.crypto.message.ActorMessage;
+
+// messages of stopped actors are never processed, so their places in the stage are released here
+@Slf4j
+class DeadLetterListener extends AbstractActor {
+
+    private final CommonRouter router;
+
+    public DeadLetterListener(CommonRouter router) {
+        this.router = router;
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(DeadLetter.class, this::release)
+                .build();
+    }
+
+    private void release(DeadLetter letter) {
+        if (letter.message() instanceof ActorMessage) {
+            log.warn("Monitoring message has not been processed {message: {}, recipient: {}}", letter.message(), letter.recipient());
+            router.release((ActorMessage) letter.message());
+        }
+    }
+
+}
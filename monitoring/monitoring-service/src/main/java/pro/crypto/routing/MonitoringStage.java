@@ -0,0 +1,21 @@
+package pro.crypto.routing;
+
+import lombok.Getter;
+
+// stages in order of the monitoring pipeline, monitoring stages are sources of work with own capacities
+public enum MonitoringStage {
+
+    STRATEGY_MONITORING(true),
+    MARKET_MONITORING(true),
+    STRATEGY_CALCULATION(false),
+    DECISION_MAKER(false),
+    SIGNAL_SENDER(false);
+
+    @Getter
+    private final boolean source;
+
+    MonitoringStage(boolean source) {
+        this.source = source;
+    }
+
+}
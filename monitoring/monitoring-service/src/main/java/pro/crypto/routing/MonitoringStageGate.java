@@ -0,0 +1,80 @@
+package pro.crypto.routing;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Messages of one monitoring stage which are sent and not processed yet, offered messages are admitted within capacity.
+ * Messages are considered processed in the order they were sent, so age of the oldest message is approximate
+ * when several actors of the stage process messages.
+ */
+public class MonitoringStageGate {
+
+    @Getter
+    private final MonitoringStage stage;
+    @Getter
+    private final int capacity;
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final Queue<Long> sentTimes = new ConcurrentLinkedQueue<>();
+
+    MonitoringStageGate(MonitoringStage stage, int capacity) {
+        this.stage = stage;
+        this.capacity = capacity;
+    }
+
+    public int getDepth() {
+        return depth.get();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    public Duration getOldestAge() {
+        Long sentTime = sentTimes.peek();
+        return isNull(sentTime) ? Duration.ZERO : Duration.ofNanos(System.nanoTime() - sentTime);
+    }
+
+    boolean hasCapacity() {
+        return depth.get() < capacity;
+    }
+
+    boolean tryEnter() {
+        int current;
+        do {
+            current = depth.get();
+            if (current >= capacity) {
+                return false;
+            }
+        } while (!depth.compareAndSet(current, current + 1));
+        sentTimes.add(System.nanoTime());
+        return true;
+    }
+
+    void exit() {
+        sentTimes.poll();
+        depth.decrementAndGet();
+    }
+
+    void reject() {
+        rejected.incrementAndGet();
+    }
+
+    void coalesce() {
+        coalesced.incrementAndGet();
+    }
+
+}
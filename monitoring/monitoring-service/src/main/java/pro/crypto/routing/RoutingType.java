@@ -0,0 +1,11 @@
+package pro.crypto.routing;
+
+public enum RoutingType {
+
+    // message goes to the least busy actor
+    SMALLEST_MAILBOX,
+
+    // messages of the same market and time frame go to the same actor
+    CONSISTENT_HASHING
+
+}
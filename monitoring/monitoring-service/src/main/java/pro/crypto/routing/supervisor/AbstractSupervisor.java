@@ -10,6 +10,7 @@ import akka.japi.pf.DeciderBuilder;
 import akka.routing.ActorRefRoutee;
 import akka.routing.Routee;
 import akka.routing.Router;
+import akka.routing.RoutingLogic;
 import akka.routing.SmallestMailboxRoutingLogic;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
@@ -44,7 +45,7 @@ public abstract class AbstractSupervisor extends AbstractActor {
     public void preStart() {
         log.info("Starting prepare supervisor {supervisorClass: {}}", getClass());
         List<Routee> routes = createRoutes();
-        router = new Router(new SmallestMailboxRoutingLogic(), routes);
+        router = new Router(createRoutingLogic(), routes);
         super.preStart();
         log.info("Prepared supervisor {supervisorClass: {}}", getClass());
     }
@@ -53,6 +54,10 @@ public abstract class AbstractSupervisor extends AbstractActor {
 
     abstract Integer getChildActorsSize();
 
+    RoutingLogic createRoutingLogic() {
+        return new SmallestMailboxRoutingLogic();
+    }
+
     void replaceActor(Terminated message) {
         router = router.removeRoutee(message.actor());
         router = router.addRoutee(createRoutee());
@@ -2,6 +2,8 @@ package pro.crypto.routing.supervisor;
 
 import akka.actor.Actor;
 import akka.actor.Terminated;
+import akka.routing.ConsistentHashingRoutingLogic;
+import akka.routing.RoutingLogic;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
@@ -9,6 +11,7 @@ import pro.crypto.MonitoringProperties;
 import pro.crypto.aktor.StrategyCalculationActor;
 import pro.crypto.message.StrategyCalculationMessage;
 import pro.crypto.routing.PropsFactory;
+import pro.crypto.routing.RoutingType;
 
 import static org.springframework.beans.factory.config.BeanDefinition.SCOPE_PROTOTYPE;
 
@@ -39,4 +42,23 @@ public class StrategyCalculationSupervisor extends AbstractSupervisor {
         return monitoringProperties.getStrategyCalculationActorsSize();
     }
 
+    // replaced actor takes place of the terminated one on the hash ring, restarted actor keeps its place
+    @Override
+    RoutingLogic createRoutingLogic() {
+        if (monitoringProperties.getStrategyCalculationRouting() != RoutingType.CONSISTENT_HASHING) {
+            return super.createRoutingLogic();
+        }
+        return new ConsistentHashingRoutingLogic(getContext().getSystem())
+                .withVirtualNodesFactor(monitoringProperties.getVirtualNodesFactor())
+                .withHashMapper(this::defineHashKey);
+    }
+
+    private Object defineHashKey(Object message) {
+        if (message instanceof StrategyCalculationMessage) {
+            StrategyCalculationMessage calculationMessage = (StrategyCalculationMessage) message;
+            return calculationMessage.getMarketId() + ":" + calculationMessage.getTimeFrame();
+        }
+        return null;
+    }
+
 }
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import pro.crypto.MonitoringProperties;
 import pro.crypto.aktor.StrategyMonitoringActor;
+import pro.crypto.message.MarketMonitoringMessage;
 import pro.crypto.message.StrategyMonitoringMessage;
 import pro.crypto.routing.PropsFactory;
 
@@ -25,6 +26,7 @@ public class StrategyMonitoringSupervisor extends AbstractSupervisor {
     public Receive createReceive() {
         return receiveBuilder()
                 .match(StrategyMonitoringMessage.class, command -> router.route(command, getSender()))
+                .match(MarketMonitoringMessage.class, command -> router.route(command, getSender()))
                 .match(Terminated.class, super::replaceActor)
                 .build();
     }
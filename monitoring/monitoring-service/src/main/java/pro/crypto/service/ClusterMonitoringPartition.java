@@ -0,0 +1,129 @@
+package pro.crypto.service;
+
+import lombok.extern.slf4j.Slf4j;
+import pro.crypto.MonitoringClusterProperties;
+import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.model.MonitoringNode;
+import pro.crypto.repository.MonitoringNodeRepository;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static java.time.LocalDateTime.now;
+import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toList;
+import static pro.crypto.helper.RendezvousHashHelper.defineOwner;
+
+/**
+ * Node of monitoring cluster, nodes find each other by heartbeats in the database.
+ * Markets are partitioned across live nodes by rendezvous hashing, so only markets of the joined or the left node move.
+ * Quartz monitoring job is unscheduled when cluster is enabled, every node starts monitoring cycles of its markets itself.
+ * Nodes see membership changes on their next heartbeat, so a moved market may be calculated twice within the heartbeat interval.
+ * Heartbeats are written and compared by the database clock, the node checks its own last heartbeat by its monotonic clock.
+ * Start time of the node identifies its run, so the node doesn't take the id of another live node and doesn't remove it.
+ */
+@Slf4j
+public class ClusterMonitoringPartition implements MonitoringPartition {
+
+    private final MonitoringNodeRepository monitoringNodeRepository;
+    private final MonitoringService monitoringService;
+    private final MonitoringClusterProperties properties;
+
+    private volatile List<String> nodeIds = emptyList();
+    private volatile Long lastHeartbeatNanos;
+    private LocalDateTime startTime;
+    private ScheduledExecutorService scheduler;
+
+    public ClusterMonitoringPartition(MonitoringNodeRepository monitoringNodeRepository, MonitoringService monitoringService,
+                                      MonitoringClusterProperties properties) {
+        this.monitoringNodeRepository = monitoringNodeRepository;
+        this.monitoringService = monitoringService;
+        this.properties = properties;
+    }
+
+    public void start() {
+        if (isNull(properties.getNodeId()) || properties.getNodeId().trim().isEmpty()) {
+            throw new WrongIncomingParametersException(format("Monitoring node id is not specified {nodeId: {%s}}", properties.getNodeId()));
+        }
+        startTime = now().truncatedTo(ChronoUnit.MICROS);
+        heartbeat();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "monitoring-cluster");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long heartbeatInterval = properties.getHeartbeatInterval().toMillis();
+        long monitoringInterval = properties.getMonitoringInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatInterval, heartbeatInterval, TimeUnit.MILLISECONDS);
+        scheduler.scheduleAtFixedRate(this::startMonitoring, monitoringInterval - System.currentTimeMillis() % monitoringInterval,
+                monitoringInterval, TimeUnit.MILLISECONDS);
+        log.info("Monitoring node has joined cluster {nodeId: {}, nodeIds: {}}", properties.getNodeId(), nodeIds);
+    }
+
+    // the left node is removed at once, so the other nodes take its markets on their next heartbeat
+    public void stop() {
+        if (nonNull(scheduler)) {
+            scheduler.shutdownNow();
+        }
+        try {
+            monitoringNodeRepository.deleteByIdAndStartTime(properties.getNodeId(), startTime);
+            log.info("Monitoring node has left cluster {nodeId: {}}", properties.getNodeId());
+        } catch (Exception ex) {
+            log.warn("Monitoring node can not leave cluster {nodeId: {}, exception: {}}", properties.getNodeId(), ex.getMessage());
+        }
+    }
+
+    public List<String> getNodeIds() {
+        return nodeIds;
+    }
+
+    // node which can't send heartbeats is considered left by the other nodes, so it gives up its markets too
+    @Override
+    public boolean isOwned(Long marketId) {
+        Long heartbeatNanos = lastHeartbeatNanos;
+        if (isNull(heartbeatNanos) || System.nanoTime() - heartbeatNanos > properties.getNodeTimeout().toNanos()) {
+            return false;
+        }
+        return properties.getNodeId().equals(defineOwner(nodeIds, marketId));
+    }
+
+    private void heartbeat() {
+        try {
+            long heartbeatNanos = System.nanoTime();
+            long nodeTimeout = properties.getNodeTimeout().toMillis();
+            if (monitoringNodeRepository.saveHeartbeat(properties.getNodeId(), startTime, nodeTimeout) == 0) {
+                log.warn("Monitoring node id is used by another live node {nodeId: {}}", properties.getNodeId());
+                return;
+            }
+            monitoringNodeRepository.deleteAllLeft(nodeTimeout);
+            List<String> liveNodeIds = monitoringNodeRepository.findAllLive(nodeTimeout)
+                    .stream()
+                    .map(MonitoringNode::getId)
+                    .sorted()
+                    .collect(toList());
+            if (!liveNodeIds.equals(nodeIds)) {
+                log.info("Monitoring cluster has been changed, markets are rebalanced {previousNodeIds: {}, nodeIds: {}}", nodeIds, liveNodeIds);
+            }
+            nodeIds = liveNodeIds;
+            lastHeartbeatNanos = heartbeatNanos;
+        } catch (Exception ex) {
+            log.warn("Monitoring node heartbeat has been failed {nodeId: {}, exception: {}}", properties.getNodeId(), ex.getMessage());
+        }
+    }
+
+    private void startMonitoring() {
+        try {
+            monitoringService.startMonitoring();
+        } catch (Exception ex) {
+            log.warn("Monitoring cycle has been failed {nodeId: {}, exception: {}}", properties.getNodeId(), ex.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package pro.crypto.service;
+
+/**
+ * Single node monitors all markets.
+ */
+public class LocalMonitoringPartition implements MonitoringPartition {
+
+    @Override
+    public boolean isOwned(Long marketId) {
+        return true;
+    }
+
+}
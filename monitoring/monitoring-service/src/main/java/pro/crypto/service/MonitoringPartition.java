@@ -0,0 +1,10 @@
+package pro.crypto.service;
+
+/**
+ * Markets whose strategies are monitored by this node.
+ */
+public interface MonitoringPartition {
+
+    boolean isOwned(Long marketId);
+
+}
@@ -2,8 +2,13 @@ package pro.crypto.service;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import pro.crypto.message.MarketMonitoringMessage;
 import pro.crypto.message.StrategyMonitoringMessage;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.BarCloseEvent;
+import pro.crypto.model.tick.TimeFrame;
 import pro.crypto.routing.CommonRouter;
 
 @AllArgsConstructor
@@ -16,8 +21,27 @@ public class MonitoringProviderService implements MonitoringService {
     @Override
     public void startMonitoring() {
         log.trace("Starting monitoring");
-        router.tell(new StrategyMonitoringMessage());
+        if (!router.offer(new StrategyMonitoringMessage())) {
+            log.warn("Monitoring cycle has been skipped, previous cycles are still processed");
+            return;
+        }
         log.info("Monitoring has started");
     }
 
+    @Override
+    public void startMonitoring(Stock stock, String marketName, TimeFrame timeFrame) {
+        log.trace("Starting market monitoring {stock: {}, marketName: {}, timeFrame: {}}", stock, marketName, timeFrame);
+        if (!router.offer(new MarketMonitoringMessage(stock, marketName, timeFrame))) {
+            log.warn("Market monitoring has been skipped, too many bar closes are still processed {stock: {}, marketName: {}, timeFrame: {}}",
+                    stock, marketName, timeFrame);
+            return;
+        }
+        log.info("Market monitoring has started {stock: {}, marketName: {}, timeFrame: {}}", stock, marketName, timeFrame);
+    }
+
+    @EventListener
+    public void onBarClose(BarCloseEvent event) {
+        startMonitoring(event.getStock(), event.getMarketName(), event.getTimeFrame());
+    }
+
 }
@@ -0,0 +1,111 @@
+package pro.crypto.service;
+
+import lombok.extern.slf4j.Slf4j;
+import pro.crypto.TickPrefetchProperties;
+import pro.crypto.helper.AsyncLimiter;
+import pro.crypto.request.TickTimeFindRequest;
+import pro.crypto.response.TickDataSnapshot;
+import pro.crypto.snapshot.MonitoredMarketSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+import static java.time.LocalDateTime.now;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toList;
+import static pro.crypto.helper.TickWindowHelper.defineFromDate;
+import static pro.crypto.helper.TimeFrameHelper.alignTime;
+
+/**
+ * Loads closed ticks of markets whose strategies are due in the next monitoring cycle,
+ * so the cycle finds the history in tick store and fetches only the bars after it.
+ * Runs lead time before each cycle, one load per owned market and time frame, loads are limited by concurrency
+ * and don't hold threads while ticks are fetched. Loads over the queue size are skipped, the cycle fetches their ticks itself.
+ * Execution times of strategies are local, tick times are UTC.
+ */
+@Slf4j
+public class TickPrefetcher {
+
+    private final TickService tickService;
+    private final MemberStrategyControlService memberStrategyControlService;
+    private final TickPrefetchProperties properties;
+    private final MonitoringPartition monitoringPartition;
+
+    private ScheduledExecutorService scheduler;
+    private AsyncLimiter loader;
+
+    public TickPrefetcher(TickService tickService, MemberStrategyControlService memberStrategyControlService,
+                          TickPrefetchProperties properties, MonitoringPartition monitoringPartition) {
+        this.tickService = tickService;
+        this.memberStrategyControlService = memberStrategyControlService;
+        this.properties = properties;
+        this.monitoringPartition = monitoringPartition;
+    }
+
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(createThreadFactory("tick-prefetch-scheduler"));
+        loader = new AsyncLimiter(properties.getConcurrency(), properties.getQueueSize());
+        long interval = properties.getInterval().toMillis();
+        long delay = Math.floorMod(interval - System.currentTimeMillis() % interval - properties.getLeadTime().toMillis(), interval);
+        scheduler.scheduleAtFixedRate(this::prefetch, delay, interval, TimeUnit.MILLISECONDS);
+        log.info("Tick prefetcher has been started {leadTime: {}, interval: {}, concurrency: {}, queueSize: {}}",
+                properties.getLeadTime(), properties.getInterval(), properties.getConcurrency(), properties.getQueueSize());
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void prefetch() {
+        try {
+            LocalDateTime executionTime = now().plus(properties.getLeadTime());
+            LocalDateTime tickTime = now(UTC).plus(properties.getLeadTime());
+            List<MonitoredMarketSnapshot> markets = memberStrategyControlService.getMarketsForMonitoring(executionTime).stream()
+                    .filter(market -> monitoringPartition.isOwned(market.getMarketId()))
+                    .collect(toList());
+            log.trace("Prefetching ticks {executionTime: {}, markets: {}}", executionTime, markets.size());
+            markets.forEach(market -> loader.submit(() -> load(market, tickTime))
+                    .whenComplete((ticks, ex) -> {
+                        if (ex instanceof RejectedExecutionException) {
+                            log.debug("Ticks prefetching has been skipped, loads queue is full {market: {}}", market);
+                        } else if (nonNull(ex)) {
+                            log.warn("Ticks prefetching has been failed {market: {}, exception: {}}", market, ex.getMessage());
+                        } else {
+                            log.debug("Ticks have been prefetched {market: {}}", market);
+                        }
+                    }));
+        } catch (Exception ex) {
+            log.warn("Tick prefetching has been failed {exception: {}}", ex.getMessage());
+        }
+    }
+
+    // bar which is open at execution time isn't loaded, the cycle fetches it after its start
+    private CompletionStage<TickDataSnapshot> load(MonitoredMarketSnapshot market, LocalDateTime tickTime) {
+        LocalDateTime to = alignTime(tickTime, market.getTimeFrame()).minusSeconds(1);
+        return tickService.getTicksByTimeAsync(TickTimeFindRequest.builder()
+                .marketId(market.getMarketId())
+                .timeFrame(market.getTimeFrame())
+                .from(defineFromDate(market.getTimeFrame(), to))
+                .to(to)
+                .build());
+    }
+
+    private static ThreadFactory createThreadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, format("%s-%d", name, counter.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
@@ -0,0 +1,266 @@
+package pro.crypto.aktor;
+
+import akka.actor.AbstractActor;
+import akka.actor.Actor;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pro.crypto.MonitoringProperties;
+import pro.crypto.message.DecisionMakerMessage;
+import pro.crypto.message.StrategyCalculationMessage;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.request.MemberStrategyStatusChangeRequest;
+import pro.crypto.request.StrategyBatchCalculationRequest;
+import pro.crypto.request.StrategyBatchItem;
+import pro.crypto.request.StrategyCalculationRequest;
+import pro.crypto.response.StrategyBatchDecision;
+import pro.crypto.response.StrategyBatchResult;
+import pro.crypto.response.StrategyDecision;
+import pro.crypto.response.StrategyResult;
+import pro.crypto.routing.CommonRouter;
+import pro.crypto.routing.PropsFactory;
+import pro.crypto.routing.supervisor.StrategyCalculationSupervisor;
+import pro.crypto.service.MemberStrategyControlService;
+import pro.crypto.service.StrategyService;
+import pro.crypto.snapshot.MemberStrategySnapshot;
+import pro.crypto.snapshot.MonitoredMarketSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.model.tick.TimeFrame.FIVE_MIN;
+import static pro.crypto.routing.MonitoringStage.STRATEGY_CALCULATION;
+
+/**
+ * Decision stage is stubbed by the actor which keeps received decisions, so decisions stay in the stage till the end of the test.
+ */
+public class StrategyCalculationActorTest {
+
+    private static final LocalDateTime TO = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private final StubControlService controlService = new StubControlService();
+    private final StubStrategyService strategyService = new StubStrategyService();
+    private final BlockingQueue<Object> decisions = new LinkedBlockingQueue<>();
+    private final MonitoringProperties properties = new MonitoringProperties();
+    private ActorSystem system;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create("strategy-calculation-actor-test");
+    }
+
+    @After
+    public void destroy() {
+        system.terminate();
+    }
+
+    // the whole group is calculated by one batch request
+    @Test
+    public void groupCalculatedTogetherTest() throws InterruptedException {
+        strategyService.results = new StrategyBatchResult[]{buildResult(1L), buildResult(2L)};
+        calculate(buildStrategy(1L), buildStrategy(2L));
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), controlService.scheduled.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, strategyService.requests.size());
+        StrategyBatchCalculationRequest request = strategyService.requests.get(0);
+        assertEquals(Long.valueOf(1L), request.getMarketId());
+        assertEquals(FIVE_MIN, request.getTimeFrame());
+        assertEquals(TO, request.getTo());
+        assertEquals(Arrays.asList(1L, 2L), request.getStrategies().stream().map(StrategyBatchItem::getId).collect(toList()));
+        assertEquals(Arrays.asList(1L, 2L), Arrays.asList(nextDecision().getMemberStrategy().getId(), nextDecision().getMemberStrategy().getId()));
+    }
+
+    @Test
+    public void failedStrategyNotedSeparatelyTest() throws InterruptedException {
+        strategyService.results = new StrategyBatchResult[]{buildResult(1L), new StrategyBatchResult(2L, null, "Calculation failed")};
+        calculate(buildStrategy(1L), buildStrategy(2L));
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), controlService.scheduled.poll(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(2L), controlService.failed);
+        assertEquals(Long.valueOf(1L), nextDecision().getMemberStrategy().getId());
+        assertNull(decisions.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void unknownStrategyResultSkippedTest() throws InterruptedException {
+        strategyService.results = new StrategyBatchResult[]{buildResult(99L), buildResult(1L)};
+        calculate(buildStrategy(1L));
+        assertEquals(new HashSet<>(Arrays.asList(1L)), controlService.scheduled.poll(5, TimeUnit.SECONDS));
+        assertTrue(controlService.failed.isEmpty());
+        assertEquals(Long.valueOf(1L), nextDecision().getMemberStrategy().getId());
+        assertNull(decisions.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void failedBatchFailsGroupTest() throws InterruptedException {
+        strategyService.results = null;
+        calculate(buildStrategy(1L), buildStrategy(2L));
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), controlService.scheduled.poll(5, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(1L, 2L), controlService.failed);
+        assertNull(decisions.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    // decision which isn't admitted leaves its strategy due
+    @Test
+    public void deferredDecisionNotScheduledTest() throws InterruptedException {
+        properties.setDecisionMakerQueueSize(1);
+        strategyService.results = new StrategyBatchResult[]{buildResult(1L), buildResult(2L)};
+        calculate(buildStrategy(1L), buildStrategy(2L));
+        assertEquals(new HashSet<>(Arrays.asList(1L)), controlService.scheduled.poll(5, TimeUnit.SECONDS));
+        assertEquals(Long.valueOf(1L), nextDecision().getMemberStrategy().getId());
+    }
+
+    private void calculate(MemberStrategySnapshot... strategies) {
+        CommonRouter router = createRouter();
+        assertTrue(router.admit(STRATEGY_CALCULATION));
+        router.send(new StrategyCalculationMessage(1L, FIVE_MIN, TO.minusMonths(2), TO, Arrays.asList(strategies)));
+    }
+
+    private CommonRouter createRouter() {
+        AtomicReference<CommonRouter> holder = new AtomicReference<>();
+        PropsFactory propsFactory = new PropsFactory(null) {
+            @Override
+            public Props props(Class<? extends Actor> actorClass) {
+                if (actorClass == StrategyCalculationSupervisor.class) {
+                    return Props.create(StrategyCalculationActor.class,
+                            () -> new StrategyCalculationActor(holder.get(), controlService, strategyService, properties, null));
+                }
+                return Props.create(RecordingActor.class, decisions);
+            }
+        };
+        CommonRouter router = new CommonRouter(system, propsFactory, properties);
+        holder.set(router);
+        router.init();
+        return router;
+    }
+
+    private DecisionMakerMessage nextDecision() throws InterruptedException {
+        Object message = decisions.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message);
+        return (DecisionMakerMessage) message;
+    }
+
+    private MemberStrategySnapshot buildStrategy(Long id) {
+        return MemberStrategySnapshot.builder()
+                .id(id)
+                .marketId(1L)
+                .timeFrame(FIVE_MIN)
+                .build();
+    }
+
+    private StrategyBatchResult buildResult(Long id) {
+        return new StrategyBatchResult(id, new StrategyResult[0], null);
+    }
+
+    // receives messages without processing, so they stay in the stage
+    public static class RecordingActor extends AbstractActor {
+
+        private final BlockingQueue<Object> messages;
+
+        public RecordingActor(BlockingQueue<Object> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchAny(messages::add)
+                    .build();
+        }
+
+    }
+
+    // batch is failed if results aren't set
+    private static class StubStrategyService implements StrategyService {
+
+        private final List<StrategyBatchCalculationRequest> requests = new CopyOnWriteArrayList<>();
+        private volatile StrategyBatchResult[] results;
+
+        @Override
+        public Object[] calculate(StrategyCalculationRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StrategyDecision[] decide(StrategyCalculationRequest request, int lastBars) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StrategyBatchResult[] calculate(StrategyBatchCalculationRequest request) {
+            requests.add(request);
+            if (results == null) {
+                throw new IllegalStateException("Ticks can't be got");
+            }
+            return results;
+        }
+
+        @Override
+        public StrategyBatchDecision[] decide(StrategyBatchCalculationRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    private static class StubControlService implements MemberStrategyControlService {
+
+        private final BlockingQueue<Set<Long>> scheduled = new LinkedBlockingQueue<>();
+        private final List<Long> failed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void scheduleNextExecution(Set<Long> memberStrategyIds) {
+            scheduled.add(memberStrategyIds);
+        }
+
+        @Override
+        public void changeStatus(Long strategyId, MemberStrategyStatusChangeRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void stopMonitoring(Set<Long> marketIds, String reason) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void noteFailedCycle(Long memberStrategyId) {
+            failed.add(memberStrategyId);
+        }
+
+        @Override
+        public Set<Long> getStrategyIdsForMonitoring() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<Long> getStrategyIdsForMonitoring(Stock stock, String marketName, TimeFrame timeFrame) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<MemberStrategySnapshot> findStrategiesForMonitoring(Set<Long> strategyIds) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Set<MonitoredMarketSnapshot> getMarketsForMonitoring(LocalDateTime executionTime) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
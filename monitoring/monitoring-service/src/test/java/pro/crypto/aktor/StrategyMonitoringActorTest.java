@@ -0,0 +1,245 @@
+package pro.crypto.aktor;
+
+import akka.actor.AbstractActor;
+import akka.actor.Actor;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pro.crypto.MonitoringProperties;
+import pro.crypto.message.StrategyCalculationMessage;
+import pro.crypto.message.StrategyMonitoringMessage;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.request.MemberStrategyStatusChangeRequest;
+import pro.crypto.routing.CommonRouter;
+import pro.crypto.routing.PropsFactory;
+import pro.crypto.routing.supervisor.StrategyMonitoringSupervisor;
+import pro.crypto.service.MemberStrategyControlService;
+import pro.crypto.snapshot.MemberStrategySnapshot;
+import pro.crypto.snapshot.MonitoredMarketSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static pro.crypto.helper.TickWindowHelper.defineFromDate;
+import static pro.crypto.model.tick.TimeFrame.FIVE_MIN;
+import static pro.crypto.model.tick.TimeFrame.ONE_HOUR;
+
+/**
+ * Calculation stage is stubbed by the actor which keeps received groups, so groups stay in calculation till the end of the test.
+ */
+public class StrategyMonitoringActorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private final StubControlService controlService = new StubControlService();
+    private final BlockingQueue<Object> calculations = new LinkedBlockingQueue<>();
+    private final MonitoringProperties properties = new MonitoringProperties();
+    private ActorSystem system;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create("strategy-monitoring-actor-test");
+        properties.setAdmittedTicksPrefetch(false);
+    }
+
+    @After
+    public void destroy() {
+        system.terminate();
+    }
+
+    @Test
+    public void strategiesGroupedByMarketAndTimeFrameTest() throws InterruptedException {
+        controlService.add(buildStrategy(1L, 1L, FIVE_MIN, null));
+        controlService.add(buildStrategy(2L, 1L, FIVE_MIN, null));
+        controlService.add(buildStrategy(3L, 1L, ONE_HOUR, null));
+        controlService.add(buildStrategy(4L, 2L, FIVE_MIN, null));
+        CommonRouter router = createRouter(marketId -> true);
+        router.offer(new StrategyMonitoringMessage());
+        List<StrategyCalculationMessage> messages = Arrays.asList(nextCalculation(), nextCalculation(), nextCalculation());
+        assertNull(calculations.poll(200, TimeUnit.MILLISECONDS));
+        assertEquals(new HashSet<>(Arrays.asList(1L, 2L)), extractIds(findMessage(messages, 1L, FIVE_MIN)));
+        assertEquals(new HashSet<>(Arrays.asList(3L)), extractIds(findMessage(messages, 1L, ONE_HOUR)));
+        assertEquals(new HashSet<>(Arrays.asList(4L)), extractIds(findMessage(messages, 2L, FIVE_MIN)));
+        // all groups of the cycle end at the same time, windows depend on time frame
+        LocalDateTime to = messages.get(0).getTo();
+        messages.forEach(message -> {
+            assertEquals(to, message.getTo());
+            assertEquals(defineFromDate(message.getTimeFrame(), to), message.getFrom());
+        });
+    }
+
+    @Test
+    public void strategiesOfNotOwnedMarketsSkippedTest() throws InterruptedException {
+        controlService.add(buildStrategy(1L, 1L, FIVE_MIN, null));
+        controlService.add(buildStrategy(2L, 2L, FIVE_MIN, null));
+        CommonRouter router = createRouter(marketId -> marketId == 2L);
+        router.offer(new StrategyMonitoringMessage());
+        assertEquals(new HashSet<>(Arrays.asList(2L)), extractIds(nextCalculation()));
+        assertNull(calculations.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void strategiesInCalculationNotSentAgainTest() throws InterruptedException {
+        controlService.add(buildStrategy(1L, 1L, FIVE_MIN, null));
+        CommonRouter router = createRouter(marketId -> true);
+        router.offer(new StrategyMonitoringMessage());
+        nextCalculation();
+        controlService.add(buildStrategy(2L, 1L, FIVE_MIN, null));
+        router.offer(new StrategyMonitoringMessage());
+        assertEquals(new HashSet<>(Arrays.asList(2L)), extractIds(nextCalculation()));
+    }
+
+    // the most overdue group is admitted, overdue group over capacity is skipped, the rest stays due
+    @Test
+    public void groupsOverCapacityTest() throws InterruptedException {
+        properties.setStrategyCalculationQueueSize(1);
+        controlService.add(buildStrategy(1L, 1L, FIVE_MIN, NOW.minusMinutes(1)));
+        controlService.add(buildStrategy(2L, 2L, FIVE_MIN, NOW.minusHours(2)));
+        controlService.add(buildStrategy(3L, 3L, FIVE_MIN, NOW.minusHours(1)));
+        controlService.add(buildStrategy(4L, 3L, FIVE_MIN, NOW.minusMinutes(1)));
+        CommonRouter router = createRouter(marketId -> true);
+        router.offer(new StrategyMonitoringMessage());
+        assertEquals(new HashSet<>(Arrays.asList(2L)), extractIds(nextCalculation()));
+        assertEquals(new HashSet<>(Arrays.asList(3L, 4L)), controlService.scheduled.poll(5, TimeUnit.SECONDS));
+        assertNull(calculations.poll(200, TimeUnit.MILLISECONDS));
+        assertNull(controlService.scheduled.poll());
+    }
+
+    private CommonRouter createRouter(Predicate<Long> ownedMarkets) {
+        AtomicReference<CommonRouter> holder = new AtomicReference<>();
+        PropsFactory propsFactory = new PropsFactory(null) {
+            @Override
+            public Props props(Class<? extends Actor> actorClass) {
+                if (actorClass == StrategyMonitoringSupervisor.class) {
+                    return Props.create(StrategyMonitoringActor.class,
+                            () -> new StrategyMonitoringActor(controlService, holder.get(), properties, ownedMarkets::test, null));
+                }
+                return Props.create(RecordingActor.class, calculations);
+            }
+        };
+        CommonRouter router = new CommonRouter(system, propsFactory, properties);
+        holder.set(router);
+        router.init();
+        return router;
+    }
+
+    private StrategyCalculationMessage nextCalculation() throws InterruptedException {
+        Object message = calculations.poll(5, TimeUnit.SECONDS);
+        assertNotNull(message);
+        return (StrategyCalculationMessage) message;
+    }
+
+    private StrategyCalculationMessage findMessage(List<StrategyCalculationMessage> messages, Long marketId, TimeFrame timeFrame) {
+        return messages.stream()
+                .filter(message -> message.getMarketId().equals(marketId) && message.getTimeFrame() == timeFrame)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    private Set<Long> extractIds(StrategyCalculationMessage message) {
+        return message.getStrategies().stream()
+                .map(MemberStrategySnapshot::getId)
+                .collect(toSet());
+    }
+
+    private MemberStrategySnapshot buildStrategy(Long id, Long marketId, TimeFrame timeFrame, LocalDateTime nextExecutionTime) {
+        return MemberStrategySnapshot.builder()
+                .id(id)
+                .marketId(marketId)
+                .timeFrame(timeFrame)
+                .nextExecutionTime(nextExecutionTime)
+                .build();
+    }
+
+    // receives messages without processing, so they stay in the stage
+    public static class RecordingActor extends AbstractActor {
+
+        private final BlockingQueue<Object> messages;
+
+        public RecordingActor(BlockingQueue<Object> messages) {
+            this.messages = messages;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchAny(messages::add)
+                    .build();
+        }
+
+    }
+
+    // all added strategies are due
+    private static class StubControlService implements MemberStrategyControlService {
+
+        private final List<MemberStrategySnapshot> strategies = new ArrayList<>();
+        private final BlockingQueue<Set<Long>> scheduled = new LinkedBlockingQueue<>();
+
+        private synchronized void add(MemberStrategySnapshot strategy) {
+            strategies.add(strategy);
+        }
+
+        @Override
+        public void scheduleNextExecution(Set<Long> memberStrategyIds) {
+            scheduled.add(memberStrategyIds);
+        }
+
+        @Override
+        public void changeStatus(Long strategyId, MemberStrategyStatusChangeRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void stopMonitoring(Set<Long> marketIds, String reason) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void noteFailedCycle(Long memberStrategyId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized Set<Long> getStrategyIdsForMonitoring() {
+            return strategies.stream()
+                    .map(MemberStrategySnapshot::getId)
+                    .collect(toSet());
+        }
+
+        @Override
+        public Set<Long> getStrategyIdsForMonitoring(Stock stock, String marketName, TimeFrame timeFrame) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public synchronized List<MemberStrategySnapshot> findStrategiesForMonitoring(Set<Long> strategyIds) {
+            return strategies.stream()
+                    .filter(strategy -> strategyIds.contains(strategy.getId()))
+                    .collect(toList());
+        }
+
+        @Override
+        public Set<MonitoredMarketSnapshot> getMarketsForMonitoring(LocalDateTime executionTime) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+package pro.crypto.aktor;
+
+import org.junit.Test;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickStream;
+import pro.crypto.request.TickPeriodFindRequest;
+import pro.crypto.request.TickTimeFindRequest;
+import pro.crypto.response.TickDataSnapshot;
+import pro.crypto.service.TickService;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static pro.crypto.model.tick.TimeFrame.FIVE_MIN;
+
+public class TickWindowCacheTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final StubTickService tickService = new StubTickService();
+
+    @Test
+    public void windowCompletedFromLastTickTest() {
+        TickWindowCache cache = new TickWindowCache(tickService, 10, TTL);
+        tickService.ticks = buildTicks(0, 10);
+        assertArrayEquals(buildTicks(0, 10), cache.getTicks(1L, FIVE_MIN, time(0), time(9)));
+        // the open bar is closed with another price and a new bar is opened
+        tickService.ticks = buildTicks(0, 11);
+        tickService.ticks[9].setClose(BigDecimal.TEN);
+        Tick[] ticks = cache.getTicks(1L, FIVE_MIN, time(1), time(10));
+        assertArrayEquals(Arrays.copyOfRange(tickService.ticks, 1, 11), ticks);
+        assertEquals(2, tickService.requests.size());
+        assertEquals(time(9), tickService.requests.get(1).getFrom());
+        assertEquals(time(10), tickService.requests.get(1).getTo());
+    }
+
+    // cached ticks aren't changed by callers, e.g. by calculations which modify ticks of their requests
+    @Test
+    public void returnedTicksNotSharedTest() {
+        TickWindowCache cache = new TickWindowCache(tickService, 10, TTL);
+        tickService.ticks = buildTicks(0, 10);
+        Tick[] ticks = cache.getTicks(1L, FIVE_MIN, time(0), time(9));
+        ticks[0].setClose(BigDecimal.TEN);
+        ticks[5] = ticks[4];
+        Tick[] completedTicks = cache.getTicks(1L, FIVE_MIN, time(0), time(9));
+        assertArrayEquals(buildTicks(0, 10), completedTicks);
+        completedTicks[1].setOpen(BigDecimal.TEN);
+        assertArrayEquals(buildTicks(0, 10), cache.getTicks(1L, FIVE_MIN, time(0), time(9)));
+        assertEquals(3, tickService.requests.size());
+    }
+
+    @Test
+    public void expiredWindowReloadedTest() {
+        TickWindowCache cache = new TickWindowCache(tickService, 10, Duration.ZERO);
+        tickService.ticks = buildTicks(0, 10);
+        cache.getTicks(1L, FIVE_MIN, time(0), time(9));
+        cache.getTicks(1L, FIVE_MIN, time(0), time(9));
+        assertEquals(time(0), tickService.requests.get(1).getFrom());
+    }
+
+    @Test
+    public void windowStartingEarlierReloadedTest() {
+        TickWindowCache cache = new TickWindowCache(tickService, 10, TTL);
+        tickService.ticks = buildTicks(0, 10);
+        cache.getTicks(1L, FIVE_MIN, time(2), time(9));
+        assertArrayEquals(buildTicks(0, 10), cache.getTicks(1L, FIVE_MIN, time(0), time(9)));
+        assertEquals(time(0), tickService.requests.get(1).getFrom());
+    }
+
+    @Test
+    public void eldestWindowEvictedTest() {
+        TickWindowCache cache = new TickWindowCache(tickService, 1, TTL);
+        tickService.ticks = buildTicks(0, 10);
+        cache.getTicks(1L, FIVE_MIN, time(0), time(9));
+        cache.getTicks(2L, FIVE_MIN, time(0), time(9));
+        cache.getTicks(1L, FIVE_MIN, time(0), time(9));
+        tickService.requests.forEach(request -> assertEquals(time(0), request.getFrom()));
+    }
+
+    private static Tick[] buildTicks(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(bar -> Tick.builder()
+                        .open(BigDecimal.valueOf(100 + bar))
+                        .high(BigDecimal.valueOf(105 + bar))
+                        .low(BigDecimal.valueOf(95 + bar))
+                        .close(BigDecimal.valueOf(101 + bar))
+                        .volume(BigDecimal.valueOf(bar))
+                        .baseVolume(BigDecimal.valueOf(2 * bar))
+                        .tickTime(time(bar))
+                        .build())
+                .toArray(Tick[]::new);
+    }
+
+    private static LocalDateTime time(int bar) {
+        return START.plusMinutes(5 * bar);
+    }
+
+    // returns new ticks of the requested range as remote tick service does
+    private static class StubTickService implements TickService {
+
+        private final List<TickTimeFindRequest> requests = new ArrayList<>();
+        private Tick[] ticks;
+
+        @Override
+        public TickDataSnapshot getTicksByTime(TickTimeFindRequest request) {
+            requests.add(request);
+            return TickDataSnapshot.builder()
+                    .timeFrame(request.getTimeFrame())
+                    .ticks(Arrays.stream(ticks)
+                            .filter(tick -> !tick.getTickTime().isBefore(request.getFrom()) && !tick.getTickTime().isAfter(request.getTo()))
+                            .map(tick -> new Tick(tick.getOpen(), tick.getHigh(), tick.getLow(), tick.getClose(),
+                                    tick.getVolume(), tick.getBaseVolume(), tick.getTickTime()))
+                            .toArray(Tick[]::new))
+                    .build();
+        }
+
+        @Override
+        public CompletionStage<TickDataSnapshot> getTicksByTimeAsync(TickTimeFindRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TickDataSnapshot getTicksByPeriod(TickPeriodFindRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TickStream streamTicksByTime(TickTimeFindRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,78 @@
+package pro.crypto.helper;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.helper.RendezvousHashHelper.defineOwner;
+
+public class RendezvousHashHelperTest {
+
+    private static final int MARKETS = 10_000;
+    private static final List<String> NODE_IDS = Arrays.asList("node-a", "node-b", "node-c");
+
+    @Test
+    public void keysSpreadEvenlyTest() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (long market = 0; market < MARKETS; market++) {
+            counts.merge(defineOwner(NODE_IDS, market), 1, Integer::sum);
+        }
+        assertEquals(NODE_IDS.size(), counts.size());
+        counts.values().forEach(count -> assertTrue(count.toString(), Math.abs(count - MARKETS / NODE_IDS.size()) < MARKETS / 20));
+    }
+
+    @Test
+    public void ownerDoesNotDependOnNodeOrderTest() {
+        List<String> reversedNodeIds = Arrays.asList("node-c", "node-b", "node-a");
+        for (long market = 0; market < MARKETS; market++) {
+            assertEquals(defineOwner(NODE_IDS, market), defineOwner(reversedNodeIds, market));
+        }
+    }
+
+    // only keys of the joined node move
+    @Test
+    public void joinedNodeTakesOnlyItsKeysTest() {
+        List<String> joinedNodeIds = Arrays.asList("node-a", "node-b", "node-c", "node-d");
+        int moved = 0;
+        for (long market = 0; market < MARKETS; market++) {
+            String owner = defineOwner(joinedNodeIds, market);
+            if (!owner.equals(defineOwner(NODE_IDS, market))) {
+                assertEquals("node-d", owner);
+                moved++;
+            }
+        }
+        assertTrue(String.valueOf(moved), Math.abs(moved - MARKETS / 4) < MARKETS / 20);
+    }
+
+    // only keys of the left node move
+    @Test
+    public void leftNodeKeysMoveTest() {
+        List<String> leftNodeIds = Arrays.asList("node-a", "node-c");
+        for (long market = 0; market < MARKETS; market++) {
+            String owner = defineOwner(NODE_IDS, market);
+            if (!owner.equals("node-b")) {
+                assertEquals(owner, defineOwner(leftNodeIds, market));
+            }
+        }
+    }
+
+    @Test
+    public void noNodesTest() {
+        assertNull(defineOwner(Collections.emptyList(), 1));
+    }
+
+    @Test
+    public void singleNodeOwnsAllKeysTest() {
+        for (long market = -MARKETS; market < MARKETS; market++) {
+            assertEquals("node-a", defineOwner(Collections.singletonList("node-a"), market));
+        }
+    }
+
+}
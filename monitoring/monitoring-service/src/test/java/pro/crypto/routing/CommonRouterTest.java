@@ -0,0 +1,222 @@
+package pro.crypto.routing;
+
+import akka.actor.AbstractActor;
+import akka.actor.Actor;
+import akka.actor.ActorSystem;
+import akka.actor.Props;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pro.crypto.MonitoringProperties;
+import pro.crypto.message.ActorMessage;
+import pro.crypto.message.DecisionMakerMessage;
+import pro.crypto.message.MarketMonitoringMessage;
+import pro.crypto.message.StrategyCalculationMessage;
+import pro.crypto.message.StrategyMonitoringMessage;
+import pro.crypto.snapshot.MemberStrategySnapshot;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.model.market.Stock.BITTREX;
+import static pro.crypto.model.tick.TimeFrame.FIVE_MIN;
+import static pro.crypto.model.tick.TimeFrame.ONE_HOUR;
+import static pro.crypto.routing.MonitoringStage.DECISION_MAKER;
+import static pro.crypto.routing.MonitoringStage.MARKET_MONITORING;
+import static pro.crypto.routing.MonitoringStage.STRATEGY_CALCULATION;
+import static pro.crypto.routing.MonitoringStage.STRATEGY_MONITORING;
+
+public class CommonRouterTest {
+
+    private ActorSystem system;
+
+    @Before
+    public void init() {
+        system = ActorSystem.create("common-router-test");
+    }
+
+    @After
+    public void destroy() {
+        system.terminate();
+    }
+
+    @Test
+    public void offerWithinCapacityTest() {
+        CommonRouter router = createRouter(holder -> Props.create(HoldingActor.class));
+        assertTrue(router.offer(new StrategyMonitoringMessage()));
+        assertTrue(router.offer(new StrategyMonitoringMessage()));
+        assertFalse(router.offer(new StrategyMonitoringMessage()));
+        assertEquals(2, findGate(router, STRATEGY_MONITORING).getDepth());
+        assertEquals(1, findGate(router, STRATEGY_MONITORING).getRejected());
+    }
+
+    @Test
+    public void processReleasesPlaceTest() {
+        CommonRouter router = createRouter(holder -> Props.create(HoldingActor.class));
+        StrategyMonitoringMessage message = new StrategyMonitoringMessage();
+        assertTrue(router.offer(message));
+        router.process(message, ignoredMessage -> {
+        });
+        assertEquals(0, findGate(router, STRATEGY_MONITORING).getDepth());
+    }
+
+    @Test
+    public void failedProcessReleasesPlaceTest() {
+        CommonRouter router = createRouter(holder -> Props.create(HoldingActor.class));
+        StrategyMonitoringMessage message = new StrategyMonitoringMessage();
+        router.offer(message);
+        try {
+            router.process(message, ignoredMessage -> {
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException ignored) {
+        }
+        assertEquals(0, findGate(router, STRATEGY_MONITORING).getDepth());
+    }
+
+    @Test
+    public void deadLettersReleasePlaceTest() throws InterruptedException {
+        CommonRouter router = createRouter(holder -> Props.create(StoppingActor.class, holder));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(router.offer(buildCalculationMessage((long) i)));
+        }
+        awaitDepth(router, STRATEGY_CALCULATION, 0);
+        assertEquals(0, findGate(router, STRATEGY_CALCULATION).getDepth());
+        assertFalse(router.isCalculated(4L));
+    }
+
+    @Test
+    public void nextStagesCapacityTest() {
+        CommonRouter router = createRouter(holder -> Props.create(HoldingActor.class));
+        for (int i = 0; i < 2; i++) {
+            assertTrue(router.offer(new DecisionMakerMessage(null, null)));
+        }
+        assertFalse(router.hasCapacity(STRATEGY_MONITORING));
+        assertFalse(router.hasCapacity(STRATEGY_CALCULATION));
+        assertFalse(router.offer(new StrategyMonitoringMessage()));
+        assertFalse(router.offer(new MarketMonitoringMessage(BITTREX, "BTC-ETH", FIVE_MIN)));
+    }
+
+    @Test
+    public void marketMonitoringOwnCapacityTest() {
+        CommonRouter router = createRouter(holder -> Props.create(HoldingActor.class));
+        router.offer(new StrategyMonitoringMessage());
+        router.offer(new StrategyMonitoringMessage());
+        assertTrue(router.offer(new MarketMonitoringMessage(BITTREX, "BTC-ETH", FIVE_MIN)));
+        assertTrue(router.offer(new MarketMonitoringMessage(BITTREX, "BTC-LTC", FIVE_MIN)));
+        assertTrue(router.offer(new MarketMonitoringMessage(BITTREX, "BTC-XRP", FIVE_MIN)));
+        assertFalse(router.offer(new MarketMonitoringMessage(BITTREX, "BTC-ADA", FIVE_MIN)));
+        assertEquals(3, findGate(router, MARKET_MONITORING).getDepth());
+        assertEquals(2, findGate(router, STRATEGY_MONITORING).getDepth());
+    }
+
+    @Test
+    public void marketMonitoringCoalescingTest() {
+        CommonRouter router = createRouter(holder -> Props.create(HoldingActor.class));
+        MarketMonitoringMessage message = new MarketMonitoringMessage(BITTREX, "BTC-ETH", FIVE_MIN);
+        assertTrue(router.offer(message));
+        assertTrue(router.offer(new MarketMonitoringMessage(BITTREX, "BTC-ETH", FIVE_MIN)));
+        assertTrue(router.offer(new MarketMonitoringMessage(BITTREX, "BTC-ETH", ONE_HOUR)));
+        assertEquals(2, findGate(router, MARKET_MONITORING).getDepth());
+        assertEquals(1, findGate(router, MARKET_MONITORING).getCoalesced());
+        router.process(message, ignoredMessage -> assertTrue(router.offer(new MarketMonitoringMessage(BITTREX, "BTC-ETH", FIVE_MIN))));
+        assertEquals(2, findGate(router, MARKET_MONITORING).getDepth());
+        assertEquals(1, findGate(router, MARKET_MONITORING).getCoalesced());
+    }
+
+    @Test
+    public void calculatedStrategiesTest() {
+        CommonRouter router = createRouter(holder -> Props.create(HoldingActor.class));
+        StrategyCalculationMessage message = buildCalculationMessage(1L);
+        assertTrue(router.admit(STRATEGY_CALCULATION));
+        router.send(message);
+        assertTrue(router.isCalculated(1L));
+        assertFalse(router.isCalculated(2L));
+        router.process(message, ignoredMessage -> {
+        });
+        assertFalse(router.isCalculated(1L));
+    }
+
+    private CommonRouter createRouter(Function<AtomicReference<CommonRouter>, Props> propsFunction) {
+        AtomicReference<CommonRouter> holder = new AtomicReference<>();
+        PropsFactory propsFactory = new PropsFactory(null) {
+            @Override
+            public Props props(Class<? extends Actor> actorClass) {
+                return propsFunction.apply(holder);
+            }
+        };
+        CommonRouter router = new CommonRouter(system, propsFactory, buildMonitoringProperties());
+        holder.set(router);
+        router.init();
+        return router;
+    }
+
+    private MonitoringProperties buildMonitoringProperties() {
+        MonitoringProperties properties = new MonitoringProperties();
+        properties.setStrategyMonitoringQueueSize(2);
+        properties.setMarketMonitoringQueueSize(3);
+        properties.setStrategyCalculationQueueSize(5);
+        properties.setDecisionMakerQueueSize(2);
+        properties.setSignalSenderQueueSize(2);
+        return properties;
+    }
+
+    private StrategyCalculationMessage buildCalculationMessage(Long strategyId) {
+        MemberStrategySnapshot strategy = MemberStrategySnapshot.builder()
+                .id(strategyId)
+                .build();
+        return new StrategyCalculationMessage(1L, FIVE_MIN, LocalDateTime.now().minusDays(1), LocalDateTime.now(), singletonList(strategy));
+    }
+
+    private MonitoringStageGate findGate(CommonRouter router, MonitoringStage stage) {
+        return router.getGates().stream()
+                .filter(gate -> gate.getStage() == stage)
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+    }
+
+    private void awaitDepth(CommonRouter router, MonitoringStage stage, int depth) throws InterruptedException {
+        for (int i = 0; i < 100 && findGate(router, stage).getDepth() != depth; i++) {
+            Thread.sleep(50);
+        }
+    }
+
+    // receives messages without processing, so they stay in the stage
+    public static class HoldingActor extends AbstractActor {
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .matchAny(message -> {
+                    })
+                    .build();
+        }
+
+    }
+
+    // processes the first message and stops, the rest messages go to dead letters
+    public static class StoppingActor extends AbstractActor {
+
+        private final AtomicReference<CommonRouter> router;
+
+        public StoppingActor(AtomicReference<CommonRouter> router) {
+            this.router = router;
+        }
+
+        @Override
+        public Receive createReceive() {
+            return receiveBuilder()
+                    .match(ActorMessage.class, message -> {
+                        router.get().process(message, ignoredMessage -> getContext().stop(getSelf()));
+                    })
+                    .build();
+        }
+
+    }
+
+}
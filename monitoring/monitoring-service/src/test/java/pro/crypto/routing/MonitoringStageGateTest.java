@@ -0,0 +1,73 @@
+package pro.crypto.routing;
+
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.routing.MonitoringStage.STRATEGY_CALCULATION;
+
+public class MonitoringStageGateTest {
+
+    @Test
+    public void enterWithinCapacityTest() {
+        MonitoringStageGate gate = new MonitoringStageGate(STRATEGY_CALCULATION, 2);
+        assertTrue(gate.tryEnter());
+        assertTrue(gate.tryEnter());
+        assertFalse(gate.tryEnter());
+        assertFalse(gate.hasCapacity());
+        assertEquals(2, gate.getDepth());
+    }
+
+    @Test
+    public void exitReleasesPlaceTest() {
+        MonitoringStageGate gate = new MonitoringStageGate(STRATEGY_CALCULATION, 1);
+        assertTrue(gate.tryEnter());
+        gate.exit();
+        assertTrue(gate.hasCapacity());
+        assertEquals(0, gate.getDepth());
+        assertTrue(gate.tryEnter());
+    }
+
+    @Test
+    public void oldestAgeTest() throws InterruptedException {
+        MonitoringStageGate gate = new MonitoringStageGate(STRATEGY_CALCULATION, 2);
+        assertEquals(Duration.ZERO, gate.getOldestAge());
+        gate.tryEnter();
+        Thread.sleep(20);
+        assertTrue(gate.getOldestAge().toMillis() >= 20);
+        gate.exit();
+        assertEquals(Duration.ZERO, gate.getOldestAge());
+    }
+
+    @Test
+    public void countersTest() {
+        MonitoringStageGate gate = new MonitoringStageGate(STRATEGY_CALCULATION, 2);
+        gate.reject();
+        gate.reject();
+        gate.coalesce();
+        assertEquals(2, gate.getRejected());
+        assertEquals(1, gate.getCoalesced());
+    }
+
+    @Test
+    public void concurrentEnterTest() throws InterruptedException {
+        MonitoringStageGate gate = new MonitoringStageGate(STRATEGY_CALCULATION, 100);
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 50; j++) {
+                    gate.tryEnter();
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(100, gate.getDepth());
+    }
+
+}
@@ -0,0 +1,227 @@
+package pro.crypto.service;
+
+import org.junit.After;
+import org.junit.Test;
+import pro.crypto.MonitoringClusterProperties;
+import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.model.MonitoringNode;
+import pro.crypto.repository.MonitoringNodeRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Nodes of the cluster are partitions which share one database, the database is stubbed with its own clock.
+ */
+public class ClusterMonitoringPartitionTest {
+
+    private static final long MARKETS = 1000;
+    private static final Duration NODE_TIMEOUT = Duration.ofMillis(500);
+
+    private final StubDatabase database = new StubDatabase();
+    private final List<ClusterMonitoringPartition> partitions = new ArrayList<>();
+
+    @After
+    public void stop() {
+        partitions.forEach(ClusterMonitoringPartition::stop);
+    }
+
+    @Test
+    public void marketsPartitionedAcrossNodesTest() {
+        List<ClusterMonitoringPartition> nodes = Arrays.asList(start("node-a"), start("node-b"), start("node-c"));
+        awaitNodeIds(nodes, "node-a", "node-b", "node-c");
+        Map<ClusterMonitoringPartition, Integer> counts = new HashMap<>();
+        for (long market = 0; market < MARKETS; market++) {
+            List<ClusterMonitoringPartition> owners = findOwners(nodes, market);
+            assertEquals(1, owners.size());
+            counts.merge(owners.get(0), 1, Integer::sum);
+        }
+        assertEquals(nodes.size(), counts.size());
+    }
+
+    // the stopped node leaves at once, only its markets move
+    @Test
+    public void stoppedNodeMarketsMoveTest() {
+        List<ClusterMonitoringPartition> nodes = Arrays.asList(start("node-a"), start("node-b"), start("node-c"));
+        awaitNodeIds(nodes, "node-a", "node-b", "node-c");
+        Map<Long, ClusterMonitoringPartition> owners = new HashMap<>();
+        for (long market = 0; market < MARKETS; market++) {
+            owners.put(market, findOwners(nodes, market).get(0));
+        }
+        nodes.get(1).stop();
+        List<ClusterMonitoringPartition> liveNodes = Arrays.asList(nodes.get(0), nodes.get(2));
+        awaitNodeIds(liveNodes, "node-a", "node-c");
+        for (long market = 0; market < MARKETS; market++) {
+            List<ClusterMonitoringPartition> marketOwners = findOwners(liveNodes, market);
+            assertEquals(1, marketOwners.size());
+            if (owners.get(market) != nodes.get(1)) {
+                assertEquals(owners.get(market), marketOwners.get(0));
+            }
+        }
+    }
+
+    // node which can't reach the database gives up its markets, the other nodes take them after the node timeout
+    @Test
+    public void unavailableNodeGivesUpMarketsTest() {
+        ClusterMonitoringPartition nodeA = start("node-a");
+        AtomicBoolean nodeBAvailable = new AtomicBoolean(true);
+        ClusterMonitoringPartition nodeB = start("node-b", nodeBAvailable);
+        awaitNodeIds(Arrays.asList(nodeA, nodeB), "node-a", "node-b");
+        nodeBAvailable.set(false);
+        await(() -> !nodeB.isOwned(findMarket(nodeB)));
+        awaitNodeIds(Arrays.asList(nodeA), "node-a");
+        for (long market = 0; market < MARKETS; market++) {
+            assertTrue(nodeA.isOwned(market));
+            assertFalse(nodeB.isOwned(market));
+        }
+    }
+
+    // the node can't take the id of the live node and doesn't remove it on stop
+    @Test
+    public void nodeIdOfLiveNodeNotTakenTest() throws InterruptedException {
+        ClusterMonitoringPartition node = start("node-a");
+        Thread.sleep(1);
+        ClusterMonitoringPartition duplicatedNode = start("node-a");
+        Thread.sleep(NODE_TIMEOUT.toMillis() * 2);
+        for (long market = 0; market < MARKETS; market++) {
+            assertTrue(node.isOwned(market));
+            assertFalse(duplicatedNode.isOwned(market));
+        }
+        duplicatedNode.stop();
+        assertEquals(1, database.nodes.size());
+    }
+
+    @Test(expected = WrongIncomingParametersException.class)
+    public void emptyNodeIdTest() {
+        start(" ");
+    }
+
+    private ClusterMonitoringPartition start(String nodeId) {
+        return start(nodeId, new AtomicBoolean(true));
+    }
+
+    private ClusterMonitoringPartition start(String nodeId, AtomicBoolean available) {
+        MonitoringClusterProperties properties = new MonitoringClusterProperties();
+        properties.setEnabled(true);
+        properties.setNodeId(nodeId);
+        properties.setHeartbeatInterval(Duration.ofMillis(50));
+        properties.setNodeTimeout(NODE_TIMEOUT);
+        properties.setMonitoringInterval(Duration.ofHours(1));
+        ClusterMonitoringPartition partition = new ClusterMonitoringPartition(database.connect(available), null, properties);
+        partition.start();
+        partitions.add(partition);
+        return partition;
+    }
+
+    private List<ClusterMonitoringPartition> findOwners(List<ClusterMonitoringPartition> nodes, long market) {
+        return nodes.stream()
+                .filter(node -> node.isOwned(market))
+                .collect(toList());
+    }
+
+    private long findMarket(ClusterMonitoringPartition node) {
+        for (long market = 0; market < MARKETS; market++) {
+            if (node.isOwned(market)) {
+                return market;
+            }
+        }
+        return 0;
+    }
+
+    private void awaitNodeIds(List<ClusterMonitoringPartition> nodes, String... nodeIds) {
+        await(() -> nodes.stream().allMatch(node -> node.getNodeIds().equals(Arrays.asList(nodeIds))));
+    }
+
+    private void await(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Condition hasn't been met in time", System.currentTimeMillis() < deadline);
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // queries of the repository which are used by the partition, times are set by the database clock
+    private static class StubDatabase {
+
+        private final Map<String, MonitoringNode> nodes = new HashMap<>();
+
+        private MonitoringNodeRepository connect(AtomicBoolean available) {
+            return (MonitoringNodeRepository) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{MonitoringNodeRepository.class},
+                    (proxy, method, args) -> {
+                        if (method.getDeclaringClass() == Object.class) {
+                            return method.invoke(this, args);
+                        }
+                        if (!available.get()) {
+                            throw new IllegalStateException("Database is not available");
+                        }
+                        switch (method.getName()) {
+                            case "saveHeartbeat":
+                                return saveHeartbeat((String) args[0], (LocalDateTime) args[1], (long) args[2]);
+                            case "findAllLive":
+                                return findAllLive((long) args[0]);
+                            case "deleteAllLeft":
+                                return deleteAllLeft((long) args[0]);
+                            case "deleteByIdAndStartTime":
+                                return deleteByIdAndStartTime((String) args[0], (LocalDateTime) args[1]);
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private synchronized int saveHeartbeat(String id, LocalDateTime startTime, long timeout) {
+            MonitoringNode node = nodes.get(id);
+            if (node != null && !node.getStartTime().equals(startTime) && !isLeft(node, timeout)) {
+                return 0;
+            }
+            nodes.put(id, new MonitoringNode(id, startTime, now()));
+            return 1;
+        }
+
+        private synchronized List<MonitoringNode> findAllLive(long timeout) {
+            return nodes.values().stream()
+                    .filter(node -> !isLeft(node, timeout))
+                    .collect(toList());
+        }
+
+        private synchronized int deleteAllLeft(long timeout) {
+            int size = nodes.size();
+            nodes.values().removeIf(node -> isLeft(node, timeout));
+            return size - nodes.size();
+        }
+
+        private synchronized int deleteByIdAndStartTime(String id, LocalDateTime startTime) {
+            MonitoringNode node = nodes.get(id);
+            return node != null && node.getStartTime().equals(startTime) && nodes.remove(id) != null ? 1 : 0;
+        }
+
+        private boolean isLeft(MonitoringNode node, long timeout) {
+            return node.getHeartbeatTime().isBefore(now().minus(Duration.ofMillis(timeout)));
+        }
+
+        private LocalDateTime now() {
+            return LocalDateTime.now(ZoneOffset.UTC);
+        }
+
+    }
+
+}
@@ -1,18 +1,38 @@
 package pro.crypto.configuration;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import pro.crypto.MonitoringClusterProperties;
+import pro.crypto.TickPrefetchProperties;
+import pro.crypto.repository.MonitoringNodeRepository;
+import pro.crypto.routing.CommonRouter;
+import pro.crypto.routing.MonitoringStageGate;
+import pro.crypto.service.ClusterMonitoringPartition;
+import pro.crypto.service.LocalMonitoringPartition;
+import pro.crypto.service.MemberStrategyControlService;
+import pro.crypto.service.MonitoringPartition;
 import pro.crypto.service.MonitoringProviderService;
 import pro.crypto.service.MonitoringService;
 import pro.crypto.service.RepositorySignalService;
 import pro.crypto.service.SignalMapper;
 import pro.crypto.service.SignalService;
+import pro.crypto.service.TickPrefetcher;
+import pro.crypto.service.TickService;
 import pro.crypto.web.MonitoringController;
 import pro.crypto.web.SignalController;
 
 @Configuration
+@EnableConfigurationProperties({TickPrefetchProperties.class, MonitoringClusterProperties.class})
 public class MonitoringConfiguration {
 
     @Configuration
@@ -27,6 +47,78 @@ public class MonitoringConfiguration {
     public static class MonitoringServiceConfiguration {
     }
 
+    @Configuration
+    @ConditionalOnProperty(name = "monitoring.cluster.enabled", havingValue = "true")
+    public static class MonitoringClusterConfiguration {
+
+        @Bean(initMethod = "start", destroyMethod = "stop")
+        @ConditionalOnMissingBean(MonitoringPartition.class)
+        public ClusterMonitoringPartition clusterMonitoringPartition(MonitoringNodeRepository monitoringNodeRepository,
+                                                                     MonitoringService monitoringService,
+                                                                     MonitoringClusterProperties properties) {
+            return new ClusterMonitoringPartition(monitoringNodeRepository, monitoringService, properties);
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "monitoring.cluster.enabled", havingValue = "false", matchIfMissing = true)
+    public static class LocalMonitoringConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MonitoringPartition.class)
+        public LocalMonitoringPartition localMonitoringPartition() {
+            return new LocalMonitoringPartition();
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "monitoring.prefetch.enabled", havingValue = "true")
+    public static class TickPrefetchConfiguration {
+
+        @Bean(initMethod = "start", destroyMethod = "stop")
+        @ConditionalOnMissingBean
+        public TickPrefetcher tickPrefetcher(TickService tickService, MemberStrategyControlService memberStrategyControlService,
+                                             TickPrefetchProperties properties, MonitoringPartition monitoringPartition) {
+            return new TickPrefetcher(tickService, memberStrategyControlService, properties, monitoringPartition);
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    public static class MonitoringMetricsConfiguration {
+
+        @Bean
+        public MeterBinder monitoringStageMetrics(CommonRouter router) {
+            return registry -> router.getGates().forEach(gate -> {
+                String stage = gate.getStage().name().toLowerCase();
+                Gauge.builder("monitoring.stage.depth", gate, MonitoringStageGate::getDepth)
+                        .description("Messages of monitoring stage which are sent and not processed yet")
+                        .tag("stage", stage)
+                        .register(registry);
+                Gauge.builder("monitoring.stage.capacity", gate, MonitoringStageGate::getCapacity)
+                        .description("Messages of monitoring stage which can be admitted")
+                        .tag("stage", stage)
+                        .register(registry);
+                Gauge.builder("monitoring.stage.oldest.age", gate, stageGate -> stageGate.getOldestAge().toMillis() / 1000.0)
+                        .description("Seconds since the oldest not processed message of monitoring stage was sent")
+                        .tag("stage", stage)
+                        .register(registry);
+                FunctionCounter.builder("monitoring.stage.rejected", gate, MonitoringStageGate::getRejected)
+                        .description("Messages of monitoring stage which are not admitted because of overload")
+                        .tag("stage", stage)
+                        .register(registry);
+                FunctionCounter.builder("monitoring.stage.coalesced", gate, MonitoringStageGate::getCoalesced)
+                        .description("Messages of monitoring stage which are coalesced with the same not processed ones")
+                        .tag("stage", stage)
+                        .register(registry);
+            });
+        }
+
+    }
+
     @ConditionalOnWebApplication
     @Import({MonitoringController.class, SignalController.class})
     @Configuration
@@ -1,13 +1,21 @@
 package pro.crypto.configuration.infrastructure;
 
 import org.quartz.Job;
+import org.quartz.JobKey;
 
 import java.util.List;
 
+import static java.util.Collections.emptyList;
+
 public interface JobService {
 
     List<JobInfo> getJobsToScheduling();
 
+    // jobs are stored by quartz, so jobs which shouldn't fire anymore are deleted explicitly
+    default List<JobKey> getJobsToUnscheduling() {
+        return emptyList();
+    }
+
     default JobInfo getJobInfo(String name, String groupName, String description, Class<? extends Job> jobClass, String scheduleExpression) {
         return JobInfo.builder()
                 .name(name)
@@ -1,6 +1,7 @@
 package pro.crypto.configuration.infrastructure.monitoring;
 
-import lombok.AllArgsConstructor;
+import org.quartz.JobKey;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import pro.crypto.configuration.infrastructure.JobInfo;
 import pro.crypto.configuration.infrastructure.JobService;
@@ -8,21 +9,39 @@ import pro.crypto.scheduler.MonitoringJob;
 
 import java.util.List;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 
+// nodes of monitoring cluster start monitoring cycles themselves, so the job is unscheduled
 @Component
-@AllArgsConstructor
 public class MonitoringJobConfiguration implements JobService {
 
+    private static final String MONITORING_JOB_NAME = "MonitoringJob";
+    private static final String MONITORING_JOB_GROUP = "group.Monitoring";
     private static final String MONITORING_JOB_DESCRIPTION = "Executes all monitored member's strategies";
     private final MonitoringExpressionProperties monitoringExpressionProperties;
+    private final boolean monitoringClusterEnabled;
+
+    public MonitoringJobConfiguration(MonitoringExpressionProperties monitoringExpressionProperties,
+                                      @Value("${monitoring.cluster.enabled:false}") boolean monitoringClusterEnabled) {
+        this.monitoringExpressionProperties = monitoringExpressionProperties;
+        this.monitoringClusterEnabled = monitoringClusterEnabled;
+    }
 
     @Override
     public List<JobInfo> getJobsToScheduling() {
+        if (monitoringClusterEnabled) {
+            return emptyList();
+        }
         return singletonList(
-                getJobInfo("MonitoringJob", "group.Monitoring", MONITORING_JOB_DESCRIPTION,
+                getJobInfo(MONITORING_JOB_NAME, MONITORING_JOB_GROUP, MONITORING_JOB_DESCRIPTION,
                         MonitoringJob.class, monitoringExpressionProperties.getMonitoringExpression())
         );
     }
 
+    @Override
+    public List<JobKey> getJobsToUnscheduling() {
+        return monitoringClusterEnabled ? singletonList(JobKey.jobKey(MONITORING_JOB_NAME, MONITORING_JOB_GROUP)) : emptyList();
+    }
+
 }
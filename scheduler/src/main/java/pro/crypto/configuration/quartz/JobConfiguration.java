@@ -99,6 +99,19 @@ public class JobConfiguration {
 
             jobsToScheduling
                     .forEach(jobInfo -> scheduleJob(jobInfo.getName(), jobInfo.getGroupName(), jobInfo.getDescription(), jobInfo.getJobClass(), jobInfo.getScheduleExpression()));
+            jobServices
+                    .forEach(jobService -> jobService.getJobsToUnscheduling().forEach(this::unscheduleJob));
+        }
+
+        private void unscheduleJob(JobKey jobKey) {
+            try {
+                if (quartzScheduler.deleteJob(jobKey)) {
+                    log.info("Deleted schedule {group: {}, name: {}}", jobKey.getGroup(), jobKey.getName());
+                }
+            } catch (SchedulerException e) {
+                log.error("Deleting schedule", e);
+                throw new SchedulerInitializationFailure("Deleting schedule", e);
+            }
         }
 
         private void scheduleJob(String name, String groupName, String description, Class<? extends Job> jobClass, String scheduleExpression) {
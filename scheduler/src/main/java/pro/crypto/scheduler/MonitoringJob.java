@@ -4,6 +4,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.quartz.Job;
 import org.quartz.JobExecutionContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import pro.crypto.service.MonitoringService;
 
@@ -14,8 +15,16 @@ public class MonitoringJob implements Job {
     @Autowired
     private MonitoringService monitoringService;
 
+    // job can still fire from a node which hasn't been restarted with cluster enabled yet
+    @Value("${monitoring.cluster.enabled:false}")
+    private boolean monitoringClusterEnabled;
+
     @Override
     public void execute(JobExecutionContext jobExecutionContext) {
+        if (monitoringClusterEnabled) {
+            log.info("Skipped monitoring job, monitoring cycles are started by cluster nodes");
+            return;
+        }
         log.trace("Starting monitoring job");
         monitoringService.startMonitoring();
         log.info("Finished monitoring job");
@@ -0,0 +1,69 @@
+#!/usr/bin/env bash
+# Compares JMH csv results (-rf csv) with a baseline and fails if any benchmark regressed over the threshold.
+# Usage: compare-benchmarks.sh <baseline.csv> <current.csv> [threshold percent, 10 by default]
+# Throughput (ops/time) regresses when it decreases, time and gc.alloc.rate.norm (B/op) regress when they increase.
+# Other secondary metrics of profilers are skipped, they depend on the speed of the run.
+
+set -euo pipefail
+
+if [ "$#" -lt 2 ]; then
+    echo "Usage: $0 <baseline.csv> <current.csv> [threshold percent]" >&2
+    exit 2
+fi
+
+BASELINE=$1
+CURRENT=$2
+THRESHOLD=${3:-10}
+
+awk -F',' -v threshold="$THRESHOLD" '
+function key(    result, idx) {
+    result = $1 SUBSEP $2
+    for (idx = 8; idx <= NF; idx++) {
+        result = result SUBSEP $idx
+    }
+    return result
+}
+function name(    result, idx) {
+    result = $1 " " $2
+    for (idx = 8; idx <= NF; idx++) {
+        result = result " " $idx
+    }
+    return result
+}
+FNR == 1 {
+    next
+}
+{
+    gsub(/"/, "")
+    if ($1 ~ /:/ && $1 !~ /gc\.alloc\.rate\.norm$/) {
+        next
+    }
+}
+FNR == NR {
+    baseline[key()] = $5
+    next
+}
+{
+    currentKey = key()
+    if (!(currentKey in baseline)) {
+        next
+    }
+    compared++
+    previous = baseline[currentKey]
+    if (previous == 0) {
+        next
+    }
+    change = ($5 - previous) * 100 / previous
+    if ($7 ~ /^ops\//) {
+        change = -change
+    }
+    if (change > threshold) {
+        regressions++
+        printf "REGRESSION %s: %s -> %s %s (%+.1f%%)\n", name(), previous, $5, $7, change
+    }
+}
+END {
+    printf "Compared %d results, %d regressions over %s%%\n", compared, regressions, threshold
+    exit regressions > 0 ? 1 : 0
+}
+' "$BASELINE" "$CURRENT"
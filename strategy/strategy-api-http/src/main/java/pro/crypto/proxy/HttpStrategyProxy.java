@@ -3,16 +3,21 @@ package pro.crypto.proxy;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import pro.crypto.model.strategy.StrategyType;
 import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.request.StrategyBatchCalculationRequest;
+import pro.crypto.response.StrategyBatchDecision;
+import pro.crypto.response.StrategyDecision;
 
 import java.time.LocalDateTime;
 
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
+import static org.springframework.web.bind.annotation.RequestMethod.POST;
 
 @Validated
 @FeignClient(name = "api-strategy", url = "${pro.crypto.entry.point.api.url}", path = "/strategies")
@@ -28,4 +33,20 @@ public interface HttpStrategyProxy {
                                @RequestParam("strategyType") StrategyType strategyType,
                                @RequestParam("configuration") String configuration);
 
+    @RequestMapping(value = "/decisions", method = GET)
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    StrategyDecision[] decide(@RequestParam("marketId") Long marketId,
+                              @RequestParam("timeFrame") TimeFrame timeFrame,
+                              @RequestParam("from") LocalDateTime from,
+                              @RequestParam("to") LocalDateTime to,
+                              @RequestParam("strategyType") StrategyType strategyType,
+                              @RequestParam("configuration") String configuration,
+                              @RequestParam("lastBars") int lastBars);
+
+    @RequestMapping(value = "/batch/decisions", method = POST)
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    StrategyBatchDecision[] decide(@RequestBody StrategyBatchCalculationRequest request);
+
 }
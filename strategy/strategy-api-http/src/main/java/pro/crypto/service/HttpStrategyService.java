@@ -3,7 +3,13 @@ package pro.crypto.service;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import pro.crypto.proxy.HttpStrategyProxy;
+import pro.crypto.request.StrategyBatchCalculationRequest;
 import pro.crypto.request.StrategyCalculationRequest;
+import pro.crypto.response.StrategyBatchDecision;
+import pro.crypto.response.StrategyBatchResult;
+import pro.crypto.response.StrategyDecision;
+
+import static java.util.Arrays.stream;
 
 @Service
 @AllArgsConstructor
@@ -17,4 +23,31 @@ public class HttpStrategyService implements StrategyService {
                 request.getFrom(), request.getTo(), request.getStrategyType(), request.getConfiguration());
     }
 
+    @Override
+    public StrategyDecision[] decide(StrategyCalculationRequest request, int lastBars) {
+        return strategyProxy.decide(request.getMarketId(), request.getTimeFrame(),
+                request.getFrom(), request.getTo(), request.getStrategyType(), request.getConfiguration(), lastBars);
+    }
+
+    // only decisions are transferred, full results of indicator values aren't
+    @Override
+    public StrategyBatchResult[] calculate(StrategyBatchCalculationRequest request) {
+        return stream(decide(request))
+                .map(decision -> new StrategyBatchResult(decision.getId(), decision.getDecisions(), decision.getError()))
+                .toArray(StrategyBatchResult[]::new);
+    }
+
+    // loaded ticks aren't sent, strategy service fetches them itself
+    @Override
+    public StrategyBatchDecision[] decide(StrategyBatchCalculationRequest request) {
+        return strategyProxy.decide(StrategyBatchCalculationRequest.builder()
+                .marketId(request.getMarketId())
+                .timeFrame(request.getTimeFrame())
+                .from(request.getFrom())
+                .to(request.getTo())
+                .strategies(request.getStrategies())
+                .lastBars(request.getLastBars())
+                .build());
+    }
+
 }
@@ -0,0 +1,25 @@
+package pro.crypto.model;
+
+import pro.crypto.model.strategy.StrategyType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.response.StrategyDecision;
+
+/**
+ * Strategy which keeps state of its indicators and is updated one bar at a time, so positions of new bars
+ * are defined without calculation of the whole history.
+ * Decisions are the same as the decisions of batch calculation over all bars appended so far.
+ */
+public interface IncrementalStrategy {
+
+    StrategyType getType();
+
+    // closed bars become part of the state, decisions are returned in the same order
+    StrategyDecision[] append(Tick... closedTicks);
+
+    // decision for the forming bar, the state isn't changed, so the same bar can be updated again
+    StrategyDecision update(Tick formingTick);
+
+    // decisions of the last closed bars, limited by the number of retained decisions
+    StrategyDecision[] getTail(int count);
+
+}
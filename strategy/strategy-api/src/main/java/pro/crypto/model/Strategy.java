@@ -3,11 +3,13 @@ package pro.crypto.model;
 import pro.crypto.exception.WrongIncomingParametersException;
 import pro.crypto.model.strategy.Position;
 import pro.crypto.model.strategy.StrategyType;
+import pro.crypto.response.StrategyDecision;
 import pro.crypto.response.StrategyResult;
 
 import java.util.Set;
 
 import static java.lang.String.format;
+import static java.util.Arrays.stream;
 import static java.util.Objects.isNull;
 
 public interface Strategy<T extends StrategyResult> {
@@ -18,6 +20,14 @@ public interface Strategy<T extends StrategyResult> {
 
     T[] getResult();
 
+    // positions of the last bars only. Full result is still calculated, so this reduces only the size of response
+    default StrategyDecision[] getDecisions(int lastBars) {
+        T[] result = getResult();
+        return stream(result, Math.max(0, result.length - lastBars), result.length)
+                .map(barResult -> new StrategyDecision(barResult.getTick(), barResult.getPositions()))
+                .toArray(StrategyDecision[]::new);
+    }
+
     default void checkPositions(Set<Position> positions) {
         if (isNull(positions) || positions.size() == 0) {
             throw new WrongIncomingParametersException(format("Incoming looking positions are null or empty {strategy: {%s}}", getType().toString()));
@@ -0,0 +1,38 @@
+package pro.crypto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Strategies which are calculated on the same ticks, so ticks are fetched once for all of them.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class StrategyBatchCalculationRequest {
+
+    private Long marketId;
+
+    private TimeFrame timeFrame;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private List<StrategyBatchItem> strategies;
+
+    // only decisions of the last bars are calculated if set
+    private Integer lastBars;
+
+    // ticks of the window which are already loaded by the caller, fetched by the service if not set
+    private Tick[] ticks;
+
+}
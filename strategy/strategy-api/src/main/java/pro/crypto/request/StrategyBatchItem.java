@@ -0,0 +1,21 @@
+package pro.crypto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pro.crypto.model.strategy.StrategyType;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class StrategyBatchItem {
+
+    private Long id;
+
+    private StrategyType strategyType;
+
+    private String configuration;
+
+}
@@ -0,0 +1,23 @@
+package pro.crypto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Decisions of one strategy of the batch, error is set instead of decisions when strategy calculation has been failed.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class StrategyBatchDecision {
+
+    private Long id;
+
+    private StrategyDecision[] decisions;
+
+    private String error;
+
+}
@@ -0,0 +1,23 @@
+package pro.crypto.response;
+
+import lombok.Value;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Result of one strategy of the batch, error is set instead of result when strategy calculation has been failed.
+ */
+@Value
+public class StrategyBatchResult {
+
+    private Long id;
+
+    private StrategyResult[] result;
+
+    private String error;
+
+    public boolean isFailed() {
+        return nonNull(error);
+    }
+
+}
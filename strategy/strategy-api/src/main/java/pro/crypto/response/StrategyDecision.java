@@ -0,0 +1,25 @@
+package pro.crypto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pro.crypto.model.strategy.Position;
+import pro.crypto.model.tick.Tick;
+
+import java.util.Set;
+
+/**
+ * Positions of one bar without indicator values, enough to make decision about signal.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class StrategyDecision implements StrategyResult {
+
+    private Tick tick;
+
+    private Set<Position> positions;
+
+}
@@ -1,9 +1,24 @@
 package pro.crypto.service;
 
+import pro.crypto.request.StrategyBatchCalculationRequest;
 import pro.crypto.request.StrategyCalculationRequest;
+import pro.crypto.response.StrategyBatchDecision;
+import pro.crypto.response.StrategyBatchResult;
+import pro.crypto.response.StrategyDecision;
 
 public interface StrategyService {
 
     Object[] calculate(StrategyCalculationRequest request);
 
+    // positions of the last bars without indicator values, calculation costs the same as full result, response is smaller
+    StrategyDecision[] decide(StrategyCalculationRequest request, int lastBars);
+
+    // failure of one strategy doesn't fail others
+    StrategyBatchResult[] calculate(StrategyBatchCalculationRequest request);
+
+    // positions of the last bars of every strategy of the batch, the last bar only if count of bars isn't set.
+    // Http batch calculation goes through it, so only decisions are transferred.
+    // Strategies with incremental implementation keep their state between calls and calculate only new bars
+    StrategyBatchDecision[] decide(StrategyBatchCalculationRequest request);
+
 }
@@ -4,6 +4,7 @@ import pro.crypto.analyzer.ac.ACAnalyzer;
 import pro.crypto.analyzer.ac.ACAnalyzerResult;
 import pro.crypto.analyzer.ao.AOAnalyzer;
 import pro.crypto.analyzer.ao.AOAnalyzerResult;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.SignalArrayMerger;
 import pro.crypto.indicator.ac.ACRequest;
 import pro.crypto.indicator.ac.ACResult;
@@ -133,7 +134,7 @@ public class BillWilliamsStrategy implements Strategy<BWSResult> {
     }
 
     private ACResult[] calculateAccelerationDecelerationOscillator() {
-        return new AccelerationDecelerationOscillator(buildACRequest()).getResult();
+        return IndicatorContext.getResult(buildACRequest(), AccelerationDecelerationOscillator::new);
     }
 
     private IndicatorRequest buildACRequest() {
@@ -146,7 +147,7 @@ public class BillWilliamsStrategy implements Strategy<BWSResult> {
     }
 
     private AOResult[] calculateAwesomeOscillator() {
-        return new AwesomeOscillator(buildAORequest()).getResult();
+        return IndicatorContext.getResult(buildAORequest(), AwesomeOscillator::new);
     }
 
     private IndicatorRequest buildAORequest() {
@@ -173,6 +174,7 @@ public class BillWilliamsStrategy implements Strategy<BWSResult> {
     }
 
     private FractalResult[] calculateFractalsWithAlligatorFilter() {
+        // fractals are modified by the filter, so they are not shared through indicator context
         FractalResult[] fractalResults = new Fractal(buildFractalRequest()).getResult();
         return filterFractalsWithAlligator(fractalResults, alligatorResults);
     }
@@ -184,7 +186,7 @@ public class BillWilliamsStrategy implements Strategy<BWSResult> {
     }
 
     private AlligatorResult[] calculateAlligator() {
-        return new Alligator(buildAlligatorRequest()).getResult();
+        return IndicatorContext.getResult(buildAlligatorRequest(), Alligator::new);
     }
 
     private IndicatorRequest buildAlligatorRequest() {
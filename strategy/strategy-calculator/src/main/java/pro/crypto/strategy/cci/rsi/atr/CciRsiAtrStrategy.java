@@ -1,5 +1,6 @@
 package pro.crypto.strategy.cci.rsi.atr;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.PeakValleyFinder;
 import pro.crypto.helper.StaticLineCrossAnalyzer;
 import pro.crypto.indicator.atr.ATRRequest;
@@ -135,7 +136,7 @@ public class CciRsiAtrStrategy implements Strategy<CciRsiAtrResult> {
     }
 
     private CCIResult[] calculateCommodityChannelIndex() {
-        return new CommodityChannelIndex(buildCCIRequest()).getResult();
+        return IndicatorContext.getResult(buildCCIRequest(), CommodityChannelIndex::new);
     }
 
     private IndicatorRequest buildCCIRequest() {
@@ -146,7 +147,7 @@ public class CciRsiAtrStrategy implements Strategy<CciRsiAtrResult> {
     }
 
     private void calculateRelativeStrengthIndex() {
-        rsiResults = new RelativeStrengthIndex(buildRSIRequest()).getResult();
+        rsiResults = IndicatorContext.getResult(buildRSIRequest(), RelativeStrengthIndex::new);
     }
 
     private IndicatorRequest buildRSIRequest() {
@@ -158,7 +159,7 @@ public class CciRsiAtrStrategy implements Strategy<CciRsiAtrResult> {
     }
 
     private void calculateAverageTrueRange() {
-        atrResults = new AverageTrueRange(buildATRRequest()).getResult();
+        atrResults = IndicatorContext.getResult(buildATRRequest(), AverageTrueRange::new);
     }
 
     private IndicatorRequest buildATRRequest() {
@@ -1,5 +1,6 @@
 package pro.crypto.strategy.dpsar;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.MathHelper;
 import pro.crypto.indicator.ma.MARequest;
 import pro.crypto.indicator.ma.MAResult;
@@ -108,7 +109,7 @@ public class DoubleParabolicStrategy implements Strategy<DPsarResult> {
     }
 
     private void calculateMovingAverage() {
-        maResult = MovingAverageFactory.create(buildMARequest()).getResult();
+        maResult = IndicatorContext.getResult(buildMARequest(), MovingAverageFactory::create);
     }
 
     private IndicatorRequest buildMARequest() {
@@ -121,7 +122,7 @@ public class DoubleParabolicStrategy implements Strategy<DPsarResult> {
     }
 
     private void calculateParabolicSAR() {
-        psarResult = new ParabolicStopAndReverse(buildPSARRequest()).getResult();
+        psarResult = IndicatorContext.getResult(buildPSARRequest(), ParabolicStopAndReverse::new);
     }
 
     private IndicatorRequest buildPSARRequest() {
@@ -133,7 +134,7 @@ public class DoubleParabolicStrategy implements Strategy<DPsarResult> {
     }
 
     private void calculateMACD() {
-        macdResult = new MovingAverageConvergenceDivergence(buildMACDRequest()).getResult();
+        macdResult = IndicatorContext.getResult(buildMACDRequest(), MovingAverageConvergenceDivergence::new);
     }
 
     private IndicatorRequest buildMACDRequest() {
@@ -149,7 +150,7 @@ public class DoubleParabolicStrategy implements Strategy<DPsarResult> {
 
     private void calculateParabolicSW() {
         pswResult = new PSARResult[originalData.length];
-        PSARResult[] parabolicSWResults = new ParabolicStopAndReverse(buildPSWRequest()).getResult();
+        PSARResult[] parabolicSWResults = IndicatorContext.getResult(buildPSWRequest(), ParabolicStopAndReverse::new);
         System.arraycopy(parabolicSWResults, 0, pswResult, macdFastPeriod + macdSignalPeriod + 1, parabolicSWResults.length);
     }
 
@@ -2,6 +2,7 @@ package pro.crypto.strategy.ha.macd.psar;
 
 import pro.crypto.analyzer.psar.PSARAnalyzer;
 import pro.crypto.analyzer.psar.PSARAnalyzerResult;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.indicator.ha.HARequest;
 import pro.crypto.indicator.ha.HAResult;
 import pro.crypto.indicator.ha.HeikenAshi;
@@ -104,7 +105,7 @@ public class HaMacdPsarStrategy implements Strategy<HaMacdPsarResult> {
     }
 
     private void calculateHeikenAshi() {
-        haResults = new HeikenAshi(buildHARequest()).getResult();
+        haResults = IndicatorContext.getResult(buildHARequest(), HeikenAshi::new);
     }
 
     private IndicatorRequest buildHARequest() {
@@ -114,7 +115,7 @@ public class HaMacdPsarStrategy implements Strategy<HaMacdPsarResult> {
     }
 
     private void calculateMovingAverageConvergenceDivergence() {
-        macdResults = new MovingAverageConvergenceDivergence(buildMACDResult()).getResult();
+        macdResults = IndicatorContext.getResult(buildMACDResult(), MovingAverageConvergenceDivergence::new);
     }
 
     private IndicatorRequest buildMACDResult() {
@@ -130,7 +131,7 @@ public class HaMacdPsarStrategy implements Strategy<HaMacdPsarResult> {
 
     private void calculateAndAnalyzeParabolic() {
         Tick[] haTicks = builtTicksFromHaResult();
-        psarResults = new ParabolicStopAndReverse(buildPSARRequest(haTicks)).getResult();
+        psarResults = IndicatorContext.getResult(buildPSARRequest(haTicks), ParabolicStopAndReverse::new);
         psarAnalyzerResults = new PSARAnalyzer(new AnalyzerRequest(haTicks, psarResults)).getResult();
     }
 
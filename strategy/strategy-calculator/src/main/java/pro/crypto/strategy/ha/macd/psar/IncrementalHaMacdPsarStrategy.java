@@ -0,0 +1,234 @@
+package pro.crypto.strategy.ha.macd.psar;
+
+import lombok.Value;
+import pro.crypto.indicator.ha.HARequest;
+import pro.crypto.indicator.ha.HAResult;
+import pro.crypto.indicator.ha.IncrementalHeikenAshi;
+import pro.crypto.indicator.macd.IncrementalMovingAverageConvergenceDivergence;
+import pro.crypto.indicator.macd.MACDRequest;
+import pro.crypto.indicator.macd.MACDResult;
+import pro.crypto.indicator.psar.IncrementalParabolicStopAndReverse;
+import pro.crypto.indicator.psar.PSARRequest;
+import pro.crypto.indicator.psar.PSARResult;
+import pro.crypto.model.AbstractIncrementalIndicator;
+import pro.crypto.model.IncrementalIndicator;
+import pro.crypto.model.IncrementalStrategy;
+import pro.crypto.model.analyzer.Signal;
+import pro.crypto.model.strategy.Position;
+import pro.crypto.model.strategy.StrategyType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.StrategyRequest;
+import pro.crypto.response.StrategyDecision;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.math.BigDecimal.ZERO;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static pro.crypto.model.analyzer.Signal.BUY;
+import static pro.crypto.model.analyzer.Signal.NEUTRAL;
+import static pro.crypto.model.analyzer.Signal.SELL;
+import static pro.crypto.model.strategy.Position.ENTRY_LONG;
+import static pro.crypto.model.strategy.Position.ENTRY_SHORT;
+import static pro.crypto.model.strategy.StrategyType.HA_MACD_PSAR;
+
+/**
+ * Incremental version of {@link HaMacdPsarStrategy}, positions of a bar depend on indicator values of this bar and the previous one.
+ * Bars of the first MACD window are calculated by the batch strategy, the rest bars are appended one by one.
+ */
+public class IncrementalHaMacdPsarStrategy implements IncrementalStrategy {
+
+    private final Set<Position> positions;
+    private final IncrementalIndicator<HAResult> heikenAshi;
+    private final IncrementalIndicator<MACDResult> movingAverageConvergenceDivergence;
+    private final IncrementalIndicator<PSARResult> parabolic;
+    private final Deque<StrategyDecision> tail = new ArrayDeque<>();
+
+    private Bar previousBar;
+
+    public IncrementalHaMacdPsarStrategy(StrategyRequest strategyRequest) {
+        HaMacdPsarRequest request = (HaMacdPsarRequest) strategyRequest;
+        Tick[] warmUpData = Arrays.copyOf(request.getOriginalData(),
+                Math.min(request.getOriginalData().length, request.getMacdSlowPeriod() + request.getMacdSignalPeriod() + 1));
+        HaMacdPsarResult[] warmUpResult = new HaMacdPsarStrategy(buildRequest(request, warmUpData)).getResult();
+        Tick[] haTicks = Arrays.stream(warmUpResult)
+                .map(result -> buildHaTick(result.getTick().getTickTime(), result.getHaOpen(), result.getHaHigh(), result.getHaLow(), result.getHaClose()))
+                .toArray(Tick[]::new);
+        this.positions = request.getPositions();
+        this.heikenAshi = new IncrementalHeikenAshi(new HARequest(warmUpData));
+        this.movingAverageConvergenceDivergence = new IncrementalMovingAverageConvergenceDivergence(buildMACDRequest(request, warmUpData));
+        this.parabolic = new IncrementalParabolicStopAndReverse(buildPSARRequest(request, haTicks));
+        for (HaMacdPsarResult result : warmUpResult) {
+            Bar bar = new Bar(result.getHaOpen(), result.getHaClose(), result.getMacdValue(), result.getPsarValue(),
+                    defineSignal(previousBar, result.getHaClose(), result.getPsarValue()));
+            retain(new StrategyDecision(result.getTick(), result.getPositions()));
+            previousBar = bar;
+        }
+        append(Arrays.copyOfRange(request.getOriginalData(), warmUpData.length, request.getOriginalData().length));
+    }
+
+    @Override
+    public StrategyType getType() {
+        return HA_MACD_PSAR;
+    }
+
+    @Override
+    public StrategyDecision[] append(Tick... closedTicks) {
+        StrategyDecision[] decisions = new StrategyDecision[closedTicks.length];
+        for (int idx = 0; idx < closedTicks.length; idx++) {
+            HAResult haResult = heikenAshi.append(closedTicks[idx])[0];
+            MACDResult macdResult = movingAverageConvergenceDivergence.append(closedTicks[idx])[0];
+            PSARResult psarResult = parabolic.append(buildHaTick(haResult))[0];
+            Bar bar = buildBar(haResult, macdResult, psarResult);
+            decisions[idx] = new StrategyDecision(closedTicks[idx], definePositions(bar));
+            retain(decisions[idx]);
+            previousBar = bar;
+        }
+        return decisions;
+    }
+
+    @Override
+    public StrategyDecision update(Tick formingTick) {
+        HAResult haResult = heikenAshi.update(formingTick);
+        Bar bar = buildBar(haResult, movingAverageConvergenceDivergence.update(formingTick), parabolic.update(buildHaTick(haResult)));
+        return new StrategyDecision(formingTick, definePositions(bar));
+    }
+
+    @Override
+    public StrategyDecision[] getTail(int count) {
+        return tail.stream()
+                .skip(Math.max(tail.size() - count, 0))
+                .toArray(StrategyDecision[]::new);
+    }
+
+    private Bar buildBar(HAResult haResult, MACDResult macdResult, PSARResult psarResult) {
+        return new Bar(haResult.getOpen(), haResult.getClose(), macdResult.getIndicatorValue(), psarResult.getIndicatorValue(),
+                defineSignal(previousBar, haResult.getClose(), psarResult.getIndicatorValue()));
+    }
+
+    // the same signal as PSARAnalyzer finds over heiken ashi bars
+    private Signal defineSignal(Bar previous, BigDecimal haClose, BigDecimal psarValue) {
+        if (isNull(previous) || isNull(previous.getPsarValue()) || isNull(psarValue)) {
+            return NEUTRAL;
+        }
+        if (previous.getPsarValue().compareTo(previous.getHaClose()) > 0 && psarValue.compareTo(haClose) < 0) {
+            return BUY;
+        }
+        if (previous.getPsarValue().compareTo(previous.getHaClose()) < 0 && psarValue.compareTo(haClose) > 0) {
+            return SELL;
+        }
+        return NEUTRAL;
+    }
+
+    private Set<Position> definePositions(Bar bar) {
+        Set<Position> barPositions = new HashSet<>();
+        if (isPossibleDefineEntry(bar)) {
+            if (positions.contains(ENTRY_LONG) && isLongEntry(bar)) {
+                barPositions.add(ENTRY_LONG);
+            }
+            if (positions.contains(ENTRY_SHORT) && isShortEntry(bar)) {
+                barPositions.add(ENTRY_SHORT);
+            }
+        }
+        return barPositions;
+    }
+
+    private boolean isPossibleDefineEntry(Bar bar) {
+        return nonNull(previousBar)
+                && nonNull(previousBar.getMacdValue())
+                && nonNull(bar.getMacdValue())
+                && nonNull(previousBar.getHaClose())
+                && nonNull(previousBar.getHaOpen());
+    }
+
+    // MACD below zero to buy and above zero to sell as in the batch strategy
+    private boolean isLongEntry(Bar bar) {
+        return previousBar.getPsarSignal() == BUY
+                && bar.getPsarSignal() != SELL
+                && previousBar.getMacdValue().compareTo(ZERO) < 0
+                && previousBar.getHaClose().compareTo(previousBar.getHaOpen()) > 0;
+    }
+
+    private boolean isShortEntry(Bar bar) {
+        return previousBar.getPsarSignal() == SELL
+                && bar.getPsarSignal() != BUY
+                && previousBar.getMacdValue().compareTo(ZERO) > 0
+                && previousBar.getHaClose().compareTo(previousBar.getHaOpen()) < 0;
+    }
+
+    private void retain(StrategyDecision decision) {
+        if (tail.size() == AbstractIncrementalIndicator.TAIL_CAPACITY) {
+            tail.removeFirst();
+        }
+        tail.addLast(decision);
+    }
+
+    private Tick buildHaTick(HAResult haResult) {
+        return buildHaTick(haResult.getTime(), haResult.getOpen(), haResult.getHigh(), haResult.getLow(), haResult.getClose());
+    }
+
+    private Tick buildHaTick(LocalDateTime time, BigDecimal open, BigDecimal high, BigDecimal low, BigDecimal close) {
+        return Tick.builder()
+                .open(open)
+                .high(high)
+                .low(low)
+                .close(close)
+                .tickTime(time)
+                .build();
+    }
+
+    private HaMacdPsarRequest buildRequest(HaMacdPsarRequest request, Tick[] originalData) {
+        return HaMacdPsarRequest.builder()
+                .originalData(originalData)
+                .macdMaType(request.getMacdMaType())
+                .macdPriceType(request.getMacdPriceType())
+                .macdFastPeriod(request.getMacdFastPeriod())
+                .macdSlowPeriod(request.getMacdSlowPeriod())
+                .macdSignalPeriod(request.getMacdSignalPeriod())
+                .psarMinAccelerationFactor(request.getPsarMinAccelerationFactor())
+                .psarMaxAccelerationFactor(request.getPsarMaxAccelerationFactor())
+                .positions(request.getPositions())
+                .build();
+    }
+
+    private MACDRequest buildMACDRequest(HaMacdPsarRequest request, Tick[] originalData) {
+        return MACDRequest.builder()
+                .originalData(originalData)
+                .movingAverageType(request.getMacdMaType())
+                .priceType(request.getMacdPriceType())
+                .fastPeriod(request.getMacdFastPeriod())
+                .slowPeriod(request.getMacdSlowPeriod())
+                .signalPeriod(request.getMacdSignalPeriod())
+                .build();
+    }
+
+    private PSARRequest buildPSARRequest(HaMacdPsarRequest request, Tick[] haTicks) {
+        return PSARRequest.builder()
+                .originalData(haTicks)
+                .minAccelerationFactor(request.getPsarMinAccelerationFactor())
+                .maxAccelerationFactor(request.getPsarMaxAccelerationFactor())
+                .build();
+    }
+
+    @Value
+    private static class Bar {
+
+        private final BigDecimal haOpen;
+
+        private final BigDecimal haClose;
+
+        private final BigDecimal macdValue;
+
+        private final BigDecimal psarValue;
+
+        private final Signal psarSignal;
+
+    }
+
+}
@@ -5,6 +5,7 @@ import pro.crypto.analyzer.psar.PSARAnalyzerResult;
 import pro.crypto.analyzer.rsi.RSIAnalyzer;
 import pro.crypto.analyzer.rsi.RSIAnalyzerRequest;
 import pro.crypto.analyzer.rsi.RSIAnalyzerResult;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.indicator.ma.MARequest;
 import pro.crypto.indicator.ma.MAResult;
 import pro.crypto.indicator.ma.MovingAverageFactory;
@@ -115,7 +116,7 @@ public class LrsiMaPsarStrategy implements Strategy<LrsiMaPsarResult> {
     }
 
     private void calculateAndAnalyzerLaguerreRelativeStrengthIndex() {
-        lrsiResults = new LaguerreRelativeStrengthIndex(buildLRSIRequest()).getResult();
+        lrsiResults = IndicatorContext.getResult(buildLRSIRequest(), LaguerreRelativeStrengthIndex::new);
         lrsiAnalyzerResults = new RSIAnalyzer(buildLRSIAnalyzerRequest(lrsiResults)).getResult();
     }
 
@@ -136,7 +137,7 @@ public class LrsiMaPsarStrategy implements Strategy<LrsiMaPsarResult> {
     }
 
     private void calculateMovingAverage() {
-        maResults = MovingAverageFactory.create(buildMARequest()).getResult();
+        maResults = IndicatorContext.getResult(buildMARequest(), MovingAverageFactory::create);
     }
 
     private IndicatorRequest buildMARequest() {
@@ -149,7 +150,7 @@ public class LrsiMaPsarStrategy implements Strategy<LrsiMaPsarResult> {
     }
 
     private void calculateParabolicStopAndReverse() {
-        psarResults = new ParabolicStopAndReverse(buildPSARRequest()).getResult();
+        psarResults = IndicatorContext.getResult(buildPSARRequest(), ParabolicStopAndReverse::new);
     }
 
     private IndicatorRequest buildPSARRequest() {
@@ -1,6 +1,7 @@
 package pro.crypto.strategy.macd.cci;
 
 import pro.crypto.helper.DynamicLineCrossAnalyzer;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.SignalArrayMerger;
 import pro.crypto.helper.StaticLineCrossAnalyzer;
 import pro.crypto.indicator.cci.CCIRequest;
@@ -121,7 +122,7 @@ public class MacdCciStrategy implements Strategy<MacdCciResult> {
     }
 
     private void calculateMovingAverageConvergenceDivergence() {
-        macdResults = new MovingAverageConvergenceDivergence(buildMACDRequest()).getResult();
+        macdResults = IndicatorContext.getResult(buildMACDRequest(), MovingAverageConvergenceDivergence::new);
     }
 
     private IndicatorRequest buildMACDRequest() {
@@ -137,7 +138,7 @@ public class MacdCciStrategy implements Strategy<MacdCciResult> {
 
     private void calculateMACDCommodityChannelIndex() {
         cciMacdResults = new BigDecimal[originalData.length];
-        BigDecimal[] macdCciValues = extractIndicatorValues(new CommodityChannelIndex(buildCCIRequest()).getResult());
+        BigDecimal[] macdCciValues = extractIndicatorValues(IndicatorContext.getResult(buildCCIRequest(), CommodityChannelIndex::new));
         System.arraycopy(macdCciValues, 0, cciMacdResults, macdSlowPeriod - 1, macdCciValues.length);
     }
 
@@ -1,6 +1,7 @@
 package pro.crypto.strategy.pivot.rsi.macd.ma;
 
 import pro.crypto.helper.DynamicLineCrossAnalyzer;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.indicator.ma.MARequest;
 import pro.crypto.indicator.ma.MAResult;
 import pro.crypto.indicator.ma.MovingAverageFactory;
@@ -159,7 +160,7 @@ public class PivotRsiMacdMaStrategy implements Strategy<PivotRsiMacdMaResult> {
     }
 
     private void calculateRelativeStrengthIndex() {
-        rsiResults = new RelativeStrengthIndex(buildRSIRequest()).getResult();
+        rsiResults = IndicatorContext.getResult(buildRSIRequest(), RelativeStrengthIndex::new);
     }
 
     private IndicatorRequest buildRSIRequest() {
@@ -171,7 +172,7 @@ public class PivotRsiMacdMaStrategy implements Strategy<PivotRsiMacdMaResult> {
     }
 
     private void calculateMovingAverageDivergenceConvergence() {
-        macdResults = new MovingAverageConvergenceDivergence(buildMACDRequest()).getResult();
+        macdResults = IndicatorContext.getResult(buildMACDRequest(), MovingAverageConvergenceDivergence::new);
     }
 
     private IndicatorRequest buildMACDRequest() {
@@ -186,7 +187,7 @@ public class PivotRsiMacdMaStrategy implements Strategy<PivotRsiMacdMaResult> {
     }
 
     private void calculateMovingAverage() {
-        maResults = MovingAverageFactory.create(buildMARequest()).getResult();
+        maResults = IndicatorContext.getResult(buildMARequest(), MovingAverageFactory::create);
     }
 
     private IndicatorRequest buildMARequest() {
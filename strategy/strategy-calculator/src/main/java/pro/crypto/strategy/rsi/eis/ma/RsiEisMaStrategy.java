@@ -1,5 +1,6 @@
 package pro.crypto.strategy.rsi.eis.ma;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.indicator.eis.EISRequest;
 import pro.crypto.indicator.eis.EISResult;
 import pro.crypto.indicator.eis.ElderImpulseSystem;
@@ -126,7 +127,7 @@ public class RsiEisMaStrategy implements Strategy<RsiEisMaResult> {
     }
 
     private void calculateRelativeStrengthIndex() {
-        rsiResults = new RelativeStrengthIndex(buildRSIRequest()).getResult();
+        rsiResults = IndicatorContext.getResult(buildRSIRequest(), RelativeStrengthIndex::new);
     }
 
     private IndicatorRequest buildRSIRequest() {
@@ -138,7 +139,7 @@ public class RsiEisMaStrategy implements Strategy<RsiEisMaResult> {
     }
 
     private void calculateElderImpulseSystem() {
-        eisResults = new ElderImpulseSystem(buildEISRequest()).getResult();
+        eisResults = IndicatorContext.getResult(buildEISRequest(), ElderImpulseSystem::new);
     }
 
     private IndicatorRequest buildEISRequest() {
@@ -156,11 +157,11 @@ public class RsiEisMaStrategy implements Strategy<RsiEisMaResult> {
     }
 
     private void calculateFastMovingAverage() {
-        fastMaResults = MovingAverageFactory.create(buildFastMARequest()).getResult();
+        fastMaResults = IndicatorContext.getResult(buildFastMARequest(), MovingAverageFactory::create);
     }
 
     private void calculateSlowMovingAverage() {
-        slowMaResults = MovingAverageFactory.create(buildSlowMARequest()).getResult();
+        slowMaResults = IndicatorContext.getResult(buildSlowMARequest(), MovingAverageFactory::create);
     }
 
     private IndicatorRequest buildFastMARequest() {
@@ -3,6 +3,7 @@ package pro.crypto.strategy.stc.ma.macd;
 import pro.crypto.analyzer.stc.STCAnalyzer;
 import pro.crypto.analyzer.stc.STCAnalyzerRequest;
 import pro.crypto.analyzer.stc.STCAnalyzerResult;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.PeakValleyFinder;
 import pro.crypto.indicator.ma.MARequest;
 import pro.crypto.indicator.ma.MAResult;
@@ -134,7 +135,7 @@ public class StcMaMacdStrategy implements Strategy<StcMaMacdResult> {
     }
 
     private void calculateAndAnalyzeSchaffTrendCycle() {
-        stcResults = new SchaffTrendCycle(buildSTCRequest()).getResult();
+        stcResults = IndicatorContext.getResult(buildSTCRequest(), SchaffTrendCycle::new);
         stcAnalyzerResults = new STCAnalyzer(buildSTCAnalyzerRequest(stcResults)).getResult();
     }
 
@@ -159,7 +160,7 @@ public class StcMaMacdStrategy implements Strategy<StcMaMacdResult> {
     }
 
     private void calculateMovingAverage() {
-        maResults = MovingAverageFactory.create(buildMARequest()).getResult();
+        maResults = IndicatorContext.getResult(buildMARequest(), MovingAverageFactory::create);
     }
 
     private IndicatorRequest buildMARequest() {
@@ -172,7 +173,7 @@ public class StcMaMacdStrategy implements Strategy<StcMaMacdResult> {
     }
 
     private void calculateMovingAverageConvergenceDivergence() {
-        macdResults = new MovingAverageConvergenceDivergence(buildMACDRequest()).getResult();
+        macdResults = IndicatorContext.getResult(buildMACDRequest(), MovingAverageConvergenceDivergence::new);
     }
 
     private IndicatorRequest buildMACDRequest() {
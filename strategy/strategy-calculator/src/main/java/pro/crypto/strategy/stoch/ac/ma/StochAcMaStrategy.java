@@ -1,5 +1,6 @@
 package pro.crypto.strategy.stoch.ac.ma;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.PeakValleyFinder;
 import pro.crypto.helper.SignalArrayMerger;
 import pro.crypto.helper.StaticLineCrossAnalyzer;
@@ -143,7 +144,7 @@ public class StochAcMaStrategy implements Strategy<StochAcMaResult> {
     }
 
     private void calculateAccelerationDecelerationOscillator() {
-        acResults = new AccelerationDecelerationOscillator(buildACRequest()).getResult();
+        acResults = IndicatorContext.getResult(buildACRequest(), AccelerationDecelerationOscillator::new);
     }
 
     private IndicatorRequest buildACRequest() {
@@ -166,7 +167,7 @@ public class StochAcMaStrategy implements Strategy<StochAcMaResult> {
     }
 
     private StochResult[] calculateStochasticAC() {
-        return new StochasticOscillator(buildACStochRequest()).getResult();
+        return IndicatorContext.getResult(buildACStochRequest(), StochasticOscillator::new);
     }
 
     private IndicatorRequest buildACStochRequest() {
@@ -213,7 +214,7 @@ public class StochAcMaStrategy implements Strategy<StochAcMaResult> {
     }
 
     private void calculateMovingAverage() {
-        maResults = MovingAverageFactory.create(buildMARequest()).getResult();
+        maResults = IndicatorContext.getResult(buildMARequest(), MovingAverageFactory::create);
     }
 
     private IndicatorRequest buildMARequest() {
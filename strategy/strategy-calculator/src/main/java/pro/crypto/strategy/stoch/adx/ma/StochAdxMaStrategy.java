@@ -1,5 +1,6 @@
 package pro.crypto.strategy.stoch.adx.ma;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.PeakValleyFinder;
 import pro.crypto.indicator.adx.ADXRequest;
 import pro.crypto.indicator.adx.ADXResult;
@@ -129,7 +130,7 @@ public class StochAdxMaStrategy implements Strategy<StochAdxMaResult> {
     }
 
     private void calculateStochastic() {
-        stochResults = new StochasticOscillator(buildStochRequest()).getResult();
+        stochResults = IndicatorContext.getResult(buildStochRequest(), StochasticOscillator::new);
     }
 
     private IndicatorRequest buildStochRequest() {
@@ -142,7 +143,7 @@ public class StochAdxMaStrategy implements Strategy<StochAdxMaResult> {
     }
 
     private void calculateAverageDirectionalMovementIndex() {
-        adxResults = new AverageDirectionalMovementIndex(buildADXRequest()).getResult();
+        adxResults = IndicatorContext.getResult(buildADXRequest(), AverageDirectionalMovementIndex::new);
     }
 
     private IndicatorRequest buildADXRequest() {
@@ -153,15 +154,15 @@ public class StochAdxMaStrategy implements Strategy<StochAdxMaResult> {
     }
 
     private void calculateFirstMovingAverage() {
-        firstMaResults = MovingAverageFactory.create(buildMARequest(firstMaPeriod)).getResult();
+        firstMaResults = IndicatorContext.getResult(buildMARequest(firstMaPeriod), MovingAverageFactory::create);
     }
 
     private void calculateSecondMovingAverage() {
-        secondMaResults = MovingAverageFactory.create(buildMARequest(secondMaPeriod)).getResult();
+        secondMaResults = IndicatorContext.getResult(buildMARequest(secondMaPeriod), MovingAverageFactory::create);
     }
 
     private void calculateThirdMovingAverage() {
-        thirdMaResults = MovingAverageFactory.create(buildMARequest(thirdMaPeriod)).getResult();
+        thirdMaResults = IndicatorContext.getResult(buildMARequest(thirdMaPeriod), MovingAverageFactory::create);
     }
 
     private IndicatorRequest buildMARequest(int period) {
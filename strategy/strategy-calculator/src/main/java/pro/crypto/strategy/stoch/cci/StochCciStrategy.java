@@ -1,5 +1,6 @@
 package pro.crypto.strategy.stoch.cci;
 
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.helper.SignalArrayMerger;
 import pro.crypto.helper.StaticLineCrossAnalyzer;
 import pro.crypto.indicator.cci.CCIRequest;
@@ -138,7 +139,7 @@ public class StochCciStrategy implements Strategy<StochCciResult> {
     }
 
     private void calculateFastStochastic() {
-        stochasticResults = new StochasticOscillator(buildStochRequest()).getResult();
+        stochasticResults = IndicatorContext.getResult(buildStochRequest(), StochasticOscillator::new);
         fastStochasticLine = Stream.of(stochasticResults)
                 .map(StochResult::getFastStochastic)
                 .toArray(BigDecimal[]::new);
@@ -172,7 +173,7 @@ public class StochCciStrategy implements Strategy<StochCciResult> {
     }
 
     private CCIResult[] calculateCCI() {
-        return new CommodityChannelIndex(buildCCIRequest()).getResult();
+        return IndicatorContext.getResult(buildCCIRequest(), CommodityChannelIndex::new);
     }
 
     private IndicatorRequest buildCCIRequest() {
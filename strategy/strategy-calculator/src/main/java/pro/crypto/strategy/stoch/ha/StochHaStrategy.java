@@ -3,6 +3,7 @@ package pro.crypto.strategy.stoch.ha;
 import pro.crypto.analyzer.stoch.StochAnalyzer;
 import pro.crypto.analyzer.stoch.StochAnalyzerRequest;
 import pro.crypto.analyzer.stoch.StochAnalyzerResult;
+import pro.crypto.helper.IndicatorContext;
 import pro.crypto.indicator.ha.HARequest;
 import pro.crypto.indicator.ha.HAResult;
 import pro.crypto.indicator.ha.HeikenAshi;
@@ -98,7 +99,7 @@ public class StochHaStrategy implements Strategy<StochHaResult> {
     }
 
     private StochResult[] calculateStochastic() {
-        return new StochasticOscillator(buildStochRequest()).getResult();
+        return IndicatorContext.getResult(buildStochRequest(), StochasticOscillator::new);
     }
 
     private IndicatorRequest buildStochRequest() {
@@ -120,7 +121,7 @@ public class StochHaStrategy implements Strategy<StochHaResult> {
     }
 
     private void calculateHeikenAshiCandles() {
-        haResults = new HeikenAshi(buildHARequest()).getResult();
+        haResults = IndicatorContext.getResult(buildHARequest(), HeikenAshi::new);
     }
 
     private HARequest buildHARequest() {
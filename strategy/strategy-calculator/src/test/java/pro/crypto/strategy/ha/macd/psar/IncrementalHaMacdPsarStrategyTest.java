@@ -0,0 +1,85 @@
+package pro.crypto.strategy.ha.macd.psar;
+
+import org.junit.Test;
+import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.model.IncrementalStrategy;
+import pro.crypto.model.strategy.Position;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.response.StrategyDecision;
+import pro.crypto.strategy.StrategyBaseTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.model.AbstractIncrementalIndicator.TAIL_CAPACITY;
+import static pro.crypto.model.indicator.IndicatorType.EXPONENTIAL_MOVING_AVERAGE;
+import static pro.crypto.model.tick.PriceType.CLOSE;
+
+public class IncrementalHaMacdPsarStrategyTest extends StrategyBaseTest {
+
+    private static final int WARM_UP_SIZE = 100;
+
+    @Test
+    public void warmUpDecisionsTest() {
+        StrategyDecision[] expectedDecisions = new HaMacdPsarStrategy(buildHaMacdPsarRequest(originalData)).getDecisions(TAIL_CAPACITY);
+        IncrementalStrategy strategy = new IncrementalHaMacdPsarStrategy(buildHaMacdPsarRequest(originalData));
+        assertArrayEquals(expectedDecisions, strategy.getTail(originalData.length));
+        assertTrue(Arrays.stream(expectedDecisions).anyMatch(decision -> !decision.getPositions().isEmpty()));
+    }
+
+    @Test
+    public void appendedBarsDecisionsTest() {
+        StrategyDecision[] expectedDecisions = new HaMacdPsarStrategy(buildHaMacdPsarRequest(originalData)).getDecisions(originalData.length);
+        IncrementalStrategy strategy = new IncrementalHaMacdPsarStrategy(buildHaMacdPsarRequest(Arrays.copyOf(originalData, WARM_UP_SIZE)));
+        List<StrategyDecision> actualDecisions = new ArrayList<>(Arrays.asList(strategy.getTail(WARM_UP_SIZE)));
+        for (int idx = WARM_UP_SIZE; idx < originalData.length; idx++) {
+            StrategyDecision formingBarDecision = strategy.update(originalData[idx]);
+            StrategyDecision closedBarDecision = strategy.append(originalData[idx])[0];
+            assertEquals(closedBarDecision, formingBarDecision);
+            actualDecisions.add(closedBarDecision);
+        }
+        assertArrayEquals(expectedDecisions, actualDecisions.toArray());
+    }
+
+    @Test
+    public void formingBarUpdateTest() {
+        IncrementalStrategy strategy = new IncrementalHaMacdPsarStrategy(buildHaMacdPsarRequest(Arrays.copyOf(originalData, WARM_UP_SIZE)));
+        strategy.update(originalData[WARM_UP_SIZE + 1]);
+        StrategyDecision formingBarDecision = strategy.update(originalData[WARM_UP_SIZE]);
+        StrategyDecision[] expectedDecisions = new HaMacdPsarStrategy(buildHaMacdPsarRequest(Arrays.copyOf(originalData, WARM_UP_SIZE + 1))).getDecisions(1);
+        assertEquals(expectedDecisions[0], formingBarDecision);
+        assertEquals(WARM_UP_SIZE, strategy.getTail(WARM_UP_SIZE + 1).length);
+    }
+
+    @Test(expected = WrongIncomingParametersException.class)
+    public void shortOriginalDataTest() {
+        new IncrementalHaMacdPsarStrategy(buildHaMacdPsarRequest(Arrays.copyOf(originalData, 20)));
+    }
+
+    @Test(expected = WrongIncomingParametersException.class)
+    public void emptyPositionsTest() {
+        HaMacdPsarRequest request = buildHaMacdPsarRequest(originalData);
+        request.setPositions(newHashSet());
+        new IncrementalHaMacdPsarStrategy(request);
+    }
+
+    private HaMacdPsarRequest buildHaMacdPsarRequest(Tick[] ticks) {
+        return HaMacdPsarRequest.builder()
+                .originalData(ticks)
+                .macdMaType(EXPONENTIAL_MOVING_AVERAGE)
+                .macdPriceType(CLOSE)
+                .macdFastPeriod(12)
+                .macdSlowPeriod(26)
+                .macdSignalPeriod(9)
+                .psarMinAccelerationFactor(0.02)
+                .psarMaxAccelerationFactor(0.2)
+                .positions(newHashSet(Position.ENTRY_LONG, Position.ENTRY_SHORT))
+                .build();
+    }
+
+}
@@ -3,11 +3,13 @@ package pro.crypto.strategy.macd.cci;
 import org.junit.Test;
 import pro.crypto.model.strategy.Position;
 import pro.crypto.request.StrategyRequest;
+import pro.crypto.response.StrategyDecision;
 import pro.crypto.response.StrategyResult;
 import pro.crypto.strategy.StrategyBaseTest;
 
 import static com.google.common.collect.Sets.newHashSet;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static pro.crypto.model.indicator.IndicatorType.EXPONENTIAL_MOVING_AVERAGE;
 import static pro.crypto.model.tick.PriceType.CLOSE;
 
@@ -20,6 +22,18 @@ public class MacdCciStrategyTest extends StrategyBaseTest {
         assertArrayEquals(expectedResult, actualResult);
     }
 
+    @Test
+    public void testMacdCciStrategyDecisions() {
+        MacdCciResult[] fullResult = new MacdCciStrategy(buildMacdCciRequest()).getResult();
+        StrategyDecision[] decisions = new MacdCciStrategy(buildMacdCciRequest()).getDecisions(3);
+        assertEquals(3, decisions.length);
+        for (int idx = 0; idx < decisions.length; idx++) {
+            MacdCciResult barResult = fullResult[fullResult.length - decisions.length + idx];
+            assertEquals(barResult.getTick(), decisions[idx].getTick());
+            assertEquals(barResult.getPositions(), decisions[idx].getPositions());
+        }
+    }
+
     private StrategyRequest buildMacdCciRequest() {
         return MacdCciRequest.builder()
                 .originalData(originalData)
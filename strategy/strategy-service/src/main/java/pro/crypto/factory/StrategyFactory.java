@@ -1,6 +1,7 @@
 package pro.crypto.factory;
 
 import org.springframework.stereotype.Component;
+import pro.crypto.model.IncrementalStrategy;
 import pro.crypto.model.Strategy;
 import pro.crypto.model.strategy.StrategyType;
 import pro.crypto.model.tick.Tick;
@@ -9,6 +10,7 @@ import pro.crypto.strategy.bws.BillWilliamsStrategy;
 import pro.crypto.strategy.cci.rsi.atr.CciRsiAtrStrategy;
 import pro.crypto.strategy.dpsar.DoubleParabolicStrategy;
 import pro.crypto.strategy.ha.macd.psar.HaMacdPsarStrategy;
+import pro.crypto.strategy.ha.macd.psar.IncrementalHaMacdPsarStrategy;
 import pro.crypto.strategy.lrsi.ma.psar.LrsiMaPsarStrategy;
 import pro.crypto.strategy.macd.cci.MacdCciStrategy;
 import pro.crypto.strategy.pivot.rsi.macd.ma.PivotRsiMacdMaRequest;
@@ -57,4 +59,18 @@ public class StrategyFactory {
         }
     }
 
+    // null if the strategy has no incremental implementation
+    public IncrementalStrategy createIncremental(StrategyRequest request, StrategyType strategyType) {
+        switch (strategyType) {
+            case HA_MACD_PSAR:
+                return new IncrementalHaMacdPsarStrategy(request);
+            default:
+                return null;
+        }
+    }
+
+    public boolean isIncremental(StrategyType strategyType) {
+        return strategyType == StrategyType.HA_MACD_PSAR;
+    }
+
 }
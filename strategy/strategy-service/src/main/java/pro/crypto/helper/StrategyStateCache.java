@@ -0,0 +1,125 @@
+package pro.crypto.helper;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Value;
+import pro.crypto.model.IncrementalStrategy;
+import pro.crypto.model.strategy.StrategyType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.response.StrategyDecision;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * States of incremental strategies which are calculated on every monitoring cycle.
+ * The last bar of ticks is forming, it's decided on a copy of the state, the other bars are appended as closed ones.
+ * The state is continued if its last closed bar is found unchanged in ticks, otherwise it's built again from ticks,
+ * so decisions are the same as decisions of batch calculation over all bars since the state was built.
+ * The state of one strategy is used by one thread at a time.
+ */
+public class StrategyStateCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    public static final Duration DEFAULT_EXPIRATION = Duration.ofHours(1);
+
+    private final Cache<Key, State> cache;
+
+    public StrategyStateCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRATION);
+    }
+
+    public StrategyStateCache(long maximumSize, Duration expiration) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(expiration)
+                .build();
+    }
+
+    // decisions of the last bars, the last one is the decision of the forming bar
+    public StrategyDecision[] decide(Key key, Tick[] ticks, int lastBars, Function<Tick[], IncrementalStrategy> strategyCreator) {
+        Tick[] closedTicks = Arrays.copyOf(ticks, ticks.length - 1);
+        State state = cache.asMap().computeIfAbsent(key, ignoredKey -> new State());
+        synchronized (state) {
+            try {
+                int continuationIndex = isNull(state.strategy) ? -1 : findContinuationIndex(state.lastTick, closedTicks);
+                if (continuationIndex < 0) {
+                    state.strategy = strategyCreator.apply(closedTicks);
+                } else {
+                    state.strategy.append(Arrays.copyOfRange(closedTicks, continuationIndex, closedTicks.length));
+                }
+                state.lastTick = copy(closedTicks[closedTicks.length - 1]);
+                StrategyDecision[] closedDecisions = state.strategy.getTail(Math.max(lastBars - 1, 0));
+                StrategyDecision[] decisions = Arrays.copyOf(closedDecisions, closedDecisions.length + 1);
+                decisions[closedDecisions.length] = state.strategy.update(ticks[ticks.length - 1]);
+                return decisions;
+            } catch (RuntimeException ex) {
+                // partially updated state isn't continued
+                state.strategy = null;
+                throw ex;
+            }
+        }
+    }
+
+    public void invalidate(Key key) {
+        cache.invalidate(key);
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    // index of the first bar after the last closed bar of the state, -1 if the state can't be continued
+    private int findContinuationIndex(Tick lastTick, Tick[] closedTicks) {
+        for (int idx = closedTicks.length - 1; idx >= 0; idx--) {
+            if (closedTicks[idx].getTickTime().equals(lastTick.getTickTime())) {
+                return closedTicks[idx].equals(lastTick) ? idx + 1 : -1;
+            }
+            if (closedTicks[idx].getTickTime().isBefore(lastTick.getTickTime())) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static Tick copy(Tick tick) {
+        return Tick.builder()
+                .open(tick.getOpen())
+                .high(tick.getHigh())
+                .low(tick.getLow())
+                .close(tick.getClose())
+                .volume(tick.getVolume())
+                .baseVolume(tick.getBaseVolume())
+                .tickTime(tick.getTickTime())
+                .build();
+    }
+
+    private static class State {
+
+        private IncrementalStrategy strategy;
+
+        // copy of the last closed bar, changed bar means the ticks were repaired
+        private Tick lastTick;
+
+    }
+
+    @Value
+    public static class Key {
+
+        private Long id;
+
+        private StrategyType strategyType;
+
+        private String configuration;
+
+        private Long marketId;
+
+        private TimeFrame timeFrame;
+
+    }
+
+}
@@ -5,17 +5,28 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import pro.crypto.factory.StrategyFactory;
 import pro.crypto.factory.StrategyRequestFactory;
+import pro.crypto.helper.IndicatorContext;
+import pro.crypto.helper.IndicatorResultCache;
+import pro.crypto.helper.StrategyStateCache;
 import pro.crypto.model.Strategy;
 import pro.crypto.model.tick.Tick;
 import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.request.StrategyBatchCalculationRequest;
+import pro.crypto.request.StrategyBatchItem;
 import pro.crypto.request.StrategyCalculationRequest;
 import pro.crypto.request.StrategyRequest;
 import pro.crypto.request.TickTimeFindRequest;
+import pro.crypto.response.StrategyBatchDecision;
+import pro.crypto.response.StrategyBatchResult;
+import pro.crypto.response.StrategyDecision;
 import pro.crypto.response.StrategyResult;
 
 import static java.time.LocalTime.MAX;
 import static java.time.LocalTime.MIN;
+import static java.util.Arrays.stream;
+import static java.util.Objects.nonNull;
 import static pro.crypto.helper.StrategyTypeChecker.withPivotPoints;
+import static pro.crypto.helper.TickHelper.copy;
 
 @Service
 @Slf4j
@@ -25,18 +36,105 @@ public class RepositoryStrategyService implements StrategyService {
     private final StrategyRequestFactory requestFactory;
     private final StrategyFactory strategyFactory;
     private final TickService tickService;
+    private final IndicatorResultCache resultCache;
+    private final StrategyStateCache strategyStateCache;
 
     @Override
     public StrategyResult[] calculate(StrategyCalculationRequest request) {
         log.trace("Calculating strategy {request: {}}", request);
-        Tick[] ticks = tickService.getTicksByTime(buildTickTimeFindRequest(request)).getTicks();
-        StrategyRequest strategyRequest = requestFactory.buildRequest(ticks, request.getStrategyType(), request.getConfiguration());
-        Strategy strategy = createStrategy(request, strategyRequest);
-        StrategyResult[] result = strategy.getResult();
+        StrategyResult[] result = calculate(request, null);
         log.info("Calculated strategy {request: {}}", request);
         return result;
     }
 
+    @Override
+    public StrategyDecision[] decide(StrategyCalculationRequest request, int lastBars) {
+        log.trace("Deciding strategy positions {request: {}, lastBars: {}}", request, lastBars);
+        StrategyDecision[] result = (StrategyDecision[]) calculate(request, lastBars);
+        log.info("Decided strategy positions {request: {}, lastBars: {}}", request, lastBars);
+        return result;
+    }
+
+    // ticks, one day ticks and indicator cache scope are shared by all strategies of the batch
+    @Override
+    public StrategyBatchResult[] calculate(StrategyBatchCalculationRequest request) {
+        return calculate(request, request.getLastBars());
+    }
+
+    @Override
+    public StrategyBatchDecision[] decide(StrategyBatchCalculationRequest request) {
+        return stream(calculate(request, nonNull(request.getLastBars()) ? request.getLastBars() : 1))
+                .map(result -> new StrategyBatchDecision(result.getId(), (StrategyDecision[]) result.getResult(), result.getError()))
+                .toArray(StrategyBatchDecision[]::new);
+    }
+
+    private StrategyBatchResult[] calculate(StrategyBatchCalculationRequest request, Integer lastBars) {
+        log.trace("Calculating strategy batch {marketId: {}, timeFrame: {}, from: {}, to: {}, strategiesSize: {}, lastBars: {}}",
+                request.getMarketId(), request.getTimeFrame(), request.getFrom(), request.getTo(), request.getStrategies().size(), lastBars);
+        StrategyCalculationRequest tickRequest = buildStrategyCalculationRequest(request, null);
+        Tick[] ticks = nonNull(request.getTicks())
+                ? request.getTicks()
+                : tickService.getTicksByTime(buildTickTimeFindRequest(tickRequest)).getTicks();
+        Tick[] oneDayData = request.getStrategies().stream().anyMatch(item -> withPivotPoints(item.getStrategyType()))
+                ? getOneDayTickData(ticks, tickRequest)
+                : null;
+        IndicatorResultCache.Scope scope = resultCache.getScope(request.getMarketId(), request.getTimeFrame(), ticks);
+        StrategyBatchResult[] result = request.getStrategies().stream()
+                .map(item -> calculate(buildStrategyCalculationRequest(request, item), ticks, oneDayData, scope, lastBars, item.getId()))
+                .toArray(StrategyBatchResult[]::new);
+        log.info("Calculated strategy batch {marketId: {}, timeFrame: {}, strategiesSize: {}, tickSize: {}}",
+                request.getMarketId(), request.getTimeFrame(), result.length, ticks.length);
+        return result;
+    }
+
+    private StrategyResult[] calculate(StrategyCalculationRequest request, Integer lastBars) {
+        Tick[] ticks = tickService.getTicksByTime(buildTickTimeFindRequest(request)).getTicks();
+        Tick[] oneDayData = withPivotPoints(request.getStrategyType()) ? getOneDayTickData(ticks, request) : null;
+        IndicatorResultCache.Scope scope = resultCache.getScope(request.getMarketId(), request.getTimeFrame(), ticks);
+        return calculate(request, ticks, oneDayData, scope, lastBars);
+    }
+
+    // strategies of the batch share ticks, which are mutable, so every strategy gets its own copies
+    private StrategyBatchResult calculate(StrategyCalculationRequest request, Tick[] ticks, Tick[] oneDayData,
+                                          IndicatorResultCache.Scope scope, Integer lastBars, Long id) {
+        try {
+            StrategyResult[] result = isIncrementallyDecided(request, ticks, lastBars, id)
+                    ? decideIncrementally(request, copy(ticks), lastBars, id)
+                    : calculate(request, copy(ticks), nonNull(oneDayData) ? copy(oneDayData) : null, scope, lastBars);
+            return new StrategyBatchResult(id, result, null);
+        } catch (Exception ex) {
+            log.warn("Strategy calculation of batch has been failed {id: {}, strategyType: {}, exception: {}}",
+                    id, request.getStrategyType(), ex.getMessage());
+            return new StrategyBatchResult(id, null, ex.toString());
+        }
+    }
+
+    // decisions of the last bars are calculated instead of full result if count of bars is set
+    private StrategyResult[] calculate(StrategyCalculationRequest request, Tick[] ticks, Tick[] oneDayData,
+                                       IndicatorResultCache.Scope scope, Integer lastBars) {
+        StrategyRequest strategyRequest = requestFactory.buildRequest(ticks, request.getStrategyType(), request.getConfiguration());
+        Strategy strategy = strategyFactory.create(strategyRequest, request.getStrategyType(),
+                withPivotPoints(request.getStrategyType()) ? oneDayData : null);
+        try (IndicatorContext context = IndicatorContext.open(resultCache, scope, ticks)) {
+            StrategyResult[] result = nonNull(lastBars) ? strategy.getDecisions(lastBars) : strategy.getResult();
+            log.debug("Indicator context statistics {strategy: {}, hits: {}, sharedHits: {}, misses: {}, nodes: {}}",
+                    strategy.getType(), context.getHits(), context.getSharedHits(), context.getMisses(), context.getStatistics());
+            return result;
+        }
+    }
+
+    // strategy of batch keeps its state between monitoring cycles, so only new bars are calculated
+    private boolean isIncrementallyDecided(StrategyCalculationRequest request, Tick[] ticks, Integer lastBars, Long id) {
+        return nonNull(id) && nonNull(lastBars) && ticks.length > 1 && strategyFactory.isIncremental(request.getStrategyType());
+    }
+
+    private StrategyDecision[] decideIncrementally(StrategyCalculationRequest request, Tick[] ticks, int lastBars, Long id) {
+        StrategyStateCache.Key key = new StrategyStateCache.Key(id, request.getStrategyType(), request.getConfiguration(),
+                request.getMarketId(), request.getTimeFrame());
+        return strategyStateCache.decide(key, ticks, lastBars, closedTicks -> strategyFactory.createIncremental(
+                requestFactory.buildRequest(closedTicks, request.getStrategyType(), request.getConfiguration()), request.getStrategyType()));
+    }
+
     private TickTimeFindRequest buildTickTimeFindRequest(StrategyCalculationRequest indicatorCalculationRequest) {
         return TickTimeFindRequest.builder()
                 .marketId(indicatorCalculationRequest.getMarketId())
@@ -46,12 +144,15 @@ public class RepositoryStrategyService implements StrategyService {
                 .build();
     }
 
-    private Strategy createStrategy(StrategyCalculationRequest request, StrategyRequest indicatorRequest) {
-        if (withPivotPoints(request.getStrategyType())) {
-            Tick[] oneDayData = getOneDayTickData(indicatorRequest.getOriginalData(), request);
-            return strategyFactory.create(indicatorRequest, request.getStrategyType(), oneDayData);
-        }
-        return strategyFactory.create(indicatorRequest, request.getStrategyType(), null);
+    private StrategyCalculationRequest buildStrategyCalculationRequest(StrategyBatchCalculationRequest request, StrategyBatchItem item) {
+        return StrategyCalculationRequest.builder()
+                .marketId(request.getMarketId())
+                .timeFrame(request.getTimeFrame())
+                .from(request.getFrom())
+                .to(request.getTo())
+                .strategyType(nonNull(item) ? item.getStrategyType() : null)
+                .configuration(nonNull(item) ? item.getConfiguration() : null)
+                .build();
     }
 
     private Tick[] getOneDayTickData(Tick[] originalData, StrategyCalculationRequest request) {
@@ -0,0 +1,167 @@
+package pro.crypto.helper;
+
+import org.junit.Before;
+import org.junit.Test;
+import pro.crypto.model.IncrementalStrategy;
+import pro.crypto.model.strategy.StrategyType;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.response.StrategyDecision;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static pro.crypto.model.strategy.StrategyType.HA_MACD_PSAR;
+import static pro.crypto.model.tick.TimeFrame.ONE_HOUR;
+
+public class StrategyStateCacheTest {
+
+    private static final StrategyStateCache.Key KEY = new StrategyStateCache.Key(1L, HA_MACD_PSAR, "{}", 2L, ONE_HOUR);
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2019, 1, 1, 0, 0);
+
+    private StrategyStateCache cache;
+    private List<RecordingStrategy> createdStrategies;
+
+    @Before
+    public void init() {
+        cache = new StrategyStateCache();
+        createdStrategies = new ArrayList<>();
+    }
+
+    @Test
+    public void firstDecisionCreatesStateTest() {
+        Tick[] ticks = generateTicks(0, 10);
+        StrategyDecision[] decisions = cache.decide(KEY, ticks, 3, this::createStrategy);
+        assertEquals(1, createdStrategies.size());
+        assertEquals(9, createdStrategies.get(0).appendedTicks.size());
+        assertArrayEquals(new Tick[]{ticks[7], ticks[8], ticks[9]}, extractTicks(decisions));
+    }
+
+    @Test
+    public void continuationAppendsOnlyNewBarsTest() {
+        cache.decide(KEY, generateTicks(0, 10), 1, this::createStrategy);
+        Tick[] ticks = generateTicks(2, 13);
+        StrategyDecision[] decisions = cache.decide(KEY, ticks, 2, this::createStrategy);
+        assertEquals(1, createdStrategies.size());
+        assertEquals(12, createdStrategies.get(0).appendedTicks.size());
+        assertArrayEquals(new Tick[]{ticks[9], ticks[10]}, extractTicks(decisions));
+        assertEquals(ticks[10], createdStrategies.get(0).updatedTicks.get(1));
+    }
+
+    @Test
+    public void sameBarsAppendNothingTest() {
+        cache.decide(KEY, generateTicks(0, 10), 1, this::createStrategy);
+        cache.decide(KEY, generateTicks(0, 10), 1, this::createStrategy);
+        assertEquals(1, createdStrategies.size());
+        assertEquals(9, createdStrategies.get(0).appendedTicks.size());
+    }
+
+    @Test
+    public void changedLastBarRebuildsStateTest() {
+        cache.decide(KEY, generateTicks(0, 10), 1, this::createStrategy);
+        Tick[] ticks = generateTicks(0, 12);
+        ticks[8].setClose(BigDecimal.TEN);
+        cache.decide(KEY, ticks, 1, this::createStrategy);
+        assertEquals(2, createdStrategies.size());
+        assertEquals(11, createdStrategies.get(1).appendedTicks.size());
+    }
+
+    @Test
+    public void missedLastBarRebuildsStateTest() {
+        cache.decide(KEY, generateTicks(0, 10), 1, this::createStrategy);
+        cache.decide(KEY, generateTicks(9, 20), 1, this::createStrategy);
+        assertEquals(2, createdStrategies.size());
+        assertEquals(10, createdStrategies.get(1).appendedTicks.size());
+    }
+
+    @Test
+    public void failedStrategyIsRebuiltTest() {
+        cache.decide(KEY, generateTicks(0, 10), 1, this::createStrategy);
+        createdStrategies.get(0).failing = true;
+        try {
+            cache.decide(KEY, generateTicks(0, 12), 1, this::createStrategy);
+        } catch (IllegalStateException ignored) {
+        }
+        cache.decide(KEY, generateTicks(0, 12), 1, this::createStrategy);
+        assertEquals(2, createdStrategies.size());
+    }
+
+    @Test
+    public void invalidateTest() {
+        cache.decide(KEY, generateTicks(0, 10), 1, this::createStrategy);
+        cache.invalidate(KEY);
+        assertEquals(0, cache.size());
+        cache.decide(KEY, generateTicks(0, 10), 1, this::createStrategy);
+        assertEquals(2, createdStrategies.size());
+    }
+
+    private IncrementalStrategy createStrategy(Tick[] closedTicks) {
+        RecordingStrategy strategy = new RecordingStrategy();
+        strategy.append(closedTicks);
+        createdStrategies.add(strategy);
+        return strategy;
+    }
+
+    private Tick[] generateTicks(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(idx -> Tick.builder()
+                        .open(BigDecimal.valueOf(idx))
+                        .high(BigDecimal.valueOf(idx + 1))
+                        .low(BigDecimal.valueOf(idx))
+                        .close(BigDecimal.valueOf(idx))
+                        .tickTime(START_TIME.plusHours(idx))
+                        .build())
+                .toArray(Tick[]::new);
+    }
+
+    private Tick[] extractTicks(StrategyDecision[] decisions) {
+        return Arrays.stream(decisions)
+                .map(StrategyDecision::getTick)
+                .toArray(Tick[]::new);
+    }
+
+    private static class RecordingStrategy implements IncrementalStrategy {
+
+        private final List<Tick> appendedTicks = new ArrayList<>();
+        private final List<Tick> updatedTicks = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public StrategyType getType() {
+            return HA_MACD_PSAR;
+        }
+
+        @Override
+        public StrategyDecision[] append(Tick... closedTicks) {
+            if (failing) {
+                throw new IllegalStateException("Strategy failed");
+            }
+            appendedTicks.addAll(Arrays.asList(closedTicks));
+            return Arrays.stream(closedTicks)
+                    .map(tick -> new StrategyDecision(tick, Collections.emptySet()))
+                    .toArray(StrategyDecision[]::new);
+        }
+
+        @Override
+        public StrategyDecision update(Tick formingTick) {
+            updatedTicks.add(formingTick);
+            return new StrategyDecision(formingTick, Collections.emptySet());
+        }
+
+        @Override
+        public StrategyDecision[] getTail(int count) {
+            return appendedTicks.stream()
+                    .skip(Math.max(appendedTicks.size() - count, 0))
+                    .map(tick -> new StrategyDecision(tick, Collections.emptySet()))
+                    .toArray(StrategyDecision[]::new);
+        }
+
+    }
+
+}
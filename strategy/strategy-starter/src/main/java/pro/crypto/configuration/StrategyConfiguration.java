@@ -1,16 +1,22 @@
 package pro.crypto.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import pro.crypto.factory.StrategyFactory;
 import pro.crypto.factory.StrategyRequestFactory;
 import pro.crypto.factory.StrategyRequestTypeResolver;
+import pro.crypto.helper.IndicatorResultCache;
+import pro.crypto.helper.StrategyStateCache;
 import pro.crypto.service.RepositoryStrategyService;
 import pro.crypto.service.StrategyService;
 import pro.crypto.web.StrategyController;
 
+import java.time.Duration;
+
 @Configuration
 public class StrategyConfiguration {
 
@@ -21,6 +27,24 @@ public class StrategyConfiguration {
     public static class StrategyServiceConfiguration {
     }
 
+    @Configuration
+    public static class IndicatorResultCacheConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(IndicatorResultCache.class)
+        public IndicatorResultCache indicatorResultCache(@Value("${indicator.cache.maximum-weight:5000000}") long maximumWeight) {
+            return new IndicatorResultCache(maximumWeight);
+        }
+
+        @Bean
+        @ConditionalOnMissingBean(StrategyStateCache.class)
+        public StrategyStateCache strategyStateCache(@Value("${strategy.state.cache.maximum-size:10000}") long maximumSize,
+                                                     @Value("${strategy.state.cache.expiration:PT1H}") Duration expiration) {
+            return new StrategyStateCache(maximumSize, expiration);
+        }
+
+    }
+
     @ConditionalOnWebApplication
     @Import({StrategyController.class})
     @Configuration
@@ -3,11 +3,17 @@ package pro.crypto.web;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import pro.crypto.request.StrategyBatchCalculationRequest;
 import pro.crypto.request.StrategyCalculationRequest;
+import pro.crypto.response.StrategyBatchDecision;
+import pro.crypto.response.StrategyDecision;
 import pro.crypto.service.StrategyService;
 
 import javax.validation.Valid;
@@ -29,4 +35,19 @@ public class StrategyController {
         return strategyService.calculate(request);
     }
 
+    @GetMapping(value = "/decisions", produces = APPLICATION_JSON_UTF8_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    public StrategyDecision[] decide(@Valid @NotNull StrategyCalculationRequest request,
+                                     @RequestParam(value = "lastBars", defaultValue = "1") int lastBars) {
+        return strategyService.decide(request, lastBars);
+    }
+
+    @PostMapping(value = "/batch/decisions", produces = APPLICATION_JSON_UTF8_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @ResponseBody
+    public StrategyBatchDecision[] decide(@Valid @NotNull @RequestBody StrategyBatchCalculationRequest request) {
+        return strategyService.decide(request);
+    }
+
 }
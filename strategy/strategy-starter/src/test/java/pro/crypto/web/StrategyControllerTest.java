@@ -0,0 +1,131 @@
+package pro.crypto.web;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.request.StrategyBatchCalculationRequest;
+import pro.crypto.request.StrategyBatchItem;
+import pro.crypto.request.StrategyCalculationRequest;
+import pro.crypto.response.StrategyBatchDecision;
+import pro.crypto.response.StrategyBatchResult;
+import pro.crypto.response.StrategyDecision;
+import pro.crypto.service.StrategyService;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.setup.MockMvcBuilders.standaloneSetup;
+import static pro.crypto.model.strategy.Position.ENTRY_LONG;
+import static pro.crypto.model.strategy.StrategyType.HA_MACD_PSAR;
+import static pro.crypto.model.tick.TimeFrame.FIVE_MIN;
+
+public class StrategyControllerTest {
+
+    private static final String BATCH_REQUEST = "{\"marketId\": 1, \"timeFrame\": \"FIVE_MIN\", "
+            + "\"from\": \"2020-01-01T00:00:00\", \"to\": \"2020-01-02T00:00:00\", \"lastBars\": 2, "
+            + "\"strategies\": [{\"id\": 10, \"strategyType\": \"HA_MACD_PSAR\", \"configuration\": \"{}\"}, "
+            + "{\"id\": 11, \"strategyType\": \"HA_MACD_PSAR\", \"configuration\": \"{}\"}]}";
+
+    private final StubStrategyService strategyService = new StubStrategyService();
+    private MockMvc mockMvc;
+
+    @Before
+    public void init() {
+        mockMvc = standaloneSetup(new StrategyController(strategyService)).build();
+    }
+
+    // failed strategy is returned with error, decisions of other strategies are returned anyway
+    @Test
+    public void batchDecisionsTest() throws Exception {
+        strategyService.decisions = new StrategyBatchDecision[]{
+                new StrategyBatchDecision(10L, new StrategyDecision[]{buildDecision()}, null),
+                new StrategyBatchDecision(11L, null, "Calculation failed")
+        };
+        mockMvc.perform(post("/strategies/batch/decisions")
+                .contentType(APPLICATION_JSON_UTF8)
+                .content(BATCH_REQUEST))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].id").value(10))
+                .andExpect(jsonPath("$[0].decisions[0].positions[0]").value("ENTRY_LONG"))
+                .andExpect(jsonPath("$[0].decisions[0].tick.close").value(1.75))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].id").value(11))
+                .andExpect(jsonPath("$[1].error").value("Calculation failed"));
+        StrategyBatchCalculationRequest request = strategyService.request;
+        assertEquals(Long.valueOf(1L), request.getMarketId());
+        assertEquals(FIVE_MIN, request.getTimeFrame());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), request.getFrom());
+        assertEquals(LocalDateTime.of(2020, 1, 2, 0, 0), request.getTo());
+        assertEquals(Integer.valueOf(2), request.getLastBars());
+        assertEquals(2, request.getStrategies().size());
+        assertEquals(new StrategyBatchItem(10L, HA_MACD_PSAR, "{}"), request.getStrategies().get(0));
+        assertNull(request.getTicks());
+    }
+
+    @Test
+    public void emptyBatchTest() throws Exception {
+        strategyService.decisions = new StrategyBatchDecision[0];
+        mockMvc.perform(post("/strategies/batch/decisions")
+                .contentType(APPLICATION_JSON_UTF8)
+                .content("{\"marketId\": 1, \"timeFrame\": \"FIVE_MIN\", \"strategies\": []}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+        assertNull(strategyService.request.getLastBars());
+    }
+
+    @Test
+    public void missingBodyTest() throws Exception {
+        mockMvc.perform(post("/strategies/batch/decisions")
+                .contentType(APPLICATION_JSON_UTF8))
+                .andExpect(status().isBadRequest());
+        assertNull(strategyService.request);
+    }
+
+    private StrategyDecision buildDecision() {
+        return new StrategyDecision(Tick.builder()
+                .open(new BigDecimal("1.5"))
+                .high(new BigDecimal("2"))
+                .low(new BigDecimal("1"))
+                .close(new BigDecimal("1.75"))
+                .tickTime(LocalDateTime.of(2020, 1, 2, 0, 0))
+                .build(), Collections.singleton(ENTRY_LONG));
+    }
+
+    private static class StubStrategyService implements StrategyService {
+
+        private StrategyBatchCalculationRequest request;
+        private StrategyBatchDecision[] decisions;
+
+        @Override
+        public Object[] calculate(StrategyCalculationRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StrategyDecision[] decide(StrategyCalculationRequest request, int lastBars) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StrategyBatchResult[] calculate(StrategyBatchCalculationRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public StrategyBatchDecision[] decide(StrategyBatchCalculationRequest request) {
+            this.request = request;
+            return decisions;
+        }
+
+    }
+
+}
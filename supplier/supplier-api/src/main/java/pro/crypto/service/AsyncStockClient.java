@@ -0,0 +1,21 @@
+package pro.crypto.service;
+
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.TickData;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Non-blocking variant of tick requests of {@link StockClient}, callers are not blocked while request is in flight.
+ */
+public interface AsyncStockClient {
+
+    CompletionStage<TickData> getTicksByPeriod(long marketId, TimeFrame timeFrame, int period);
+
+    CompletionStage<TickData> getTicksByTime(long marketId, TimeFrame timeFrame, LocalDateTime from, LocalDateTime to);
+
+    Stock getStock();
+
+}
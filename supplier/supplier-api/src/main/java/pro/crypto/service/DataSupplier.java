@@ -6,6 +6,8 @@ import pro.crypto.model.tick.TickData;
 import pro.crypto.request.GetTickByTimeRequest;
 import pro.crypto.request.GetTicksByPeriodRequest;
 
+import java.util.concurrent.CompletionStage;
+
 public interface DataSupplier {
 
     MarketData getAllStockMarkets(Stock stock);
@@ -18,4 +20,8 @@ public interface DataSupplier {
 
     TickData getTicksByTime(GetTickByTimeRequest request);
 
+    CompletionStage<TickData> getTicksByPeriodAsync(GetTicksByPeriodRequest request);
+
+    CompletionStage<TickData> getTicksByTimeAsync(GetTickByTimeRequest request);
+
 }
@@ -0,0 +1,20 @@
+package pro.crypto;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "supplier.bar-feed")
+public class BarFeedProperties {
+
+    // closed bars are published as events of this application only, so it's enabled on every node which runs monitoring
+    private boolean enabled = false;
+
+    // server-sent events of closed bars of monitored markets, relative to spider url
+    private String path = "market/monitor/bars";
+
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+
+}
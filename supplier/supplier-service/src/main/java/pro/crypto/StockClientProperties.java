@@ -0,0 +1,34 @@
+package pro.crypto;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "supplier.stock-client")
+public class StockClientProperties {
+
+    // requests to one stock in flight at the same time, other requests wait in queue
+    private int maxConcurrentRequests = 32;
+
+    // threads which handle responses of one stock
+    private int threads = 2;
+
+    // threads shared by all stocks which run blocking clients of stocks without async client
+    // and continue async requests, so callers don't hold threads which handle responses
+    private int callbackThreads = 4;
+
+    // tasks over the limit are run by the submitting thread
+    private int callbackQueueSize = 1000;
+
+    private Duration connectTimeout = Duration.ofSeconds(5);
+
+    private Duration requestTimeout = Duration.ofSeconds(60);
+
+    private int maxAttempts = 3;
+
+    // delay before the first retry, it's doubled for every next retry and randomized by +-50%
+    private Duration retryBackoff = Duration.ofMillis(500);
+
+}
@@ -0,0 +1,59 @@
+package pro.crypto.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.util.StreamUtils;
+import pro.crypto.codec.TickCodec;
+import pro.crypto.codec.TickPayload;
+import pro.crypto.model.tick.TickData;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes and reads stock tick data in binary ticks format, stock, market and time frame are kept as JSON metadata.
+ */
+public class TickDataHttpMessageConverter extends AbstractHttpMessageConverter<TickData> {
+
+    private final ObjectMapper objectMapper;
+
+    public TickDataHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.valueOf(TickCodec.MEDIA_TYPE_VALUE));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TickData.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected TickData readInternal(Class<? extends TickData> clazz, HttpInputMessage inputMessage) throws IOException {
+        return decode(StreamUtils.copyToByteArray(inputMessage.getBody()));
+    }
+
+    @Override
+    protected void writeInternal(TickData tickData, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(encode(tickData));
+    }
+
+    public TickData decode(byte[] body) throws IOException {
+        TickPayload payload = TickCodec.decode(ByteBuffer.wrap(body));
+        TickData tickData = objectMapper.readValue(payload.getMetadata(), TickData.class);
+        tickData.setTicks(payload.getTicks());
+        return tickData;
+    }
+
+    public byte[] encode(TickData tickData) throws IOException {
+        TickData metadata = TickData.builder()
+                .stockExchangeName(tickData.getStockExchangeName())
+                .market(tickData.getMarket())
+                .timeFrame(tickData.getTimeFrame())
+                .build();
+        return TickCodec.encode(objectMapper.writeValueAsBytes(metadata), tickData.getTicks());
+    }
+
+}
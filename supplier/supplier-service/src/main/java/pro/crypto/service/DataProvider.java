@@ -2,6 +2,7 @@ package pro.crypto.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import pro.crypto.StockClientProperties;
 import pro.crypto.model.market.MarketData;
 import pro.crypto.model.market.Stock;
 import pro.crypto.model.tick.TickData;
@@ -10,15 +11,36 @@ import pro.crypto.request.GetTicksByPeriodRequest;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.toMap;
 
 @Component
 @Slf4j
-public class DataProvider implements DataSupplier, StockService {
+public class DataProvider implements DataSupplier, StockService, AutoCloseable {
 
     private final Map<Stock, StockClient> spiderClients;
+    private final Map<Stock, AsyncStockClient> asyncSpiderClients;
+    private final ExecutorService callbackExecutor;
 
-    public DataProvider(List<StockClient> stockClients) {
+    public DataProvider(List<StockClient> stockClients, List<AsyncStockClient> asyncStockClients,
+                        StockClientProperties stockClientProperties) {
         this.spiderClients = createSpidersClientsMap(stockClients);
+        this.asyncSpiderClients = asyncStockClients.stream()
+                .collect(toMap(AsyncStockClient::getStock, stockClient -> stockClient));
+        this.callbackExecutor = new ThreadPoolExecutor(stockClientProperties.getCallbackThreads(), stockClientProperties.getCallbackThreads(),
+                0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(stockClientProperties.getCallbackQueueSize()),
+                createThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
     }
 
     @Override
@@ -62,4 +84,42 @@ public class DataProvider implements DataSupplier, StockService {
         return ticks;
     }
 
+    // blocking client is used in the callback thread if stock has no async client.
+    // Callers continue in the callback thread, so threads which handle responses of the stock aren't blocked by them
+    @Override
+    public CompletionStage<TickData> getTicksByPeriodAsync(GetTicksByPeriodRequest request) {
+        log.debug("Getting ticks by period asynchronously {request: {}}", request);
+        AsyncStockClient client = asyncSpiderClients.get(request.getStock());
+        if (isNull(client)) {
+            return CompletableFuture.supplyAsync(() -> getTicksByPeriod(request), callbackExecutor);
+        }
+        return client.getTicksByPeriod(request.getMarketId(), request.getTimeFrame(), request.getPeriod())
+                .thenApplyAsync(Function.identity(), callbackExecutor);
+    }
+
+    @Override
+    public CompletionStage<TickData> getTicksByTimeAsync(GetTickByTimeRequest request) {
+        log.debug("Getting ticks by time asynchronously {request: {}}", request);
+        AsyncStockClient client = asyncSpiderClients.get(request.getStock());
+        if (isNull(client)) {
+            return CompletableFuture.supplyAsync(() -> getTicksByTime(request), callbackExecutor);
+        }
+        return client.getTicksByTime(request.getMarketId(), request.getTimeFrame(), request.getFrom(), request.getTo())
+                .thenApplyAsync(Function.identity(), callbackExecutor);
+    }
+
+    @Override
+    public void close() {
+        callbackExecutor.shutdown();
+    }
+
+    private static ThreadFactory createThreadFactory() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, format("stock-client-callback-%d", counter.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
 }
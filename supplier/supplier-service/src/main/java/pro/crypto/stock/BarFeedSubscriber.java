@@ -0,0 +1,145 @@
+package pro.crypto.stock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import pro.crypto.exception.UnexpectedValueException;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.BarCloseEvent;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.util.Objects.nonNull;
+
+/**
+ * Subscribes to server-sent events of the spider and publishes closed bars of monitored markets as application events.
+ * Connection is restored after failures with the reconnect delay.
+ * Events are published in the application context of the subscriber only, they don't reach other JVMs.
+ * So the feed should be enabled on every application node which runs monitoring, each node subscribes to the spider itself
+ * and skips markets owned by other nodes of monitoring cluster.
+ */
+@Slf4j
+public class BarFeedSubscriber {
+
+    private static final String BAR_CLOSE_EVENT = "bar-close";
+    private static final String EVENT_FIELD = "event:";
+    private static final String DATA_FIELD = "data:";
+
+    private final Stock stock;
+    private final URI feedUri;
+    private final Duration reconnectDelay;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private volatile boolean running;
+    private volatile Stream<String> lines;
+    private Thread thread;
+
+    public BarFeedSubscriber(Stock stock, URI feedUri, Duration reconnectDelay,
+                             ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
+        this.stock = stock;
+        this.feedUri = feedUri;
+        this.reconnectDelay = reconnectDelay;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public void start() {
+        running = true;
+        thread = new Thread(this::subscribe, "bar-feed-" + stock);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    // subscriber which hasn't been started is stopped too, e.g. when context fails before start
+    public void stop() {
+        running = false;
+        if (nonNull(lines)) {
+            lines.close();
+        }
+        if (nonNull(thread)) {
+            thread.interrupt();
+        }
+    }
+
+    private void subscribe() {
+        while (running) {
+            try {
+                readFeed();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                if (running) {
+                    log.warn("Bar feed connection has been failed {stock: {}, uri: {}, exception: {}}", stock, feedUri, ex.getMessage());
+                }
+            }
+            try {
+                Thread.sleep(reconnectDelay.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void readFeed() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(feedUri)
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        HttpResponse<Stream<String>> response = httpClient.send(request, HttpResponse.BodyHandlers.ofLines());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new UnexpectedValueException(format("Unexpected bar feed response {status: {%s}}", response.statusCode()));
+        }
+        log.info("Subscribed to bar feed {stock: {}, uri: {}}", stock, feedUri);
+        try (Stream<String> feedLines = response.body()) {
+            lines = feedLines;
+            readEvents(feedLines.iterator());
+        }
+        log.info("Bar feed has been closed {stock: {}, uri: {}}", stock, feedUri);
+    }
+
+    // fields other than event and data are ignored, event without data is skipped
+    private void readEvents(Iterator<String> feedLines) {
+        String eventType = null;
+        StringBuilder data = new StringBuilder();
+        while (running && feedLines.hasNext()) {
+            String line = feedLines.next();
+            if (line.isEmpty()) {
+                publish(eventType, data.toString());
+                eventType = null;
+                data.setLength(0);
+            } else if (line.startsWith(EVENT_FIELD)) {
+                eventType = line.substring(EVENT_FIELD.length()).trim();
+            } else if (line.startsWith(DATA_FIELD)) {
+                data.append(data.length() > 0 ? "\n" : "").append(line.substring(DATA_FIELD.length()).trim());
+            }
+        }
+    }
+
+    private void publish(String eventType, String data) {
+        if (data.isEmpty() || (nonNull(eventType) && !BAR_CLOSE_EVENT.equals(eventType))) {
+            return;
+        }
+        try {
+            BarCloseEvent event = objectMapper.readValue(data, BarCloseEvent.class);
+            event.setStock(stock);
+            log.debug("Received bar close event {event: {}}", event);
+            eventPublisher.publishEvent(event);
+        } catch (IOException ex) {
+            log.warn("Can not read bar close event {stock: {}, data: {}, exception: {}}", stock, data, ex.getMessage());
+        }
+    }
+
+}
@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
 import static org.springframework.web.bind.annotation.RequestMethod.POST;
+import static pro.crypto.codec.TickCodec.ACCEPT_VALUE;
 import static pro.crypto.model.market.Stock.BITTREX;
 
 @FeignClient(name = "bittrex", url = "${bittrex.spider.url}")
@@ -53,7 +54,7 @@ public interface BittrexClient extends StockClient {
     void stopAllMonitors();
 
     @Override
-    @RequestMapping(method = GET, value = "/tick/period/{marketId}/{timeFrame}/{period}")
+    @RequestMapping(method = GET, value = "/tick/period/{marketId}/{timeFrame}/{period}", produces = ACCEPT_VALUE)
     @HystrixCommand(commandProperties = {
             @HystrixProperty(name = "execution.isolation.thread.timeoutInMilliseconds", value = "60000")
     })
@@ -63,7 +64,7 @@ public interface BittrexClient extends StockClient {
                               @PathVariable("period") int period);
 
     @Override
-    @RequestMapping(method = GET, value = "/tick/time/{marketId}/{timeFrame}/{from}/{to}")
+    @RequestMapping(method = GET, value = "/tick/time/{marketId}/{timeFrame}/{from}/{to}", produces = ACCEPT_VALUE)
     @HystrixCommand(commandProperties = {
             @HystrixProperty(name = "execution.isolation.thread.timeoutInMilliseconds", value = "60000")
     })
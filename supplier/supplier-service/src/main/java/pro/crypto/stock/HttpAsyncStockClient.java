@@ -0,0 +1,173 @@
+package pro.crypto.stock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import pro.crypto.StockClientProperties;
+import pro.crypto.codec.TickCodec;
+import pro.crypto.converter.TickDataHttpMessageConverter;
+import pro.crypto.exception.UnexpectedValueException;
+import pro.crypto.helper.AsyncLimiter;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.TickData;
+import pro.crypto.model.tick.TimeFrame;
+import pro.crypto.service.AsyncStockClient;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.lang.String.format;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Non-blocking spider client of one stock, uses the same endpoints as Feign stock clients.
+ * Count of requests in flight is limited, failed requests (connection errors, timeouts, 5xx and 429 responses)
+ * are retried with exponential backoff and jitter.
+ */
+@Slf4j
+public class HttpAsyncStockClient implements AsyncStockClient {
+
+    private final Stock stock;
+    private final URI spiderUri;
+    private final StockClientProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TickDataHttpMessageConverter tickDataConverter;
+    private final ExecutorService executor;
+    private final HttpClient httpClient;
+    private final AsyncLimiter limiter;
+
+    public HttpAsyncStockClient(Stock stock, URI spiderUri, StockClientProperties properties,
+                                ObjectMapper objectMapper, TickDataHttpMessageConverter tickDataConverter) {
+        this.stock = stock;
+        this.spiderUri = spiderUri;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.tickDataConverter = tickDataConverter;
+        this.executor = Executors.newFixedThreadPool(properties.getThreads(), createThreadFactory(stock));
+        this.httpClient = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.limiter = new AsyncLimiter(properties.getMaxConcurrentRequests());
+    }
+
+    @Override
+    public CompletionStage<TickData> getTicksByPeriod(long marketId, TimeFrame timeFrame, int period) {
+        return getTicks(format("tick/period/%d/%s/%d", marketId, timeFrame, period));
+    }
+
+    @Override
+    public CompletionStage<TickData> getTicksByTime(long marketId, TimeFrame timeFrame, LocalDateTime from, LocalDateTime to) {
+        return getTicks(format("tick/time/%d/%s/%s/%s", marketId, timeFrame, from, to));
+    }
+
+    @Override
+    public Stock getStock() {
+        return stock;
+    }
+
+    public int getRequestsInFlight() {
+        return limiter.getRunning();
+    }
+
+    public int getQueuedRequests() {
+        return limiter.getPending();
+    }
+
+    public void close() {
+        executor.shutdown();
+    }
+
+    private CompletableFuture<TickData> getTicks(String path) {
+        HttpRequest request = HttpRequest.newBuilder(spiderUri.resolve(path))
+                .header("Accept", TickCodec.ACCEPT_VALUE)
+                .timeout(properties.getRequestTimeout())
+                .GET()
+                .build();
+        return send(request, 1);
+    }
+
+    // every attempt takes its own place in the limiter, so requests waiting for retry don't hold places of others
+    private CompletableFuture<TickData> send(HttpRequest request, int attempt) {
+        return limiter.submit(() -> httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, ex) -> new Attempt(response, ex)))
+                .thenCompose(result -> isRetryable(result.getResponse(), result.getException()) && attempt < properties.getMaxAttempts()
+                        ? retry(request, attempt, nonNull(result.getException()) ? result.getException().toString() : "status " + result.getResponse().statusCode())
+                        : complete(result.getResponse(), result.getException()));
+    }
+
+    private CompletableFuture<TickData> retry(HttpRequest request, int attempt, String reason) {
+        long delay = (long) (properties.getRetryBackoff().toMillis() * Math.pow(2, attempt - 1)
+                * ThreadLocalRandom.current().nextDouble(0.5, 1.5));
+        log.debug("Retrying stock request {stock: {}, uri: {}, attempt: {}, delay: {}, reason: {}}",
+                stock, request.uri(), attempt, delay, reason);
+        return CompletableFuture.runAsync(() -> {
+        }, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor))
+                .thenCompose(ignored -> send(request, attempt + 1));
+    }
+
+    private CompletableFuture<TickData> complete(HttpResponse<byte[]> response, Throwable ex) {
+        if (nonNull(ex)) {
+            return CompletableFuture.failedFuture(ex instanceof CompletionException ? ex.getCause() : ex);
+        }
+        try {
+            return CompletableFuture.completedFuture(readTickData(response));
+        } catch (IOException readException) {
+            return CompletableFuture.failedFuture(new UncheckedIOException(readException));
+        } catch (RuntimeException readException) {
+            return CompletableFuture.failedFuture(readException);
+        }
+    }
+
+    private TickData readTickData(HttpResponse<byte[]> response) throws IOException {
+        if (response.statusCode() != 200) {
+            throw new UnexpectedValueException(format("Unexpected stock response {stock: {%s}, uri: {%s}, status: {%s}}",
+                    stock, response.uri(), response.statusCode()));
+        }
+        String contentType = response.headers().firstValue("Content-Type").orElse("");
+        return contentType.startsWith(TickCodec.MEDIA_TYPE_VALUE)
+                ? tickDataConverter.decode(response.body())
+                : objectMapper.readValue(response.body(), TickData.class);
+    }
+
+    private boolean isRetryable(HttpResponse<byte[]> response, Throwable ex) {
+        if (nonNull(ex)) {
+            return (ex instanceof CompletionException ? ex.getCause() : ex) instanceof IOException;
+        }
+        return isNull(response) || response.statusCode() >= 500 || response.statusCode() == 429;
+    }
+
+    private static ThreadFactory createThreadFactory(Stock stock) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, format("stock-client-%s-%d", stock, counter.incrementAndGet()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Value
+    private static class Attempt {
+
+        private final HttpResponse<byte[]> response;
+
+        private final Throwable exception;
+
+    }
+
+}
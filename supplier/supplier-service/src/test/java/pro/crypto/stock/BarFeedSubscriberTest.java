@@ -0,0 +1,168 @@
+package pro.crypto.stock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pro.crypto.model.tick.BarCloseEvent;
+import pro.crypto.model.tick.Tick;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.model.market.Stock.BITTREX;
+import static pro.crypto.model.tick.TimeFrame.FIVE_MIN;
+import static pro.crypto.model.tick.TimeFrame.ONE_HOUR;
+
+/**
+ * Spider is stubbed by local server, every connection gets the next response of the feed.
+ */
+public class BarFeedSubscriberTest {
+
+    private static final String BAR_CLOSE = "{\"marketId\": 1, \"marketName\": \"BTC-ETH\", \"timeFrame\": \"FIVE_MIN\", "
+            + "\"tick\": {\"open\": 1.5, \"high\": 2, \"low\": 1, \"close\": 1.75, \"tickTime\": \"2020-01-01T00:00:00\"}}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+    private final List<String> responses = new CopyOnWriteArrayList<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final CountDownLatch feedClosed = new CountDownLatch(1);
+    private HttpServer server;
+    private BarFeedSubscriber subscriber;
+
+    @Before
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/market/monitor/bars", this::sendFeed);
+        server.start();
+        subscriber = new BarFeedSubscriber(BITTREX, URI.create("http://localhost:" + server.getAddress().getPort() + "/market/monitor/bars"),
+                Duration.ofMillis(50), objectMapper, events::add);
+    }
+
+    @After
+    public void destroy() {
+        subscriber.stop();
+        feedClosed.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    public void barCloseEventsPublishedTest() throws InterruptedException {
+        responses.add(": comment\n\nevent: bar-close\nid: 1\ndata: " + BAR_CLOSE + "\n\n"
+                + "data: {\"marketId\": 2, \"marketName\": \"BTC-LTC\",\ndata: \"timeFrame\": \"ONE_HOUR\"}\n\n");
+        subscriber.start();
+        BarCloseEvent event = nextEvent();
+        assertEquals(BITTREX, event.getStock());
+        assertEquals(1, event.getMarketId());
+        assertEquals("BTC-ETH", event.getMarketName());
+        assertEquals(FIVE_MIN, event.getTimeFrame());
+        assertEquals(Tick.builder()
+                .open(new BigDecimal("1.5"))
+                .high(new BigDecimal("2"))
+                .low(new BigDecimal("1"))
+                .close(new BigDecimal("1.75"))
+                .tickTime(LocalDateTime.of(2020, 1, 1, 0, 0))
+                .build(), event.getTick());
+        // data of one event can be split into several lines
+        BarCloseEvent nextEvent = nextEvent();
+        assertEquals("BTC-LTC", nextEvent.getMarketName());
+        assertEquals(ONE_HOUR, nextEvent.getTimeFrame());
+        assertNull(nextEvent.getTick());
+    }
+
+    @Test
+    public void otherAndMalformedEventsSkippedTest() throws InterruptedException {
+        responses.add("event: heartbeat\ndata: {}\n\nevent: bar-close\n\ndata: {marketId\n\nevent: bar-close\ndata: " + BAR_CLOSE + "\n\n");
+        subscriber.start();
+        assertEquals("BTC-ETH", nextEvent().getMarketName());
+        assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void reconnectAfterFailureTest() throws InterruptedException {
+        responses.add(null);
+        responses.add("event: bar-close\ndata: " + BAR_CLOSE + "\n\n");
+        subscriber.start();
+        assertEquals("BTC-ETH", nextEvent().getMarketName());
+        assertTrue(connections.get() >= 2);
+    }
+
+    @Test
+    public void reconnectAfterClosedFeedTest() throws InterruptedException {
+        responses.add("event: bar-close\ndata: " + BAR_CLOSE + "\n\n");
+        responses.add("event: bar-close\ndata: " + BAR_CLOSE.replace("BTC-ETH", "BTC-LTC") + "\n\n");
+        subscriber.start();
+        assertEquals("BTC-ETH", nextEvent().getMarketName());
+        assertEquals("BTC-LTC", nextEvent().getMarketName());
+    }
+
+    @Test
+    public void stoppedSubscriberDoesntReconnectTest() throws InterruptedException {
+        subscriber.start();
+        awaitConnections(1);
+        subscriber.stop();
+        Thread.sleep(200);
+        assertEquals(1, connections.get());
+    }
+
+    @Test
+    public void stopWithoutStartTest() {
+        subscriber.stop();
+    }
+
+    private BarCloseEvent nextEvent() throws InterruptedException {
+        Object event = events.poll(5, TimeUnit.SECONDS);
+        assertTrue(String.valueOf(event), event instanceof BarCloseEvent);
+        return (BarCloseEvent) event;
+    }
+
+    private void awaitConnections(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (connections.get() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    // null response fails the connection, connection without response is kept open till the end of the test
+    private void sendFeed(HttpExchange exchange) throws IOException {
+        int connection = connections.getAndIncrement();
+        if (connection < responses.size() && responses.get(connection) == null) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream body = exchange.getResponseBody()) {
+            if (connection < responses.size()) {
+                body.write(responses.get(connection).getBytes(StandardCharsets.UTF_8));
+                body.flush();
+                return;
+            }
+            body.flush();
+            feedClosed.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
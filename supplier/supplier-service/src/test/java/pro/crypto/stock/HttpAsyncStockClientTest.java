@@ -0,0 +1,93 @@
+package pro.crypto.stock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import pro.crypto.StockClientProperties;
+import pro.crypto.converter.TickDataHttpMessageConverter;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.model.market.Stock.BITTREX;
+import static pro.crypto.model.tick.TimeFrame.ONE_HOUR;
+
+public class HttpAsyncStockClientTest {
+
+    private HttpServer server;
+    private HttpAsyncStockClient client;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger retriedCalls = new AtomicInteger();
+
+    @Before
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        // the first request of market 1 is failed with 503, so it's retried, the other requests aren't found
+        server.createContext("/tick/period/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            requests.add(path);
+            int status = path.startsWith("/tick/period/1/") && retriedCalls.getAndIncrement() == 0 ? 503 : 404;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+        StockClientProperties properties = new StockClientProperties();
+        properties.setMaxConcurrentRequests(1);
+        properties.setRetryBackoff(Duration.ofMillis(400));
+        client = new HttpAsyncStockClient(BITTREX, URI.create("http://localhost:" + server.getAddress().getPort() + "/"),
+                properties, new ObjectMapper(), new TickDataHttpMessageConverter(new ObjectMapper()));
+    }
+
+    @After
+    public void destroy() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    public void requestWaitingForRetryDoesntHoldPlaceTest() throws Exception {
+        CompletableFuture<?> retriedRequest = client.getTicksByPeriod(1, ONE_HOUR, 10).toCompletableFuture();
+        awaitRequests(1);
+        CompletableFuture<?> nextRequest = client.getTicksByPeriod(2, ONE_HOUR, 10).toCompletableFuture();
+        awaitCompletion(nextRequest);
+        awaitCompletion(retriedRequest);
+        assertEquals(asList("/tick/period/1/ONE_HOUR/10", "/tick/period/2/ONE_HOUR/10", "/tick/period/1/ONE_HOUR/10"), requests);
+        assertEquals(0, client.getRequestsInFlight());
+        assertEquals(0, client.getQueuedRequests());
+    }
+
+    @Test
+    public void notFoundIsNotRetriedTest() throws Exception {
+        awaitCompletion(client.getTicksByPeriod(2, ONE_HOUR, 10).toCompletableFuture());
+        assertEquals(1, requests.size());
+    }
+
+    private void awaitRequests(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requests.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, requests.size());
+    }
+
+    private void awaitCompletion(CompletableFuture<?> request) throws InterruptedException {
+        try {
+            request.get(5, TimeUnit.SECONDS);
+        } catch (Exception ex) {
+            assertTrue(request.isCompletedExceptionally());
+        }
+    }
+
+}
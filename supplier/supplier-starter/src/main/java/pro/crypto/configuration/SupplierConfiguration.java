@@ -1,18 +1,34 @@
 package pro.crypto.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import pro.crypto.BarFeedProperties;
+import pro.crypto.StockClientProperties;
+import pro.crypto.converter.TickDataHttpMessageConverter;
 import pro.crypto.service.DataProvider;
 import pro.crypto.service.DataSupplier;
 import pro.crypto.service.MonitorSupervisor;
 import pro.crypto.service.StockMonitoringService;
+import pro.crypto.stock.BarFeedSubscriber;
 import pro.crypto.stock.BittrexClient;
+import pro.crypto.stock.HttpAsyncStockClient;
 import pro.crypto.web.StockMonitoringController;
 
+import java.net.URI;
+
+import static pro.crypto.model.market.Stock.BITTREX;
+
 @Configuration
+@EnableConfigurationProperties({BarFeedProperties.class, StockClientProperties.class})
 public class SupplierConfiguration {
 
     @Configuration
@@ -30,6 +46,37 @@ public class SupplierConfiguration {
     @Configuration
     @EnableFeignClients(clients = {BittrexClient.class})
     public static class StockClientConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(TickDataHttpMessageConverter.class)
+        public TickDataHttpMessageConverter tickDataHttpMessageConverter(ObjectMapper objectMapper) {
+            return new TickDataHttpMessageConverter(objectMapper);
+        }
+
+        @Bean(destroyMethod = "close")
+        public HttpAsyncStockClient bittrexAsyncClient(@Value("${bittrex.spider.url}") String spiderUrl,
+                                                       StockClientProperties stockClientProperties,
+                                                       ObjectMapper objectMapper,
+                                                       TickDataHttpMessageConverter tickDataHttpMessageConverter) {
+            return new HttpAsyncStockClient(BITTREX, URI.create(spiderUrl), stockClientProperties,
+                    objectMapper, tickDataHttpMessageConverter);
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "supplier.bar-feed.enabled", havingValue = "true")
+    public static class BarFeedConfiguration {
+
+        @Bean(initMethod = "start", destroyMethod = "stop")
+        public BarFeedSubscriber bittrexBarFeedSubscriber(@Value("${bittrex.spider.url}") String spiderUrl,
+                                                          BarFeedProperties barFeedProperties,
+                                                          ObjectMapper objectMapper,
+                                                          ApplicationEventPublisher eventPublisher) {
+            return new BarFeedSubscriber(BITTREX, URI.create(spiderUrl).resolve(barFeedProperties.getPath()),
+                    barFeedProperties.getReconnectDelay(), objectMapper, eventPublisher);
+        }
+
     }
 
     @ConditionalOnWebApplication
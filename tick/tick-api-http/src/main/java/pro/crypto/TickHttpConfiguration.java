@@ -1,9 +1,12 @@
 package pro.crypto;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import pro.crypto.converter.TickDataSnapshotHttpMessageConverter;
 import pro.crypto.proxy.HttpTickProxy;
 import pro.crypto.service.HttpTickService;
 import pro.crypto.service.TickService;
@@ -16,6 +19,13 @@ public class TickHttpConfiguration {
     @EnableFeignClients(clients = HttpTickProxy.class)
     @Configuration
     public static class TickHttpServiceConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(TickDataSnapshotHttpMessageConverter.class)
+        public TickDataSnapshotHttpMessageConverter tickDataSnapshotHttpMessageConverter(ObjectMapper objectMapper) {
+            return new TickDataSnapshotHttpMessageConverter(objectMapper);
+        }
+
     }
 
 }
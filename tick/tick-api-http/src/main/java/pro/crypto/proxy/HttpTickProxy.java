@@ -1,5 +1,6 @@
 package pro.crypto.proxy;
 
+import feign.Response;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
@@ -7,18 +8,20 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import pro.crypto.codec.TickStreamCodec;
 import pro.crypto.model.tick.TimeFrame;
 import pro.crypto.response.TickDataSnapshot;
 
 import java.time.LocalDateTime;
 
 import static org.springframework.web.bind.annotation.RequestMethod.GET;
+import static pro.crypto.codec.TickCodec.ACCEPT_VALUE;
 
 @Validated
 @FeignClient(name = "api-ticks", url = "${pro.crypto.entry.point.api.url}", path = "/ticks")
 public interface HttpTickProxy {
 
-    @RequestMapping(value = "/time", method = GET)
+    @RequestMapping(value = "/time", method = GET, produces = ACCEPT_VALUE)
     @ResponseStatus(HttpStatus.OK)
     @ResponseBody
     TickDataSnapshot getTicksByTime(@RequestParam("marketId") Long marketId,
@@ -26,11 +29,18 @@ public interface HttpTickProxy {
                                @RequestParam("from") LocalDateTime from,
                                @RequestParam("to") LocalDateTime to);
 
-    @RequestMapping(value = "/period", method = GET)
+    @RequestMapping(value = "/period", method = GET, produces = ACCEPT_VALUE)
     @ResponseStatus(HttpStatus.OK)
     @ResponseBody
     TickDataSnapshot getTicksByPeriod(@RequestParam("marketId") Long marketId,
                                     @RequestParam("timeFrame") TimeFrame timeFrame,
                                     @RequestParam("period") Integer period);
 
+    // response should be closed after reading
+    @RequestMapping(value = "/time/stream", method = GET, produces = TickStreamCodec.ACCEPT_VALUE)
+    Response streamTicksByTime(@RequestParam("marketId") Long marketId,
+                               @RequestParam("timeFrame") TimeFrame timeFrame,
+                               @RequestParam("from") LocalDateTime from,
+                               @RequestParam("to") LocalDateTime to);
+
 }
@@ -1,17 +1,35 @@
 package pro.crypto.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Response;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import pro.crypto.codec.TickStreamCodec;
+import pro.crypto.exception.UnexpectedValueException;
+import pro.crypto.model.tick.TickStream;
 import pro.crypto.proxy.HttpTickProxy;
 import pro.crypto.request.TickPeriodFindRequest;
 import pro.crypto.request.TickTimeFindRequest;
 import pro.crypto.response.TickDataSnapshot;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static java.lang.String.format;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+
 @Service
 @AllArgsConstructor
 public class HttpTickService implements TickService {
 
+    private static final int STREAM_PAGE_SIZE = 5000;
+
     private final HttpTickProxy tickProxy;
+    private final ObjectMapper objectMapper;
 
     @Override
     public TickDataSnapshot getTicksByTime(TickTimeFindRequest request) {
@@ -19,9 +37,36 @@ public class HttpTickService implements TickService {
                 request.getFrom(), request.getTo());
     }
 
+    // proxy is blocking, so ticks are got in the calling thread
+    @Override
+    public CompletionStage<TickDataSnapshot> getTicksByTimeAsync(TickTimeFindRequest request) {
+        try {
+            return CompletableFuture.completedFuture(getTicksByTime(request));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
     @Override
     public TickDataSnapshot getTicksByPeriod(TickPeriodFindRequest request) {
         return tickProxy.getTicksByPeriod(request.getMarketId(), request.getTimeFrame(), request.getPeriod());
     }
 
+    @Override
+    public TickStream streamTicksByTime(TickTimeFindRequest request) {
+        return pageConsumer -> {
+            try (Response response = tickProxy.streamTicksByTime(request.getMarketId(), request.getTimeFrame(),
+                    request.getFrom(), request.getTo())) {
+                if (response.status() != 200) {
+                    throw new UnexpectedValueException(format("Unexpected tick stream response {status: {%s}}", response.status()));
+                }
+                Collection<String> contentType = response.headers().getOrDefault(CONTENT_TYPE, Collections.emptyList());
+                TickStreamCodec.read(response.body().asInputStream(), contentType.stream().findFirst().orElse(null),
+                        objectMapper, STREAM_PAGE_SIZE, pageConsumer);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+
 }
@@ -0,0 +1,50 @@
+package pro.crypto.converter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.util.StreamUtils;
+import pro.crypto.codec.TickCodec;
+import pro.crypto.codec.TickPayload;
+import pro.crypto.response.TickDataSnapshot;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Writes and reads tick data snapshot in binary ticks format, market and time frame are kept as JSON metadata.
+ */
+public class TickDataSnapshotHttpMessageConverter extends AbstractHttpMessageConverter<TickDataSnapshot> {
+
+    private final ObjectMapper objectMapper;
+
+    public TickDataSnapshotHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.valueOf(TickCodec.MEDIA_TYPE_VALUE));
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TickDataSnapshot.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected TickDataSnapshot readInternal(Class<? extends TickDataSnapshot> clazz, HttpInputMessage inputMessage) throws IOException {
+        TickPayload payload = TickCodec.decode(ByteBuffer.wrap(StreamUtils.copyToByteArray(inputMessage.getBody())));
+        TickDataSnapshot tickData = objectMapper.readValue(payload.getMetadata(), TickDataSnapshot.class);
+        tickData.setTicks(payload.getTicks());
+        return tickData;
+    }
+
+    @Override
+    protected void writeInternal(TickDataSnapshot tickData, HttpOutputMessage outputMessage) throws IOException {
+        TickDataSnapshot metadata = TickDataSnapshot.builder()
+                .market(tickData.getMarket())
+                .timeFrame(tickData.getTimeFrame())
+                .build();
+        outputMessage.getBody().write(TickCodec.encode(objectMapper.writeValueAsBytes(metadata), tickData.getTicks()));
+    }
+
+}
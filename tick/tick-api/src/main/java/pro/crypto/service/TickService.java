@@ -1,13 +1,22 @@
 package pro.crypto.service;
 
+import pro.crypto.model.tick.TickStream;
 import pro.crypto.request.TickPeriodFindRequest;
 import pro.crypto.request.TickTimeFindRequest;
 import pro.crypto.response.TickDataSnapshot;
 
+import java.util.concurrent.CompletionStage;
+
 public interface TickService {
 
     TickDataSnapshot getTicksByTime(TickTimeFindRequest request);
 
+    // ticks which aren't stored yet are fetched without holding the calling thread
+    CompletionStage<TickDataSnapshot> getTicksByTimeAsync(TickTimeFindRequest request);
+
     TickDataSnapshot getTicksByPeriod(TickPeriodFindRequest request);
 
+    // ticks are read in pages when stream is consumed
+    TickStream streamTicksByTime(TickTimeFindRequest request);
+
 }
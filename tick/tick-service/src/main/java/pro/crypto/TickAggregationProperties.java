@@ -0,0 +1,22 @@
+package pro.crypto;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "tick.aggregation")
+public class TickAggregationProperties {
+
+    // bars are expected to be aligned to UTC epoch with start time as bar time, the same way as spider builds them
+    private boolean enabled = false;
+
+    private TimeFrame baseTimeFrame = TimeFrame.FIVE_MIN;
+
+    // base series fetched till some time is not fetched again for requests till this time plus interval,
+    // but never after the close of its stored forming bar
+    private Duration baseRefreshInterval = Duration.ofSeconds(30);
+
+}
@@ -0,0 +1,23 @@
+package pro.crypto;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "tick.integrity")
+public class TickIntegrityProperties {
+
+    private boolean enabled = false;
+
+    // scans are scheduled by @Scheduled, so delays are set in ISO-8601 format, e.g. PT1M
+    private Duration initialDelay = Duration.ofMinutes(1);
+
+    // delay between the end of one scan and the start of the next one
+    private Duration interval = Duration.ofMinutes(15);
+
+    // gaps of one series fetched per scan, the rest are fetched by next scans
+    private int maxGapFetches = 20;
+
+}
@@ -0,0 +1,13 @@
+package pro.crypto;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "tick.stream")
+public class TickStreamProperties {
+
+    // max count of bars read at once while streaming ticks
+    private int pageSize = 5000;
+
+}
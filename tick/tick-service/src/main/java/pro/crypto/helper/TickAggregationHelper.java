@@ -0,0 +1,75 @@
+package pro.crypto.helper;
+
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BinaryOperator;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static pro.crypto.helper.TimeFrameHelper.alignTime;
+
+/**
+ * Builds bars of higher time frame from bars of lower one.
+ * Bars are aligned to the UTC epoch (four hours bars start at 00:00, 04:00, ..., day bars at midnight),
+ * time of bar is its start: open of the first bar, max high, min low, close of the last bar, sums of volumes.
+ * The last bar is built from available bars, so it's forming until all its bars are closed.
+ */
+public class TickAggregationHelper {
+
+    public static Tick[] aggregate(Tick[] ticks, TimeFrame timeFrame) {
+        List<Tick> result = new ArrayList<>();
+        Tick bar = null;
+        for (Tick tick : ticks) {
+            LocalDateTime barTime = alignTime(tick.getTickTime(), timeFrame);
+            if (nonNull(bar) && bar.getTickTime().equals(barTime)) {
+                bar = merge(bar, tick);
+                continue;
+            }
+            if (nonNull(bar)) {
+                result.add(bar);
+            }
+            bar = startBar(tick, barTime);
+        }
+        if (nonNull(bar)) {
+            result.add(bar);
+        }
+        return result.toArray(new Tick[0]);
+    }
+
+    private static Tick startBar(Tick tick, LocalDateTime barTime) {
+        return Tick.builder()
+                .open(tick.getOpen())
+                .high(tick.getHigh())
+                .low(tick.getLow())
+                .close(tick.getClose())
+                .volume(tick.getVolume())
+                .baseVolume(tick.getBaseVolume())
+                .tickTime(barTime)
+                .build();
+    }
+
+    private static Tick merge(Tick bar, Tick tick) {
+        return Tick.builder()
+                .open(bar.getOpen())
+                .high(combine(bar.getHigh(), tick.getHigh(), BigDecimal::max))
+                .low(combine(bar.getLow(), tick.getLow(), BigDecimal::min))
+                .close(tick.getClose())
+                .volume(combine(bar.getVolume(), tick.getVolume(), BigDecimal::add))
+                .baseVolume(combine(bar.getBaseVolume(), tick.getBaseVolume(), BigDecimal::add))
+                .tickTime(bar.getTickTime())
+                .build();
+    }
+
+    private static BigDecimal combine(BigDecimal first, BigDecimal second, BinaryOperator<BigDecimal> operator) {
+        if (isNull(first)) {
+            return second;
+        }
+        return isNull(second) ? first : operator.apply(first, second);
+    }
+
+}
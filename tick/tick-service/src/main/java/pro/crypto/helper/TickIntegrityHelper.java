@@ -0,0 +1,49 @@
+package pro.crypto.helper;
+
+import pro.crypto.model.tick.Tick;
+import pro.crypto.service.TickGap;
+import pro.crypto.service.TickSeriesIntegrity;
+import pro.crypto.store.TickSeriesKey;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static pro.crypto.helper.TimeFrameHelper.getDurationInSeconds;
+
+/**
+ * Finds gaps and duplicates of stored ticks by time frame step.
+ * Tick which is not after the previous one is a duplicate, it's not counted as stored bar.
+ */
+public class TickIntegrityHelper {
+
+    public static TickSeriesIntegrity check(TickSeriesKey key, Tick[] ticks) {
+        long step = getDurationInSeconds(key.getTimeFrame());
+        List<TickGap> gaps = new ArrayList<>();
+        int duplicates = 0;
+        long previous = Long.MIN_VALUE;
+        for (Tick tick : ticks) {
+            long time = tick.getTickTime().toEpochSecond(ZoneOffset.UTC);
+            if (previous != Long.MIN_VALUE && time <= previous) {
+                duplicates++;
+                continue;
+            }
+            if (previous != Long.MIN_VALUE && time - previous > step) {
+                gaps.add(new TickGap(toTickTime(previous + step), toTickTime(time - step)));
+            }
+            previous = time;
+        }
+        if (ticks.length == 0) {
+            return new TickSeriesIntegrity(key, null, null, 0, 0, 0, gaps);
+        }
+        long first = ticks[0].getTickTime().toEpochSecond(ZoneOffset.UTC);
+        return new TickSeriesIntegrity(key, toTickTime(first), toTickTime(previous),
+                (previous - first) / step + 1, ticks.length, duplicates, gaps);
+    }
+
+    private static LocalDateTime toTickTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+}
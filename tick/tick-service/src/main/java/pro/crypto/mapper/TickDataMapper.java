@@ -1,7 +1,9 @@
 package pro.crypto.mapper;
 
 import org.springframework.stereotype.Component;
+import pro.crypto.model.tick.Tick;
 import pro.crypto.model.tick.TickData;
+import pro.crypto.model.tick.TimeFrame;
 import pro.crypto.response.TickDataSnapshot;
 import pro.crypto.snapshot.MarketSnapshot;
 
@@ -16,4 +18,12 @@ public class TickDataMapper {
                 .build();
     }
 
+    public TickDataSnapshot fromTicks(Tick[] ticks, TimeFrame timeFrame, MarketSnapshot market) {
+        return TickDataSnapshot.builder()
+                .market(market)
+                .timeFrame(timeFrame)
+                .ticks(ticks)
+                .build();
+    }
+
 }
@@ -3,14 +3,39 @@ package pro.crypto.service;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import pro.crypto.TickAggregationProperties;
+import pro.crypto.TickStreamProperties;
+import pro.crypto.helper.SingleFlight;
 import pro.crypto.mapper.TickDataMapper;
+import pro.crypto.model.tick.Tick;
 import pro.crypto.model.tick.TickData;
+import pro.crypto.model.tick.TickStream;
+import pro.crypto.model.tick.TimeFrame;
 import pro.crypto.request.GetTickByTimeRequest;
 import pro.crypto.request.GetTicksByPeriodRequest;
 import pro.crypto.request.TickPeriodFindRequest;
 import pro.crypto.request.TickTimeFindRequest;
 import pro.crypto.response.TickDataSnapshot;
 import pro.crypto.snapshot.MarketSnapshot;
+import pro.crypto.store.TickRange;
+import pro.crypto.store.TickSeriesKey;
+import pro.crypto.store.TickStore;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static pro.crypto.helper.TickAggregationHelper.aggregate;
+import static pro.crypto.helper.TimeFrameHelper.alignTime;
+import static pro.crypto.helper.TimeFrameHelper.getDurationInSeconds;
 
 @Slf4j
 @Service
@@ -20,34 +45,236 @@ public class RepositoryTickService implements TickService {
     private final DataSupplier dataSupplier;
     private final MarketService marketService;
     private final TickDataMapper tickDataMapper;
+    private final TickStore tickStore;
+    private final SingleFlight<TickFetchKey, TickData> tickFetches;
+    private final TickAggregationProperties tickAggregationProperties;
+    private final TickStreamProperties tickStreamProperties;
+    private final Map<TickSeriesKey, LocalDateTime> fetchedTill = new ConcurrentHashMap<>();
+    private final Map<TickSeriesKey, LocalDateTime> aggregatedTill = new ConcurrentHashMap<>();
 
     @Override
     public TickDataSnapshot getTicksByTime(TickTimeFindRequest request) {
         log.trace("Getting ticks by time {request: {}}", request);
         MarketSnapshot market = marketService.findById(request.getMarketId());
-        TickData tickData = dataSupplier.getTicksByTime(buildGetTickByTimeRequest(request, market));
-        log.info("Got ticks by time {request: {}, stock: {}, market: {}, timeFrame: {}, tickSize: {}}",
-                request, tickData.getStockExchangeName(), tickData.getMarket().getMarketName(), tickData.getTimeFrame(), tickData.getTicks().length);
-        return tickDataMapper.fromTickData(tickData, market);
+        Tick[] ticks = findTicks(market, request.getTimeFrame(), request.getFrom(), request.getTo());
+        log.info("Got ticks by time {request: {}, stock: {}, market: {}, tickSize: {}}",
+                request, market.getStock(), market.getMarketName(), ticks.length);
+        return tickDataMapper.fromTicks(ticks, request.getTimeFrame(), market);
+    }
+
+    @Override
+    public CompletionStage<TickDataSnapshot> getTicksByTimeAsync(TickTimeFindRequest request) {
+        log.trace("Getting ticks by time asynchronously {request: {}}", request);
+        MarketSnapshot market = marketService.findById(request.getMarketId());
+        return findTicksAsync(market, request.getTimeFrame(), request.getFrom(), request.getTo())
+                .thenApply(ticks -> {
+                    log.info("Got ticks by time asynchronously {request: {}, stock: {}, market: {}, tickSize: {}}",
+                            request, market.getStock(), market.getMarketName(), ticks.length);
+                    return tickDataMapper.fromTicks(ticks, request.getTimeFrame(), market);
+                });
     }
 
     @Override
     public TickDataSnapshot getTicksByPeriod(TickPeriodFindRequest request) {
         log.trace("Getting ticks by period {request: {}}", request);
         MarketSnapshot market = marketService.findById(request.getMarketId());
-        TickData tickData = dataSupplier.getTicksByPeriod(buildGetTicksByPeriodRequest(request, market));
+        TickFetchKey fetchKey = new TickFetchKey(buildSeriesKey(market, request.getTimeFrame()), null, null, request.getPeriod());
+        TickData tickData = tickFetches.execute(fetchKey, () -> dataSupplier.getTicksByPeriod(buildGetTicksByPeriodRequest(request, market)));
         log.info("Got ticks by period {request: {}, stock: {}, market: {}, timeFrame: {}, tickSize: {}}",
                 request, tickData.getStockExchangeName(), tickData.getMarket().getMarketName(), tickData.getTimeFrame(), tickData.getTicks().length);
-        return tickDataMapper.fromTickData(tickData, market);
+        return tickDataMapper.fromTicks(tickData.getTicks().clone(), tickData.getTimeFrame(), market);
+    }
+
+    // range is read by pages of limited bar count, so every page is fetched from data supplier separately
+    @Override
+    public TickStream streamTicksByTime(TickTimeFindRequest request) {
+        return pageConsumer -> {
+            log.trace("Streaming ticks by time {request: {}}", request);
+            MarketSnapshot market = marketService.findById(request.getMarketId());
+            Duration pageDuration = Duration.ofSeconds(getDurationInSeconds(request.getTimeFrame()) * tickStreamProperties.getPageSize());
+            int tickCount = 0;
+            for (LocalDateTime pageFrom = request.getFrom(); !pageFrom.isAfter(request.getTo()); pageFrom = pageFrom.plus(pageDuration)) {
+                LocalDateTime pageTo = pageFrom.plus(pageDuration).minusSeconds(1);
+                Tick[] ticks = findTicks(market, request.getTimeFrame(), pageFrom, pageTo.isBefore(request.getTo()) ? pageTo : request.getTo());
+                if (ticks.length > 0) {
+                    pageConsumer.accept(ticks);
+                    tickCount += ticks.length;
+                }
+            }
+            log.info("Streamed ticks by time {request: {}, stock: {}, market: {}, tickSize: {}}",
+                    request, market.getStock(), market.getMarketName(), tickCount);
+        };
+    }
+
+    private Tick[] findTicks(MarketSnapshot market, TimeFrame timeFrame, LocalDateTime from, LocalDateTime to) {
+        return isAggregated(timeFrame)
+                ? getAggregatedTicks(market, timeFrame, from, to)
+                : getTicks(buildSeriesKey(market, timeFrame), market, from, to);
     }
 
-    private GetTickByTimeRequest buildGetTickByTimeRequest(TickTimeFindRequest request, MarketSnapshot market) {
+    // stored ticks, only ticks which are not stored yet are fetched.
+    // Series is replaced by one caller at a time, caller which waited for replace of another range checks stored range again
+    private Tick[] getTicks(TickSeriesKey key, MarketSnapshot market, LocalDateTime from, LocalDateTime to) {
+        TickRange range = tickStore.getRange(key);
+        while (isNull(range) || from.isBefore(range.getFrom())) {
+            AtomicReference<TickData> fetched = new AtomicReference<>();
+            tickFetches.execute(new TickFetchKey(key, null, null, null), () -> {
+                fetched.set(fetchAndReplaceTicks(key, market, from, to));
+                return fetched.get();
+            });
+            if (nonNull(fetched.get())) {
+                return fetched.get().getTicks().clone();
+            }
+            range = tickStore.getRange(key);
+        }
+        appendTicks(key, market, to, range);
+        return tickStore.find(key, from, to);
+    }
+
+    // aggregated series is rebuilt from the base series when the base ticks are fetched
+    private CompletableFuture<Tick[]> findTicksAsync(MarketSnapshot market, TimeFrame timeFrame, LocalDateTime from, LocalDateTime to) {
+        if (isAggregated(timeFrame)) {
+            TickSeriesKey baseKey = buildSeriesKey(market, tickAggregationProperties.getBaseTimeFrame());
+            return fetchMissingTicksAsync(baseKey, market, alignTime(from, timeFrame), to)
+                    .thenApply(ignoredTicks -> getAggregatedTicks(market, timeFrame, from, to));
+        }
+        TickSeriesKey key = buildSeriesKey(market, timeFrame);
+        return fetchMissingTicksAsync(key, market, from, to)
+                .thenApply(fetchedTicks -> nonNull(fetchedTicks) ? fetchedTicks : tickStore.find(key, from, to));
+    }
+
+    // the same fetches as getTicks in the same flights, so blocking and asynchronous callers share them.
+    // Fetched ticks are returned if they weren't stored, null if stored ticks should be read
+    private CompletableFuture<Tick[]> fetchMissingTicksAsync(TickSeriesKey key, MarketSnapshot market, LocalDateTime from, LocalDateTime to) {
+        TickRange range = tickStore.getRange(key);
+        if (isNull(range) || from.isBefore(range.getFrom())) {
+            AtomicReference<TickData> fetched = new AtomicReference<>();
+            return tickFetches.executeAsync(new TickFetchKey(key, null, null, null),
+                    () -> fetchTicksAsync(key, market, from, to).thenApply(tickData -> {
+                        fetched.set(tickData);
+                        return replaceFetchedTicks(key, from, to, tickData);
+                    }))
+                    .thenCompose(ignoredTickData -> nonNull(fetched.get())
+                            ? CompletableFuture.completedFuture(fetched.get().getTicks().clone())
+                            : fetchMissingTicksAsync(key, market, from, to));
+        }
+        if (!to.isBefore(range.getLastTickTime()) && !isFetchedRecently(key, to, range)) {
+            return tickFetches.executeAsync(buildTickFetchKey(key, range.getLastTickTime(), to),
+                    () -> fetchTicksAsync(key, market, range.getLastTickTime(), to)
+                            .thenApply(tickData -> appendFetchedTicks(key, to, tickData)))
+                    .thenApply(ignoredTickData -> null);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private CompletableFuture<TickData> fetchTicksAsync(TickSeriesKey key, MarketSnapshot market, LocalDateTime from, LocalDateTime to) {
+        return dataSupplier.getTicksByTimeAsync(buildGetTickByTimeRequest(key, market, from, to)).toCompletableFuture();
+    }
+
+    private void appendTicks(TickSeriesKey key, MarketSnapshot market, LocalDateTime to, TickRange range) {
+        if (!to.isBefore(range.getLastTickTime()) && !isFetchedRecently(key, to, range)) {
+            tickFetches.execute(buildTickFetchKey(key, range.getLastTickTime(), to),
+                    () -> fetchAndAppendTicks(key, market, to, range));
+        }
+    }
+
+    // bars of higher time frame are built from the base series, only the last (forming) bar and newer are rebuilt.
+    // Series is rebuilt by one caller at a time, caller which waited for rebuild of another range rebuilds it again
+    private Tick[] getAggregatedTicks(MarketSnapshot market, TimeFrame timeFrame, LocalDateTime from, LocalDateTime to) {
+        TickSeriesKey key = buildSeriesKey(market, timeFrame);
+        AtomicBoolean aggregated = new AtomicBoolean();
+        do {
+            tickFetches.execute(new TickFetchKey(key, null, null, null), () -> {
+                aggregated.set(true);
+                return aggregateTicks(key, market, from, to);
+            });
+        } while (!aggregated.get() && !isAggregatedTill(key, alignTime(from, timeFrame), to));
+        return tickStore.find(key, from, to);
+    }
+
+    private boolean isAggregatedTill(TickSeriesKey key, LocalDateTime alignedFrom, LocalDateTime to) {
+        TickRange range = tickStore.getRange(key);
+        LocalDateTime till = aggregatedTill.get(key);
+        return nonNull(range) && !alignedFrom.isBefore(range.getFrom()) && nonNull(till) && !till.isBefore(to);
+    }
+
+    private TickData aggregateTicks(TickSeriesKey key, MarketSnapshot market, LocalDateTime from, LocalDateTime to) {
+        TickSeriesKey baseKey = buildSeriesKey(market, tickAggregationProperties.getBaseTimeFrame());
+        LocalDateTime alignedFrom = alignTime(from, key.getTimeFrame());
+        TickRange range = tickStore.getRange(key);
+        if (isNull(range) || alignedFrom.isBefore(range.getFrom())) {
+            tickStore.replace(key, alignedFrom, aggregate(getTicks(baseKey, market, alignedFrom, to), key.getTimeFrame()));
+        } else if (!to.isBefore(range.getLastTickTime())) {
+            tickStore.append(key, aggregate(getTicks(baseKey, market, range.getLastTickTime(), to), key.getTimeFrame()));
+        }
+        aggregatedTill.merge(key, to, (previous, current) -> current.isAfter(previous) ? current : previous);
+        return null;
+    }
+
+    // ticks till the requested time are fetched once, e.g. window prefetched asynchronously isn't fetched again by calculation.
+    // Base series is read by every aggregated time frame, so its forming bar isn't fetched again within the refresh interval.
+    // Store is never fresh after the stored forming bar closes, so the closed bar and the new one are always fetched
+    private boolean isFetchedRecently(TickSeriesKey key, LocalDateTime to, TickRange range) {
+        LocalDateTime till = fetchedTill.get(key);
+        if (nonNull(till) && !to.isAfter(till)) {
+            return true;
+        }
+        if (!tickAggregationProperties.isEnabled() || key.getTimeFrame() != tickAggregationProperties.getBaseTimeFrame()) {
+            return false;
+        }
+        LocalDateTime formingBarCloseTime = range.getLastTickTime().plusSeconds(getDurationInSeconds(key.getTimeFrame()));
+        return nonNull(till)
+                && to.isBefore(formingBarCloseTime)
+                && !to.isAfter(till.plus(tickAggregationProperties.getBaseRefreshInterval()));
+    }
+
+    private boolean isAggregated(TimeFrame timeFrame) {
+        return tickAggregationProperties.isEnabled() && timeFrame != tickAggregationProperties.getBaseTimeFrame();
+    }
+
+    // requested range starts before stored one, stored ticks are replaced if fetched ticks cover them
+    private TickData fetchAndReplaceTicks(TickSeriesKey key, MarketSnapshot market, LocalDateTime from, LocalDateTime to) {
+        return replaceFetchedTicks(key, from, to, dataSupplier.getTicksByTime(buildGetTickByTimeRequest(key, market, from, to)));
+    }
+
+    private TickData replaceFetchedTicks(TickSeriesKey key, LocalDateTime from, LocalDateTime to, TickData tickData) {
+        Tick[] ticks = tickData.getTicks();
+        TickRange range = tickStore.getRange(key);
+        if (ticks.length > 0 && (isNull(range) || !ticks[ticks.length - 1].getTickTime().isBefore(range.getLastTickTime()))) {
+            tickStore.replace(key, from, ticks);
+        }
+        fetchedTill.merge(key, to, (previous, current) -> current.isAfter(previous) ? current : previous);
+        log.debug("Fetched ticks {key: {}, from: {}, to: {}, tickSize: {}}", key, from, to, ticks.length);
+        return tickData;
+    }
+
+    // last stored tick can be not closed, so it's fetched again together with newer ticks
+    private TickData fetchAndAppendTicks(TickSeriesKey key, MarketSnapshot market, LocalDateTime to, TickRange range) {
+        return appendFetchedTicks(key, to, dataSupplier.getTicksByTime(buildGetTickByTimeRequest(key, market, range.getLastTickTime(), to)));
+    }
+
+    private TickData appendFetchedTicks(TickSeriesKey key, LocalDateTime to, TickData tickData) {
+        int appended = tickStore.append(key, tickData.getTicks());
+        fetchedTill.merge(key, to, (previous, current) -> current.isAfter(previous) ? current : previous);
+        log.debug("Appended ticks {key: {}, fetched: {}, appended: {}}", key, tickData.getTicks().length, appended);
+        return tickData;
+    }
+
+    private TickFetchKey buildTickFetchKey(TickSeriesKey key, LocalDateTime from, LocalDateTime to) {
+        return new TickFetchKey(key, from, to.truncatedTo(ChronoUnit.MINUTES), null);
+    }
+
+    private TickSeriesKey buildSeriesKey(MarketSnapshot market, TimeFrame timeFrame) {
+        return new TickSeriesKey(market.getStock(), market.getMarketId(), timeFrame);
+    }
+
+    private GetTickByTimeRequest buildGetTickByTimeRequest(TickSeriesKey key, MarketSnapshot market, LocalDateTime from, LocalDateTime to) {
         return GetTickByTimeRequest.builder()
                 .stock(market.getStock())
                 .marketId(market.getMarketId())
-                .timeFrame(request.getTimeFrame())
-                .from(request.getFrom())
-                .to(request.getTo())
+                .timeFrame(key.getTimeFrame())
+                .from(from)
+                .to(to)
                 .build();
     }
 
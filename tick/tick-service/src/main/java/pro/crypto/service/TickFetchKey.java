@@ -0,0 +1,23 @@
+package pro.crypto.service;
+
+import lombok.Value;
+import pro.crypto.store.TickSeriesKey;
+
+import java.time.LocalDateTime;
+
+/**
+ * Normalized tick fetch, requests which differ only in seconds of {@code to} are the same fetch.
+ * Key with series only is a rewrite of the whole series: replace of stored ticks or rebuild of aggregated series.
+ */
+@Value
+public class TickFetchKey {
+
+    private TickSeriesKey series;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private Integer period;
+
+}
@@ -0,0 +1,17 @@
+package pro.crypto.service;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Missing bars between two stored ones: times of the first and the last missing bar.
+ */
+@Value
+public class TickGap {
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+}
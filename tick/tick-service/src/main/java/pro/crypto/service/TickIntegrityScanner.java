@@ -0,0 +1,205 @@
+package pro.crypto.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import pro.crypto.TickAggregationProperties;
+import pro.crypto.TickIntegrityProperties;
+import pro.crypto.helper.SingleFlight;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickData;
+import pro.crypto.request.GetTickByTimeRequest;
+import pro.crypto.store.TickRange;
+import pro.crypto.store.TickSeriesKey;
+import pro.crypto.store.TickStore;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.toList;
+import static pro.crypto.helper.TickAggregationHelper.aggregate;
+import static pro.crypto.helper.TickIntegrityHelper.check;
+import static pro.crypto.helper.TimeFrameHelper.getDurationInSeconds;
+
+/**
+ * Scans stored series for gaps and duplicates in background.
+ * Only missing ranges of fetched series are requested from data supplier, series with duplicates are rewritten.
+ * Aggregated series are rebuilt from the base series after its repair.
+ * All fetched gaps of a series are merged at once, only segments from the earliest gap are rewritten.
+ * Gaps which are fetched without ticks (no trades on the market) are kept by the store and are not fetched again.
+ * Series is rewritten in the same flight as replace of stored ticks and rebuild of aggregated series by tick service,
+ * so the stored range is read again inside the flight.
+ */
+@Slf4j
+public class TickIntegrityScanner {
+
+    private final TickStore tickStore;
+    private final DataSupplier dataSupplier;
+    private final SingleFlight<TickFetchKey, TickData> tickFetches;
+    private final TickAggregationProperties tickAggregationProperties;
+    private final TickIntegrityProperties properties;
+    private final Map<TickSeriesKey, TickSeriesIntegrity> integrity = new ConcurrentHashMap<>();
+    private final List<Consumer<Collection<TickSeriesIntegrity>>> scanListeners = new CopyOnWriteArrayList<>();
+
+    public TickIntegrityScanner(TickStore tickStore, DataSupplier dataSupplier, SingleFlight<TickFetchKey, TickData> tickFetches,
+                                TickAggregationProperties tickAggregationProperties, TickIntegrityProperties properties) {
+        this.tickStore = tickStore;
+        this.dataSupplier = dataSupplier;
+        this.tickFetches = tickFetches;
+        this.tickAggregationProperties = tickAggregationProperties;
+        this.properties = properties;
+    }
+
+    // results of the last scan
+    public Collection<TickSeriesIntegrity> getIntegrity() {
+        return integrity.values();
+    }
+
+    public void addScanListener(Consumer<Collection<TickSeriesIntegrity>> scanListener) {
+        scanListeners.add(scanListener);
+    }
+
+    // base series are scanned first, so aggregated ones are rebuilt from repaired ticks
+    @Scheduled(initialDelayString = "${tick.integrity.initial-delay:PT1M}", fixedDelayString = "${tick.integrity.interval:PT15M}")
+    public void scan() {
+        try {
+            log.trace("Scanning tick series");
+            List<TickSeriesKey> keys = tickStore.getKeys().stream()
+                    .sorted(Comparator.comparing((TickSeriesKey key) -> isAggregated(key)))
+                    .collect(toList());
+            Set<TickSeriesKey> repairedKeys = new HashSet<>();
+            keys.forEach(key -> scanSeries(key, repairedKeys));
+            integrity.keySet().retainAll(keys);
+            scanListeners.forEach(listener -> listener.accept(getIntegrity()));
+            log.info("Scanned tick series {series: {}, repaired: {}}", keys.size(), repairedKeys.size());
+        } catch (Exception ex) {
+            log.warn("Tick series scanning has been failed {exception: {}}", ex.getMessage());
+        }
+    }
+
+    private void scanSeries(TickSeriesKey key, Set<TickSeriesKey> repairedKeys) {
+        try {
+            Tick[] ticks = findStoredTicks(key);
+            if (isNull(ticks)) {
+                return;
+            }
+            TickSeriesIntegrity result = check(key, ticks);
+            if (repair(key, result, repairedKeys)) {
+                repairedKeys.add(key);
+                result = check(key, findStoredTicks(key));
+            }
+            integrity.put(key, result);
+            log.debug("Scanned tick series {key: {}, completeness: {}, gaps: {}, duplicates: {}}",
+                    key, result.getCompleteness(), result.getGaps().size(), result.getDuplicates());
+        } catch (Exception ex) {
+            log.warn("Tick series scanning has been failed {key: {}, exception: {}}", key, ex.getMessage());
+        }
+    }
+
+    // null if nothing is stored
+    private Tick[] findStoredTicks(TickSeriesKey key) {
+        TickRange range = tickStore.getRange(key);
+        return isNull(range) ? null : tickStore.find(key, range.getFrom(), range.getLastTickTime());
+    }
+
+    private boolean repair(TickSeriesKey key, TickSeriesIntegrity result, Set<TickSeriesKey> repairedKeys) {
+        if (isAggregated(key)) {
+            TickSeriesKey baseKey = buildBaseKey(key);
+            return (result.getDuplicates() > 0 || repairedKeys.contains(baseKey)) && rewrite(key, () -> rebuild(key, baseKey));
+        }
+        Tick[] ticks = fetchGaps(key, result.getGaps());
+        if (ticks.length == 0 && result.getDuplicates() == 0) {
+            return false;
+        }
+        // merged ticks can't be dropped by replace of the series which is in flight
+        int added = rewrite(key, () -> tickStore.merge(key, ticks));
+        log.info("Repaired tick series {key: {}, added: {}, duplicates: {}}", key, added, result.getDuplicates());
+        return true;
+    }
+
+    // caller which waited for rewrite of another caller rewrites the series again
+    private <T> T rewrite(TickSeriesKey key, Supplier<T> rewriter) {
+        AtomicBoolean rewritten = new AtomicBoolean();
+        AtomicReference<T> result = new AtomicReference<>();
+        do {
+            tickFetches.execute(new TickFetchKey(key, null, null, null), () -> {
+                rewritten.set(true);
+                result.set(rewriter.get());
+                return null;
+            });
+        } while (!rewritten.get());
+        return result.get();
+    }
+
+    private Tick[] fetchGaps(TickSeriesKey key, List<TickGap> gaps) {
+        Set<LocalDateTime> emptyGaps = tickStore.getEmptyGaps(key);
+        List<Tick> ticks = new ArrayList<>();
+        gaps.stream()
+                .filter(gap -> !emptyGaps.contains(gap.getFrom()))
+                .limit(properties.getMaxGapFetches())
+                .forEach(gap -> {
+                    List<Tick> gapTicks = fetchGap(key, gap);
+                    if (gapTicks.isEmpty()) {
+                        tickStore.addEmptyGap(key, gap.getFrom());
+                    }
+                    ticks.addAll(gapTicks);
+                });
+        return ticks.toArray(new Tick[0]);
+    }
+
+    // fetched ticks outside the gap are skipped, stored ones are kept
+    private List<Tick> fetchGap(TickSeriesKey key, TickGap gap) {
+        Tick[] ticks = dataSupplier.getTicksByTime(GetTickByTimeRequest.builder()
+                .stock(key.getStock())
+                .marketId(key.getMarketId())
+                .timeFrame(key.getTimeFrame())
+                .from(gap.getFrom())
+                .to(gap.getTo())
+                .build())
+                .getTicks();
+        log.debug("Fetched tick gap {key: {}, gap: {}, tickSize: {}}", key, gap, ticks.length);
+        List<Tick> gapTicks = new ArrayList<>();
+        for (Tick tick : ticks) {
+            if (!tick.getTickTime().isBefore(gap.getFrom()) && !tick.getTickTime().isAfter(gap.getTo())) {
+                gapTicks.add(tick);
+            }
+        }
+        return gapTicks;
+    }
+
+    private boolean rebuild(TickSeriesKey key, TickSeriesKey baseKey) {
+        TickRange range = tickStore.getRange(key);
+        if (isNull(range)) {
+            return false;
+        }
+        LocalDateTime to = range.getLastTickTime().plusSeconds(getDurationInSeconds(key.getTimeFrame()) - 1);
+        Tick[] baseTicks = tickStore.find(baseKey, range.getFrom(), to);
+        if (baseTicks.length == 0) {
+            return false;
+        }
+        tickStore.replace(key, range.getFrom(), aggregate(baseTicks, key.getTimeFrame()));
+        log.info("Rebuilt aggregated tick series {key: {}, baseKey: {}}", key, baseKey);
+        return true;
+    }
+
+    private boolean isAggregated(TickSeriesKey key) {
+        return tickAggregationProperties.isEnabled() && key.getTimeFrame() != tickAggregationProperties.getBaseTimeFrame();
+    }
+
+    private TickSeriesKey buildBaseKey(TickSeriesKey key) {
+        return new TickSeriesKey(key.getStock(), key.getMarketId(), tickAggregationProperties.getBaseTimeFrame());
+    }
+
+}
@@ -0,0 +1,33 @@
+package pro.crypto.service;
+
+import lombok.Value;
+import pro.crypto.store.TickSeriesKey;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Result of series check: bars are expected at every time frame step between the first and the last stored bar.
+ */
+@Value
+public class TickSeriesIntegrity {
+
+    private TickSeriesKey key;
+
+    private LocalDateTime from;
+
+    private LocalDateTime to;
+
+    private long expectedTicks;
+
+    private int storedTicks;
+
+    private int duplicates;
+
+    private List<TickGap> gaps;
+
+    public double getCompleteness() {
+        return expectedTicks == 0 ? 1 : Math.min(1, (double) (storedTicks - duplicates) / expectedTicks);
+    }
+
+}
@@ -0,0 +1,121 @@
+package pro.crypto.helper;
+
+import org.junit.Test;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static pro.crypto.helper.TimeFrameHelper.getDurationInSeconds;
+import static pro.crypto.model.tick.TimeFrame.FIVE_MIN;
+import static pro.crypto.model.tick.TimeFrame.FOUR_HOURS;
+import static pro.crypto.model.tick.TimeFrame.ONE_DAY;
+
+public class TickAggregationHelperTest {
+
+    // starts in the middle of every bar except five minutes one
+    private static final LocalDateTime START = LocalDateTime.of(2019, 12, 31, 21, 35);
+    private static final int SIZE = 3 * 288;
+
+    @Test
+    public void barAlignmentTest() {
+        Tick[] ticks = buildFiveMinTicks(START, SIZE);
+        for (TimeFrame timeFrame : TimeFrame.values()) {
+            long duration = getDurationInSeconds(timeFrame);
+            Tick[] bars = TickAggregationHelper.aggregate(ticks, timeFrame);
+            for (Tick bar : bars) {
+                assertEquals(timeFrame.name(), 0, bar.getTickTime().toEpochSecond(ZoneOffset.UTC) % duration);
+            }
+            long first = START.toEpochSecond(ZoneOffset.UTC) / duration;
+            long last = START.plusMinutes(5 * (SIZE - 1)).toEpochSecond(ZoneOffset.UTC) / duration;
+            assertEquals(timeFrame.name(), last - first + 1, bars.length);
+        }
+    }
+
+    @Test
+    public void barValuesTest() {
+        Tick[] ticks = buildFiveMinTicks(START, SIZE);
+        for (TimeFrame timeFrame : TimeFrame.values()) {
+            Tick[] bars = TickAggregationHelper.aggregate(ticks, timeFrame);
+            for (Tick bar : bars) {
+                Tick[] barTicks = Arrays.stream(ticks)
+                        .filter(tick -> TimeFrameHelper.alignTime(tick.getTickTime(), timeFrame).equals(bar.getTickTime()))
+                        .toArray(Tick[]::new);
+                assertEquals(barTicks[0].getOpen(), bar.getOpen());
+                assertEquals(barTicks[barTicks.length - 1].getClose(), bar.getClose());
+                assertEquals(Arrays.stream(barTicks).map(Tick::getHigh).reduce(BigDecimal::max).get(), bar.getHigh());
+                assertEquals(Arrays.stream(barTicks).map(Tick::getLow).reduce(BigDecimal::min).get(), bar.getLow());
+                assertEquals(Arrays.stream(barTicks).map(Tick::getVolume).reduce(BigDecimal::add).get(), bar.getVolume());
+                assertEquals(Arrays.stream(barTicks).map(Tick::getBaseVolume).reduce(BigDecimal::add).get(), bar.getBaseVolume());
+            }
+        }
+    }
+
+    @Test
+    public void fiveMinAggregationKeepsTicksTest() {
+        Tick[] ticks = buildFiveMinTicks(START, SIZE);
+        Tick[] bars = TickAggregationHelper.aggregate(ticks, FIVE_MIN);
+        assertEquals(ticks.length, bars.length);
+        for (int i = 0; i < ticks.length; i++) {
+            assertEquals(ticks[i], bars[i]);
+        }
+    }
+
+    @Test
+    public void fourHoursBarsStartAtUtcBoundaryTest() {
+        Tick[] bars = TickAggregationHelper.aggregate(buildFiveMinTicks(START, SIZE), FOUR_HOURS);
+        assertEquals(LocalDateTime.of(2019, 12, 31, 20, 0), bars[0].getTickTime());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), bars[1].getTickTime());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 4, 0), bars[2].getTickTime());
+    }
+
+    @Test
+    public void dayBarsStartAtMidnightTest() {
+        Tick[] bars = TickAggregationHelper.aggregate(buildFiveMinTicks(START, SIZE), ONE_DAY);
+        assertEquals(LocalDateTime.of(2019, 12, 31, 0, 0), bars[0].getTickTime());
+        assertEquals(LocalDateTime.of(2020, 1, 1, 0, 0), bars[1].getTickTime());
+        assertEquals(LocalDateTime.of(2020, 1, 2, 0, 0), bars[2].getTickTime());
+    }
+
+    @Test
+    public void missingVolumeTest() {
+        Tick[] ticks = buildFiveMinTicks(LocalDateTime.of(2020, 1, 1, 0, 0), 3);
+        ticks[0].setVolume(null);
+        ticks[1].setBaseVolume(null);
+        ticks[2].setBaseVolume(null);
+        Tick[] bars = TickAggregationHelper.aggregate(ticks, TimeFrame.FIFTEEN_MIN);
+        assertEquals(1, bars.length);
+        assertEquals(ticks[1].getVolume().add(ticks[2].getVolume()), bars[0].getVolume());
+        assertEquals(ticks[0].getBaseVolume(), bars[0].getBaseVolume());
+        ticks[0].setBaseVolume(null);
+        assertNull(TickAggregationHelper.aggregate(ticks, TimeFrame.FIFTEEN_MIN)[0].getBaseVolume());
+    }
+
+    @Test
+    public void emptyTicksTest() {
+        assertEquals(0, TickAggregationHelper.aggregate(new Tick[0], ONE_DAY).length);
+    }
+
+    private Tick[] buildFiveMinTicks(LocalDateTime start, int size) {
+        Tick[] ticks = new Tick[size];
+        for (int i = 0; i < size; i++) {
+            BigDecimal open = BigDecimal.valueOf(100 + i % 17);
+            ticks[i] = Tick.builder()
+                    .open(open)
+                    .high(open.add(BigDecimal.valueOf(i % 7)))
+                    .low(open.subtract(BigDecimal.valueOf(i % 5)))
+                    .close(open.add(BigDecimal.valueOf(i % 3 - 1)))
+                    .volume(BigDecimal.valueOf(i))
+                    .baseVolume(BigDecimal.valueOf(2 * i))
+                    .tickTime(start.plusMinutes(5 * i))
+                    .build();
+        }
+        return ticks;
+    }
+
+}
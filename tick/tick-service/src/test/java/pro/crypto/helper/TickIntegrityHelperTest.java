@@ -0,0 +1,83 @@
+package pro.crypto.helper;
+
+import org.junit.Test;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.service.TickGap;
+import pro.crypto.service.TickSeriesIntegrity;
+import pro.crypto.store.TickSeriesKey;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.model.market.Stock.BITTREX;
+import static pro.crypto.model.tick.TimeFrame.FIVE_MIN;
+
+public class TickIntegrityHelperTest {
+
+    private static final TickSeriesKey KEY = new TickSeriesKey(BITTREX, 1L, FIVE_MIN);
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    @Test
+    public void completeSeriesTest() {
+        TickSeriesIntegrity result = TickIntegrityHelper.check(KEY, buildTicks(0, 1, 2, 3, 4));
+        assertEquals(START, result.getFrom());
+        assertEquals(time(4), result.getTo());
+        assertEquals(5, result.getExpectedTicks());
+        assertEquals(5, result.getStoredTicks());
+        assertEquals(0, result.getDuplicates());
+        assertTrue(result.getGaps().isEmpty());
+        assertEquals(1, result.getCompleteness(), 0);
+    }
+
+    @Test
+    public void gapsTest() {
+        TickSeriesIntegrity result = TickIntegrityHelper.check(KEY, buildTicks(0, 1, 4, 5, 7));
+        assertEquals(Arrays.asList(new TickGap(time(2), time(3)), new TickGap(time(6), time(6))), result.getGaps());
+        assertEquals(8, result.getExpectedTicks());
+        assertEquals(5, result.getStoredTicks());
+        assertEquals(5.0 / 8, result.getCompleteness(), 0);
+    }
+
+    // duplicated and unordered bars are not counted as stored ones and don't open gaps
+    @Test
+    public void duplicatesTest() {
+        TickSeriesIntegrity result = TickIntegrityHelper.check(KEY, buildTicks(0, 1, 1, 2, 0, 3));
+        assertEquals(2, result.getDuplicates());
+        assertEquals(time(3), result.getTo());
+        assertEquals(4, result.getExpectedTicks());
+        assertEquals(6, result.getStoredTicks());
+        assertTrue(result.getGaps().isEmpty());
+        assertEquals(1, result.getCompleteness(), 0);
+    }
+
+    @Test
+    public void emptySeriesTest() {
+        TickSeriesIntegrity result = TickIntegrityHelper.check(KEY, new Tick[0]);
+        assertNull(result.getFrom());
+        assertNull(result.getTo());
+        assertEquals(Collections.emptyList(), result.getGaps());
+        assertEquals(1, result.getCompleteness(), 0);
+    }
+
+    private Tick[] buildTicks(int... bars) {
+        return Arrays.stream(bars)
+                .mapToObj(bar -> Tick.builder()
+                        .open(BigDecimal.ONE)
+                        .high(BigDecimal.ONE)
+                        .low(BigDecimal.ONE)
+                        .close(BigDecimal.ONE)
+                        .tickTime(time(bar))
+                        .build())
+                .toArray(Tick[]::new);
+    }
+
+    private LocalDateTime time(int bar) {
+        return START.plusMinutes(5 * bar);
+    }
+
+}
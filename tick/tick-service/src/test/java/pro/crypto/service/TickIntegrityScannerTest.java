@@ -0,0 +1,238 @@
+package pro.crypto.service;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import pro.crypto.TickAggregationProperties;
+import pro.crypto.TickIntegrityProperties;
+import pro.crypto.helper.SingleFlight;
+import pro.crypto.model.market.MarketData;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TickData;
+import pro.crypto.request.GetTickByTimeRequest;
+import pro.crypto.request.GetTicksByPeriodRequest;
+import pro.crypto.store.TickSeriesKey;
+import pro.crypto.store.TickStore;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static pro.crypto.helper.TickAggregationHelper.aggregate;
+import static pro.crypto.model.market.Stock.BITTREX;
+import static pro.crypto.model.tick.TimeFrame.FIFTEEN_MIN;
+import static pro.crypto.model.tick.TimeFrame.FIVE_MIN;
+
+public class TickIntegrityScannerTest {
+
+    private static final TickSeriesKey BASE_KEY = new TickSeriesKey(BITTREX, 1L, FIVE_MIN);
+    private static final TickSeriesKey AGGREGATED_KEY = new TickSeriesKey(BITTREX, 1L, FIFTEEN_MIN);
+    private static final LocalDateTime START = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final int SIZE = 12;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private TickStore tickStore;
+    private StubDataSupplier dataSupplier;
+    private SingleFlight<TickFetchKey, TickData> tickFetches;
+    private TickIntegrityScanner scanner;
+
+    @Before
+    public void init() throws IOException {
+        tickStore = new TickStore(folder.newFolder("ticks").toPath(), 4);
+        dataSupplier = new StubDataSupplier(buildTicks(IntStream.range(0, SIZE).toArray()));
+        tickFetches = new SingleFlight<>();
+        TickAggregationProperties aggregationProperties = new TickAggregationProperties();
+        aggregationProperties.setEnabled(true);
+        aggregationProperties.setBaseTimeFrame(FIVE_MIN);
+        scanner = new TickIntegrityScanner(tickStore, dataSupplier, tickFetches, aggregationProperties, new TickIntegrityProperties());
+    }
+
+    @After
+    public void close() {
+        tickStore.close();
+    }
+
+    @Test
+    public void gapsFetchedAndMergedTest() {
+        tickStore.append(BASE_KEY, buildTicks(0, 1, 2, 5, 6, 7, 9, 10, 11));
+        scanner.scan();
+        assertArrayEquals(dataSupplier.ticks, tickStore.find(BASE_KEY, START, time(SIZE - 1)));
+        assertEquals(2, dataSupplier.requests.size());
+        assertEquals(time(3), dataSupplier.requests.get(0).getFrom());
+        assertEquals(time(4), dataSupplier.requests.get(0).getTo());
+        TickSeriesIntegrity result = scanner.getIntegrity().iterator().next();
+        assertTrue(result.getGaps().isEmpty());
+        assertEquals(1, result.getCompleteness(), 0);
+    }
+
+    // supplier returns ticks around the gap, stored ticks aren't overwritten by them
+    @Test
+    public void ticksOutsideGapSkippedTest() {
+        Tick[] stored = buildTicks(0, 1, 3);
+        stored[1].setClose(BigDecimal.TEN);
+        tickStore.append(BASE_KEY, stored);
+        scanner.scan();
+        Tick[] ticks = tickStore.find(BASE_KEY, START, time(3));
+        assertEquals(4, ticks.length);
+        assertEquals(BigDecimal.TEN, ticks[1].getClose());
+        assertEquals(dataSupplier.ticks[2], ticks[2]);
+    }
+
+    // there were no trades on the market during the gap
+    @Test
+    public void emptyGapNotFetchedAgainTest() {
+        dataSupplier.ticks = buildTicks(0, 1, 2, 5, 6);
+        tickStore.append(BASE_KEY, buildTicks(0, 1, 2, 5, 6));
+        scanner.scan();
+        assertEquals(1, dataSupplier.requests.size());
+        assertEquals(1, scanner.getIntegrity().iterator().next().getGaps().size());
+        scanner.scan();
+        assertEquals(1, dataSupplier.requests.size());
+        assertTrue(tickStore.getEmptyGaps(BASE_KEY).contains(time(3)));
+    }
+
+    @Test
+    public void aggregatedSeriesRebuiltAfterBaseRepairTest() {
+        Tick[] baseTicks = buildTicks(0, 1, 2, 3, 5, 6, 7, 8, 9, 10, 11);
+        tickStore.append(BASE_KEY, baseTicks);
+        tickStore.append(AGGREGATED_KEY, aggregate(baseTicks, FIFTEEN_MIN));
+        scanner.scan();
+        assertArrayEquals(aggregate(dataSupplier.ticks, FIFTEEN_MIN), tickStore.find(AGGREGATED_KEY, START, time(SIZE - 1)));
+        assertEquals(2, scanner.getIntegrity().size());
+    }
+
+    @Test
+    public void completeSeriesNotRewrittenTest() {
+        tickStore.append(BASE_KEY, dataSupplier.ticks);
+        tickStore.append(AGGREGATED_KEY, aggregate(dataSupplier.ticks, FIFTEEN_MIN));
+        scanner.scan();
+        assertTrue(dataSupplier.requests.isEmpty());
+        assertEquals(0, tickFetches.getCalls());
+    }
+
+    // merge waits for replace of the series in flight and runs in its own flight after it
+    @Test
+    public void mergeWaitsForSeriesRewriteTest() throws Exception {
+        tickStore.append(BASE_KEY, buildTicks(0, 1, 2, 5, 6, 7, 8, 9, 10, 11));
+        CountDownLatch rewriteStarted = new CountDownLatch(1);
+        CountDownLatch rewriteReleased = new CountDownLatch(1);
+        CompletableFuture<TickData> rewrite = CompletableFuture.supplyAsync(() ->
+                tickFetches.execute(new TickFetchKey(BASE_KEY, null, null, null), () -> {
+                    rewriteStarted.countDown();
+                    await(rewriteReleased);
+                    tickStore.replace(BASE_KEY, START, buildTicks(0, 1, 2, 5, 6, 7, 8, 9, 10, 11));
+                    return null;
+                }));
+        assertTrue(rewriteStarted.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> scan = CompletableFuture.runAsync(scanner::scan);
+        while (dataSupplier.requests.isEmpty() || tickFetches.getWaiters() == 0) {
+            Thread.sleep(10);
+        }
+        assertFalse(scan.isDone());
+        rewriteReleased.countDown();
+        rewrite.get(5, TimeUnit.SECONDS);
+        scan.get(5, TimeUnit.SECONDS);
+        assertArrayEquals(dataSupplier.ticks, tickStore.find(BASE_KEY, START, time(SIZE - 1)));
+        assertEquals(2, tickFetches.getExecutions());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Tick[] buildTicks(int... bars) {
+        return Arrays.stream(bars)
+                .mapToObj(bar -> Tick.builder()
+                        .open(BigDecimal.valueOf(100 + bar))
+                        .high(BigDecimal.valueOf(105 + bar))
+                        .low(BigDecimal.valueOf(95 + bar))
+                        .close(BigDecimal.valueOf(101 + bar))
+                        .volume(BigDecimal.valueOf(bar))
+                        .baseVolume(BigDecimal.valueOf(2 * bar))
+                        .tickTime(time(bar))
+                        .build())
+                .toArray(Tick[]::new);
+    }
+
+    private static LocalDateTime time(int bar) {
+        return START.plusMinutes(5 * bar);
+    }
+
+    // returns ticks of the requested range and the bars next to it
+    private static class StubDataSupplier implements DataSupplier {
+
+        private final List<GetTickByTimeRequest> requests = new CopyOnWriteArrayList<>();
+        private volatile Tick[] ticks;
+
+        private StubDataSupplier(Tick[] ticks) {
+            this.ticks = ticks;
+        }
+
+        @Override
+        public TickData getTicksByTime(GetTickByTimeRequest request) {
+            requests.add(request);
+            Tick[] rangeTicks = Arrays.stream(ticks)
+                    .filter(tick -> !tick.getTickTime().isBefore(request.getFrom().minusMinutes(5))
+                            && !tick.getTickTime().isAfter(request.getTo().plusMinutes(5)))
+                    .toArray(Tick[]::new);
+            return TickData.builder()
+                    .stockExchangeName(request.getStock())
+                    .timeFrame(request.getTimeFrame())
+                    .ticks(rangeTicks)
+                    .build();
+        }
+
+        @Override
+        public MarketData getAllStockMarkets(Stock stock) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MarketData getStockMarketByName(Stock stock, String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public MarketData getAllMonitoredMarket(Stock stock) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TickData getTicksByPeriod(GetTicksByPeriodRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<TickData> getTicksByPeriodAsync(GetTicksByPeriodRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletionStage<TickData> getTicksByTimeAsync(GetTickByTimeRequest request) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -1,15 +1,48 @@
 package pro.crypto.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import pro.crypto.TickAggregationProperties;
+import pro.crypto.TickIntegrityProperties;
+import pro.crypto.TickStreamProperties;
+import pro.crypto.converter.TickDataSnapshotHttpMessageConverter;
+import pro.crypto.helper.SingleFlight;
 import pro.crypto.mapper.TickDataMapper;
+import pro.crypto.model.tick.TickData;
+import pro.crypto.service.DataSupplier;
 import pro.crypto.service.RepositoryTickService;
+import pro.crypto.service.TickFetchKey;
+import pro.crypto.service.TickIntegrityScanner;
+import pro.crypto.service.TickSeriesIntegrity;
 import pro.crypto.service.TickService;
+import pro.crypto.store.TickStore;
 import pro.crypto.web.TickController;
 
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.ToDoubleFunction;
+
+import static java.util.stream.Collectors.toList;
+
 @Configuration
+@EnableConfigurationProperties({TickAggregationProperties.class, TickStreamProperties.class, TickIntegrityProperties.class})
 public class TickConfiguration {
 
     @Configuration
@@ -18,10 +51,116 @@ public class TickConfiguration {
     public static class TickServiceConfiguration {
     }
 
+    @Configuration
+    public static class TickStoreConfiguration {
+
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean(TickStore.class)
+        public TickStore tickStore(@Value("${tick.store.directory:${java.io.tmpdir}/crypto-analyzer/ticks}") String directory,
+                                   @Value("${tick.store.segment-capacity:16384}") int segmentCapacity,
+                                   @Value("${tick.store.recent-ticks-capacity:1024}") int recentTicksCapacity) {
+            return new TickStore(Paths.get(directory), segmentCapacity, recentTicksCapacity);
+        }
+
+    }
+
+    @Configuration
+    public static class TickFetchConfiguration {
+
+        // waiter of fetch in flight fails after the timeout, it should cover all attempts of the fetch
+        @Bean
+        @ConditionalOnMissingBean(name = "tickFetches")
+        public SingleFlight<TickFetchKey, TickData> tickFetches(@Value("${tick.fetch.wait-timeout:PT5M}") Duration waitTimeout) {
+            return new SingleFlight<>(waitTimeout);
+        }
+
+    }
+
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(name = "tick.integrity.enabled", havingValue = "true")
+    public static class TickIntegrityConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(TickIntegrityScanner.class)
+        public TickIntegrityScanner tickIntegrityScanner(TickStore tickStore, DataSupplier dataSupplier,
+                                                         SingleFlight<TickFetchKey, TickData> tickFetches,
+                                                         TickAggregationProperties tickAggregationProperties,
+                                                         TickIntegrityProperties tickIntegrityProperties) {
+            return new TickIntegrityScanner(tickStore, dataSupplier, tickFetches, tickAggregationProperties, tickIntegrityProperties);
+        }
+
+    }
+
+    @Configuration
+    @ConditionalOnClass(MeterRegistry.class)
+    public static class TickMetricsConfiguration {
+
+        @Bean
+        public MeterBinder tickFetchMetrics(SingleFlight<TickFetchKey, TickData> tickFetches) {
+            return registry -> {
+                FunctionCounter.builder("tick.fetch.calls", tickFetches, SingleFlight::getCalls)
+                        .description("Tick fetch requests")
+                        .register(registry);
+                FunctionCounter.builder("tick.fetch.executions", tickFetches, SingleFlight::getExecutions)
+                        .description("Tick fetches executed by data supplier")
+                        .register(registry);
+                Gauge.builder("tick.fetch.coalescing.ratio", tickFetches, SingleFlight::getCoalescingRatio)
+                        .description("Part of tick fetch requests which got result of concurrent identical fetch")
+                        .register(registry);
+                Gauge.builder("tick.fetch.waiters", tickFetches, SingleFlight::getWaiters)
+                        .description("Requests waiting for tick fetch in flight")
+                        .register(registry);
+                Gauge.builder("tick.fetch.in.flight", tickFetches, SingleFlight::getInFlight)
+                        .description("Tick fetches in flight")
+                        .register(registry);
+            };
+        }
+
+        // gauges of every scanned series are replaced after each scan
+        @Bean
+        public MeterBinder tickIntegrityMetrics(ObjectProvider<TickIntegrityScanner> tickIntegrityScanner) {
+            return registry -> tickIntegrityScanner.ifAvailable(scanner -> {
+                MultiGauge completeness = MultiGauge.builder("tick.series.completeness")
+                        .description("Part of expected bars of stored series which are stored")
+                        .register(registry);
+                MultiGauge gaps = MultiGauge.builder("tick.series.gaps")
+                        .description("Missing ranges of stored series")
+                        .register(registry);
+                MultiGauge duplicates = MultiGauge.builder("tick.series.duplicates")
+                        .description("Duplicated bars of stored series")
+                        .register(registry);
+                scanner.addScanListener(results -> {
+                    completeness.register(buildRows(results, TickSeriesIntegrity::getCompleteness), true);
+                    gaps.register(buildRows(results, result -> result.getGaps().size()), true);
+                    duplicates.register(buildRows(results, TickSeriesIntegrity::getDuplicates), true);
+                });
+            });
+        }
+
+        private static Iterable<MultiGauge.Row<?>> buildRows(Collection<TickSeriesIntegrity> results,
+                                                             ToDoubleFunction<TickSeriesIntegrity> value) {
+            return results.stream()
+                    .map(result -> MultiGauge.Row.of(Tags.of(
+                            "stock", result.getKey().getStock().name(),
+                            "market", String.valueOf(result.getKey().getMarketId()),
+                            "timeFrame", result.getKey().getTimeFrame().name()), value.applyAsDouble(result)))
+                    .collect(toList());
+        }
+
+    }
+
     @ConditionalOnWebApplication
     @Import({TickController.class})
     @Configuration
     public static class TickWebConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(TickDataSnapshotHttpMessageConverter.class)
+        public TickDataSnapshotHttpMessageConverter tickDataSnapshotHttpMessageConverter(ObjectMapper objectMapper) {
+            return new TickDataSnapshotHttpMessageConverter(objectMapper);
+        }
+
     }
 
 }
@@ -1,12 +1,18 @@
 package pro.crypto.web;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import pro.crypto.codec.TickStreamCodec;
 import pro.crypto.request.TickPeriodFindRequest;
 import pro.crypto.request.TickTimeFindRequest;
 import pro.crypto.response.TickDataSnapshot;
@@ -14,28 +20,58 @@ import pro.crypto.service.TickService;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
+import java.util.List;
 
+import static org.springframework.http.HttpHeaders.ACCEPT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_UTF8_VALUE;
+import static pro.crypto.codec.TickCodec.MEDIA_TYPE_VALUE;
+import static pro.crypto.codec.TickStreamCodec.NDJSON_MEDIA_TYPE_VALUE;
 
 @RestController
 @RequestMapping("/ticks")
 @AllArgsConstructor
 public class TickController {
 
+    private static final MediaType TICKS_MEDIA_TYPE = MediaType.valueOf(MEDIA_TYPE_VALUE);
+
     private final TickService tickService;
+    private final ObjectMapper objectMapper;
 
-    @GetMapping(value = "/time", produces = APPLICATION_JSON_UTF8_VALUE)
+    @GetMapping(value = "/time", produces = {APPLICATION_JSON_UTF8_VALUE, MEDIA_TYPE_VALUE})
     @ResponseStatus(HttpStatus.OK)
     @ResponseBody
     public TickDataSnapshot findTickByTime(@Valid @NotNull TickTimeFindRequest request) {
         return tickService.getTicksByTime(request);
     }
 
-    @GetMapping(value = "/period", produces = APPLICATION_JSON_UTF8_VALUE)
+    @GetMapping(value = "/period", produces = {APPLICATION_JSON_UTF8_VALUE, MEDIA_TYPE_VALUE})
     @ResponseStatus(HttpStatus.OK)
     @ResponseBody
     public TickDataSnapshot findTickByPeriod(@Valid @NotNull TickPeriodFindRequest request) {
         return tickService.getTicksByPeriod(request);
     }
 
+    // ticks are written page by page with chunked transfer, binary frames are used only if client prefers them
+    @GetMapping(value = "/time/stream", produces = {NDJSON_MEDIA_TYPE_VALUE, MEDIA_TYPE_VALUE})
+    public ResponseEntity<StreamingResponseBody> streamTickByTime(@Valid @NotNull TickTimeFindRequest request,
+                                                                  @RequestHeader(value = ACCEPT, required = false) String accept) {
+        String mediaType = resolveStreamMediaType(accept);
+        StreamingResponseBody body = outputStream ->
+                TickStreamCodec.write(tickService.streamTicksByTime(request), outputStream, mediaType, objectMapper);
+        return ResponseEntity.ok()
+                .contentType(MediaType.valueOf(mediaType))
+                .body(body);
+    }
+
+    private String resolveStreamMediaType(String accept) {
+        List<MediaType> mediaTypes = MediaType.parseMediaTypes(accept);
+        MediaType.sortByQualityValue(mediaTypes);
+        return mediaTypes.stream()
+                .filter(mediaType -> !mediaType.isWildcardSubtype())
+                .findFirst()
+                .filter(TICKS_MEDIA_TYPE::includes)
+                .map(mediaType -> MEDIA_TYPE_VALUE)
+                .orElse(NDJSON_MEDIA_TYPE_VALUE);
+    }
+
 }
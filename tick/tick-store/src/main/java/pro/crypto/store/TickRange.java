@@ -0,0 +1,19 @@
+package pro.crypto.store;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Time range covered by stored series: ticks were requested from {@code from},
+ * so there are no ticks between {@code from} and the first stored tick.
+ * Last stored tick can be not closed yet, it's overwritten by the next append.
+ */
+@Value
+public class TickRange {
+
+    private LocalDateTime from;
+
+    private LocalDateTime lastTickTime;
+
+}
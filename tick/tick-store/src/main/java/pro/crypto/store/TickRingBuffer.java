@@ -0,0 +1,105 @@
+package pro.crypto.store;
+
+import pro.crypto.model.tick.Tick;
+
+import java.util.List;
+
+import static pro.crypto.store.TickSegment.toEpochSecond;
+
+/**
+ * Bounded ring of the most recent ticks of a series, the oldest tick is dropped when the ring is full.
+ * Last tick can be not closed yet, so merged tick with the same time replaces it.
+ */
+class TickRingBuffer {
+
+    private final Tick[] ticks;
+    private final long[] times;
+    private int start;
+    private int size;
+
+    TickRingBuffer(int capacity) {
+        this.ticks = new Tick[capacity];
+        this.times = new long[capacity];
+    }
+
+    int getCapacity() {
+        return ticks.length;
+    }
+
+    int getSize() {
+        return size;
+    }
+
+    long getFirstTime() {
+        return times[start];
+    }
+
+    long getLastTime() {
+        return times[index(size - 1)];
+    }
+
+    // ticks before the last tick are skipped, the same rule as in series
+    void merge(Tick[] newTicks) {
+        for (Tick tick : newTicks) {
+            long time = toEpochSecond(tick.getTickTime());
+            if (size > 0 && time < getLastTime()) {
+                continue;
+            }
+            if (size > 0 && time == getLastTime()) {
+                ticks[index(size - 1)] = copy(tick);
+                continue;
+            }
+            add(copy(tick), time);
+        }
+    }
+
+    void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    void find(long from, long to, List<Tick> result) {
+        for (int position = findPosition(from); position < size && times[index(position)] <= to; position++) {
+            result.add(copy(ticks[index(position)]));
+        }
+    }
+
+    private void add(Tick tick, long time) {
+        if (size == ticks.length) {
+            ticks[start] = tick;
+            times[start] = time;
+            start = index(1);
+            return;
+        }
+        int idx = index(size);
+        ticks[idx] = tick;
+        times[idx] = time;
+        size++;
+    }
+
+    // first position with time not less than given
+    private int findPosition(long time) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (times[index(middle)] < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    // ticks are mutable, so stored ticks are not shared with callers
+    private static Tick copy(Tick tick) {
+        return new Tick(tick.getOpen(), tick.getHigh(), tick.getLow(), tick.getClose(),
+                tick.getVolume(), tick.getBaseVolume(), tick.getTickTime());
+    }
+
+    private int index(int position) {
+        return (start + position) % ticks.length;
+    }
+
+}
@@ -0,0 +1,220 @@
+package pro.crypto.store;
+
+import pro.crypto.exception.UnexpectedValueException;
+import pro.crypto.model.tick.Tick;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.isNull;
+
+/**
+ * Memory-mapped file with fixed number of ticks stored by columns.
+ * Layout: header (magic, version, capacity, count, from), tick times as epoch seconds,
+ * 128-bit unscaled values (high and low longs) of every price column and scales of every price column.
+ * Count is written after the columns, so partially written tick is never read, even when the last tick is overwritten.
+ */
+class TickSegment {
+
+    private static final int MAGIC = 0x5449434B;
+    private static final int VERSION = 1;
+    private static final int COUNT_POSITION = 12;
+    private static final int FROM_POSITION = 16;
+    private static final int HEADER_SIZE = 24;
+    private static final int PRICE_COLUMNS = 6;
+    private static final byte NULL_SCALE = Byte.MIN_VALUE;
+    private static final int MAX_SCALE = Byte.MAX_VALUE;
+    private static final int MIN_SCALE = Byte.MIN_VALUE + 1;
+    private static final int UNSCALED_BYTES = Long.BYTES * 2;
+    private static final int UNSCALED_BITS = Long.SIZE * 2;
+    private static final BigInteger LOW_MASK = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
+
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private int count;
+
+    private TickSegment(MappedByteBuffer buffer, int capacity, int count) {
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.count = count;
+    }
+
+    static TickSegment create(Path path, int capacity) {
+        MappedByteBuffer buffer = map(path, calculateFileSize(capacity), true);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, capacity);
+        buffer.putInt(COUNT_POSITION, 0);
+        buffer.putLong(FROM_POSITION, Long.MIN_VALUE);
+        return new TickSegment(buffer, capacity, 0);
+    }
+
+    static TickSegment open(Path path) {
+        MappedByteBuffer header = map(path, HEADER_SIZE, false);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new UnexpectedValueException(format("Unknown tick segment format {path: {%s}}", path));
+        }
+        int capacity = header.getInt(8);
+        MappedByteBuffer buffer = map(path, calculateFileSize(capacity), false);
+        return new TickSegment(buffer, capacity, buffer.getInt(COUNT_POSITION));
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    boolean isFull() {
+        return count == capacity;
+    }
+
+    long getTime(int row) {
+        return buffer.getLong(HEADER_SIZE + row * Long.BYTES);
+    }
+
+    long getFrom() {
+        return buffer.getLong(FROM_POSITION);
+    }
+
+    void setFrom(long from) {
+        buffer.putLong(FROM_POSITION, from);
+    }
+
+    // first row with time not less than given, count if there is no such row
+    int findRow(long time) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (getTime(middle) < time) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    Tick read(int row) {
+        return Tick.builder()
+                .open(readDecimal(0, row))
+                .high(readDecimal(1, row))
+                .low(readDecimal(2, row))
+                .close(readDecimal(3, row))
+                .volume(readDecimal(4, row))
+                .baseVolume(readDecimal(5, row))
+                .tickTime(toTickTime(getTime(row)))
+                .build();
+    }
+
+    // appends tick or overwrites the last one, overwritten tick is excluded from count until it's written
+    void write(int row, Tick tick) {
+        if (row == count - 1) {
+            buffer.putInt(COUNT_POSITION, row);
+        }
+        buffer.putLong(HEADER_SIZE + row * Long.BYTES, toEpochSecond(tick.getTickTime()));
+        writeDecimal(0, row, tick.getOpen());
+        writeDecimal(1, row, tick.getHigh());
+        writeDecimal(2, row, tick.getLow());
+        writeDecimal(3, row, tick.getClose());
+        writeDecimal(4, row, tick.getVolume());
+        writeDecimal(5, row, tick.getBaseVolume());
+        count = Math.max(count, row + 1);
+        buffer.putInt(COUNT_POSITION, count);
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    static long toEpochSecond(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static LocalDateTime toTickTime(long epochSecond) {
+        return LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
+    private BigDecimal readDecimal(int column, int row) {
+        byte scale = buffer.get(calculateScalePosition(column, row));
+        if (scale == NULL_SCALE) {
+            return null;
+        }
+        int position = calculateUnscaledPosition(column, row);
+        long high = buffer.getLong(position);
+        long low = buffer.getLong(position + Long.BYTES);
+        if (high == low >> (Long.SIZE - 1)) {
+            return BigDecimal.valueOf(low, scale);
+        }
+        return new BigDecimal(BigInteger.valueOf(high).shiftLeft(Long.SIZE).or(BigInteger.valueOf(low).and(LOW_MASK)), scale);
+    }
+
+    private void writeDecimal(int column, int row, BigDecimal value) {
+        int position = calculateUnscaledPosition(column, row);
+        if (isNull(value)) {
+            buffer.putLong(position, 0);
+            buffer.putLong(position + Long.BYTES, 0);
+            buffer.put(calculateScalePosition(column, row), NULL_SCALE);
+            return;
+        }
+        BigDecimal storedValue = fitToUnscaledBits(value);
+        BigInteger unscaledValue = storedValue.unscaledValue();
+        buffer.putLong(position, unscaledValue.shiftRight(Long.SIZE).longValue());
+        buffer.putLong(position + Long.BYTES, unscaledValue.longValue());
+        buffer.put(calculateScalePosition(column, row), (byte) storedValue.scale());
+    }
+
+    // values are stored exactly, precision is reduced only if unscaled value doesn't fit 128 bits
+    private BigDecimal fitToUnscaledBits(BigDecimal value) {
+        if (isStorable(value)) {
+            return value;
+        }
+        BigDecimal result = value.stripTrailingZeros();
+        while (!isStorable(result)) {
+            if (result.scale() <= MIN_SCALE) {
+                throw new UnexpectedValueException(format("Value can't be stored in tick segment {value: {%s}}", value));
+            }
+            result = result.setScale(Math.min(result.scale() - 1, MAX_SCALE), RoundingMode.HALF_UP);
+        }
+        return result;
+    }
+
+    private boolean isStorable(BigDecimal value) {
+        return value.scale() <= MAX_SCALE && value.scale() >= MIN_SCALE && value.unscaledValue().bitLength() < UNSCALED_BITS;
+    }
+
+    private int calculateUnscaledPosition(int column, int row) {
+        return HEADER_SIZE + capacity * Long.BYTES + capacity * UNSCALED_BYTES * column + row * UNSCALED_BYTES;
+    }
+
+    private int calculateScalePosition(int column, int row) {
+        return HEADER_SIZE + capacity * (Long.BYTES + UNSCALED_BYTES * PRICE_COLUMNS) + capacity * column + row;
+    }
+
+    private static long calculateFileSize(int capacity) {
+        return HEADER_SIZE + (long) capacity * (Long.BYTES + (UNSCALED_BYTES + 1) * PRICE_COLUMNS);
+    }
+
+    private static MappedByteBuffer map(Path path, long size, boolean create) {
+        try (FileChannel channel = create
+                ? FileChannel.open(path, CREATE_NEW, READ, WRITE)
+                : FileChannel.open(path, READ, WRITE)) {
+            return channel.map(READ_WRITE, 0, size);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(format("Can't map tick segment {path: {%s}}", path), ex);
+        }
+    }
+
+}
@@ -0,0 +1,350 @@
+package pro.crypto.store;
+
+import pro.crypto.model.tick.Tick;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static pro.crypto.store.TickSegment.toEpochSecond;
+import static pro.crypto.store.TickSegment.toTickTime;
+
+/**
+ * Append-only ticks of one market and time frame, split into segments of equal capacity.
+ * Segments are ordered by time, so first and last times of segments are the time index.
+ * The most recent ticks are also kept in memory, so steady-state requests don't read segments.
+ * Start times of gaps which are known to have no ticks are kept next to the segments.
+ */
+class TickSeries {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".dat";
+    private static final String REPLACEMENT_SUFFIX = ".new";
+    private static final String PREVIOUS_SUFFIX = ".old";
+    private static final String EMPTY_GAPS_FILE = "empty-gaps.dat";
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final List<TickSegment> segments;
+    private final TickRingBuffer recentTicks;
+    private final Set<Long> emptyGaps;
+
+    TickSeries(Path directory, int segmentCapacity, int recentTicksCapacity) {
+        this.directory = directory;
+        this.segmentCapacity = segmentCapacity;
+        recoverReplacement(directory);
+        this.segments = openSegments(directory);
+        this.recentTicks = recentTicksCapacity > 0 ? new TickRingBuffer(recentTicksCapacity) : null;
+        loadRecentTicks(recentTicksCapacity);
+        this.emptyGaps = readEmptyGaps(directory);
+    }
+
+    synchronized TickRange getRange() {
+        if (isEmpty()) {
+            return null;
+        }
+        return new TickRange(toTickTime(segments.get(0).getFrom()), toTickTime(getLastTime()));
+    }
+
+    synchronized Tick[] find(LocalDateTime from, LocalDateTime to) {
+        long fromTime = toEpochSecond(from);
+        long toTime = toEpochSecond(to);
+        List<Tick> result = new ArrayList<>();
+        if (hasRecentTicks() && fromTime >= recentTicks.getFirstTime()) {
+            recentTicks.find(fromTime, toTime, result);
+            return result.toArray(new Tick[0]);
+        }
+        if (hasRecentTicks()) {
+            findStored(fromTime, Math.min(toTime, recentTicks.getFirstTime() - 1), result);
+            recentTicks.find(fromTime, toTime, result);
+        } else {
+            findStored(fromTime, toTime, result);
+        }
+        return result.toArray(new Tick[0]);
+    }
+
+    // ticks before the last stored tick are skipped, the last stored tick is overwritten
+    synchronized int append(Tick[] ticks) {
+        if (segments.isEmpty() && ticks.length > 0) {
+            createSegment(0).setFrom(toEpochSecond(ticks[0].getTickTime()));
+        }
+        long lastTime = isEmpty() ? Long.MIN_VALUE : getLastTime();
+        int appended = 0;
+        for (Tick tick : ticks) {
+            long time = toEpochSecond(tick.getTickTime());
+            if (time < lastTime) {
+                continue;
+            }
+            TickSegment segment = segments.get(segments.size() - 1);
+            if (time == lastTime) {
+                segment.write(segment.getCount() - 1, tick);
+                continue;
+            }
+            if (segment.isFull()) {
+                segment.force();
+                segment = createSegment(segments.size());
+            }
+            segment.write(segment.getCount(), tick);
+            lastTime = time;
+            appended++;
+        }
+        if (nonNull(recentTicks)) {
+            recentTicks.merge(ticks);
+        }
+        return appended;
+    }
+
+    synchronized void replace(LocalDateTime from, Tick[] ticks) {
+        rewrite(0, toEpochSecond(from), ticks);
+    }
+
+    // stored ticks are rewritten together with given ones from the segment of the earliest given tick,
+    // ticks of the same time are replaced, duplicates are dropped. Earlier segments are kept as they are
+    synchronized int merge(Tick[] ticks) {
+        long firstTime = Stream.of(ticks)
+                .mapToLong(tick -> toEpochSecond(tick.getTickTime()))
+                .min()
+                .orElse(Long.MIN_VALUE);
+        int keptSegments = isEmpty() ? 0 : findSegment(firstTime);
+        TreeMap<Long, Tick> merged = new TreeMap<>();
+        for (int segmentIdx = keptSegments; segmentIdx < segments.size(); segmentIdx++) {
+            TickSegment segment = segments.get(segmentIdx);
+            for (int row = 0; row < segment.getCount(); row++) {
+                merged.put(segment.getTime(row), segment.read(row));
+            }
+        }
+        int storedCount = merged.size();
+        for (Tick tick : ticks) {
+            merged.put(toEpochSecond(tick.getTickTime()), tick);
+        }
+        if (merged.isEmpty()) {
+            return 0;
+        }
+        long from = isEmpty() ? merged.firstKey() : Math.min(segments.get(0).getFrom(), merged.firstKey());
+        rewrite(keptSegments, from, merged.values().toArray(new Tick[0]));
+        return merged.size() - storedCount;
+    }
+
+    synchronized Set<LocalDateTime> getEmptyGaps() {
+        return emptyGaps.stream()
+                .map(TickSegment::toTickTime)
+                .collect(Collectors.toSet());
+    }
+
+    synchronized void addEmptyGap(LocalDateTime from) {
+        long time = toEpochSecond(from);
+        if (!emptyGaps.add(time)) {
+            return;
+        }
+        try {
+            Files.write(directory.resolve(EMPTY_GAPS_FILE), ByteBuffer.allocate(Long.BYTES).putLong(time).array(), CREATE, APPEND);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(format("Can't write empty tick gap {directory: {%s}, from: {%s}}", directory, from), ex);
+        }
+    }
+
+    synchronized void force() {
+        segments.forEach(TickSegment::force);
+    }
+
+    private boolean isEmpty() {
+        return segments.isEmpty() || segments.get(0).getCount() == 0;
+    }
+
+    private boolean hasRecentTicks() {
+        return nonNull(recentTicks) && recentTicks.getSize() > 0;
+    }
+
+    // high-water mark of the series, taken from memory when possible
+    private long getLastTime() {
+        if (hasRecentTicks()) {
+            return recentTicks.getLastTime();
+        }
+        TickSegment lastSegment = segments.get(segments.size() - 1);
+        return lastSegment.getTime(lastSegment.getCount() - 1);
+    }
+
+    private void findStored(long fromTime, long toTime, List<Tick> result) {
+        for (int segmentIdx = findSegment(fromTime); segmentIdx < segments.size(); segmentIdx++) {
+            TickSegment segment = segments.get(segmentIdx);
+            for (int row = segment.findRow(fromTime); row < segment.getCount(); row++) {
+                if (segment.getTime(row) > toTime) {
+                    return;
+                }
+                result.add(segment.read(row));
+            }
+        }
+    }
+
+    private void loadRecentTicks(int count) {
+        if (isNull(recentTicks) || isEmpty()) {
+            return;
+        }
+        List<Tick> ticks = new ArrayList<>(count);
+        for (int segmentIdx = segments.size() - 1; segmentIdx >= 0 && ticks.size() < count; segmentIdx--) {
+            TickSegment segment = segments.get(segmentIdx);
+            for (int row = segment.getCount() - 1; row >= 0 && ticks.size() < count; row--) {
+                ticks.add(segment.read(row));
+            }
+        }
+        Collections.reverse(ticks);
+        recentTicks.merge(ticks.toArray(new Tick[0]));
+    }
+
+    // last segment which starts not after given time
+    private int findSegment(long time) {
+        int low = 0;
+        int high = segments.size() - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (segments.get(middle).getTime(0) <= time) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return low;
+    }
+
+    // kept segments are linked into replacement directory and the rest is written from given ticks,
+    // then replacement directory takes place of the series one, so stored ticks are kept if rewrite is interrupted
+    private void rewrite(int keptSegments, long from, Tick[] ticks) {
+        Path replacementDirectory = resolveSibling(directory, REPLACEMENT_SUFFIX);
+        Path previousDirectory = resolveSibling(directory, PREVIOUS_SUFFIX);
+        deleteDirectory(replacementDirectory);
+        linkSegments(replacementDirectory, keptSegments);
+        TickSeries replacement = new TickSeries(replacementDirectory, segmentCapacity, 0);
+        if (keptSegments == 0) {
+            replacement.createSegment(0).setFrom(from);
+        }
+        replacement.append(ticks);
+        replacement.force();
+        deleteDirectory(previousDirectory);
+        move(directory, previousDirectory);
+        move(replacementDirectory, directory);
+        deleteDirectory(previousDirectory);
+        segments.clear();
+        segments.addAll(openSegments(directory));
+        if (nonNull(recentTicks)) {
+            recentTicks.clear();
+            loadRecentTicks(recentTicks.getCapacity());
+        }
+    }
+
+    // kept segments are full, so they are never written again and can be shared with the previous directory
+    private void linkSegments(Path replacementDirectory, int count) {
+        try {
+            Files.createDirectories(replacementDirectory);
+            for (int idx = 0; idx < count; idx++) {
+                String segmentName = buildSegmentName(idx);
+                Files.createLink(replacementDirectory.resolve(segmentName), directory.resolve(segmentName));
+            }
+            Path emptyGapsPath = directory.resolve(EMPTY_GAPS_FILE);
+            if (Files.exists(emptyGapsPath)) {
+                Files.copy(emptyGapsPath, replacementDirectory.resolve(EMPTY_GAPS_FILE));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(format("Can't link tick segments {directory: {%s}}", directory), ex);
+        }
+    }
+
+    private TickSegment createSegment(int index) {
+        TickSegment segment = TickSegment.create(directory.resolve(buildSegmentName(index)), segmentCapacity);
+        segments.add(segment);
+        return segment;
+    }
+
+    private static String buildSegmentName(int index) {
+        return format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX);
+    }
+
+    // partially written gap is skipped
+    private static Set<Long> readEmptyGaps(Path directory) {
+        Set<Long> gaps = new HashSet<>();
+        Path path = directory.resolve(EMPTY_GAPS_FILE);
+        if (Files.notExists(path)) {
+            return gaps;
+        }
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+            while (buffer.remaining() >= Long.BYTES) {
+                gaps.add(buffer.getLong());
+            }
+            return gaps;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(format("Can't read empty tick gaps {directory: {%s}}", directory), ex);
+        }
+    }
+
+    // replacement is complete if series directory was moved away, otherwise previous series is kept
+    private static void recoverReplacement(Path directory) {
+        Path replacementDirectory = resolveSibling(directory, REPLACEMENT_SUFFIX);
+        Path previousDirectory = resolveSibling(directory, PREVIOUS_SUFFIX);
+        if (Files.notExists(directory) && Files.isDirectory(replacementDirectory)) {
+            move(replacementDirectory, directory);
+        } else if (Files.notExists(directory) && Files.isDirectory(previousDirectory)) {
+            move(previousDirectory, directory);
+        }
+        deleteDirectory(replacementDirectory);
+        deleteDirectory(previousDirectory);
+    }
+
+    private static Path resolveSibling(Path directory, String suffix) {
+        return directory.resolveSibling(directory.getFileName() + suffix);
+    }
+
+    private static void move(Path source, Path target) {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(format("Can't move tick series {source: {%s}, target: {%s}}", source, target), ex);
+        }
+    }
+
+    private static void deleteDirectory(Path directory) {
+        if (Files.notExists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : paths.collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+            Files.delete(directory);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(format("Can't delete tick series {directory: {%s}}", directory), ex);
+        }
+    }
+
+    private static List<TickSegment> openSegments(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> paths = Files.list(directory)) {
+                return paths
+                        .filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX))
+                        .sorted()
+                        .map(TickSegment::open)
+                        .collect(Collectors.toCollection(ArrayList::new));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(format("Can't open tick series {directory: {%s}}", directory), ex);
+        }
+    }
+
+}
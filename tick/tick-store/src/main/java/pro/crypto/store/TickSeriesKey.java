@@ -0,0 +1,16 @@
+package pro.crypto.store;
+
+import lombok.Value;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.TimeFrame;
+
+@Value
+public class TickSeriesKey {
+
+    private Stock stock;
+
+    private long marketId;
+
+    private TimeFrame timeFrame;
+
+}
@@ -0,0 +1,128 @@
+package pro.crypto.store;
+
+import pro.crypto.exception.WrongIncomingParametersException;
+import pro.crypto.model.market.Stock;
+import pro.crypto.model.tick.Tick;
+import pro.crypto.model.tick.TimeFrame;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Local persistent storage of ticks, one append-only series of memory-mapped segments
+ * per stock, market and time frame: {@code <directory>/<stock>/<marketId>/<timeFrame>/segment-NNNNNN.dat}.
+ */
+public class TickStore implements AutoCloseable {
+
+    private final Path directory;
+    private final int segmentCapacity;
+    private final int recentTicksCapacity;
+    private final Map<TickSeriesKey, TickSeries> series = new ConcurrentHashMap<>();
+
+    public TickStore(Path directory, int segmentCapacity) {
+        this(directory, segmentCapacity, 0);
+    }
+
+    // recentTicksCapacity is the count of the latest ticks of every series kept in memory, 0 disables it
+    public TickStore(Path directory, int segmentCapacity, int recentTicksCapacity) {
+        if (segmentCapacity <= 0) {
+            throw new WrongIncomingParametersException(format("Segment capacity should be positive {segmentCapacity: {%s}}", segmentCapacity));
+        }
+        if (recentTicksCapacity < 0) {
+            throw new WrongIncomingParametersException(format("Recent ticks capacity should not be negative {recentTicksCapacity: {%s}}", recentTicksCapacity));
+        }
+        this.directory = directory;
+        this.segmentCapacity = segmentCapacity;
+        this.recentTicksCapacity = recentTicksCapacity;
+    }
+
+    // null if nothing is stored, last tick time is the high-water mark for the next fetch
+    public TickRange getRange(TickSeriesKey key) {
+        return getSeries(key).getRange();
+    }
+
+    public Tick[] find(TickSeriesKey key, LocalDateTime from, LocalDateTime to) {
+        return getSeries(key).find(from, to);
+    }
+
+    // ticks should be sorted by time and continue stored ticks, returns count of new ticks
+    public int append(TickSeriesKey key, Tick[] ticks) {
+        return getSeries(key).append(ticks);
+    }
+
+    // drops stored ticks, used when requested range starts before stored one
+    public void replace(TickSeriesKey key, LocalDateTime from, Tick[] ticks) {
+        getSeries(key).replace(from, ticks);
+    }
+
+    // ticks can be anywhere in the series, segments from the earliest given tick are rewritten, returns count of new ticks
+    public int merge(TickSeriesKey key, Tick[] ticks) {
+        return getSeries(key).merge(ticks);
+    }
+
+    // start times of gaps which were fetched without ticks
+    public Set<LocalDateTime> getEmptyGaps(TickSeriesKey key) {
+        return getSeries(key).getEmptyGaps();
+    }
+
+    public void addEmptyGap(TickSeriesKey key, LocalDateTime from) {
+        getSeries(key).addEmptyGap(from);
+    }
+
+    // series which are stored in the directory or opened, unknown directories are skipped
+    public Set<TickSeriesKey> getKeys() {
+        Set<TickSeriesKey> keys = new HashSet<>(series.keySet());
+        if (!Files.isDirectory(directory)) {
+            return keys;
+        }
+        try (Stream<Path> paths = Files.find(directory, 3,
+                (path, attributes) -> attributes.isDirectory() && directory.relativize(path).getNameCount() == 3)) {
+            paths.map(this::toSeriesKey)
+                    .filter(Objects::nonNull)
+                    .forEach(keys::add);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(format("Can't list tick series {directory: {%s}}", directory), ex);
+        }
+        return keys;
+    }
+
+    @Override
+    public void close() {
+        series.values().forEach(TickSeries::force);
+    }
+
+    private TickSeries getSeries(TickSeriesKey key) {
+        return series.computeIfAbsent(key, this::openSeries);
+    }
+
+    private TickSeries openSeries(TickSeriesKey key) {
+        Path seriesDirectory = directory
+                .resolve(key.getStock().name())
+                .resolve(String.valueOf(key.getMarketId()))
+                .resolve(key.getTimeFrame().name());
+        return new TickSeries(seriesDirectory, segmentCapacity, recentTicksCapacity);
+    }
+
+    private TickSeriesKey toSeriesKey(Path seriesDirectory) {
+        Path path = directory.relativize(seriesDirectory);
+        try {
+            return new TickSeriesKey(Stock.valueOf(path.getName(0).toString()),
+                    Long.parseLong(path.getName(1).toString()),
+                    TimeFrame.valueOf(path.getName(2).toString()));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+}
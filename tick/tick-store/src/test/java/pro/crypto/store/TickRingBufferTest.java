@@ -0,0 +1,93 @@
+package pro.crypto.store;
+
+import org.junit.Test;
+import pro.crypto.model.tick.Tick;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static pro.crypto.store.TickSegment.toEpochSecond;
+
+public class TickRingBufferTest {
+
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2019, 1, 1, 0, 0);
+
+    @Test
+    public void wraparoundTest() {
+        TickRingBuffer buffer = new TickRingBuffer(3);
+        buffer.merge(generateTicks(0, 5));
+        assertEquals(3, buffer.getSize());
+        assertEquals(toEpochSecond(time(2)), buffer.getFirstTime());
+        assertEquals(toEpochSecond(time(4)), buffer.getLastTime());
+        assertArrayEquals(generateTicks(2, 5), find(buffer, 0, 10));
+        assertArrayEquals(generateTicks(3, 5), find(buffer, 3, 4));
+        assertArrayEquals(generateTicks(2, 4), find(buffer, 0, 3));
+    }
+
+    @Test
+    public void repeatedWraparoundTest() {
+        TickRingBuffer buffer = new TickRingBuffer(3);
+        for (int idx = 0; idx < 10; idx++) {
+            buffer.merge(generateTicks(idx, idx + 1));
+            int firstIdx = Math.max(0, idx - 2);
+            assertArrayEquals(generateTicks(firstIdx, idx + 1), find(buffer, 0, 20));
+        }
+    }
+
+    @Test
+    public void lastTickIsReplacedTest() {
+        TickRingBuffer buffer = new TickRingBuffer(3);
+        buffer.merge(generateTicks(0, 4));
+        Tick[] ticks = generateTicks(3, 5);
+        ticks[0].setClose(BigDecimal.TEN);
+        buffer.merge(ticks);
+        Tick[] expectedTicks = {generateTicks(2, 3)[0], ticks[0], ticks[1]};
+        assertArrayEquals(expectedTicks, find(buffer, 0, 10));
+    }
+
+    @Test
+    public void olderTicksAreSkippedTest() {
+        TickRingBuffer buffer = new TickRingBuffer(3);
+        buffer.merge(generateTicks(5, 7));
+        buffer.merge(generateTicks(0, 3));
+        assertArrayEquals(generateTicks(5, 7), find(buffer, 0, 10));
+    }
+
+    @Test
+    public void clearTest() {
+        TickRingBuffer buffer = new TickRingBuffer(3);
+        buffer.merge(generateTicks(0, 5));
+        buffer.clear();
+        assertEquals(0, buffer.getSize());
+        buffer.merge(generateTicks(7, 8));
+        assertArrayEquals(generateTicks(7, 8), find(buffer, 0, 10));
+    }
+
+    private Tick[] find(TickRingBuffer buffer, int from, int to) {
+        List<Tick> result = new ArrayList<>();
+        buffer.find(toEpochSecond(time(from)), toEpochSecond(time(to)), result);
+        return result.toArray(new Tick[0]);
+    }
+
+    private Tick[] generateTicks(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(idx -> Tick.builder()
+                        .open(BigDecimal.valueOf(idx))
+                        .high(BigDecimal.valueOf(idx + 1))
+                        .low(BigDecimal.valueOf(idx))
+                        .close(BigDecimal.valueOf(idx))
+                        .tickTime(time(idx))
+                        .build())
+                .toArray(Tick[]::new);
+    }
+
+    private LocalDateTime time(int hours) {
+        return START_TIME.plusHours(hours);
+    }
+
+}
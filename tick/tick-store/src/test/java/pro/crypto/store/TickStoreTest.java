@@ -0,0 +1,328 @@
+package pro.crypto.store;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import pro.crypto.model.tick.Tick;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static pro.crypto.model.market.Stock.BITTREX;
+import static pro.crypto.model.tick.TimeFrame.ONE_HOUR;
+
+public class TickStoreTest {
+
+    private static final TickSeriesKey KEY = new TickSeriesKey(BITTREX, 1L, ONE_HOUR);
+    private static final LocalDateTime START_TIME = LocalDateTime.of(2019, 1, 1, 0, 0);
+    private static final int SEGMENT_CAPACITY = 4;
+    private static final int COUNT_POSITION = 12;
+    private static final int HEADER_SIZE = 24;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private Path seriesDirectory;
+
+    @Before
+    public void init() throws IOException {
+        directory = folder.newFolder("ticks").toPath();
+        seriesDirectory = directory.resolve(BITTREX.name()).resolve("1").resolve(ONE_HOUR.name());
+    }
+
+    @Test
+    public void roundTripAcrossSegmentsTest() {
+        Tick[] ticks = generateTicks(0, 10);
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        assertEquals(10, store.append(KEY, ticks));
+        assertArrayEquals(ticks, store.find(KEY, time(0), time(9)));
+        assertArrayEquals(Arrays.copyOfRange(ticks, 3, 6), store.find(KEY, time(3), time(5)));
+        assertEquals(new TickRange(time(0), time(9)), store.getRange(KEY));
+        store.close();
+        assertEquals(3, listSegments(seriesDirectory).size());
+
+        TickStore reopenedStore = new TickStore(directory, SEGMENT_CAPACITY);
+        assertArrayEquals(ticks, reopenedStore.find(KEY, time(0), time(9)));
+        assertEquals(new TickRange(time(0), time(9)), reopenedStore.getRange(KEY));
+    }
+
+    @Test
+    public void exactValuesRoundTripTest() {
+        Tick tick = Tick.builder()
+                .open(new BigDecimal("0.00000001"))
+                .high(new BigDecimal("123456789012345678901234567890.123456789"))
+                .low(new BigDecimal("-5E+3"))
+                .close(BigDecimal.ZERO)
+                .volume(null)
+                .baseVolume(new BigDecimal("1.10"))
+                .tickTime(time(0))
+                .build();
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, new Tick[]{tick});
+        store.close();
+        assertArrayEquals(new Tick[]{tick}, new TickStore(directory, SEGMENT_CAPACITY).find(KEY, time(0), time(0)));
+    }
+
+    @Test
+    public void appendOverwritesLastTickTest() {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(0, 4));
+        Tick[] newTicks = generateTicks(2, 6);
+        newTicks[1].setClose(BigDecimal.TEN);
+        assertEquals(2, store.append(KEY, newTicks));
+        Tick[] storedTicks = store.find(KEY, time(0), time(5));
+        assertEquals(6, storedTicks.length);
+        assertEquals(BigDecimal.TEN, storedTicks[3].getClose());
+        assertEquals(generateTicks(2, 3)[0], storedTicks[2]);
+    }
+
+    @Test
+    public void emptyStoreTest() {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        assertNull(store.getRange(KEY));
+        assertEquals(0, store.find(KEY, time(0), time(10)).length);
+        assertEquals(0, store.append(KEY, new Tick[0]));
+        assertNull(store.getRange(KEY));
+    }
+
+    @Test
+    public void replaceTest() {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(5, 15));
+        Tick[] ticks = generateTicks(2, 8);
+        store.replace(KEY, time(0), ticks);
+        assertEquals(new TickRange(time(0), time(7)), store.getRange(KEY));
+        assertArrayEquals(ticks, store.find(KEY, time(0), time(20)));
+        assertFalse(Files.exists(seriesDirectory.resolveSibling(ONE_HOUR.name() + ".new")));
+        assertFalse(Files.exists(seriesDirectory.resolveSibling(ONE_HOUR.name() + ".old")));
+        store.close();
+        assertArrayEquals(ticks, new TickStore(directory, SEGMENT_CAPACITY).find(KEY, time(0), time(20)));
+    }
+
+    @Test
+    public void mergeKeepsEarlierSegmentsTest() throws IOException {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        Tick[] ticks = Stream.of(generateTicks(0, 9), generateTicks(10, 12))
+                .flatMap(Arrays::stream)
+                .toArray(Tick[]::new);
+        store.append(KEY, ticks);
+        Object firstSegmentInode = Files.getAttribute(seriesDirectory.resolve("segment-000000.dat"), "unix:ino");
+        Object secondSegmentInode = Files.getAttribute(seriesDirectory.resolve("segment-000001.dat"), "unix:ino");
+        Tick[] mergedTicks = generateTicks(9, 10);
+        Tick changedTick = generateTicks(10, 11)[0];
+        changedTick.setClose(BigDecimal.TEN);
+
+        assertEquals(1, store.merge(KEY, new Tick[]{changedTick, mergedTicks[0]}));
+
+        Tick[] expectedTicks = generateTicks(0, 12);
+        expectedTicks[10] = changedTick;
+        assertArrayEquals(expectedTicks, store.find(KEY, time(0), time(11)));
+        assertEquals(firstSegmentInode, Files.getAttribute(seriesDirectory.resolve("segment-000000.dat"), "unix:ino"));
+        assertEquals(secondSegmentInode, Files.getAttribute(seriesDirectory.resolve("segment-000001.dat"), "unix:ino"));
+        store.close();
+        assertArrayEquals(expectedTicks, new TickStore(directory, SEGMENT_CAPACITY).find(KEY, time(0), time(11)));
+    }
+
+    @Test
+    public void mergeBeforeStoredTicksTest() {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(5, 10));
+        assertEquals(3, store.merge(KEY, generateTicks(2, 6)));
+        assertArrayEquals(generateTicks(2, 10), store.find(KEY, time(0), time(20)));
+        assertEquals(new TickRange(time(2), time(9)), store.getRange(KEY));
+    }
+
+    @Test
+    public void mergeOfDuplicatesTest() {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(0, 6));
+        assertEquals(0, store.merge(KEY, generateTicks(3, 6)));
+        assertArrayEquals(generateTicks(0, 6), store.find(KEY, time(0), time(10)));
+    }
+
+    @Test
+    public void interruptedReplacementBeforeMoveTest() throws IOException {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(0, 6));
+        store.close();
+        // replacement directory is written, but series directory isn't moved yet
+        Path replacementDirectory = seriesDirectory.resolveSibling(ONE_HOUR.name() + ".new");
+        Files.createDirectories(replacementDirectory);
+        Files.write(replacementDirectory.resolve("segment-000000.dat"), new byte[10]);
+
+        TickStore reopenedStore = new TickStore(directory, SEGMENT_CAPACITY);
+        assertArrayEquals(generateTicks(0, 6), reopenedStore.find(KEY, time(0), time(10)));
+        assertFalse(Files.exists(replacementDirectory));
+    }
+
+    @Test
+    public void interruptedReplacementAfterMoveTest() throws IOException {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(0, 6));
+        store.close();
+        Path otherDirectory = directory.resolve(BITTREX.name()).resolve("2").resolve(ONE_HOUR.name());
+        TickStore otherStore = new TickStore(directory, SEGMENT_CAPACITY);
+        otherStore.append(new TickSeriesKey(BITTREX, 2L, ONE_HOUR), generateTicks(10, 12));
+        otherStore.close();
+        // series directory is moved away, complete replacement isn't moved in yet
+        Path previousDirectory = seriesDirectory.resolveSibling(ONE_HOUR.name() + ".old");
+        Path replacementDirectory = seriesDirectory.resolveSibling(ONE_HOUR.name() + ".new");
+        Files.move(seriesDirectory, previousDirectory);
+        Files.move(otherDirectory, replacementDirectory);
+
+        TickStore reopenedStore = new TickStore(directory, SEGMENT_CAPACITY);
+        assertArrayEquals(generateTicks(10, 12), reopenedStore.find(KEY, time(0), time(20)));
+        assertFalse(Files.exists(replacementDirectory));
+        assertFalse(Files.exists(previousDirectory));
+    }
+
+    @Test
+    public void interruptedReplacementWithoutReplacementTest() throws IOException {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(0, 6));
+        store.close();
+        Files.move(seriesDirectory, seriesDirectory.resolveSibling(ONE_HOUR.name() + ".old"));
+
+        assertArrayEquals(generateTicks(0, 6), new TickStore(directory, SEGMENT_CAPACITY).find(KEY, time(0), time(10)));
+    }
+
+    @Test
+    public void crashBeforeCountWriteOfNewTickTest() throws IOException {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(0, 6));
+        store.close();
+        // time column of the next row is written, count isn't
+        Path lastSegment = seriesDirectory.resolve("segment-000001.dat");
+        writeLong(lastSegment, HEADER_SIZE + 2 * Long.BYTES, toEpochSecond(time(6)));
+
+        TickStore reopenedStore = new TickStore(directory, SEGMENT_CAPACITY);
+        assertEquals(new TickRange(time(0), time(5)), reopenedStore.getRange(KEY));
+        assertArrayEquals(generateTicks(0, 6), reopenedStore.find(KEY, time(0), time(10)));
+        assertEquals(2, reopenedStore.append(KEY, generateTicks(5, 8)));
+        assertArrayEquals(generateTicks(0, 8), reopenedStore.find(KEY, time(0), time(10)));
+    }
+
+    @Test
+    public void crashDuringOverwriteOfLastTickTest() throws IOException {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(0, 6));
+        store.close();
+        // overwritten tick is excluded from count before its columns are written
+        Path lastSegment = seriesDirectory.resolve("segment-000001.dat");
+        writeInt(lastSegment, COUNT_POSITION, 1);
+        writeLong(lastSegment, HEADER_SIZE + Long.BYTES, 0);
+
+        TickStore reopenedStore = new TickStore(directory, SEGMENT_CAPACITY);
+        assertEquals(new TickRange(time(0), time(4)), reopenedStore.getRange(KEY));
+        assertArrayEquals(generateTicks(0, 5), reopenedStore.find(KEY, time(0), time(10)));
+        reopenedStore.append(KEY, generateTicks(4, 7));
+        assertArrayEquals(generateTicks(0, 7), reopenedStore.find(KEY, time(0), time(10)));
+    }
+
+    @Test
+    public void recentTicksTest() {
+        Tick[] ticks = generateTicks(0, 10);
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY, 3);
+        store.append(KEY, Arrays.copyOf(ticks, 6));
+        store.append(KEY, Arrays.copyOfRange(ticks, 6, 10));
+        assertArrayEquals(Arrays.copyOfRange(ticks, 8, 10), store.find(KEY, time(8), time(9)));
+        assertArrayEquals(Arrays.copyOfRange(ticks, 5, 10), store.find(KEY, time(5), time(9)));
+        store.close();
+
+        TickStore reopenedStore = new TickStore(directory, SEGMENT_CAPACITY, 3);
+        assertArrayEquals(ticks, reopenedStore.find(KEY, time(0), time(9)));
+        assertEquals(new TickRange(time(0), time(9)), reopenedStore.getRange(KEY));
+    }
+
+    @Test
+    public void storedTicksArentSharedTest() {
+        Tick[] ticks = generateTicks(0, 3);
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY, 3);
+        store.append(KEY, ticks);
+        ticks[2].setClose(BigDecimal.TEN);
+        store.find(KEY, time(0), time(2))[1].setClose(BigDecimal.TEN);
+        assertArrayEquals(generateTicks(0, 3), store.find(KEY, time(0), time(2)));
+    }
+
+    @Test
+    public void emptyGapsTest() {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(0, 6));
+        store.addEmptyGap(KEY, time(20));
+        store.addEmptyGap(KEY, time(20));
+        store.merge(KEY, generateTicks(6, 7));
+        store.close();
+        assertEquals(Collections.singleton(time(20)), new TickStore(directory, SEGMENT_CAPACITY).getEmptyGaps(KEY));
+    }
+
+    @Test
+    public void keysTest() {
+        TickStore store = new TickStore(directory, SEGMENT_CAPACITY);
+        store.append(KEY, generateTicks(0, 2));
+        store.close();
+        assertEquals(Collections.singleton(KEY), new TickStore(directory, SEGMENT_CAPACITY).getKeys());
+    }
+
+    private Tick[] generateTicks(int from, int to) {
+        return IntStream.range(from, to)
+                .mapToObj(idx -> Tick.builder()
+                        .open(BigDecimal.valueOf(idx, 2))
+                        .high(BigDecimal.valueOf(idx + 1, 2))
+                        .low(BigDecimal.valueOf(idx - 1, 2))
+                        .close(BigDecimal.valueOf(idx, 3))
+                        .volume(BigDecimal.valueOf(idx * 100L))
+                        .baseVolume(BigDecimal.valueOf(idx * 10L, 1))
+                        .tickTime(time(idx))
+                        .build())
+                .toArray(Tick[]::new);
+    }
+
+    private LocalDateTime time(int hours) {
+        return START_TIME.plusHours(hours);
+    }
+
+    private long toEpochSecond(LocalDateTime time) {
+        return TickSegment.toEpochSecond(time);
+    }
+
+    private List<Path> listSegments(Path seriesDirectory) {
+        try (Stream<Path> paths = Files.list(seriesDirectory)) {
+            return paths.filter(path -> path.getFileName().toString().startsWith("segment-"))
+                    .collect(Collectors.toList());
+        } catch (IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void writeLong(Path path, int position, long value) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ, WRITE)) {
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, value), position);
+        }
+    }
+
+    private void writeInt(Path path, int position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ, WRITE)) {
+            channel.write(ByteBuffer.allocate(Integer.BYTES).putInt(0, value), position);
+        }
+    }
+
+}